@@ -0,0 +1,384 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.apache.geode.cache.CacheTransactionManager;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionService;
+import org.apache.geode.cache.query.SelectResults;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * Asynchronous variant of the {@link GemfireOperations} {@literal Template} returning {@link CompletableFuture}.
+ *
+ * Each {@link Region} data access operation and OQL query is delegated to the configured {@link GemfireOperations}
+ * and executed on the configured {@link Executor}, so that the calling {@link Thread} is not blocked while
+ * the operation waits on the network. The {@link Executor} determines the concurrency, for example, a bounded
+ * {@link java.util.concurrent.ThreadPoolExecutor} or a virtual {@link Thread} per task {@link Executor} when running
+ * on a Java runtime that supports virtual {@link Thread Threads}.
+ *
+ * The returned {@link CompletableFuture} completes exceptionally with the {@link RuntimeException}
+ * (e.g. {@link org.springframework.dao.DataAccessException}) thrown by the operation.
+ *
+ * Apache Geode cache transactions are bound to the {@link Thread} that began the transaction. An operation executed
+ * on the {@link Executor} would not participate in the transaction of the calling {@link Thread}, and therefore,
+ * all operations fail fast with an {@link IllegalStateException} when called in the scope of a cache transaction.
+ *
+ * @author agent
+ * @see java.util.concurrent.CompletableFuture
+ * @see java.util.concurrent.Executor
+ * @see org.springframework.data.gemfire.GemfireOperations
+ * @see org.springframework.data.gemfire.GemfireTemplate
+ * @since 3.0.0
+ */
+public class AsyncGemfireTemplate {
+
+	private final Executor executor;
+
+	private final GemfireOperations template;
+
+	/**
+	 * Constructs a new instance of {@link AsyncGemfireTemplate} initialized with the given, required
+	 * {@link GemfireOperations} and {@link Executor}.
+	 *
+	 * @param template {@link GemfireOperations} to which all operations are delegated; must not be {@literal null}.
+	 * @param executor {@link Executor} used to execute all operations; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link GemfireOperations} or {@link Executor} is {@literal null}.
+	 * @see org.springframework.data.gemfire.GemfireOperations
+	 * @see java.util.concurrent.Executor
+	 */
+	public AsyncGemfireTemplate(@NonNull GemfireOperations template, @NonNull Executor executor) {
+
+		Assert.notNull(template, "GemfireOperations must not be null");
+		Assert.notNull(executor, "Executor must not be null");
+
+		this.template = template;
+		this.executor = executor;
+	}
+
+	/**
+	 * Returns the configured {@link Executor} used to execute all operations.
+	 *
+	 * @return the configured {@link Executor}.
+	 * @see java.util.concurrent.Executor
+	 */
+	public @NonNull Executor getExecutor() {
+		return this.executor;
+	}
+
+	/**
+	 * Returns the configured {@link GemfireOperations} to which all operations are delegated.
+	 *
+	 * @return the configured {@link GemfireOperations}.
+	 * @see org.springframework.data.gemfire.GemfireOperations
+	 */
+	public @NonNull GemfireOperations getTemplate() {
+		return this.template;
+	}
+
+	/**
+	 * Executes the given {@link Supplier operation} asynchronously on the configured {@link Executor}.
+	 *
+	 * @param <R> {@link Class type} of the result.
+	 * @param operation {@link Supplier} encapsulating the operation to execute; must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with the result of the operation.
+	 * @throws IllegalStateException if a cache transaction is in progress on the calling {@link Thread}.
+	 * @see java.util.concurrent.CompletableFuture#supplyAsync(Supplier, Executor)
+	 * @see #isTransactionPresent()
+	 */
+	protected @NonNull <R> CompletableFuture<R> async(@NonNull Supplier<R> operation) {
+
+		Assert.state(!isTransactionPresent(),
+			"Asynchronous operations cannot participate in the cache transaction of the calling Thread");
+
+		return CompletableFuture.supplyAsync(operation, getExecutor());
+	}
+
+	/**
+	 * Determines whether a cache transaction is in progress on the calling {@link Thread}.
+	 *
+	 * The cache transaction is only determined when the configured {@link GemfireOperations} is a
+	 * {@link GemfireAccessor} with a {@link Region} of a peer or client {@link GemFireCache}.
+	 *
+	 * @return a boolean value indicating whether a cache transaction is in progress on the calling {@link Thread}.
+	 * @see org.apache.geode.cache.CacheTransactionManager#exists()
+	 */
+	protected boolean isTransactionPresent() {
+
+		GemfireOperations template = getTemplate();
+
+		Region<?, ?> region = template instanceof GemfireAccessor ? ((GemfireAccessor) template).getRegion() : null;
+
+		RegionService regionService = region != null ? region.getRegionService() : null;
+
+		CacheTransactionManager cacheTransactionManager = regionService instanceof GemFireCache
+			? ((GemFireCache) regionService).getCacheTransactionManager()
+			: null;
+
+		return cacheTransactionManager != null && cacheTransactionManager.exists();
+	}
+
+	/**
+	 * Asynchronously determines whether the {@link Region} contains the given key.
+	 *
+	 * @param key {@link Object key} to evaluate.
+	 * @return a {@link CompletableFuture} completed with a boolean value indicating whether the {@link Region}
+	 * contains the given key.
+	 * @see org.springframework.data.gemfire.GemfireOperations#containsKey(Object)
+	 */
+	public CompletableFuture<Boolean> containsKey(Object key) {
+		return async(() -> getTemplate().containsKey(key));
+	}
+
+	/**
+	 * Asynchronously determines whether the {@link Region} on the server contains the given key.
+	 *
+	 * @param key {@link Object key} to evaluate.
+	 * @return a {@link CompletableFuture} completed with a boolean value indicating whether the {@link Region}
+	 * on the server contains the given key.
+	 * @see org.springframework.data.gemfire.GemfireOperations#containsKeyOnServer(Object)
+	 */
+	public CompletableFuture<Boolean> containsKeyOnServer(Object key) {
+		return async(() -> getTemplate().containsKeyOnServer(key));
+	}
+
+	/**
+	 * Asynchronously determines whether the {@link Region} contains the given value.
+	 *
+	 * @param value {@link Object value} to evaluate.
+	 * @return a {@link CompletableFuture} completed with a boolean value indicating whether the {@link Region}
+	 * contains the given value.
+	 * @see org.springframework.data.gemfire.GemfireOperations#containsValue(Object)
+	 */
+	public CompletableFuture<Boolean> containsValue(Object value) {
+		return async(() -> getTemplate().containsValue(value));
+	}
+
+	/**
+	 * Asynchronously determines whether the {@link Region} contains a value for the given key.
+	 *
+	 * @param key {@link Object key} to evaluate.
+	 * @return a {@link CompletableFuture} completed with a boolean value indicating whether the {@link Region}
+	 * contains a value for the given key.
+	 * @see org.springframework.data.gemfire.GemfireOperations#containsValueForKey(Object)
+	 */
+	public CompletableFuture<Boolean> containsValueForKey(Object key) {
+		return async(() -> getTemplate().containsValueForKey(key));
+	}
+
+	/**
+	 * Asynchronously creates an entry in the {@link Region} with the given key and value.
+	 *
+	 * @param <K> {@link Class type} of the key.
+	 * @param <V> {@link Class type} of the value.
+	 * @param key {@link Object key} of the entry.
+	 * @param value {@link Object value} of the entry.
+	 * @return a {@link CompletableFuture} completed when the entry is created.
+	 * @see org.springframework.data.gemfire.GemfireOperations#create(Object, Object)
+	 */
+	public <K, V> CompletableFuture<Void> create(K key, V value) {
+		return async(() -> {
+			getTemplate().create(key, value);
+			return null;
+		});
+	}
+
+	/**
+	 * Asynchronously gets the value for the given key from the {@link Region}.
+	 *
+	 * @param <K> {@link Class type} of the key.
+	 * @param <V> {@link Class type} of the value.
+	 * @param key {@link Object key} of the entry.
+	 * @return a {@link CompletableFuture} completed with the value for the given key, or {@literal null}.
+	 * @see org.springframework.data.gemfire.GemfireOperations#get(Object)
+	 */
+	public <K, V> CompletableFuture<V> get(K key) {
+		return async(() -> getTemplate().get(key));
+	}
+
+	/**
+	 * Asynchronously gets the values for the given keys from the {@link Region}.
+	 *
+	 * @param <K> {@link Class type} of the keys.
+	 * @param <V> {@link Class type} of the values.
+	 * @param keys {@link Collection} of keys.
+	 * @return a {@link CompletableFuture} completed with a {@link Map} of the given keys to values.
+	 * @see org.springframework.data.gemfire.GemfireOperations#getAll(Collection)
+	 */
+	public <K, V> CompletableFuture<Map<K, V>> getAll(Collection<?> keys) {
+		return async(() -> getTemplate().getAll(keys));
+	}
+
+	/**
+	 * Asynchronously puts the given value for the given key in the {@link Region}.
+	 *
+	 * @param <K> {@link Class type} of the key.
+	 * @param <V> {@link Class type} of the value.
+	 * @param key {@link Object key} of the entry.
+	 * @param value {@link Object value} of the entry.
+	 * @return a {@link CompletableFuture} completed with the previous value for the given key, or {@literal null}.
+	 * @see org.springframework.data.gemfire.GemfireOperations#put(Object, Object)
+	 */
+	public <K, V> CompletableFuture<V> put(K key, V value) {
+		return async(() -> getTemplate().put(key, value));
+	}
+
+	/**
+	 * Asynchronously puts all the entries of the given {@link Map} in the {@link Region}.
+	 *
+	 * @param <K> {@link Class type} of the keys.
+	 * @param <V> {@link Class type} of the values.
+	 * @param map {@link Map} of entries to put.
+	 * @return a {@link CompletableFuture} completed when all the entries are put.
+	 * @see org.springframework.data.gemfire.GemfireOperations#putAll(Map)
+	 */
+	public <K, V> CompletableFuture<Void> putAll(Map<? extends K, ? extends V> map) {
+		return async(() -> {
+			getTemplate().putAll(map);
+			return null;
+		});
+	}
+
+	/**
+	 * Asynchronously puts the given value for the given key in the {@link Region} if the key is not present.
+	 *
+	 * @param <K> {@link Class type} of the key.
+	 * @param <V> {@link Class type} of the value.
+	 * @param key {@link Object key} of the entry.
+	 * @param value {@link Object value} of the entry.
+	 * @return a {@link CompletableFuture} completed with the existing value for the given key, or {@literal null}.
+	 * @see org.springframework.data.gemfire.GemfireOperations#putIfAbsent(Object, Object)
+	 */
+	public <K, V> CompletableFuture<V> putIfAbsent(K key, V value) {
+		return async(() -> getTemplate().putIfAbsent(key, value));
+	}
+
+	/**
+	 * Asynchronously removes the entry for the given key from the {@link Region}.
+	 *
+	 * @param <K> {@link Class type} of the key.
+	 * @param <V> {@link Class type} of the value.
+	 * @param key {@link Object key} of the entry.
+	 * @return a {@link CompletableFuture} completed with the removed value for the given key, or {@literal null}.
+	 * @see org.springframework.data.gemfire.GemfireOperations#remove(Object)
+	 */
+	public <K, V> CompletableFuture<V> remove(K key) {
+		return async(() -> getTemplate().remove(key));
+	}
+
+	/**
+	 * Asynchronously removes the entries for the given keys from the {@link Region}.
+	 *
+	 * @param keys {@link Collection} of keys.
+	 * @return a {@link CompletableFuture} completed when all the entries are removed.
+	 * @see org.springframework.data.gemfire.GemfireOperations#removeAll(Collection)
+	 */
+	public CompletableFuture<Void> removeAll(Collection<?> keys) {
+		return async(() -> {
+			getTemplate().removeAll(keys);
+			return null;
+		});
+	}
+
+	/**
+	 * Asynchronously replaces the value for the given key in the {@link Region} if the key is present.
+	 *
+	 * @param <K> {@link Class type} of the key.
+	 * @param <V> {@link Class type} of the value.
+	 * @param key {@link Object key} of the entry.
+	 * @param value new {@link Object value} of the entry.
+	 * @return a {@link CompletableFuture} completed with the previous value for the given key, or {@literal null}.
+	 * @see org.springframework.data.gemfire.GemfireOperations#replace(Object, Object)
+	 */
+	public <K, V> CompletableFuture<V> replace(K key, V value) {
+		return async(() -> getTemplate().replace(key, value));
+	}
+
+	/**
+	 * Asynchronously replaces the value for the given key in the {@link Region} if the key is mapped to the given
+	 * old value.
+	 *
+	 * @param <K> {@link Class type} of the key.
+	 * @param <V> {@link Class type} of the value.
+	 * @param key {@link Object key} of the entry.
+	 * @param oldValue expected {@link Object value} of the entry.
+	 * @param newValue new {@link Object value} of the entry.
+	 * @return a {@link CompletableFuture} completed with a boolean value indicating whether the value was replaced.
+	 * @see org.springframework.data.gemfire.GemfireOperations#replace(Object, Object, Object)
+	 */
+	public <K, V> CompletableFuture<Boolean> replace(K key, V oldValue, V newValue) {
+		return async(() -> getTemplate().replace(key, oldValue, newValue));
+	}
+
+	/**
+	 * Asynchronously executes the OQL query with the given (optional) parameters.
+	 *
+	 * @param <E> {@link Class type} of the {@link SelectResults}.
+	 * @param query {@link String} containing the OQL query statement to execute.
+	 * @param params array of {@link Object} values bound to the OQL query parameters (such as $1).
+	 * @return a {@link CompletableFuture} completed with the {@link SelectResults}.
+	 * @see org.springframework.data.gemfire.GemfireOperations#find(String, Object...)
+	 */
+	public <E> CompletableFuture<SelectResults<E>> find(String query, Object... params) {
+		return async(() -> getTemplate().find(query, params));
+	}
+
+	/**
+	 * Asynchronously executes the OQL query with the given (optional) parameters, returning a single result.
+	 *
+	 * @param <T> {@link Class type} of the result.
+	 * @param query {@link String} containing the OQL query statement to execute.
+	 * @param params array of {@link Object} values bound to the OQL query parameters (such as $1).
+	 * @return a {@link CompletableFuture} completed with the single result.
+	 * @see org.springframework.data.gemfire.GemfireOperations#findUnique(String, Object...)
+	 */
+	public <T> CompletableFuture<T> findUnique(String query, Object... params) {
+		return async(() -> getTemplate().findUnique(query, params));
+	}
+
+	/**
+	 * Asynchronously filters the values of the {@link Region} using the given OQL query predicate.
+	 *
+	 * @param <E> {@link Class type} of the {@link SelectResults}.
+	 * @param query {@link String} containing the OQL query predicate.
+	 * @return a {@link CompletableFuture} completed with the {@link SelectResults}.
+	 * @see org.springframework.data.gemfire.GemfireOperations#query(String)
+	 */
+	public <E> CompletableFuture<SelectResults<E>> query(String query) {
+		return async(() -> getTemplate().query(query));
+	}
+
+	/**
+	 * Asynchronously executes the given {@link GemfireCallback action} within the {@link Region}.
+	 *
+	 * @param <T> {@link Class type} of the result.
+	 * @param action {@link GemfireCallback} specifying the action to execute.
+	 * @return a {@link CompletableFuture} completed with the result of the action.
+	 * @see org.springframework.data.gemfire.GemfireOperations#execute(GemfireCallback)
+	 */
+	public <T> CompletableFuture<T> execute(GemfireCallback<T> action) {
+		return async(() -> getTemplate().execute(action));
+	}
+}
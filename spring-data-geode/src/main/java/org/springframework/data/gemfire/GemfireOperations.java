@@ -12,7 +12,10 @@
  */
 package org.springframework.data.gemfire;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -24,7 +27,9 @@ import org.apache.geode.cache.query.SelectResults;
 
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.gemfire.query.QueryBatch;
 import org.springframework.data.gemfire.util.CollectionUtils;
+import org.springframework.util.Assert;
 
 /**
  * {@link GemfireOperations} defines the {{@link Region} data access operations that can be performed
@@ -98,6 +103,71 @@ public interface GemfireOperations {
 	 */
 	<E> SelectResults<E> find(String query, Object... params) throws InvalidDataAccessApiUsageException;
 
+	/**
+	 * Executes a GemFire query with the given (optional) parameters in parallel on all data nodes hosting
+	 * the {@literal PARTITION} {@link Region} and returns the merged results.
+	 *
+	 * The OQL query is executed by the {@link org.springframework.data.gemfire.function.RegionQueryFunction}, which
+	 * must be registered on all data nodes, using an {@literal onRegion} {@link org.apache.geode.cache.execute.Function}
+	 * execution. Each data node queries its primary buckets and streams the results back in chunks, which are merged,
+	 * ordered, de-duplicated and limited according to the OQL query. OQL queries computing aggregates or grouping
+	 * results, as well as queries on non-{@literal PARTITION} {@link Region Regions}, are executed with
+	 * {@link #find(String, Object...)}. OQL queries on a client {@link Region} are only executed in parallel
+	 * on the servers when enabled, for example with {@link GemfireTemplate#setParallelQueryFunctionEnabled(boolean)}.
+	 *
+	 * The default implementation executes the OQL query with {@link #find(String, Object...)}.
+	 *
+	 * @param <E> type parameter specifying the type of the query results.
+	 * @param query the OQL query statement to execute.
+	 * @param params an array of Object values used as arguments to bind to the OQL query parameters (such as $1).
+	 * @return a {@link List} holding the objects matching the query.
+	 * @see org.springframework.data.gemfire.function.RegionQueryFunction
+	 * @see org.springframework.data.gemfire.function.execution.RegionQueryResultCollector
+	 * @see #find(String, Object...)
+	 */
+	default <E> List<E> findInParallel(String query, Object... params) {
+
+		SelectResults<E> results = find(query, params);
+
+		return results != null ? results.asList() : Collections.emptyList();
+	}
+
+	/**
+	 * Executes a batch of independent GemFire queries, each with its own (optional) parameters, and returns
+	 * the results of each query in the order the queries were added to the {@link QueryBatch}.
+	 *
+	 * On a client, when the {@link org.springframework.data.gemfire.function.BatchQueryFunction} is enabled,
+	 * the entire batch is executed by the {@link org.apache.geode.cache.execute.Function} on a single server
+	 * in one round trip. Otherwise, the queries are executed concurrently when an {@link java.util.concurrent.Executor}
+	 * is configured, or one after the other using {@link #find(String, Object...)}.
+	 *
+	 * The default implementation executes the queries one after the other using {@link #find(String, Object...)}.
+	 *
+	 * @param batch {@link QueryBatch} containing the OQL queries to execute; must not be {@literal null}.
+	 * @return a {@link List} containing a {@link List} of results for each OQL query in the batch.
+	 * @see org.springframework.data.gemfire.function.BatchQueryFunction
+	 * @see org.springframework.data.gemfire.query.QueryBatch
+	 * @see #find(String, Object...)
+	 */
+	default List<List<?>> findInBatch(QueryBatch batch) {
+
+		Assert.notNull(batch, "QueryBatch must not be null");
+
+		List<String> queries = batch.getQueries();
+		List<Object[]> arguments = batch.getArguments();
+
+		List<List<?>> results = new ArrayList<>(queries.size());
+
+		for (int index = 0; index < queries.size(); index++) {
+
+			SelectResults<?> queryResults = find(queries.get(index), arguments.get(index));
+
+			results.add(queryResults != null ? queryResults.asList() : Collections.emptyList());
+		}
+
+		return results;
+	}
+
 	/**
 	 * Executes a GemFire query with the given (optional) parameters and returns the result. Note this method expects the query to return a single result; for queries that return multiple
 	 * elements use {@link #find(String, Object...)}.
@@ -19,27 +19,50 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.apache.geode.GemFireCheckedException;
 import org.apache.geode.GemFireException;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.Scope;
 import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
 import org.apache.geode.cache.query.IndexInvalidException;
 import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.QueryException;
 import org.apache.geode.cache.query.QueryInvalidException;
 import org.apache.geode.cache.query.QueryService;
 import org.apache.geode.cache.query.SelectResults;
 
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.gemfire.function.BatchQueryFunction;
+import org.springframework.data.gemfire.function.RegionQueryFunction;
+import org.springframework.data.gemfire.function.execution.GemfireOnRegionFunctionTemplate;
+import org.springframework.data.gemfire.function.execution.GemfireOnServerFunctionTemplate;
+import org.springframework.data.gemfire.function.execution.RegionQueryResultCollector;
+import org.springframework.data.gemfire.query.QueryBatch;
+import org.springframework.data.gemfire.query.QueryExecution;
+import org.springframework.data.gemfire.query.QueryExecutionListener;
+import org.springframework.data.gemfire.util.CollectionUtils;
 import org.springframework.data.gemfire.util.RegionUtils;
 import org.springframework.data.gemfire.util.SpringExtensions;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
@@ -77,7 +100,21 @@ import org.springframework.util.StringUtils;
 @SuppressWarnings("unused")
 public class GemfireTemplate extends GemfireAccessor implements GemfireOperations {
 
+	public static final int DEFAULT_QUERY_CACHE_SIZE = 256;
+
+	private static final Pattern TRACE_PATTERN = Pattern.compile("<TRACE>", Pattern.CASE_INSENSITIVE);
+
 	private boolean exposeNativeRegion = false;
+	private boolean parallelQueryFunctionEnabled = false;
+	private boolean queryBatchFunctionEnabled = false;
+
+	private volatile CompiledQueryCache queryCache = new CompiledQueryCache(DEFAULT_QUERY_CACHE_SIZE);
+
+	private volatile Executor queryBatchExecutor;
+
+	private volatile QueryExecutionListener queryExecutionListener;
+
+	private volatile QueryService queryService;
 
 	private Region<?, ?> regionProxy;
 
@@ -116,6 +153,17 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 		this.regionProxy = createRegionProxy(getRegion());
 	}
 
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public void setRegion(Region<?, ?> region) {
+
+		super.setRegion(region);
+
+		this.queryService = null;
+	}
+
 	/**
 	 * Configure whether to expose the native {@link Region} to {@link GemfireCallback} code.
 	 *
@@ -145,6 +193,137 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 		return this.exposeNativeRegion;
 	}
 
+	/**
+	 * Configures the maximum number of compiled OQL {@link Query queries} cached by this template
+	 * and reused across {@link #find(String, Object...)} and {@link #findUnique(String, Object...)} invocations.
+	 *
+	 * <p>Default is {@link #DEFAULT_QUERY_CACHE_SIZE}. Setting the size to {@literal 0} disables caching.
+	 *
+	 * @param queryCacheSize maximum number of compiled OQL {@link Query queries} to cache.
+	 * @throws IllegalArgumentException if {@code queryCacheSize} is less than {@literal 0}.
+	 * @see #getQueryCache()
+	 */
+	public void setQueryCacheSize(int queryCacheSize) {
+
+		Assert.isTrue(queryCacheSize >= 0,
+			() -> String.format("Query cache size [%d] must be greater than or equal to 0", queryCacheSize));
+
+		this.queryCache = new CompiledQueryCache(queryCacheSize);
+	}
+
+	/**
+	 * Returns the {@link CompiledQueryCache} used by this template to reuse compiled OQL {@link Query queries}.
+	 *
+	 * @return the {@link CompiledQueryCache} used by this template.
+	 * @see CompiledQueryCache
+	 */
+	public @NonNull CompiledQueryCache getQueryCache() {
+		return this.queryCache;
+	}
+
+	/**
+	 * Configures the {@link Executor} used to execute the OQL queries of a {@link QueryBatch} concurrently
+	 * in {@link #findInBatch(QueryBatch)}.
+	 *
+	 * <p>Default is {@literal null}, in which case the OQL queries of a {@link QueryBatch} are executed
+	 * one after the other on the calling {@link Thread}.
+	 *
+	 * @param queryBatchExecutor {@link Executor} used to execute OQL queries concurrently; may be {@literal null}.
+	 * @see java.util.concurrent.Executor
+	 * @see #findInBatch(QueryBatch)
+	 */
+	public void setQueryBatchExecutor(@Nullable Executor queryBatchExecutor) {
+		this.queryBatchExecutor = queryBatchExecutor;
+	}
+
+	/**
+	 * Returns an {@link Optional} reference to the {@link Executor} used to execute the OQL queries
+	 * of a {@link QueryBatch} concurrently.
+	 *
+	 * @return an {@link Optional} reference to the configured {@link Executor}.
+	 * @see #setQueryBatchExecutor(Executor)
+	 */
+	public Optional<Executor> getQueryBatchExecutor() {
+		return Optional.ofNullable(this.queryBatchExecutor);
+	}
+
+	/**
+	 * Configures whether the OQL queries of a {@link QueryBatch} executed on a client {@link Region} are executed
+	 * by the {@link BatchQueryFunction} on a single server in one round trip.
+	 *
+	 * <p>Default is {@literal false}. The {@link BatchQueryFunction} must be registered on the servers.
+	 *
+	 * @param queryBatchFunctionEnabled boolean value indicating whether to use the {@link BatchQueryFunction}.
+	 * @see org.springframework.data.gemfire.function.BatchQueryFunction
+	 * @see #findInBatch(QueryBatch)
+	 */
+	public void setQueryBatchFunctionEnabled(boolean queryBatchFunctionEnabled) {
+		this.queryBatchFunctionEnabled = queryBatchFunctionEnabled;
+	}
+
+	/**
+	 * Determines whether the OQL queries of a {@link QueryBatch} executed on a client {@link Region} are executed
+	 * by the {@link BatchQueryFunction} on a single server in one round trip.
+	 *
+	 * @return a boolean value indicating whether the {@link BatchQueryFunction} is used.
+	 * @see #setQueryBatchFunctionEnabled(boolean)
+	 */
+	public boolean isQueryBatchFunctionEnabled() {
+		return this.queryBatchFunctionEnabled;
+	}
+
+	/**
+	 * Configures whether OQL queries executed with {@link #findInParallel(String, Object...)} on a client
+	 * {@link Region} are executed by the {@link RegionQueryFunction} in parallel on the servers.
+	 *
+	 * <p>Default is {@literal false} since the {@link org.apache.geode.cache.DataPolicy} of the {@link Region}
+	 * on the servers is not known to the client. Only enable this when the {@link Region} on the servers is
+	 * a {@literal PARTITION} {@link Region} and the {@link RegionQueryFunction} is registered on the servers.
+	 *
+	 * @param parallelQueryFunctionEnabled boolean value indicating whether to use the {@link RegionQueryFunction}
+	 * on a client {@link Region}.
+	 * @see org.springframework.data.gemfire.function.RegionQueryFunction
+	 * @see #findInParallel(String, Object...)
+	 */
+	public void setParallelQueryFunctionEnabled(boolean parallelQueryFunctionEnabled) {
+		this.parallelQueryFunctionEnabled = parallelQueryFunctionEnabled;
+	}
+
+	/**
+	 * Determines whether OQL queries executed with {@link #findInParallel(String, Object...)} on a client
+	 * {@link Region} are executed by the {@link RegionQueryFunction} in parallel on the servers.
+	 *
+	 * @return a boolean value indicating whether the {@link RegionQueryFunction} is used on a client {@link Region}.
+	 * @see #setParallelQueryFunctionEnabled(boolean)
+	 */
+	public boolean isParallelQueryFunctionEnabled() {
+		return this.parallelQueryFunctionEnabled;
+	}
+
+	/**
+	 * Configures the {@link QueryExecutionListener} notified of each OQL query executed by this template,
+	 * such as the {@link org.springframework.data.gemfire.query.SlowQueryLogger}.
+	 *
+	 * <p>Query executions are only timed when a {@link QueryExecutionListener} is configured.
+	 *
+	 * @param queryExecutionListener {@link QueryExecutionListener} notified of OQL query executions;
+	 * may be {@literal null}.
+	 * @see org.springframework.data.gemfire.query.QueryExecutionListener
+	 */
+	public void setQueryExecutionListener(@Nullable QueryExecutionListener queryExecutionListener) {
+		this.queryExecutionListener = queryExecutionListener;
+	}
+
+	/**
+	 * Returns an {@link Optional} reference to the configured {@link QueryExecutionListener}.
+	 *
+	 * @return an {@link Optional} reference to the configured {@link QueryExecutionListener}.
+	 * @see org.springframework.data.gemfire.query.QueryExecutionListener
+	 */
+	public Optional<QueryExecutionListener> getQueryExecutionListener() {
+		return Optional.ofNullable(this.queryExecutionListener);
+	}
+
 	@Override
 	public boolean containsKey(Object key) {
 		return getRegion().containsKey(key);
@@ -279,7 +458,7 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	public <E> SelectResults<E> query(String query) {
 
 		try {
-			return getRegion().query(query);
+			return this.<SelectResults<E>>executeQuery(query, null, () -> getRegion().query(query));
 		}
 		catch (IndexInvalidException | QueryInvalidException cause) {
 			throw convertGemFireQueryException(cause);
@@ -306,11 +485,11 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 
 		try {
 
-			QueryService queryService = resolveQueryService(getRegion());
+			QueryService queryService = getQueryService();
 
-			Query compiledQuery = queryService.newQuery(query);
+			Query compiledQuery = compileQuery(queryService, query);
 
-			Object result = compiledQuery.execute(arguments);
+			Object result = executeQuery(query, queryService, () -> compiledQuery.execute(arguments));
 
 			if (result instanceof SelectResults) {
 				return (SelectResults<E>) result;
@@ -343,17 +522,143 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 		}
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public <E> List<E> findInParallel(String query, Object... arguments) {
+
+		Region<?, ?> region = getRegion();
+
+		RegionQueryResultCollector resultCollector = RegionQueryResultCollector.from(query);
+
+		if (resultCollector == null || !isParallelQueryable(region)) {
+			return this.<E>find(query, arguments).asList();
+		}
+
+		try {
+
+			GemfireOnRegionFunctionTemplate functionTemplate = newOnRegionFunctionTemplate(region);
+
+			functionTemplate.setResultCollector(resultCollector);
+
+			Iterable<E> results = functionTemplate.execute(RegionQueryFunction.ID, query, arguments);
+
+			return results instanceof List ? (List<E>) results : CollectionUtils.addAll(new ArrayList<>(), results);
+		}
+		catch (GemFireException cause) {
+			throw convertGemFireAccessException(cause);
+		}
+	}
+
+	@Override
+	public List<List<?>> findInBatch(@NonNull QueryBatch batch) {
+
+		Assert.notNull(batch, "QueryBatch must not be null");
+
+		if (batch.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		Region<?, ?> region = getRegion();
+
+		if (isQueryBatchFunctionEnabled() && RegionUtils.isClient(region)) {
+			return findInBatchOnServer(batch, region);
+		}
+
+		Executor executor = this.queryBatchExecutor;
+
+		return executor != null && batch.size() > 1
+			? findInBatchConcurrently(batch, executor)
+			: findInBatchSequentially(batch);
+	}
+
+	private List<List<?>> findInBatchConcurrently(QueryBatch batch, Executor executor) {
+
+		String origin = QueryExecution.currentOrigin();
+
+		List<String> queries = batch.getQueries();
+		List<Object[]> arguments = batch.getArguments();
+
+		List<CompletableFuture<List<?>>> futureResults = new ArrayList<>(queries.size());
+
+		for (int index = 0; index < queries.size(); index++) {
+
+			String query = queries.get(index);
+			Object[] queryArguments = arguments.get(index);
+
+			futureResults.add(CompletableFuture.<List<?>>supplyAsync(() ->
+				QueryExecution.withOrigin(origin, () -> find(query, queryArguments).asList()), executor));
+		}
+
+		try {
+			return futureResults.stream()
+				.map(CompletableFuture::join)
+				.collect(Collectors.toList());
+		}
+		catch (CompletionException cause) {
+
+			if (cause.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) cause.getCause();
+			}
+
+			throw cause;
+		}
+	}
+
+	private List<List<?>> findInBatchOnServer(QueryBatch batch, Region<?, ?> region) {
+
+		try {
+
+			GemfireOnServerFunctionTemplate functionTemplate = new GemfireOnServerFunctionTemplate(poolNameFrom(region));
+
+			Object[][] arguments = batch.getArguments().toArray(new Object[batch.size()][]);
+			String[] queries = batch.getQueries().toArray(new String[0]);
+
+			List<List<?>> results = functionTemplate.executeAndExtract(BatchQueryFunction.ID, queries, arguments);
+
+			return results != null ? results : Collections.emptyList();
+		}
+		catch (GemFireException cause) {
+			throw convertGemFireAccessException(cause);
+		}
+	}
+
+	private List<List<?>> findInBatchSequentially(QueryBatch batch) {
+		return GemfireOperations.super.findInBatch(batch);
+	}
+
+	GemfireOnRegionFunctionTemplate newOnRegionFunctionTemplate(@NonNull Region<?, ?> region) {
+		return new GemfireOnRegionFunctionTemplate(region);
+	}
+
+	/**
+	 * Determines whether the OQL query can be executed in parallel on the data nodes hosting the given {@link Region}.
+	 *
+	 * A peer {@link Region} must be a {@literal PARTITION} {@link Region}. A client {@link Region} is only queried
+	 * in parallel when {@link #isParallelQueryFunctionEnabled() enabled} since the client cannot determine whether
+	 * the {@link Region} on the servers is a {@literal PARTITION} {@link Region}.
+	 *
+	 * @param region {@link Region} to evaluate.
+	 * @return a boolean value indicating whether the OQL query can be executed in parallel.
+	 * @see #setParallelQueryFunctionEnabled(boolean)
+	 */
+	boolean isParallelQueryable(@NonNull Region<?, ?> region) {
+
+		return RegionUtils.isClient(region)
+			? isParallelQueryFunctionEnabled()
+			: PartitionRegionHelper.isPartitionedRegion(region);
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T> T findUnique(String query, Object... arguments) throws InvalidDataAccessApiUsageException {
 
 		try {
 
-			QueryService queryService = resolveQueryService(getRegion());
+			QueryService queryService = getQueryService();
 
-			Query compiledQuery = queryService.newQuery(query);
+			Query compiledQuery = compileQuery(queryService, query);
 
-			Object result = compiledQuery.execute(arguments);
+			Object result = executeQuery(query, queryService, () -> compiledQuery.execute(arguments));
 
 			if (result instanceof SelectResults) {
 
@@ -394,6 +699,141 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 		}
 	}
 
+	/**
+	 * Compiles the given {@link String OQL query} using the given {@link QueryService}.
+	 *
+	 * Compiled OQL {@link Query queries} are cached by {@link QueryService} and {@link String OQL query}
+	 * in order to avoid re-parsing and re-compiling identical OQL queries on every invocation.
+	 *
+	 * @param queryService {@link QueryService} used to compile the {@link String OQL query}.
+	 * @param query {@link String} containing the OQL query to compile.
+	 * @return the compiled OQL {@link Query}.
+	 * @see org.apache.geode.cache.query.QueryService#newQuery(String)
+	 * @see org.apache.geode.cache.query.Query
+	 * @see #getQueryCache()
+	 */
+	protected @NonNull Query compileQuery(@NonNull QueryService queryService, @NonNull String query) {
+		return getQueryCache().get(queryService, query);
+	}
+
+	/**
+	 * Executes the given OQL query, notifying the configured {@link QueryExecutionListener} of the execution time,
+	 * number of results and, for {@literal <TRACE>} queries on a peer cache, the indexes used by the query.
+	 * The {@link QueryExecutionListener} is also notified when the query fails.
+	 *
+	 * The indexes used by the query are determined, on a best-effort basis, from the increase in the total uses
+	 * of each index on this member during the query execution. Therefore, the indexes are approximate when other
+	 * queries are executed concurrently and do not include the indexes used by the query on other members.
+	 *
+	 * @param <T> {@link Class type} of the query result.
+	 * @param query {@link String} containing the OQL query.
+	 * @param queryService {@link QueryService} executing the query; used to determine the indexes used by the query.
+	 * @param execution {@link QueryOperation} executing the query.
+	 * @return the query result.
+	 * @throws QueryException if the query fails to execute.
+	 * @see org.springframework.data.gemfire.query.QueryExecutionListener
+	 */
+	<T> T executeQuery(@NonNull String query, @Nullable QueryService queryService,
+			@NonNull QueryOperation<T> execution) throws QueryException {
+
+		QueryExecutionListener queryExecutionListener = this.queryExecutionListener;
+
+		if (queryExecutionListener == null) {
+			return execution.execute();
+		}
+
+		Map<String, Long> indexUses = isIndexUsageResolvable(query, queryService)
+			? resolveIndexUses(queryService)
+			: Collections.emptyMap();
+
+		long startTime = System.nanoTime();
+
+		T result = null;
+
+		Throwable failure = null;
+
+		try {
+			result = execution.execute();
+			return result;
+		}
+		catch (Throwable cause) {
+			failure = cause;
+			throw cause;
+		}
+		finally {
+
+			Duration duration = Duration.ofNanos(System.nanoTime() - startTime);
+
+			QueryExecution queryExecution = failure != null
+				? QueryExecution.failed(query, duration, failure)
+				: QueryExecution.of(query, duration, sizeOf(result), indexUses.isEmpty() ? Collections.emptyList()
+					: resolveIndexesUsed(indexUses, resolveIndexUses(queryService)));
+
+			try {
+				queryExecutionListener.onQueryExecution(queryExecution);
+			}
+			catch (RuntimeException cause) {
+				logger.warn(String.format("QueryExecutionListener failed for query [%s]", query), cause);
+			}
+		}
+	}
+
+	private boolean isIndexUsageResolvable(String query, @Nullable QueryService queryService) {
+		return queryService != null && TRACE_PATTERN.matcher(query).find() && !RegionUtils.isClient(getRegion());
+	}
+
+	private Map<String, Long> resolveIndexUses(QueryService queryService) {
+
+		Map<String, Long> indexUses = new HashMap<>();
+
+		CollectionUtils.nullSafeCollection(queryService.getIndexes(getRegion())).stream()
+			.filter(index -> index.getStatistics() != null)
+			.forEach(index -> indexUses.put(index.getName(), index.getStatistics().getTotalUses()));
+
+		return indexUses;
+	}
+
+	private List<String> resolveIndexesUsed(Map<String, Long> indexUsesBefore, Map<String, Long> indexUsesAfter) {
+
+		return indexUsesAfter.entrySet().stream()
+			.filter(entry -> entry.getValue() > indexUsesBefore.getOrDefault(entry.getKey(), entry.getValue()))
+			.map(Map.Entry::getKey)
+			.sorted()
+			.collect(Collectors.toList());
+	}
+
+	private int sizeOf(@Nullable Object result) {
+
+		return result instanceof SelectResults ? ((SelectResults<?>) result).size()
+			: result != null ? 1
+			: 0;
+	}
+
+	/**
+	 * Returns the {@link QueryService} used by this template to compile and execute OQL queries
+	 * on the configured {@link Region}.
+	 *
+	 * The {@link QueryService} is resolved once, on first use, and retained for the {@link Region}
+	 * so that compiled OQL {@link Query queries}, which are cached by {@link QueryService} identity, are reused.
+	 * Apache Geode creates a new {@link QueryService} instance on every call to
+	 * {@link org.apache.geode.cache.RegionService#getQueryService()}.
+	 *
+	 * @return the {@link QueryService} used by this template in its query/finder methods.
+	 * @see #resolveQueryService(Region)
+	 * @see #setRegion(Region)
+	 */
+	protected QueryService getQueryService() {
+
+		QueryService queryService = this.queryService;
+
+		if (queryService == null) {
+			queryService = resolveQueryService(getRegion());
+			this.queryService = queryService;
+		}
+
+		return queryService;
+	}
+
 	/**
 	 * Returns the {@link QueryService} used by this template in its query/finder methods.
 	 *
@@ -535,6 +975,16 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 				new RegionCloseSuppressingInvocationHandler(region));
 	}
 
+	/**
+	 * Operation executing an OQL query.
+	 *
+	 * @param <T> {@link Class type} of the query result.
+	 */
+	@FunctionalInterface
+	interface QueryOperation<T> {
+		T execute() throws QueryException;
+	}
+
 	/**
 	 * {@link InvocationHandler} that suppresses the {@link Region#close()} call on a target {@link Region}.
 	 *
@@ -587,4 +1037,178 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 			}
 		}
 	}
+
+	/**
+	 * Bounded, thread-safe cache of compiled OQL {@link Query queries} keyed by {@link QueryService} identity
+	 * and {@link String OQL query}, evicting the least recently used {@link Query} when full.
+	 *
+	 * @see org.apache.geode.cache.query.Query
+	 * @see org.apache.geode.cache.query.QueryService
+	 */
+	public static class CompiledQueryCache {
+
+		private final int maximumSize;
+
+		private final AtomicLong hitCount = new AtomicLong(0L);
+		private final AtomicLong missCount = new AtomicLong(0L);
+
+		private final Map<QueryKey, Query> queries;
+
+		/**
+		 * Constructs a new instance of {@link CompiledQueryCache} initialized with the given maximum size.
+		 *
+		 * @param maximumSize maximum number of compiled OQL {@link Query queries} to cache;
+		 * {@literal 0} disables caching.
+		 */
+		CompiledQueryCache(int maximumSize) {
+
+			this.maximumSize = Math.max(maximumSize, 0);
+
+			this.queries = new LinkedHashMap<QueryKey, Query>(16, 0.75f, true) {
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<QueryKey, Query> eldest) {
+					return size() > CompiledQueryCache.this.maximumSize;
+				}
+			};
+		}
+
+		/**
+		 * Gets the compiled OQL {@link Query} for the given {@link String OQL query} from the cache,
+		 * compiling and caching the OQL {@link Query} with the given {@link QueryService} on a cache miss.
+		 *
+		 * @param queryService {@link QueryService} used to compile the {@link String OQL query}.
+		 * @param query {@link String} containing the OQL query.
+		 * @return the compiled OQL {@link Query}.
+		 * @see org.apache.geode.cache.query.QueryService#newQuery(String)
+		 */
+		@NonNull Query get(@NonNull QueryService queryService, @NonNull String query) {
+
+			if (!isEnabled()) {
+				return queryService.newQuery(query);
+			}
+
+			QueryKey queryKey = new QueryKey(queryService, query);
+
+			Query compiledQuery;
+
+			synchronized (this.queries) {
+				compiledQuery = this.queries.get(queryKey);
+			}
+
+			if (compiledQuery != null) {
+				this.hitCount.incrementAndGet();
+			}
+			else {
+
+				this.missCount.incrementAndGet();
+
+				compiledQuery = queryService.newQuery(query);
+
+				synchronized (this.queries) {
+					this.queries.put(queryKey, compiledQuery);
+				}
+			}
+
+			return compiledQuery;
+		}
+
+		/**
+		 * Determines whether compiled OQL {@link Query queries} are cached.
+		 *
+		 * @return a boolean value indicating whether compiled OQL {@link Query queries} are cached.
+		 */
+		public boolean isEnabled() {
+			return getMaximumSize() > 0;
+		}
+
+		/**
+		 * Returns the number of times a compiled OQL {@link Query} was found in this cache.
+		 *
+		 * @return the number of cache hits.
+		 */
+		public long getHitCount() {
+			return this.hitCount.get();
+		}
+
+		/**
+		 * Returns the maximum number of compiled OQL {@link Query queries} held by this cache.
+		 *
+		 * @return the maximum size of this cache.
+		 */
+		public int getMaximumSize() {
+			return this.maximumSize;
+		}
+
+		/**
+		 * Returns the number of times a compiled OQL {@link Query} was not found in this cache.
+		 *
+		 * @return the number of cache misses.
+		 */
+		public long getMissCount() {
+			return this.missCount.get();
+		}
+
+		/**
+		 * Removes all compiled OQL {@link Query queries} from this cache.
+		 */
+		public void clear() {
+
+			synchronized (this.queries) {
+				this.queries.clear();
+			}
+		}
+
+		/**
+		 * Returns the number of compiled OQL {@link Query queries} currently held by this cache.
+		 *
+		 * @return the number of compiled OQL {@link Query queries} currently held by this cache.
+		 */
+		public int size() {
+
+			synchronized (this.queries) {
+				return this.queries.size();
+			}
+		}
+	}
+
+	private static final class QueryKey {
+
+		private final QueryService queryService;
+
+		private final String query;
+
+		private QueryKey(QueryService queryService, String query) {
+			this.queryService = queryService;
+			this.query = query;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof QueryKey)) {
+				return false;
+			}
+
+			QueryKey that = (QueryKey) obj;
+
+			return this.queryService == that.queryService
+				&& this.query.equals(that.query);
+		}
+
+		@Override
+		public int hashCode() {
+
+			int hashValue = 17;
+
+			hashValue = 37 * hashValue + System.identityHashCode(this.queryService);
+			hashValue = 37 * hashValue + this.query.hashCode();
+
+			return hashValue;
+		}
+	}
 }
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.query.SelectResults;
+
+import org.springframework.data.gemfire.repository.query.support.ChunkedValuesIterator;
+import org.springframework.data.gemfire.support.StreamPublisher;
+import org.springframework.data.gemfire.util.CollectionUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * Reactive variant of the {@link GemfireOperations} {@literal Template} returning
+ * {@link java.util.concurrent.Flow Java Flow} {@link Flow.Publisher Publishers}.
+ *
+ * Each {@link Region} data access operation and OQL query is delegated to the configured {@link GemfireOperations}
+ * and executed on the configured {@link Executor} when subscribed, so that the subscribing {@link Thread}
+ * (e.g. an event loop) is never blocked. Single-valued operations publish at most one value. Multi-valued operations
+ * publish values in accordance with the demand of the {@link Flow.Subscriber}, and {@link #getAll(Collection)} fetches
+ * values from the {@link Region} incrementally in windows of the configured {@link #getWindowSize() window size}.
+ * However, OQL queries are not windowed; see {@link #find(String, Object...)}.
+ *
+ * @author agent
+ * @see java.util.concurrent.Executor
+ * @see java.util.concurrent.Flow
+ * @see org.springframework.data.gemfire.GemfireOperations
+ * @see org.springframework.data.gemfire.support.StreamPublisher
+ * @since 3.0.0
+ */
+public class ReactiveGemfireTemplate {
+
+	public static final int DEFAULT_WINDOW_SIZE = Integer.getInteger("spring.data.gemfire.reactive.window.size",
+		ChunkedValuesIterator.DEFAULT_CHUNK_SIZE);
+
+	private final Executor executor;
+
+	private final GemfireOperations template;
+
+	private final int windowSize;
+
+	/**
+	 * Constructs a new instance of {@link ReactiveGemfireTemplate} initialized with the given, required
+	 * {@link GemfireOperations} and {@link Executor} using the {@link #DEFAULT_WINDOW_SIZE}.
+	 *
+	 * @param template {@link GemfireOperations} to which all operations are delegated; must not be {@literal null}.
+	 * @param executor {@link Executor} used to execute all operations; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link GemfireOperations} or {@link Executor} is {@literal null}.
+	 * @see #ReactiveGemfireTemplate(GemfireOperations, Executor, int)
+	 */
+	public ReactiveGemfireTemplate(@NonNull GemfireOperations template, @NonNull Executor executor) {
+		this(template, executor, DEFAULT_WINDOW_SIZE);
+	}
+
+	/**
+	 * Constructs a new instance of {@link ReactiveGemfireTemplate} initialized with the given, required
+	 * {@link GemfireOperations}, {@link Executor} and window size.
+	 *
+	 * @param template {@link GemfireOperations} to which all operations are delegated; must not be {@literal null}.
+	 * @param executor {@link Executor} used to execute all operations; must not be {@literal null}.
+	 * @param windowSize {@link Integer} containing the maximum number of values fetched per window;
+	 * must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if {@link GemfireOperations} or {@link Executor} is {@literal null},
+	 * or the window size is less than {@literal 1}.
+	 */
+	public ReactiveGemfireTemplate(@NonNull GemfireOperations template, @NonNull Executor executor, int windowSize) {
+
+		Assert.notNull(template, "GemfireOperations must not be null");
+		Assert.notNull(executor, "Executor must not be null");
+		Assert.isTrue(windowSize > 0, () -> String.format("Window size [%d] must be greater than 0", windowSize));
+
+		this.template = template;
+		this.executor = executor;
+		this.windowSize = windowSize;
+	}
+
+	/**
+	 * Returns the configured {@link Executor} used to execute all operations.
+	 *
+	 * @return the configured {@link Executor}.
+	 * @see java.util.concurrent.Executor
+	 */
+	public @NonNull Executor getExecutor() {
+		return this.executor;
+	}
+
+	/**
+	 * Returns the configured {@link GemfireOperations} to which all operations are delegated.
+	 *
+	 * @return the configured {@link GemfireOperations}.
+	 * @see org.springframework.data.gemfire.GemfireOperations
+	 */
+	public @NonNull GemfireOperations getTemplate() {
+		return this.template;
+	}
+
+	/**
+	 * Returns the maximum number of values fetched from the {@link Region} per window.
+	 *
+	 * @return the maximum number of values fetched from the {@link Region} per window.
+	 */
+	public int getWindowSize() {
+		return this.windowSize;
+	}
+
+	/**
+	 * Returns a {@link Flow.Publisher} publishing the single result of the given {@link Supplier operation},
+	 * if any, executed on the configured {@link Executor}.
+	 *
+	 * @param <R> {@link Class type} of the result.
+	 * @param operation {@link Supplier} encapsulating the operation to execute; must not be {@literal null}.
+	 * @return a {@link Flow.Publisher} publishing the {@literal non-null} result of the operation.
+	 * @see org.springframework.data.gemfire.support.StreamPublisher#just(Supplier, Executor)
+	 */
+	protected @NonNull <R> Flow.Publisher<R> just(@NonNull Supplier<R> operation) {
+		return StreamPublisher.just(operation, getExecutor());
+	}
+
+	/**
+	 * Returns a {@link Flow.Publisher} completing, without a value, once the given {@link Runnable operation}
+	 * executed on the configured {@link Executor} completes.
+	 *
+	 * @param operation {@link Runnable} encapsulating the operation to execute; must not be {@literal null}.
+	 * @return a {@link Flow.Publisher} signaling the completion of the operation.
+	 * @see org.springframework.data.gemfire.support.StreamPublisher#run(Runnable, Executor)
+	 */
+	protected @NonNull Flow.Publisher<Void> run(@NonNull Runnable operation) {
+		return StreamPublisher.run(operation, getExecutor());
+	}
+
+	public Flow.Publisher<Boolean> containsKey(Object key) {
+		return just(() -> getTemplate().containsKey(key));
+	}
+
+	public Flow.Publisher<Boolean> containsKeyOnServer(Object key) {
+		return just(() -> getTemplate().containsKeyOnServer(key));
+	}
+
+	public <K, V> Flow.Publisher<V> get(K key) {
+		return just(() -> getTemplate().get(key));
+	}
+
+	/**
+	 * Publishes the values for the given keys, in key order, fetching the values from the {@link Region}
+	 * incrementally, as demanded, in windows of the configured {@link #getWindowSize() window size}.
+	 *
+	 * Keys without a value are skipped.
+	 *
+	 * @param <K> {@link Class type} of the keys.
+	 * @param <V> {@link Class type} of the values.
+	 * @param keys {@link Collection} of keys.
+	 * @return a {@link Flow.Publisher} publishing the values for the given keys.
+	 * @see org.springframework.data.gemfire.repository.query.support.ChunkedValuesIterator
+	 */
+	public <K, V> Flow.Publisher<V> getAll(Collection<K> keys) {
+
+		return StreamPublisher.from(() -> ChunkedValuesIterator.<K, V>stream(CollectionUtils.nullSafeCollection(keys),
+			getWindowSize(), windowKeys -> getTemplate().getAll(windowKeys)), getExecutor());
+	}
+
+	public <K, V> Flow.Publisher<V> put(K key, V value) {
+		return just(() -> getTemplate().put(key, value));
+	}
+
+	public <K, V> Flow.Publisher<Void> putAll(Map<? extends K, ? extends V> map) {
+		return run(() -> getTemplate().putAll(map));
+	}
+
+	public <K, V> Flow.Publisher<V> putIfAbsent(K key, V value) {
+		return just(() -> getTemplate().putIfAbsent(key, value));
+	}
+
+	public <K, V> Flow.Publisher<V> remove(K key) {
+		return just(() -> getTemplate().remove(key));
+	}
+
+	public Flow.Publisher<Void> removeAll(Collection<?> keys) {
+		return run(() -> getTemplate().removeAll(keys));
+	}
+
+	/**
+	 * Executes the OQL query with the given (optional) parameters when subscribed, publishing the results
+	 * in accordance with the demand of the {@link Flow.Subscriber}.
+	 *
+	 * The OQL query is executed once, so the full {@link SelectResults} are held in memory while the results
+	 * are published; demand only controls the rate at which results are published, not how many results
+	 * are fetched. Arbitrary OQL queries (e.g. projections, aggregates or {@literal ORDER BY} queries) cannot be
+	 * windowed in general. To bound memory for large result sets, publish the keys of the matching entities with
+	 * a {@literal LIMIT} windowed OQL query and then fetch the values with {@link #getAll(Collection)}, or stream
+	 * the entities with {@link org.springframework.data.gemfire.repository.GemfireRepository#findAllAsStream(int)}
+	 * or a {@link java.util.stream.Stream} returning repository query method.
+	 *
+	 * @param <E> {@link Class type} of the results.
+	 * @param query {@link String} containing the OQL query statement to execute.
+	 * @param params array of {@link Object} values bound to the OQL query parameters (such as $1).
+	 * @return a {@link Flow.Publisher} publishing the OQL query results.
+	 * @see org.springframework.data.gemfire.GemfireOperations#find(String, Object...)
+	 */
+	public <E> Flow.Publisher<E> find(String query, Object... params) {
+		return StreamPublisher.from(() -> getTemplate().<E>find(query, params).stream(), getExecutor());
+	}
+
+	/**
+	 * Executes the OQL query with the given (optional) parameters when subscribed, publishing the single result.
+	 *
+	 * @param <T> {@link Class type} of the result.
+	 * @param query {@link String} containing the OQL query statement to execute.
+	 * @param params array of {@link Object} values bound to the OQL query parameters (such as $1).
+	 * @return a {@link Flow.Publisher} publishing the single result.
+	 * @see org.springframework.data.gemfire.GemfireOperations#findUnique(String, Object...)
+	 */
+	public <T> Flow.Publisher<T> findUnique(String query, Object... params) {
+		return just(() -> getTemplate().findUnique(query, params));
+	}
+
+	/**
+	 * Filters the values of the {@link Region} using the given OQL query predicate when subscribed,
+	 * publishing the results in accordance with the demand of the {@link Flow.Subscriber}.
+	 *
+	 * As with {@link #find(String, Object...)}, the full {@link SelectResults} are held in memory while the results
+	 * are published.
+	 *
+	 * @param <E> {@link Class type} of the results.
+	 * @param query {@link String} containing the OQL query predicate.
+	 * @return a {@link Flow.Publisher} publishing the OQL query results.
+	 * @see org.springframework.data.gemfire.GemfireOperations#query(String)
+	 */
+	public <E> Flow.Publisher<E> query(String query) {
+		return StreamPublisher.from(() -> getTemplate().<E>query(query).stream(), getExecutor());
+	}
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.function;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.query.QueryException;
+import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.security.ResourcePermission;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link BatchQueryFunction} is an Apache Geode {@link Function} executing a batch of independent OQL queries
+ * on a server and returning the results of all OQL queries in a single response.
+ *
+ * The {@link Function} is executed {@literal onServer} by
+ * {@link org.springframework.data.gemfire.GemfireTemplate#findInBatch}
+ * so that a client pays a single round trip for the entire batch. The {@link Function} arguments are an array of
+ * {@link String OQL queries} followed by an array of {@link Object} arrays holding the values bound to the query
+ * parameters of each OQL query. The result is a {@link List} containing a {@link List} of results per OQL query,
+ * in the order of the OQL queries.
+ *
+ * The {@link Function} must be registered on all servers, for example:
+ * {@literal FunctionService.registerFunction(new BatchQueryFunction())}.
+ *
+ * @author agent
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.apache.geode.cache.query.QueryService
+ * @see org.springframework.data.gemfire.query.QueryBatch
+ * @since 3.0.0
+ */
+public class BatchQueryFunction implements Function<Object[]> {
+
+	@Serial
+	private static final long serialVersionUID = -6170562871283549146L;
+
+	public static final String ID = BatchQueryFunction.class.getName();
+
+	private static final Pattern REGION_PATH_PATTERN =
+		Pattern.compile("(?:^|[\\s,(])/([A-Za-z_][\\w\\-]*(?:/[\\w\\-]+)*)");
+
+	private static final Pattern STRING_LITERAL_PATTERN = Pattern.compile("'(?:[^']|'')*'");
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public void execute(@NonNull FunctionContext<Object[]> functionContext) {
+
+		Object[] arguments = functionContext.getArguments();
+
+		if (arguments == null || arguments.length < 1 || !(arguments[0] instanceof String[])) {
+			throw new FunctionException(String.format("Function [%s] requires an array of OQL query arguments",
+				getId()));
+		}
+
+		String[] queries = (String[]) arguments[0];
+
+		Object[][] queryArguments = arguments.length > 1 && arguments[1] instanceof Object[][]
+			? (Object[][]) arguments[1]
+			: new Object[queries.length][];
+
+		QueryService queryService = functionContext.getCache().getQueryService();
+
+		List<List<Object>> results = new ArrayList<>(queries.length);
+
+		for (int index = 0; index < queries.length; index++) {
+
+			String query = queries[index];
+
+			Object[] parameters = index < queryArguments.length && queryArguments[index] != null
+				? queryArguments[index]
+				: new Object[0];
+
+			try {
+				results.add(toList(queryService.newQuery(query).execute(parameters)));
+			}
+			catch (QueryException cause) {
+				throw new FunctionException(String.format("Failed to execute OQL query [%s]", query), cause);
+			}
+		}
+
+		functionContext.getResultSender().lastResult(results);
+	}
+
+	private List<Object> toList(Object result) {
+
+		List<Object> list = new ArrayList<>();
+
+		if (result instanceof SelectResults) {
+			list.addAll((SelectResults<?>) result);
+		}
+		else if (result != null) {
+			list.add(result);
+		}
+
+		return list;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public boolean hasResult() {
+		return true;
+	}
+
+	/**
+	 * The queried {@link org.apache.geode.cache.Region Regions} are only known from the {@link Function} arguments.
+	 *
+	 * @param regionName {@link String} containing the name of the {@link org.apache.geode.cache.Region};
+	 * {@literal null} for an {@literal onServer} {@link Function} execution.
+	 * @return a {@link Collection} containing the {@literal DATA:READ} {@link ResourcePermission}
+	 * on all {@link org.apache.geode.cache.Region Regions}.
+	 * @see #getRequiredPermissions(String, Object)
+	 */
+	@Override
+	public Collection<ResourcePermission> getRequiredPermissions(@Nullable String regionName) {
+		return Collections.singletonList(newDataReadPermission(null));
+	}
+
+	/**
+	 * The OQL queries only read the data of the {@link org.apache.geode.cache.Region Regions} referenced
+	 * by the OQL queries in the {@link Function} arguments.
+	 *
+	 * The {@literal DATA:READ} {@link ResourcePermission} is required on all {@link org.apache.geode.cache.Region
+	 * Regions} when the {@link org.apache.geode.cache.Region Regions} referenced by an OQL query cannot be determined.
+	 *
+	 * @param regionName {@link String} containing the name of the {@link org.apache.geode.cache.Region};
+	 * {@literal null} for an {@literal onServer} {@link Function} execution.
+	 * @param args {@link Function} arguments containing the array of {@link String OQL queries}.
+	 * @return a {@link Collection} containing the {@literal DATA:READ} {@link ResourcePermission}
+	 * on each queried {@link org.apache.geode.cache.Region}.
+	 * @see org.apache.geode.security.ResourcePermission
+	 */
+	@Override
+	public Collection<ResourcePermission> getRequiredPermissions(@Nullable String regionName, @Nullable Object args) {
+
+		Object[] arguments = args instanceof Object[] ? (Object[]) args : null;
+
+		if (arguments == null || arguments.length < 1 || !(arguments[0] instanceof String[])) {
+			return getRequiredPermissions(regionName);
+		}
+
+		Set<String> regionPaths = new LinkedHashSet<>();
+
+		for (String query : (String[]) arguments[0]) {
+
+			Set<String> queryRegionPaths = resolveRegionPaths(query);
+
+			if (queryRegionPaths.isEmpty()) {
+				return getRequiredPermissions(regionName);
+			}
+
+			regionPaths.addAll(queryRegionPaths);
+		}
+
+		return regionPaths.stream()
+			.map(this::newDataReadPermission)
+			.collect(Collectors.toList());
+	}
+
+	private ResourcePermission newDataReadPermission(@Nullable String regionPath) {
+		return new ResourcePermission(ResourcePermission.Resource.DATA, ResourcePermission.Operation.READ, regionPath);
+	}
+
+	private Set<String> resolveRegionPaths(@Nullable String query) {
+
+		Set<String> regionPaths = new LinkedHashSet<>();
+
+		if (query != null) {
+
+			Matcher regionPath = REGION_PATH_PATTERN.matcher(STRING_LITERAL_PATTERN.matcher(query).replaceAll("''"));
+
+			while (regionPath.find()) {
+				regionPaths.add(regionPath.group(1));
+			}
+		}
+
+		return regionPaths;
+	}
+
+	/**
+	 * The OQL queries are read-only and therefore can be safely re-executed on failure.
+	 *
+	 * @return {@literal true}.
+	 */
+	@Override
+	public boolean isHA() {
+		return true;
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.function;
+
+import java.io.Serial;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.QueryException;
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.security.ResourcePermission;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * {@link RegionQueryFunction} is an Apache Geode {@link Function} executing an OQL query against the local data
+ * of a {@literal PARTITION} {@link org.apache.geode.cache.Region} on each data node.
+ *
+ * The {@link Function} is executed {@literal onRegion}, so that every data node runs the OQL query in parallel
+ * on its primary buckets only, using {@link Query#execute(RegionFunctionContext, Object...)}. The results are
+ * streamed back to the caller in chunks, which are merged by a
+ * {@link org.springframework.data.gemfire.function.execution.RegionQueryResultCollector}.
+ *
+ * The {@link Function} arguments are the {@link String OQL query} followed by an array of {@link Object} values
+ * bound to the OQL query parameters. The {@link Function} must be registered on all data nodes, for example:
+ * {@literal FunctionService.registerFunction(new RegionQueryFunction())}.
+ *
+ * @author agent
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.apache.geode.cache.execute.RegionFunctionContext
+ * @see org.apache.geode.cache.query.Query
+ * @see org.springframework.data.gemfire.function.BatchingResultSender
+ * @see org.springframework.data.gemfire.function.execution.RegionQueryResultCollector
+ * @since 3.0.0
+ */
+public class RegionQueryFunction implements Function<Object[]> {
+
+	@Serial
+	private static final long serialVersionUID = 3045582741630929123L;
+
+	public static final int DEFAULT_BATCH_SIZE = Integer.getInteger("spring.data.gemfire.query.function.batch.size", 1000);
+
+	public static final String ID = RegionQueryFunction.class.getName();
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void execute(@NonNull FunctionContext<Object[]> functionContext) {
+
+		if (!(functionContext instanceof RegionFunctionContext)) {
+			throw new FunctionException(String.format("Function [%s] must be executed on a Region", getId()));
+		}
+
+		Object[] arguments = functionContext.getArguments();
+
+		if (ObjectUtils.isEmpty(arguments) || !(arguments[0] instanceof String)) {
+			throw new FunctionException(String.format("Function [%s] requires an OQL query argument", getId()));
+		}
+
+		String queryString = (String) arguments[0];
+
+		Object[] queryArguments = arguments.length > 1 && arguments[1] instanceof Object[]
+			? (Object[]) arguments[1]
+			: new Object[0];
+
+		try {
+
+			Query query = functionContext.getCache().getQueryService().newQuery(queryString);
+
+			Object result = query.execute((RegionFunctionContext) functionContext, queryArguments);
+
+			Iterable<?> results = result instanceof SelectResults ? (SelectResults<?>) result
+				: result != null ? Collections.singletonList(result)
+				: Collections.emptyList();
+
+			new BatchingResultSender(DEFAULT_BATCH_SIZE, functionContext.getResultSender())
+				.sendResults(results.iterator().hasNext() ? results : Collections.emptyList());
+		}
+		catch (QueryException cause) {
+			throw new FunctionException(String.format("Failed to execute OQL query [%s]", queryString), cause);
+		}
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public boolean hasResult() {
+		return true;
+	}
+
+	/**
+	 * The OQL query only reads the data of the {@link org.apache.geode.cache.Region} on which
+	 * the {@link Function} is executed.
+	 *
+	 * @param regionName {@link String} containing the name of the queried {@link org.apache.geode.cache.Region}.
+	 * @return a {@link Collection} containing the {@literal DATA:READ} {@link ResourcePermission}
+	 * on the queried {@link org.apache.geode.cache.Region}.
+	 * @see org.apache.geode.security.ResourcePermission
+	 */
+	@Override
+	public Collection<ResourcePermission> getRequiredPermissions(@Nullable String regionName) {
+		return Collections.singletonList(new ResourcePermission(ResourcePermission.Resource.DATA,
+			ResourcePermission.Operation.READ, regionName));
+	}
+
+	/**
+	 * @inheritDoc
+	 * @see #getRequiredPermissions(String)
+	 */
+	@Override
+	public Collection<ResourcePermission> getRequiredPermissions(@Nullable String regionName, Object args) {
+		return getRequiredPermissions(regionName);
+	}
+
+	/**
+	 * The OQL query is read-only and therefore can be safely re-executed on failure.
+	 *
+	 * @return {@literal true}.
+	 */
+	@Override
+	public boolean isHA() {
+		return true;
+	}
+
+	/**
+	 * Executes the OQL query on the members hosting the primary buckets so that each bucket is queried only once.
+	 *
+	 * @return {@literal true}.
+	 */
+	@Override
+	public boolean optimizeForWrite() {
+		return true;
+	}
+}
@@ -0,0 +1,426 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.cache.query.Struct;
+import org.apache.geode.distributed.DistributedMember;
+import org.apache.geode.pdx.PdxInstance;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Apache Geode {@link ResultCollector} merging the OQL query results streamed back from each data node
+ * by the {@link org.springframework.data.gemfire.function.RegionQueryFunction}.
+ *
+ * Results are merged as the chunks arrive from each data node, retaining at most the {@literal LIMIT}
+ * of the OQL query. When the OQL query is ordered, the first results by {@literal ORDER BY} are retained
+ * in a bounded heap and sorted when the results are returned. When the OQL query is not ordered, results
+ * arriving after the {@literal LIMIT} has been reached are discarded immediately. {@literal DISTINCT}
+ * results are de-duplicated across data nodes.
+ *
+ * Use {@link #from(String)} to create a {@link RegionQueryResultCollector} for a given OQL query.
+ *
+ * @author agent
+ * @see org.apache.geode.cache.execute.ResultCollector
+ * @see org.springframework.data.gemfire.function.RegionQueryFunction
+ * @since 3.0.0
+ */
+public class RegionQueryResultCollector implements ResultCollector<Object, List<Object>> {
+
+	private static final Pattern AGGREGATE_PATTERN =
+		Pattern.compile("\\bSELECT\\s+(DISTINCT\\s+)?(AVG|COUNT|MAX|MIN|SUM)\\s*\\(", Pattern.CASE_INSENSITIVE);
+
+	private static final Pattern DISTINCT_PATTERN =
+		Pattern.compile("\\bSELECT\\s+DISTINCT\\b", Pattern.CASE_INSENSITIVE);
+
+	private static final Pattern GROUP_BY_PATTERN = Pattern.compile("\\bGROUP\\s+BY\\b", Pattern.CASE_INSENSITIVE);
+
+	private static final Pattern LIMIT_PATTERN =
+		Pattern.compile("\\sLIMIT\\s+(\\d+)\\s*;?\\s*$", Pattern.CASE_INSENSITIVE);
+
+	private static final Pattern ORDER_BY_KEYWORD_PATTERN = Pattern.compile("\\bORDER\\s+BY\\b", Pattern.CASE_INSENSITIVE);
+
+	private static final Pattern ORDER_BY_PATTERN = Pattern.compile(
+		"\\sORDER\\s+BY\\s+([\\w.]+(?:\\s+(?:ASC|DESC))?(?:\\s*,\\s*[\\w.]+(?:\\s+(?:ASC|DESC))?)*)"
+			+ "(?:\\s+LIMIT\\s+\\d+)?\\s*;?\\s*$", Pattern.CASE_INSENSITIVE);
+
+	/**
+	 * Factory method used to construct a new {@link RegionQueryResultCollector} for the given OQL query.
+	 *
+	 * Returns {@literal null} if the results of the OQL query cannot be merged from the results of each data node,
+	 * for example, when the OQL query computes aggregates, groups results or orders results by an expression
+	 * other than a property.
+	 *
+	 * @param query {@link String} containing the OQL query; must not be {@literal null}.
+	 * @return a new {@link RegionQueryResultCollector} for the given OQL query, or {@literal null} if the results
+	 * of the OQL query cannot be merged.
+	 */
+	public static @Nullable RegionQueryResultCollector from(@NonNull String query) {
+
+		Assert.notNull(query, "Query must not be null");
+
+		if (AGGREGATE_PATTERN.matcher(query).find() || GROUP_BY_PATTERN.matcher(query).find()) {
+			return null;
+		}
+
+		Comparator<Object> comparator = null;
+
+		if (ORDER_BY_KEYWORD_PATTERN.matcher(query).find()) {
+
+			Matcher orderBy = ORDER_BY_PATTERN.matcher(query);
+
+			if (!orderBy.find()) {
+				return null;
+			}
+
+			comparator = newOrderByComparator(orderBy.group(1));
+		}
+
+		Matcher limit = LIMIT_PATTERN.matcher(query);
+
+		int resolvedLimit = limit.find() ? Integer.parseInt(limit.group(1)) : Integer.MAX_VALUE;
+
+		return new RegionQueryResultCollector(comparator, DISTINCT_PATTERN.matcher(query).find(), resolvedLimit);
+	}
+
+	private static Comparator<Object> newOrderByComparator(String orderBy) {
+
+		Comparator<Object> comparator = null;
+
+		for (String order : orderBy.split(",")) {
+
+			String[] orderTokens = order.trim().split("\\s+");
+
+			String property = orderTokens[0];
+
+			boolean descending = orderTokens.length > 1 && "DESC".equalsIgnoreCase(orderTokens[1]);
+
+			Comparator<Object> propertyComparator =
+				Comparator.comparing(result -> resolveValue(result, property), RegionQueryResultCollector::compare);
+
+			propertyComparator = descending ? propertyComparator.reversed() : propertyComparator;
+			comparator = comparator != null ? comparator.thenComparing(propertyComparator) : propertyComparator;
+		}
+
+		return comparator;
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private static int compare(@Nullable Object value, @Nullable Object otherValue) {
+
+		return value == otherValue ? 0
+			: value == null ? -1
+			: otherValue == null ? 1
+			: ((Comparable) value).compareTo(otherValue);
+	}
+
+	/**
+	 * Resolves the value of the given {@literal ORDER BY} property path from the given OQL query result.
+	 *
+	 * The result may be a {@link Struct}, in which case the value of the field with the name of the last segment
+	 * of the property path is returned, a {@link PdxInstance}, a {@link Map} or an {@link Object}. A leading
+	 * segment that cannot be resolved is assumed to be the iterator variable (alias) of the OQL query.
+	 *
+	 * @param result OQL query result.
+	 * @param propertyPath {@link String} containing the {@literal ORDER BY} property path.
+	 * @return the resolved value or {@literal null} if the value could not be resolved.
+	 */
+	static @Nullable Object resolveValue(@Nullable Object result, @NonNull String propertyPath) {
+
+		String[] segments = propertyPath.split("\\.");
+
+		if (result instanceof Struct) {
+
+			Struct struct = (Struct) result;
+
+			String fieldName = segments[segments.length - 1];
+
+			return Arrays.asList(struct.getStructType().getFieldNames()).contains(fieldName)
+				? struct.get(fieldName)
+				: null;
+		}
+
+		int index = segments.length > 1 && !isReadable(result, segments[0]) ? 1 : 0;
+
+		Object value = result;
+
+		for (; index < segments.length && value != null; index++) {
+			value = readValue(value, segments[index]);
+		}
+
+		return value;
+	}
+
+	private static boolean isReadable(@Nullable Object target, String property) {
+
+		return target instanceof PdxInstance ? ((PdxInstance) target).hasField(property)
+			: target instanceof Map ? ((Map<?, ?>) target).containsKey(property)
+			: target != null && (PropertyAccessorFactory.forBeanPropertyAccess(target).isReadableProperty(property)
+				|| new DirectFieldAccessor(target).isReadableProperty(property));
+	}
+
+	private static @Nullable Object readValue(@NonNull Object target, String property) {
+
+		if (target instanceof PdxInstance) {
+			return ((PdxInstance) target).getField(property);
+		}
+		else if (target instanceof Map) {
+			return ((Map<?, ?>) target).get(property);
+		}
+
+		BeanWrapper beanWrapper = PropertyAccessorFactory.forBeanPropertyAccess(target);
+
+		if (beanWrapper.isReadableProperty(property)) {
+			return beanWrapper.getPropertyValue(property);
+		}
+
+		DirectFieldAccessor fieldAccessor = new DirectFieldAccessor(target);
+
+		return fieldAccessor.isReadableProperty(property) ? fieldAccessor.getPropertyValue(property) : null;
+	}
+
+	private final boolean distinct;
+
+	private final Comparator<Object> comparator;
+
+	private volatile CountDownLatch resultsEnded = new CountDownLatch(1);
+
+	private final int limit;
+
+	private List<Object> unorderedResults;
+
+	private final Object resultsLock = new Object();
+
+	private PriorityQueue<Object> orderedResults;
+
+	private Set<Object> distinctResults;
+
+	/**
+	 * Constructs a new instance of {@link RegionQueryResultCollector} initialized with the given {@link Comparator}
+	 * used to merge the ordered results of each data node, whether the results are {@literal DISTINCT}
+	 * and the maximum number of results.
+	 *
+	 * @param comparator {@link Comparator} used to merge the ordered results of each data node;
+	 * may be {@literal null} if the results are not ordered.
+	 * @param distinct boolean value indicating whether the results are de-duplicated across data nodes.
+	 * @param limit {@link Integer} containing the maximum number of results; must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if the {@literal limit} is less than {@literal 1}.
+	 */
+	public RegionQueryResultCollector(@Nullable Comparator<Object> comparator, boolean distinct, int limit) {
+
+		Assert.isTrue(limit > 0, () -> String.format("Limit [%d] must be greater than 0", limit));
+
+		this.comparator = comparator;
+		this.distinct = distinct;
+		this.limit = limit;
+
+		initResults();
+	}
+
+	// The ordered results are held in a heap with the last result at the head so that,
+	// once the LIMIT has been reached, the last result can be evicted by a result ordered before it.
+	private void initResults() {
+
+		this.orderedResults = this.comparator != null ? new PriorityQueue<>(this.comparator.reversed()) : null;
+		this.unorderedResults = this.comparator == null ? new ArrayList<>() : null;
+		this.distinctResults = this.distinct ? new HashSet<>() : null;
+	}
+
+	/**
+	 * Returns the {@link Comparator} used to merge the ordered results of each data node.
+	 *
+	 * @return the {@link Comparator} used to merge the ordered results of each data node,
+	 * or {@literal null} if the results are not ordered.
+	 */
+	public @Nullable Comparator<Object> getComparator() {
+		return this.comparator;
+	}
+
+	/**
+	 * Returns the maximum number of results.
+	 *
+	 * @return the maximum number of results.
+	 */
+	public int getLimit() {
+		return this.limit;
+	}
+
+	/**
+	 * Determines whether the results are de-duplicated across data nodes.
+	 *
+	 * @return a boolean value indicating whether the results are de-duplicated across data nodes.
+	 */
+	public boolean isDistinct() {
+		return this.distinct;
+	}
+
+	/**
+	 * Merges the results from the given data node as the results arrive.
+	 *
+	 * At most {@link #getLimit() LIMIT} results are retained at any time. Unordered results arriving after
+	 * the {@literal LIMIT} has been reached are discarded, and ordered results only replace the last result
+	 * retained when ordered before it.
+	 *
+	 * @param member {@link DistributedMember} that sent the results.
+	 * @param result chunk of results from the data node.
+	 * @throws FunctionException if the data node failed to execute the OQL query.
+	 */
+	@Override
+	public void addResult(@Nullable DistributedMember member, @Nullable Object result) {
+
+		if (result instanceof Throwable) {
+			throw new FunctionException("Failed to execute OQL query", (Throwable) result);
+		}
+
+		Collection<?> chunk = result instanceof Collection ? (Collection<?>) result
+			: result != null ? Collections.singletonList(result)
+			: Collections.emptyList();
+
+		synchronized (this.resultsLock) {
+			for (Object element : chunk) {
+				if (getComparator() != null) {
+					addOrderedResult(element);
+				}
+				else {
+					addUnorderedResult(element);
+				}
+			}
+		}
+	}
+
+	private void addOrderedResult(@Nullable Object result) {
+
+		PriorityQueue<Object> orderedResults = this.orderedResults;
+
+		if (orderedResults.size() >= getLimit() && getComparator().compare(result, orderedResults.peek()) >= 0) {
+			return;
+		}
+
+		if (this.distinctResults != null && !this.distinctResults.add(result)) {
+			return;
+		}
+
+		orderedResults.add(result);
+
+		if (orderedResults.size() > getLimit()) {
+
+			Object evictedResult = orderedResults.poll();
+
+			if (this.distinctResults != null) {
+				this.distinctResults.remove(evictedResult);
+			}
+		}
+	}
+
+	private void addUnorderedResult(@Nullable Object result) {
+
+		if (this.unorderedResults.size() < getLimit()
+			&& (this.distinctResults == null || this.distinctResults.add(result))) {
+
+			this.unorderedResults.add(result);
+		}
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public void endResults() {
+		this.resultsEnded.countDown();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public void clearResults() {
+
+		synchronized (this.resultsLock) {
+			initResults();
+			this.resultsEnded = new CountDownLatch(1);
+		}
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public List<Object> getResult() {
+
+		try {
+			this.resultsEnded.await();
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new FunctionException("Interrupted while waiting for OQL query results", cause);
+		}
+
+		return mergeResults();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public List<Object> getResult(long timeout, TimeUnit unit) throws InterruptedException {
+
+		if (!this.resultsEnded.await(timeout, unit)) {
+			throw new FunctionException(String.format("OQL query results were not received in [%1$d %2$s]",
+				timeout, unit));
+		}
+
+		return mergeResults();
+	}
+
+	private List<Object> mergeResults() {
+
+		synchronized (this.resultsLock) {
+
+			if (getComparator() != null) {
+
+				List<Object> mergedResults = new ArrayList<>(this.orderedResults);
+
+				mergedResults.sort(getComparator());
+
+				return mergedResults;
+			}
+
+			return new ArrayList<>(this.unorderedResults);
+		}
+	}
+}
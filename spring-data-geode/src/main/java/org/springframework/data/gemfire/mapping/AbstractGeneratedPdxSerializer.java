@@ -0,0 +1,147 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.mapping;
+
+import org.apache.geode.pdx.PdxReader;
+import org.apache.geode.pdx.PdxSerializer;
+import org.apache.geode.pdx.PdxWriter;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Abstract base class for the {@link PdxSerializer PdxSerializers} generated by a {@link PdxSerializerGenerator}
+ * for a single {@link GemfirePersistentEntity entity} {@link Class type}.
+ *
+ * Subclasses read and write the entity properties directly, without consulting the entity mapping meta-data
+ * on each invocation. This class handles error reporting and the conversion of PDX values read as {@link Object}
+ * to the entity property {@link Class type}.
+ *
+ * @author agent
+ * @see org.apache.geode.pdx.PdxSerializer
+ * @see org.springframework.data.gemfire.mapping.PdxSerializerGenerator
+ * @since 3.0.0
+ */
+public abstract class AbstractGeneratedPdxSerializer implements PdxSerializer {
+
+	private final Class<?> entityType;
+
+	private final ConversionService conversionService;
+
+	/**
+	 * Constructs a new {@link AbstractGeneratedPdxSerializer} for the given entity {@link Class type}.
+	 *
+	 * @param entityType {@link Class type} of the entity (de)serialized by this {@link PdxSerializer};
+	 * must not be {@literal null}.
+	 * @param conversionService {@link ConversionService} used to convert PDX values to entity property types;
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if the entity {@link Class type} or {@link ConversionService}
+	 * is {@literal null}.
+	 */
+	protected AbstractGeneratedPdxSerializer(@NonNull Class<?> entityType,
+			@NonNull ConversionService conversionService) {
+
+		Assert.notNull(entityType, "Entity type must not be null");
+		Assert.notNull(conversionService, "ConversionService must not be null");
+
+		this.entityType = entityType;
+		this.conversionService = conversionService;
+	}
+
+	/**
+	 * Returns the {@link Class type} of the entity (de)serialized by this {@link PdxSerializer}.
+	 *
+	 * @return the {@link Class type} of the entity (de)serialized by this {@link PdxSerializer}.
+	 */
+	public @NonNull Class<?> getEntityType() {
+		return this.entityType;
+	}
+
+	/**
+	 * Converts the given PDX value to the {@link Class type} of the entity property.
+	 *
+	 * @param value PDX value to convert.
+	 * @param type {@link Class type} of the entity property.
+	 * @return the converted value.
+	 * @see org.springframework.core.convert.ConversionService#convert(Object, Class)
+	 */
+	protected @Nullable Object convert(@Nullable Object value, @NonNull Class<?> type) {
+
+		return value == null || type.isInstance(value) ? value
+			: this.conversionService.convert(value, type);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public Object fromData(Class<?> type, PdxReader pdxReader) {
+
+		try {
+			return doFromData(pdxReader);
+		}
+		catch (RuntimeException cause) {
+
+			String message = String.format("An error occurred while deserializing entity of type [%1$s] from PDX"
+				+ " using generated PdxSerializer [%2$s]", getEntityType().getName(), getClass().getName());
+
+			throw new MappingException(message, cause);
+		}
+	}
+
+	/**
+	 * Creates a new instance of the entity and sets its properties from PDX.
+	 *
+	 * @param pdxReader {@link PdxReader} used to read the entity properties.
+	 * @return the deserialized entity.
+	 */
+	protected abstract Object doFromData(PdxReader pdxReader);
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public boolean toData(Object value, PdxWriter pdxWriter) {
+
+		try {
+			doToData(value, pdxWriter);
+			return true;
+		}
+		catch (RuntimeException cause) {
+
+			String message = String.format("An error occurred while serializing entity of type [%1$s] to PDX"
+				+ " using generated PdxSerializer [%2$s]", getEntityType().getName(), getClass().getName());
+
+			throw new MappingException(message, cause);
+		}
+	}
+
+	/**
+	 * Writes the properties of the entity to PDX and marks the identity field, if any.
+	 *
+	 * @param value entity to serialize.
+	 * @param pdxWriter {@link PdxWriter} used to write the entity properties.
+	 */
+	protected abstract void doToData(Object value, PdxWriter pdxWriter);
+
+	@Override
+	public String toString() {
+		return String.format("%1$s[%2$s]", getClass().getName(), getEntityType().getName());
+	}
+}
@@ -0,0 +1,536 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.mapping;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.geode.pdx.PdxReader;
+import org.apache.geode.pdx.PdxSerializer;
+import org.apache.geode.pdx.PdxWriter;
+
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * ASM based {@link PdxSerializerGenerator} implementation generating a {@link PdxSerializer} class
+ * per {@link GemfirePersistentEntity} that reads and writes the entity properties with direct, typed
+ * {@link PdxReader} and {@link PdxWriter} calls (for example, {@link PdxWriter#writeInt(String, int)})
+ * and direct field or accessor method access.
+ *
+ * The generated {@link PdxSerializer} writes the same PDX field types as the {@link MappingPdxSerializer},
+ * that is, those determined by {@link PdxWriter#writeField(String, Object, Class)} for the entity property type,
+ * so the resulting PDX types are identical. Entities are only supported when they are {@literal public}, have
+ * a {@literal public} no-arg constructor, no persistent property is a constructor argument and every persistent
+ * property is accessible through a {@literal public} field of the exact property type, or, when the property
+ * uses property access or has no field, {@literal public} accessor methods of the exact property type. A property
+ * backed by a non-{@literal public} field is never accessed through its accessor methods, matching the field access
+ * of the {@link MappingPdxSerializer}. Otherwise, no {@link PdxSerializer} is generated and the entity is
+ * (de)serialized reflectively.
+ *
+ * Generated {@link Class classes} are cached per entity {@link Class type}.
+ *
+ * @author agent
+ * @see org.springframework.asm.ClassWriter
+ * @see org.springframework.data.gemfire.mapping.AbstractGeneratedPdxSerializer
+ * @see org.springframework.data.gemfire.mapping.PdxSerializerGenerator
+ * @see org.springframework.data.gemfire.serialization.AsmInstantiatorGenerator
+ * @since 3.0.0
+ */
+public class AsmPdxSerializerGenerator implements PdxSerializerGenerator, Opcodes {
+
+	private static final String PACKAGE = "org/springframework/data/gemfire/mapping/";
+	private static final String CLASS_LABEL = "PdxSerializer$Synthetic";
+
+	private static final String INIT = "<init>";
+	private static final String CONVERT = "convert";
+	private static final String DO_FROM_DATA = "doFromData";
+	private static final String DO_TO_DATA = "doToData";
+	private static final String MARK_IDENTITY_FIELD = "markIdentityField";
+
+	private static final String PDX_READER_NAME = Type.getInternalName(PdxReader.class);
+	private static final String PDX_WRITER_NAME = Type.getInternalName(PdxWriter.class);
+	private static final String SUPER_CLASS_NAME = Type.getInternalName(AbstractGeneratedPdxSerializer.class);
+
+	private static final String CONSTRUCTOR_DESCRIPTOR =
+		Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(ConversionService.class));
+
+	private static final String CONVERT_DESCRIPTOR =
+		Type.getMethodDescriptor(Type.getType(Object.class), Type.getType(Object.class), Type.getType(Class.class));
+
+	private static final String DO_FROM_DATA_DESCRIPTOR =
+		Type.getMethodDescriptor(Type.getType(Object.class), Type.getType(PdxReader.class));
+
+	private static final String DO_TO_DATA_DESCRIPTOR =
+		Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(Object.class), Type.getType(PdxWriter.class));
+
+	private static final String MARK_IDENTITY_FIELD_DESCRIPTOR =
+		Type.getMethodDescriptor(Type.getType(PdxWriter.class), Type.getType(String.class));
+
+	private static final String SUPER_CONSTRUCTOR_DESCRIPTOR =
+		Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(Class.class), Type.getType(ConversionService.class));
+
+	private static final Map<Class<?>, String> PDX_FIELD_TYPES;
+
+	static {
+
+		Map<Class<?>, String> pdxFieldTypes = new HashMap<>();
+
+		pdxFieldTypes.put(boolean.class, "Boolean");
+		pdxFieldTypes.put(byte.class, "Byte");
+		pdxFieldTypes.put(char.class, "Char");
+		pdxFieldTypes.put(short.class, "Short");
+		pdxFieldTypes.put(int.class, "Int");
+		pdxFieldTypes.put(long.class, "Long");
+		pdxFieldTypes.put(float.class, "Float");
+		pdxFieldTypes.put(double.class, "Double");
+		pdxFieldTypes.put(String.class, "String");
+		pdxFieldTypes.put(Date.class, "Date");
+		pdxFieldTypes.put(boolean[].class, "BooleanArray");
+		pdxFieldTypes.put(byte[].class, "ByteArray");
+		pdxFieldTypes.put(char[].class, "CharArray");
+		pdxFieldTypes.put(short[].class, "ShortArray");
+		pdxFieldTypes.put(int[].class, "IntArray");
+		pdxFieldTypes.put(long[].class, "LongArray");
+		pdxFieldTypes.put(float[].class, "FloatArray");
+		pdxFieldTypes.put(double[].class, "DoubleArray");
+		pdxFieldTypes.put(String[].class, "StringArray");
+		pdxFieldTypes.put(byte[][].class, "ArrayOfByteArrays");
+
+		PDX_FIELD_TYPES = Collections.unmodifiableMap(pdxFieldTypes);
+	}
+
+	// generated class counter
+	private static final AtomicLong counter = new AtomicLong(1);
+
+	private static final class BytecodeClassLoader extends ClassLoader {
+
+		BytecodeClassLoader(ClassLoader parent) {
+			super(parent);
+		}
+
+		Class<?> loadClass(String name, byte[] bytecode) {
+			return defineClass(name, bytecode, 0, bytecode.length);
+		}
+	}
+
+	private final BytecodeClassLoader classLoader;
+
+	private final ConcurrentMap<Class<?>, Optional<Class<?>>> cache = new ConcurrentHashMap<>();
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	/**
+	 * Constructs a new {@link AsmPdxSerializerGenerator} defining the generated {@link PdxSerializer} classes
+	 * in a {@link ClassLoader} with the default {@link ClassLoader} as parent.
+	 *
+	 * @see org.springframework.util.ClassUtils#getDefaultClassLoader()
+	 */
+	public AsmPdxSerializerGenerator() {
+		this(ClassUtils.getDefaultClassLoader());
+	}
+
+	/**
+	 * Constructs a new {@link AsmPdxSerializerGenerator} defining the generated {@link PdxSerializer} classes
+	 * in a {@link ClassLoader} with the given {@link ClassLoader} as parent.
+	 *
+	 * @param classLoader parent {@link ClassLoader}, which must be able to load the entity {@link Class types};
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link ClassLoader} is {@literal null}.
+	 */
+	public AsmPdxSerializerGenerator(@NonNull ClassLoader classLoader) {
+
+		Assert.notNull(classLoader, "ClassLoader must not be null");
+
+		this.classLoader = new BytecodeClassLoader(classLoader);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public @Nullable PdxSerializer getPdxSerializer(@NonNull GemfirePersistentEntity<?> entity,
+			@NonNull ConversionService conversionService) {
+
+		Assert.notNull(entity, "Entity must not be null");
+		Assert.notNull(conversionService, "ConversionService must not be null");
+
+		return this.cache.computeIfAbsent(entity.getType(), type -> Optional.ofNullable(createPdxSerializerClass(entity)))
+			.map(pdxSerializerClass -> newPdxSerializer(pdxSerializerClass, conversionService))
+			.orElse(null);
+	}
+
+	private PdxSerializer newPdxSerializer(Class<?> pdxSerializerClass, ConversionService conversionService) {
+
+		Constructor<?> constructor = ClassUtils.getConstructorIfAvailable(pdxSerializerClass, ConversionService.class);
+
+		Assert.state(constructor != null,
+			() -> String.format("No constructor found for generated PdxSerializer [%s]", pdxSerializerClass.getName()));
+
+		return (PdxSerializer) BeanUtils.instantiateClass(constructor, conversionService);
+	}
+
+	/**
+	 * Generates and loads a new {@link PdxSerializer} class for the given {@link GemfirePersistentEntity}.
+	 *
+	 * @param entity {@link GemfirePersistentEntity} to (de)serialize.
+	 * @return the generated {@link PdxSerializer} class, or {@literal null} if the entity is not supported.
+	 */
+	@Nullable Class<?> createPdxSerializerClass(@NonNull GemfirePersistentEntity<?> entity) {
+
+		Class<?> type = entity.getType();
+
+		if (isSupported(type)) {
+
+			List<PropertyCodec> readableProperties = new ArrayList<>();
+			List<PropertyCodec> writableProperties = new ArrayList<>();
+
+			if (resolvePropertyCodecs(entity, readableProperties, writableProperties)) {
+
+				String className = PACKAGE + type.getSimpleName() + CLASS_LABEL + counter.getAndIncrement();
+
+				try {
+
+					byte[] bytecode = generateClassBytecode(className, entity, readableProperties, writableProperties);
+
+					// translate internal name to binary form
+					return this.classLoader.loadClass(className.replace('/', '.'), bytecode);
+				}
+				catch (RuntimeException | LinkageError cause) {
+					this.logger.warn("Failed to generate PdxSerializer for entity type [{}]", type.getName(), cause);
+				}
+			}
+		}
+
+		return null;
+	}
+
+	private boolean isSupported(Class<?> type) {
+
+		int modifiers = type.getModifiers();
+
+		return Modifier.isPublic(modifiers)
+			&& !Modifier.isAbstract(modifiers)
+			&& !(type.isArray() || type.isEnum() || type.isInterface() || type.isPrimitive())
+			&& (type.getEnclosingClass() == null || Modifier.isStatic(modifiers))
+			&& Optional.ofNullable(ClassUtils.getConstructorIfAvailable(type))
+				.filter(constructor -> Modifier.isPublic(constructor.getModifiers()))
+				.isPresent();
+	}
+
+	private boolean resolvePropertyCodecs(GemfirePersistentEntity<?> entity,
+			List<PropertyCodec> readableProperties, List<PropertyCodec> writableProperties) {
+
+		AtomicBoolean supported = new AtomicBoolean(true);
+
+		entity.doWithProperties((PropertyHandler<GemfirePersistentProperty>) property -> {
+
+			if (supported.get() && !property.isTransient()) {
+
+				Member readMember = resolveReadMember(property);
+
+				Member writeMember = property.isWritable() ? resolveWriteMember(property) : null;
+
+				if (entity.isConstructorArgument(property) || readMember == null
+						|| (property.isWritable() && writeMember == null)) {
+
+					supported.set(false);
+				}
+				else {
+
+					readableProperties.add(new PropertyCodec(property, readMember));
+
+					if (writeMember != null) {
+						writableProperties.add(new PropertyCodec(property, writeMember));
+					}
+				}
+			}
+		});
+
+		return supported.get();
+	}
+
+	private @Nullable Member resolveReadMember(GemfirePersistentProperty property) {
+
+		Field field = property.getField();
+		Method getter = property.getGetter();
+
+		// field access must not be replaced by the getter, which may have side effects or a different value
+		if (!property.usePropertyAccess() && field != null) {
+			return Modifier.isPublic(field.getModifiers()) && field.getType().equals(property.getType()) ? field
+				: null;
+		}
+
+		return getter != null && Modifier.isPublic(getter.getModifiers()) && !Modifier.isStatic(getter.getModifiers())
+			&& getter.getReturnType().equals(property.getType()) ? getter
+			: null;
+	}
+
+	private @Nullable Member resolveWriteMember(GemfirePersistentProperty property) {
+
+		Field field = property.getField();
+		Method setter = property.getSetter();
+
+		if (!property.usePropertyAccess() && field != null) {
+			return Modifier.isPublic(field.getModifiers()) && !Modifier.isFinal(field.getModifiers())
+				&& field.getType().equals(property.getType()) ? field
+				: null;
+		}
+
+		return setter != null && Modifier.isPublic(setter.getModifiers()) && !Modifier.isStatic(setter.getModifiers())
+			&& setter.getParameterCount() == 1 && setter.getParameterTypes()[0].equals(property.getType()) ? setter
+			: null;
+	}
+
+	/**
+	 * Generates a new {@link PdxSerializer} class for the given {@link GemfirePersistentEntity}.
+	 *
+	 * The generated class has the following definition:
+	 *
+	 * <pre>
+	 * public final class &lt;<i>T</i>&gt;PdxSerializer$Synthetic<i>Counter</i> extends AbstractGeneratedPdxSerializer {
+	 *
+	 *   public &lt;<i>T</i>&gt;PdxSerializer$Synthetic<i>Counter</i>(ConversionService conversionService) {
+	 *     super(<i>T</i>.class, conversionService);
+	 *   }
+	 *
+	 *   protected Object doFromData(PdxReader pdxReader) {
+	 *     <i>T</i> entity = new <i>T</i>();
+	 *     entity.setAge(pdxReader.readInt("age"));
+	 *     entity.setName(pdxReader.readString("name"));
+	 *     entity.setAddress((Address) convert(pdxReader.readObject("address"), Address.class));
+	 *     return entity;
+	 *   }
+	 *
+	 *   protected void doToData(Object value, PdxWriter pdxWriter) {
+	 *     <i>T</i> entity = (<i>T</i>) value;
+	 *     pdxWriter.writeInt("age", entity.getAge());
+	 *     pdxWriter.writeString("name", entity.getName());
+	 *     pdxWriter.writeObject("address", entity.getAddress());
+	 *     pdxWriter.markIdentityField("id");
+	 *   }
+	 * }
+	 * </pre>
+	 */
+	byte[] generateClassBytecode(String className, GemfirePersistentEntity<?> entity,
+			List<PropertyCodec> readableProperties, List<PropertyCodec> writableProperties) {
+
+		Type entityType = Type.getType(entity.getType());
+
+		ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+
+		cw.visit(V1_8, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, className, null, SUPER_CLASS_NAME, null);
+
+		// constructor
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, INIT, CONSTRUCTOR_DESCRIPTOR, null, null);
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitLdcInsn(entityType);
+		mv.visitVarInsn(ALOAD, 1);
+		mv.visitMethodInsn(INVOKESPECIAL, SUPER_CLASS_NAME, INIT, SUPER_CONSTRUCTOR_DESCRIPTOR, false);
+		mv.visitInsn(RETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		// doFromData(:PdxReader)
+		mv = cw.visitMethod(ACC_PROTECTED, DO_FROM_DATA, DO_FROM_DATA_DESCRIPTOR, null, null);
+		mv.visitCode();
+		mv.visitTypeInsn(NEW, entityType.getInternalName());
+		mv.visitInsn(DUP);
+		mv.visitMethodInsn(INVOKESPECIAL, entityType.getInternalName(), INIT, "()V", false);
+		mv.visitVarInsn(ASTORE, 2);
+
+		for (PropertyCodec property : writableProperties) {
+			mv.visitVarInsn(ALOAD, 2);
+			visitRead(mv, property);
+			visitSet(mv, entityType, property);
+		}
+
+		mv.visitVarInsn(ALOAD, 2);
+		mv.visitInsn(ARETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		// doToData(:Object, :PdxWriter)
+		mv = cw.visitMethod(ACC_PROTECTED, DO_TO_DATA, DO_TO_DATA_DESCRIPTOR, null, null);
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 1);
+		mv.visitTypeInsn(CHECKCAST, entityType.getInternalName());
+		mv.visitVarInsn(ASTORE, 3);
+
+		for (PropertyCodec property : readableProperties) {
+			mv.visitVarInsn(ALOAD, 2);
+			mv.visitLdcInsn(property.getName());
+			mv.visitVarInsn(ALOAD, 3);
+			visitGet(mv, entityType, property);
+			mv.visitMethodInsn(INVOKEINTERFACE, PDX_WRITER_NAME, "write" + property.getPdxFieldType(),
+				Type.getMethodDescriptor(Type.getType(PdxWriter.class), Type.getType(String.class),
+					property.getPdxType()), true);
+			mv.visitInsn(POP);
+		}
+
+		GemfirePersistentProperty idProperty = entity.getIdProperty();
+
+		if (idProperty != null) {
+			mv.visitVarInsn(ALOAD, 2);
+			mv.visitLdcInsn(idProperty.getName());
+			mv.visitMethodInsn(INVOKEINTERFACE, PDX_WRITER_NAME, MARK_IDENTITY_FIELD, MARK_IDENTITY_FIELD_DESCRIPTOR,
+				true);
+			mv.visitInsn(POP);
+		}
+
+		mv.visitInsn(RETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		// end class generation
+		cw.visitEnd();
+
+		return cw.toByteArray();
+	}
+
+	private void visitRead(MethodVisitor mv, PropertyCodec property) {
+
+		if (property.isConverted()) {
+			mv.visitVarInsn(ALOAD, 0);
+		}
+
+		mv.visitVarInsn(ALOAD, 1);
+		mv.visitLdcInsn(property.getName());
+		mv.visitMethodInsn(INVOKEINTERFACE, PDX_READER_NAME, "read" + property.getPdxFieldType(),
+			Type.getMethodDescriptor(property.getPdxType(), Type.getType(String.class)), true);
+
+		if (property.isConverted()) {
+			mv.visitLdcInsn(property.getType());
+			mv.visitMethodInsn(INVOKEVIRTUAL, SUPER_CLASS_NAME, CONVERT, CONVERT_DESCRIPTOR, false);
+			mv.visitTypeInsn(CHECKCAST, property.getType().getInternalName());
+		}
+	}
+
+	private void visitGet(MethodVisitor mv, Type entityType, PropertyCodec property) {
+
+		Member member = property.getMember();
+
+		if (member instanceof Field) {
+			mv.visitFieldInsn(GETFIELD, entityType.getInternalName(), member.getName(),
+				property.getType().getDescriptor());
+		}
+		else {
+			mv.visitMethodInsn(INVOKEVIRTUAL, entityType.getInternalName(), member.getName(),
+				Type.getMethodDescriptor((Method) member), false);
+		}
+	}
+
+	private void visitSet(MethodVisitor mv, Type entityType, PropertyCodec property) {
+
+		Member member = property.getMember();
+
+		if (member instanceof Field) {
+			mv.visitFieldInsn(PUTFIELD, entityType.getInternalName(), member.getName(),
+				property.getType().getDescriptor());
+		}
+		else {
+
+			Type returnType = Type.getReturnType((Method) member);
+
+			mv.visitMethodInsn(INVOKEVIRTUAL, entityType.getInternalName(), member.getName(),
+				Type.getMethodDescriptor((Method) member), false);
+
+			if (returnType.getSize() > 0) {
+				mv.visitInsn(returnType.getSize() == 2 ? POP2 : POP);
+			}
+		}
+	}
+
+	/**
+	 * Binds an entity property to the {@link Member} used to access it and the PDX field type
+	 * used to (de)serialize it.
+	 */
+	static final class PropertyCodec {
+
+		private final GemfirePersistentProperty property;
+
+		private final Member member;
+
+		private final String pdxFieldType;
+
+		PropertyCodec(GemfirePersistentProperty property, Member member) {
+
+			Class<?> type = property.getType();
+
+			this.property = property;
+			this.member = member;
+			this.pdxFieldType = PDX_FIELD_TYPES.containsKey(type) ? PDX_FIELD_TYPES.get(type)
+				: type.isArray() ? "ObjectArray"
+				: "Object";
+		}
+
+		Member getMember() {
+			return this.member;
+		}
+
+		String getName() {
+			return this.property.getName();
+		}
+
+		String getPdxFieldType() {
+			return this.pdxFieldType;
+		}
+
+		Type getPdxType() {
+
+			Class<?> type = this.property.getType();
+
+			return PDX_FIELD_TYPES.containsKey(type) ? Type.getType(type)
+				: type.isArray() ? Type.getType(Object[].class)
+				: Type.getType(Object.class);
+		}
+
+		Type getType() {
+			return Type.getType(this.property.getType());
+		}
+
+		boolean isConverted() {
+			return !PDX_FIELD_TYPES.containsKey(this.property.getType());
+		}
+	}
+}
@@ -15,6 +15,12 @@
  */
 package org.springframework.data.gemfire.mapping;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -25,6 +31,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import org.apache.geode.pdx.PdxFieldTypeMismatchException;
 import org.apache.geode.pdx.PdxReader;
 import org.apache.geode.pdx.PdxSerializer;
 import org.apache.geode.pdx.PdxWriter;
@@ -49,6 +56,7 @@ import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -201,6 +209,8 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 			: newMappingContext();
 	}
 
+	private boolean customEntityInstantiators = false;
+
 	private final ConversionService conversionService;
 
 	private EntityInstantiators entityInstantiators;
@@ -213,6 +223,12 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 
 	private final Map<Object, PdxSerializer> customPdxSerializers = new ConcurrentHashMap<>();
 
+	private final Map<Class<?>, Optional<PdxSerializer>> generatedPdxSerializers = new ConcurrentHashMap<>();
+
+	private final Map<Class<?>, SerializationPlan> serializationPlans = new ConcurrentHashMap<>();
+
+	private PdxSerializerGenerator pdxSerializerGenerator;
+
 	private Predicate<Class<?>> excludeTypeFilters = TypeFilters.EXCLUDE_NULL_TYPES
 		.and(TypeFilters.EXCLUDE_JAVA_TYPES)
 		.and(TypeFilters.EXCLUDE_COM_GEMSTONE_GEMFIRE_TYPES)
@@ -221,6 +237,10 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 
 	private Predicate<Class<?>> includeTypeFilters = TypeFilters.EXCLUDE_ALL_TYPES;
 
+	private volatile Predicate<Class<?>> typeFilters = composeTypeFilters();
+
+	private volatile ClassValue<Boolean> typeFilterDecisions = newTypeFilterDecisions();
+
 	// TODO remove? SpELContext is not used
 	private SpELContext spelContext;
 
@@ -300,6 +320,8 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 	 */
 	public void setCustomPdxSerializers(Map<?, PdxSerializer> customPdxSerializers) {
 		Optional.ofNullable(customPdxSerializers).ifPresent(this.customPdxSerializers::putAll);
+		this.serializationPlans.clear();
+		this.generatedPdxSerializers.clear();
 	}
 
 	/**
@@ -330,6 +352,8 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 		Assert.notNull(entityInstantiators, "EntityInstantiators must not be null");
 
 		this.entityInstantiators = entityInstantiators;
+		this.customEntityInstantiators = true;
+		this.generatedPdxSerializers.clear();
 	}
 
 	/**
@@ -355,6 +379,34 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 		return this.entityInstantiators;
 	}
 
+	/**
+	 * Configures the {@link PdxSerializerGenerator} used to generate a {@link PdxSerializer} specialized for
+	 * each {@link GemfirePersistentEntity}, avoiding the reflective, meta-data driven (de)serialization of entities.
+	 *
+	 * Entities that cannot be handled by a generated {@link PdxSerializer}, declare properties (de)serialized with
+	 * a custom {@link PdxSerializer}, or are created by custom {@link EntityInstantiators}, are still (de)serialized
+	 * reflectively. Default is {@literal null}, which disables generated {@link PdxSerializer PdxSerializers}.
+	 *
+	 * @param pdxSerializerGenerator {@link PdxSerializerGenerator} used to generate {@link PdxSerializer}
+	 * per {@link GemfirePersistentEntity}; may be {@literal null}.
+	 * @see org.springframework.data.gemfire.mapping.AsmPdxSerializerGenerator
+	 * @see org.springframework.data.gemfire.mapping.PdxSerializerGenerator
+	 */
+	public void setPdxSerializerGenerator(@Nullable PdxSerializerGenerator pdxSerializerGenerator) {
+		this.pdxSerializerGenerator = pdxSerializerGenerator;
+		this.generatedPdxSerializers.clear();
+	}
+
+	/**
+	 * Returns an {@link Optional} reference to the configured {@link PdxSerializerGenerator}.
+	 *
+	 * @return an {@link Optional} reference to the configured {@link PdxSerializerGenerator}.
+	 * @see org.springframework.data.gemfire.mapping.PdxSerializerGenerator
+	 */
+	protected Optional<PdxSerializerGenerator> getPdxSerializerGenerator() {
+		return Optional.ofNullable(this.pdxSerializerGenerator);
+	}
+
 	/**
 	 * Returns a reference to the configured {@link Logger} used to log {@link String messages}
 	 * about the functions of this {@link PdxSerializer}.
@@ -421,6 +473,8 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 		this.excludeTypeFilters = excludeTypeFilters != null
 			? this.excludeTypeFilters.and(excludeTypeFilters)
 			: this.excludeTypeFilters;
+
+		resetTypeFilters();
 	}
 
 	/**
@@ -440,6 +494,8 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 		this.includeTypeFilters = includeTypeFilters != null
 			? this.includeTypeFilters.or(includeTypeFilters)
 			: this.includeTypeFilters;
+
+		resetTypeFilters();
 	}
 
 	/**
@@ -450,9 +506,44 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 	 * @see java.util.function.Predicate
 	 */
 	protected Predicate<Class<?>> getTypeFilters() {
+		return this.typeFilters;
+	}
+
+	/**
+	 * Determines whether the given {@link Class type} is serializable by this {@link MappingPdxSerializer}
+	 * as determined by the {@link #getTypeFilters() type filters}.
+	 *
+	 * The decision is memoized per {@link Class type} until the {@link Predicate type filters} are changed.
+	 *
+	 * @param type {@link Class type} to evaluate.
+	 * @return a boolean value indicating whether the given {@link Class type} is serializable
+	 * by this {@link MappingPdxSerializer}.
+	 * @see #getTypeFilters()
+	 */
+	boolean isTypeAccepted(@Nullable Class<?> type) {
+		return type != null && this.typeFilterDecisions.get(type);
+	}
+
+	private Predicate<Class<?>> composeTypeFilters() {
 		return this.excludeTypeFilters.or(TypeFilters.EXCLUDE_NULL_TYPES.and(this.includeTypeFilters));
 	}
 
+	private ClassValue<Boolean> newTypeFilterDecisions() {
+
+		return new ClassValue<Boolean>() {
+
+			@Override
+			protected Boolean computeValue(Class<?> type) {
+				return getTypeFilters().test(type);
+			}
+		};
+	}
+
+	private void resetTypeFilters() {
+		this.typeFilters = composeTypeFilters();
+		this.typeFilterDecisions = newTypeFilterDecisions();
+	}
+
 	/**
 	 * Registers the given {@link PdxSerializerResolver}, which will be used to resolve a custom {@link PdxSerializer}
 	 * for a entity property.
@@ -467,6 +558,8 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 
 		if (pdxSerializerResolver != null) {
 			this.pdxSerializerResolvers.add(0, pdxSerializerResolver);
+			this.serializationPlans.clear();
+			this.generatedPdxSerializers.clear();
 		}
 	}
 
@@ -480,13 +573,13 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 	 * of {@link Class} type cannot be deserialized from PDX.
 	 * @see org.apache.geode.pdx.PdxReader
 	 * @see #doFromData(Class, PdxReader)
-	 * @see #getTypeFilters()
+	 * @see #isTypeAccepted(Class)
 	 * @see java.lang.Class
 	 * @see java.lang.Object
 	 */
 	@Override
 	public Object fromData(@NonNull Class<?> type, @NonNull PdxReader pdxReader) {
-		return getTypeFilters().test(type) ? doFromData(type, pdxReader) : null;
+		return isTypeAccepted(type) ? doFromData(type, pdxReader) : null;
 	}
 
 	/**
@@ -506,6 +599,12 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 
 		GemfirePersistentEntity<?> entity = getPersistentEntity(type);
 
+		PdxSerializer generatedPdxSerializer = resolveGeneratedPdxSerializer(entity);
+
+		if (generatedPdxSerializer != null) {
+			return generatedPdxSerializer.fromData(type, pdxReader);
+		}
+
 		Object instance = resolveEntityInstantiator(entity)
 			.createInstance(entity, new PersistentEntityParameterValueProvider<>(entity,
 				new GemfirePropertyValueProvider(pdxReader), null));
@@ -513,43 +612,44 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 		PersistentPropertyAccessor propertyAccessor =
 			new ConvertingPropertyAccessor(entity.getPropertyAccessor(instance), getConversionService());
 
-		entity.doWithProperties((PropertyHandler<GemfirePersistentProperty>) persistentProperty -> {
+		for (SerializationPlan.PropertyPlan propertyPlan : resolveSerializationPlan(entity).getWritableProperties()) {
 
-			if (isWritable(entity, persistentProperty)) {
+			Object value = null;
 
-				Object value = null;
+			PdxSerializer customPdxSerializer = propertyPlan.getCustomPdxSerializer();
 
-				PdxSerializer customPdxSerializer = resolveCustomPdxSerializer(persistentProperty);
+			Supplier<String> messageSuffix = () -> customPdxSerializer != null
+				? String.format(" using custom PdxSerializer [%s]", customPdxSerializer)
+				: "";
 
-				Supplier<String> messageSuffix = () -> customPdxSerializer != null
-					? String.format(" using custom PdxSerializer [%s]", customPdxSerializer)
-					: "";
+			try {
+				if (getLogger().isDebugEnabled()) {
+					getLogger().debug("Setting property [{}] for entity [{}] of type [{}] from PDX{}",
+						propertyPlan.getName(), instance, type, messageSuffix.get());
+				}
 
-				try {
-					if (getLogger().isDebugEnabled()) {
-						getLogger().debug("Setting property [{}] for entity [{}] of type [{}] from PDX{}",
-							persistentProperty.getName(), instance, type, messageSuffix.get());
-					}
+				if (!(propertyPlan.hasPrimitiveFieldSetter()
+						&& propertyPlan.readPrimitiveField(propertyAccessor.getBean(), pdxReader))) {
 
 					value = customPdxSerializer != null
-						? customPdxSerializer.fromData(persistentProperty.getType(), pdxReader)
-						: pdxReader.readField(persistentProperty.getName());
+						? customPdxSerializer.fromData(propertyPlan.getType(), pdxReader)
+						: pdxReader.readField(propertyPlan.getName());
 
 					if (getLogger().isDebugEnabled()) {
 						getLogger().debug("... with value [{}]", value);
 					}
 
-					propertyAccessor.setProperty(persistentProperty, value);
+					propertyAccessor.setProperty(propertyPlan.getProperty(), value);
 				}
-				catch (Exception cause) {
+			}
+			catch (Exception cause) {
 
-					String message = String.format("An error occurred while setting value [%1$s] of property [%2$s] for entity of type [%3$s] from PDX%4$s",
-						value, persistentProperty.getName(), type, messageSuffix.get());
+				String message = String.format("An error occurred while setting value [%1$s] of property [%2$s] for entity of type [%3$s] from PDX%4$s",
+					value, propertyPlan.getName(), type, messageSuffix.get());
 
-					throw new MappingException(message, cause);
-				}
+				throw new MappingException(message, cause);
 			}
-		});
+		}
 
 		return propertyAccessor.getBean();
 	}
@@ -585,12 +685,12 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 	 * the given {@link Object} to PDX.
 	 * @see org.apache.geode.pdx.PdxWriter
 	 * @see #doToData(Object, PdxWriter)
-	 * @see #getTypeFilters()
+	 * @see #isTypeAccepted(Class)
 	 * @see java.lang.Object
 	 */
 	@Override
 	public boolean toData(@Nullable Object value, @NonNull PdxWriter pdxWriter) {
-		return getTypeFilters().test(resolveType(value)) && doToData(value, pdxWriter);
+		return isTypeAccepted(resolveType(value)) && doToData(value, pdxWriter);
 	}
 
 	/**
@@ -611,26 +711,43 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 		// The entity will be null for primitive & wrapper types (e.g. int, Long, String, etc).
 		if (entity != null) {
 
+			PdxSerializer generatedPdxSerializer = resolveGeneratedPdxSerializer(entity);
+
+			if (generatedPdxSerializer != null) {
+				return generatedPdxSerializer.toData(value, pdxWriter);
+			}
+
+			SerializationPlan serializationPlan = resolveSerializationPlan(entity);
+
 			PersistentPropertyAccessor propertyAccessor =
 				new ConvertingPropertyAccessor(entity.getPropertyAccessor(value), getConversionService());
 
-			entity.doWithProperties((PropertyHandler<GemfirePersistentProperty>) persistentProperty -> {
+			for (SerializationPlan.PropertyPlan propertyPlan : serializationPlan.getReadableProperties()) {
+
+				Object propertyValue = null;
+
+				PdxSerializer customPdxSerializer = propertyPlan.getCustomPdxSerializer();
 
-				if (isReadable(persistentProperty)) {
+				String propertyName = propertyPlan.getName();
 
-					Object propertyValue = null;
+				Supplier<String> messageSuffix = () -> customPdxSerializer != null
+					? String.format(" using custom PdxSerializer [%s]", customPdxSerializer)
+					: "";
 
-					PdxSerializer customPdxSerializer = resolveCustomPdxSerializer(persistentProperty);
+				try {
 
-					String propertyName = persistentProperty.getName();
+					if (propertyPlan.hasPrimitiveFieldGetter()) {
 
-					Supplier<String> messageSuffix = () -> customPdxSerializer != null
-						? String.format(" using custom PdxSerializer [%s]", customPdxSerializer)
-						: "";
+						if (getLogger().isDebugEnabled()) {
+							getLogger().debug("Serializing entity [{}] primitive property [{}] of type [{}] to PDX",
+								entity.getType().getName(), propertyName, propertyPlan.getType().getName());
+						}
 
-					try {
+						propertyPlan.writePrimitiveField(propertyAccessor.getBean(), pdxWriter);
+					}
+					else {
 
-						propertyValue = propertyAccessor.getProperty(persistentProperty);
+						propertyValue = propertyAccessor.getProperty(propertyPlan.getProperty());
 
 						if (getLogger().isDebugEnabled()) {
 							getLogger().debug("Serializing entity [{}] property [{}] value [{}] of type [{}] to PDX{}",
@@ -642,25 +759,24 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 							customPdxSerializer.toData(propertyValue, pdxWriter);
 						}
 						else {
-							pdxWriter.writeField(propertyName, propertyValue,
-								(Class<Object>) persistentProperty.getType());
+							pdxWriter.writeField(propertyName, propertyValue, (Class<Object>) propertyPlan.getType());
 						}
 					}
-					catch (Exception cause) {
+				}
+				catch (Exception cause) {
 
-						String message = String.format("An error occurred while serializing entity [%1$s] property [%2$s] value [%3$s] of type [%4$s] to PDX%5$s",
-							entity.getType().getName(), persistentProperty.getName(), propertyValue,
-							ObjectUtils.nullSafeClassName(propertyValue), messageSuffix.get());
+					String message = String.format("An error occurred while serializing entity [%1$s] property [%2$s] value [%3$s] of type [%4$s] to PDX%5$s",
+						entity.getType().getName(), propertyName, propertyValue,
+						ObjectUtils.nullSafeClassName(propertyValue), messageSuffix.get());
 
-						throw new MappingException(message, cause);
-					}
+					throw new MappingException(message, cause);
 				}
-			});
+			}
 
-			GemfirePersistentProperty idProperty = entity.getIdProperty();
+			String identityFieldName = serializationPlan.getIdentityFieldName();
 
-			if (idProperty != null) {
-				pdxWriter.markIdentityField(idProperty.getName());
+			if (identityFieldName != null) {
+				pdxWriter.markIdentityField(identityFieldName);
 			}
 
 			return true;
@@ -704,6 +820,89 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 			.orElse(null);
 	}
 
+	/**
+	 * Returns the {@link PdxSerializer} generated by the configured {@link PdxSerializerGenerator}
+	 * for the given {@link GemfirePersistentEntity}.
+	 *
+	 * The generated {@link PdxSerializer} is cached per entity {@link Class type}. No {@link PdxSerializer}
+	 * is generated for entities declaring properties (de)serialized with a custom {@link PdxSerializer}
+	 * or when custom {@link EntityInstantiators} are configured.
+	 *
+	 * @param entity {@link GemfirePersistentEntity} to (de)serialize.
+	 * @return the generated {@link PdxSerializer} for the given {@link GemfirePersistentEntity},
+	 * or {@literal null} if the entity must be (de)serialized reflectively.
+	 * @see #setPdxSerializerGenerator(PdxSerializerGenerator)
+	 */
+	protected @Nullable PdxSerializer resolveGeneratedPdxSerializer(@Nullable GemfirePersistentEntity<?> entity) {
+
+		PdxSerializerGenerator pdxSerializerGenerator = this.pdxSerializerGenerator;
+
+		if (entity == null || pdxSerializerGenerator == null || this.customEntityInstantiators) {
+			return null;
+		}
+
+		return this.generatedPdxSerializers.computeIfAbsent(entity.getType(), type ->
+				resolveSerializationPlan(entity).hasCustomPdxSerializers()
+				? Optional.empty()
+				: Optional.ofNullable(pdxSerializerGenerator.getPdxSerializer(entity, getConversionService())))
+			.orElse(null);
+	}
+
+	/**
+	 * Returns the {@link SerializationPlan} for the given {@link GemfirePersistentEntity}.
+	 *
+	 * The {@link SerializationPlan} is computed once per entity {@link Class type} and cached until a custom
+	 * {@link PdxSerializer} or {@link PdxSerializerResolver} is registered.
+	 *
+	 * @param entity {@link GemfirePersistentEntity} to (de)serialize; must not be {@literal null}.
+	 * @return the {@link SerializationPlan} for the given {@link GemfirePersistentEntity}.
+	 * @see #newSerializationPlan(GemfirePersistentEntity)
+	 */
+	@NonNull SerializationPlan resolveSerializationPlan(@NonNull GemfirePersistentEntity<?> entity) {
+		return this.serializationPlans.computeIfAbsent(entity.getType(), type -> newSerializationPlan(entity));
+	}
+
+	/**
+	 * Constructs a new {@link SerializationPlan} for the given {@link GemfirePersistentEntity} by resolving
+	 * the readable and writable properties along with their custom {@link PdxSerializer PdxSerializers}.
+	 *
+	 * @param entity {@link GemfirePersistentEntity} to (de)serialize; must not be {@literal null}.
+	 * @return a new {@link SerializationPlan} for the given {@link GemfirePersistentEntity}.
+	 * @see #isReadable(GemfirePersistentProperty)
+	 * @see #isWritable(GemfirePersistentEntity, GemfirePersistentProperty)
+	 * @see #resolveCustomPdxSerializer(PersistentProperty)
+	 */
+	@NonNull SerializationPlan newSerializationPlan(@NonNull GemfirePersistentEntity<?> entity) {
+
+		List<SerializationPlan.PropertyPlan> readableProperties = new ArrayList<>();
+		List<SerializationPlan.PropertyPlan> writableProperties = new ArrayList<>();
+
+		entity.doWithProperties((PropertyHandler<GemfirePersistentProperty>) persistentProperty -> {
+
+			boolean readable = isReadable(persistentProperty);
+			boolean writable = isWritable(entity, persistentProperty);
+
+			if (readable || writable) {
+
+				SerializationPlan.PropertyPlan propertyPlan = new SerializationPlan.PropertyPlan(persistentProperty,
+					resolveCustomPdxSerializer(persistentProperty), readable, writable);
+
+				if (readable) {
+					readableProperties.add(propertyPlan);
+				}
+
+				if (writable) {
+					writableProperties.add(propertyPlan);
+				}
+			}
+		});
+
+		GemfirePersistentProperty idProperty = entity.getIdProperty();
+
+		return new SerializationPlan(readableProperties, writableProperties,
+			idProperty != null ? idProperty.getName() : null);
+	}
+
 	/**
 	 * Looks up and returns a registered {@link EntityInstantiator} used to construct and initialize an instance of
 	 * an object defined by the given {@link PersistentEntity} (meta-data).
@@ -732,6 +931,269 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 		return obj != null ? obj.getClass() : null;
 	}
 
+	/**
+	 * Immutable, pre-computed plan used to (de)serialize an entity of a particular {@link Class type}
+	 * to and from PDX.
+	 */
+	static final class SerializationPlan {
+
+		private final PropertyPlan[] readableProperties;
+		private final PropertyPlan[] writableProperties;
+
+		private final String identityFieldName;
+
+		SerializationPlan(@NonNull List<PropertyPlan> readableProperties, @NonNull List<PropertyPlan> writableProperties,
+				@Nullable String identityFieldName) {
+
+			this.readableProperties = readableProperties.toArray(new PropertyPlan[0]);
+			this.writableProperties = writableProperties.toArray(new PropertyPlan[0]);
+			this.identityFieldName = identityFieldName;
+		}
+
+		@Nullable String getIdentityFieldName() {
+			return this.identityFieldName;
+		}
+
+		@NonNull PropertyPlan[] getReadableProperties() {
+			return this.readableProperties;
+		}
+
+		@NonNull PropertyPlan[] getWritableProperties() {
+			return this.writableProperties;
+		}
+
+		boolean hasCustomPdxSerializers() {
+			return hasCustomPdxSerializer(this.readableProperties) || hasCustomPdxSerializer(this.writableProperties);
+		}
+
+		private boolean hasCustomPdxSerializer(PropertyPlan[] properties) {
+
+			for (PropertyPlan property : properties) {
+				if (property.getCustomPdxSerializer() != null) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+		static final class PropertyPlan {
+
+			private final Class<?> type;
+
+			private final GemfirePersistentProperty property;
+
+			private final MethodHandle primitiveFieldGetter;
+			private final MethodHandle primitiveFieldSetter;
+
+			private final PdxSerializer customPdxSerializer;
+
+			private final String name;
+
+			PropertyPlan(@NonNull GemfirePersistentProperty property, @Nullable PdxSerializer customPdxSerializer,
+					boolean readable, boolean writable) {
+
+				this.property = property;
+				this.customPdxSerializer = customPdxSerializer;
+				this.name = property.getName();
+				this.type = property.getType();
+
+				Field primitiveField = resolvePrimitiveField(property, customPdxSerializer);
+
+				this.primitiveFieldGetter = readable && primitiveField != null
+					? resolvePrimitiveFieldGetter(primitiveField)
+					: null;
+
+				this.primitiveFieldSetter = writable && primitiveField != null
+					&& !Modifier.isFinal(primitiveField.getModifiers())
+					? resolvePrimitiveFieldSetter(primitiveField)
+					: null;
+			}
+
+			/**
+			 * Resolves the {@link Field} of a primitive property accessed by field, which can be read from
+			 * and written to PDX with the primitive {@link PdxReader} and {@link PdxWriter} methods.
+			 */
+			private static @Nullable Field resolvePrimitiveField(@NonNull GemfirePersistentProperty property,
+					@Nullable PdxSerializer customPdxSerializer) {
+
+				Field field = property.getField();
+
+				return customPdxSerializer == null
+					&& !property.usePropertyAccess()
+					&& field != null
+					&& field.getType().isPrimitive()
+					&& field.getType().equals(property.getType())
+					&& !Modifier.isStatic(field.getModifiers())
+					? field
+					: null;
+			}
+
+			private static @Nullable MethodHandle resolvePrimitiveFieldGetter(@NonNull Field field) {
+
+				try {
+					ReflectionUtils.makeAccessible(field);
+
+					return MethodHandles.lookup().unreflectGetter(field)
+						.asType(MethodType.methodType(field.getType(), Object.class));
+				}
+				catch (IllegalAccessException | RuntimeException ignore) {
+					return null;
+				}
+			}
+
+			private static @Nullable MethodHandle resolvePrimitiveFieldSetter(@NonNull Field field) {
+
+				try {
+					ReflectionUtils.makeAccessible(field);
+
+					return MethodHandles.lookup().unreflectSetter(field)
+						.asType(MethodType.methodType(void.class, Object.class, field.getType()));
+				}
+				catch (IllegalAccessException | RuntimeException ignore) {
+					return null;
+				}
+			}
+
+			@Nullable PdxSerializer getCustomPdxSerializer() {
+				return this.customPdxSerializer;
+			}
+
+			@NonNull String getName() {
+				return this.name;
+			}
+
+			@NonNull GemfirePersistentProperty getProperty() {
+				return this.property;
+			}
+
+			@NonNull Class<?> getType() {
+				return this.type;
+			}
+
+			boolean hasPrimitiveFieldGetter() {
+				return this.primitiveFieldGetter != null;
+			}
+
+			boolean hasPrimitiveFieldSetter() {
+				return this.primitiveFieldSetter != null;
+			}
+
+			/**
+			 * Reads the primitive property value from PDX using the primitive {@link PdxReader} method
+			 * for the property type and sets the value on the given entity without boxing.
+			 *
+			 * The property value is not read when the PDX field type does not match the primitive property type,
+			 * for example, when the PDX field was written as a boxed {@link Object} or with a different primitive
+			 * type by a different version of the entity {@link Class}. The property value must then be read
+			 * with {@link PdxReader#readField(String)} and converted to the property type.
+			 *
+			 * @param entity entity on which to set the primitive property value.
+			 * @param pdxReader {@link PdxReader} used to read the primitive property value from PDX.
+			 * @return a boolean value indicating whether the primitive property value was read and set on the entity;
+			 * {@literal false} if the PDX field type does not match the primitive property type.
+			 * @see #hasPrimitiveFieldSetter()
+			 */
+			boolean readPrimitiveField(@NonNull Object entity, @NonNull PdxReader pdxReader) {
+
+				MethodHandle setter = this.primitiveFieldSetter;
+
+				Class<?> type = this.type;
+
+				try {
+					if (int.class.equals(type)) {
+						setter.invokeExact(entity, pdxReader.readInt(this.name));
+					}
+					else if (long.class.equals(type)) {
+						setter.invokeExact(entity, pdxReader.readLong(this.name));
+					}
+					else if (double.class.equals(type)) {
+						setter.invokeExact(entity, pdxReader.readDouble(this.name));
+					}
+					else if (boolean.class.equals(type)) {
+						setter.invokeExact(entity, pdxReader.readBoolean(this.name));
+					}
+					else if (float.class.equals(type)) {
+						setter.invokeExact(entity, pdxReader.readFloat(this.name));
+					}
+					else if (short.class.equals(type)) {
+						setter.invokeExact(entity, pdxReader.readShort(this.name));
+					}
+					else if (byte.class.equals(type)) {
+						setter.invokeExact(entity, pdxReader.readByte(this.name));
+					}
+					else {
+						setter.invokeExact(entity, pdxReader.readChar(this.name));
+					}
+
+					return true;
+				}
+				catch (PdxFieldTypeMismatchException ignore) {
+					return false;
+				}
+				catch (Throwable cause) {
+					throw toRuntimeException(cause);
+				}
+			}
+
+			/**
+			 * Gets the primitive property value from the given entity without boxing and writes the value to PDX
+			 * using the primitive {@link PdxWriter} method for the property type.
+			 *
+			 * @param entity entity from which to get the primitive property value.
+			 * @param pdxWriter {@link PdxWriter} used to write the primitive property value to PDX.
+			 * @see #hasPrimitiveFieldGetter()
+			 */
+			void writePrimitiveField(@NonNull Object entity, @NonNull PdxWriter pdxWriter) {
+
+				MethodHandle getter = this.primitiveFieldGetter;
+
+				Class<?> type = this.type;
+
+				try {
+					if (int.class.equals(type)) {
+						pdxWriter.writeInt(this.name, (int) getter.invokeExact(entity));
+					}
+					else if (long.class.equals(type)) {
+						pdxWriter.writeLong(this.name, (long) getter.invokeExact(entity));
+					}
+					else if (double.class.equals(type)) {
+						pdxWriter.writeDouble(this.name, (double) getter.invokeExact(entity));
+					}
+					else if (boolean.class.equals(type)) {
+						pdxWriter.writeBoolean(this.name, (boolean) getter.invokeExact(entity));
+					}
+					else if (float.class.equals(type)) {
+						pdxWriter.writeFloat(this.name, (float) getter.invokeExact(entity));
+					}
+					else if (short.class.equals(type)) {
+						pdxWriter.writeShort(this.name, (short) getter.invokeExact(entity));
+					}
+					else if (byte.class.equals(type)) {
+						pdxWriter.writeByte(this.name, (byte) getter.invokeExact(entity));
+					}
+					else {
+						pdxWriter.writeChar(this.name, (char) getter.invokeExact(entity));
+					}
+				}
+				catch (Throwable cause) {
+					throw toRuntimeException(cause);
+				}
+			}
+
+			private static RuntimeException toRuntimeException(Throwable cause) {
+
+				if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+
+				return cause instanceof RuntimeException
+					? (RuntimeException) cause
+					: new IllegalStateException(cause);
+			}
+		}
+	}
+
 	@FunctionalInterface
 	public interface PdxSerializerResolver {
 
@@ -792,10 +1254,7 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 
 			@Override
 			public boolean accept(@Nullable Class<?> type) {
-
-				return Optional.ofNullable(type)
-					.filter(it -> !it.getPackage().getName().startsWith(JAVA_PACKAGE_NAME))
-					.isPresent();
+				return isNotInPackage(type, JAVA_PACKAGE_NAME);
 			}
 		},
 
@@ -811,10 +1270,7 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 
 			@Override
 			public boolean accept(@Nullable Class<?> type) {
-
-				return Optional.ofNullable(type)
-					.filter(it -> !it.getPackage().getName().startsWith(COM_GEMSTONE_GEMFIRE_PACKAGE_NAME))
-					.isPresent();
+				return isNotInPackage(type, COM_GEMSTONE_GEMFIRE_PACKAGE_NAME);
 			}
 		},
 
@@ -822,10 +1278,7 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 
 			@Override
 			public boolean accept(Class<?> type) {
-
-				return Optional.ofNullable(type)
-					.filter(it -> !it.getPackage().getName().startsWith(ORG_APACHE_GEODE_PACKAGE_NAME))
-					.isPresent();
+				return isNotInPackage(type, ORG_APACHE_GEODE_PACKAGE_NAME);
 			}
 		},
 
@@ -833,11 +1286,12 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 
 			@Override
 			public boolean accept(@Nullable Class<?> type) {
-
-				return Optional.ofNullable(type)
-					.filter(it -> !it.getPackage().getName().startsWith(ORG_SPRINGFRAMEWORK_PACKAGE_NAME))
-					.isPresent();
+				return isNotInPackage(type, ORG_SPRINGFRAMEWORK_PACKAGE_NAME);
 			}
-		},
+		};
+
+		private static boolean isNotInPackage(@Nullable Class<?> type, @NonNull String packageName) {
+			return type != null && !type.getPackage().getName().startsWith(packageName);
+		}
 	}
 }
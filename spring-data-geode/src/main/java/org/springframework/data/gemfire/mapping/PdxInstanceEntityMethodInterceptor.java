@@ -0,0 +1,214 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.mapping;
+
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.geode.pdx.PdxInstance;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link PdxInstanceEntityMethodInterceptor} class is a {@link MethodInterceptor} backing a lazy entity proxy
+ * with a {@link PdxInstance}, deserializing entity properties from the {@link PdxInstance} on first access.
+ *
+ * Invoking the getter of a persistent property only sets that property on the target entity. Invoking the setter
+ * of a persistent property marks the property as loaded. Invoking any other method fully materializes
+ * the target entity before the method is invoked.
+ *
+ * @author agent
+ * @see org.aopalliance.intercept.MethodInterceptor
+ * @see org.apache.geode.pdx.PdxInstance
+ * @see org.springframework.data.gemfire.mapping.PdxInstanceEntityProxyFactory
+ * @see org.springframework.data.gemfire.search.lucene.support.PdxInstanceMethodInterceptor
+ * @since 3.0.0
+ */
+class PdxInstanceEntityMethodInterceptor implements MethodInterceptor {
+
+	private volatile boolean materialized;
+
+	private final ConversionService conversionService;
+
+	private final List<GemfirePersistentProperty> properties;
+
+	private final Map<String, GemfirePersistentProperty> getters;
+	private final Map<String, GemfirePersistentProperty> setters;
+
+	private final PdxInstance source;
+
+	private final PersistentPropertyAccessor<?> propertyAccessor;
+
+	private final Set<String> loadedProperties;
+
+	/**
+	 * Constructs a new {@link PdxInstanceEntityMethodInterceptor} initialized with the given target entity,
+	 * {@link PdxInstance source} and entity property meta-data.
+	 *
+	 * @param entity {@link GemfirePersistentEntity} of the target entity; must not be {@literal null}.
+	 * @param target target entity; must not be {@literal null}.
+	 * @param source {@link PdxInstance} from which entity properties are deserialized; must not be {@literal null}.
+	 * @param properties {@link List} of all {@link GemfirePersistentProperty persistent properties}
+	 * deserialized from the {@link PdxInstance}.
+	 * @param loadedProperties {@link Set} of names of the {@link GemfirePersistentProperty persistent properties}
+	 * already set on the target entity, such as constructor arguments.
+	 * @param getters {@link Map} of getter method names to {@link GemfirePersistentProperty persistent properties}.
+	 * @param setters {@link Map} of setter method names to {@link GemfirePersistentProperty persistent properties}.
+	 * @param conversionService {@link ConversionService} used to convert {@link PdxInstance} field values
+	 * to entity property values; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the entity, target, {@link PdxInstance source}
+	 * or {@link ConversionService} is {@literal null}.
+	 */
+	PdxInstanceEntityMethodInterceptor(@NonNull GemfirePersistentEntity<?> entity, @NonNull Object target,
+			@NonNull PdxInstance source, @NonNull List<GemfirePersistentProperty> properties,
+			@NonNull Set<String> loadedProperties,
+			@NonNull Map<String, GemfirePersistentProperty> getters,
+			@NonNull Map<String, GemfirePersistentProperty> setters, @NonNull ConversionService conversionService) {
+
+		Assert.notNull(entity, "Entity must not be null");
+		Assert.notNull(target, "Target must not be null");
+		Assert.notNull(source, "Source must not be null");
+		Assert.notNull(conversionService, "ConversionService must not be null");
+
+		this.source = source;
+		this.properties = properties;
+		this.loadedProperties = new HashSet<>(loadedProperties);
+		this.getters = getters;
+		this.setters = setters;
+		this.conversionService = conversionService;
+		this.propertyAccessor =
+			new ConvertingPropertyAccessor<>(entity.getPropertyAccessor(target), conversionService);
+		this.materialized = this.loadedProperties.containsAll(toPropertyNames(properties));
+	}
+
+	/**
+	 * Returns the {@link PdxInstance source} backing the proxy for intercepted method invocations.
+	 *
+	 * @return the {@link PdxInstance source} backing the proxy for intercepted method invocations.
+	 * @see org.apache.geode.pdx.PdxInstance
+	 */
+	protected @NonNull PdxInstance getSource() {
+		return this.source;
+	}
+
+	/**
+	 * Returns the target entity, which may not be fully materialized.
+	 *
+	 * @return the target entity.
+	 */
+	protected @NonNull Object getTarget() {
+		return this.propertyAccessor.getBean();
+	}
+
+	/**
+	 * Determines whether the target entity has been fully materialized.
+	 *
+	 * @return a boolean value indicating whether the target entity has been fully materialized.
+	 */
+	boolean isMaterialized() {
+		return this.materialized;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+
+		if (!isMaterialized()) {
+
+			Method method = invocation.getMethod();
+
+			int parameterCount = method.getParameterCount();
+
+			GemfirePersistentProperty getterProperty = parameterCount == 0 ? this.getters.get(method.getName()) : null;
+			GemfirePersistentProperty setterProperty = parameterCount == 1 ? this.setters.get(method.getName()) : null;
+
+			if (getterProperty != null) {
+				load(getterProperty);
+			}
+			else if (setterProperty != null) {
+				markLoaded(setterProperty);
+			}
+			else {
+				materialize();
+			}
+		}
+
+		return invocation.proceed();
+	}
+
+	/**
+	 * Sets all entity properties not yet loaded on the target entity from the {@link PdxInstance source}.
+	 *
+	 * @return the fully materialized target entity.
+	 */
+	synchronized @NonNull Object materialize() {
+
+		if (!isMaterialized()) {
+			this.properties.forEach(this::load);
+		}
+
+		return getTarget();
+	}
+
+	private synchronized void load(GemfirePersistentProperty property) {
+
+		if (markLoaded(property)) {
+
+			Object value = readValue(property);
+
+			if (value != null) {
+				this.propertyAccessor.setProperty(property, value);
+			}
+		}
+	}
+
+	private synchronized boolean markLoaded(GemfirePersistentProperty property) {
+
+		boolean loaded = this.loadedProperties.add(property.getName());
+
+		if (this.loadedProperties.size() >= this.properties.size()) {
+			this.materialized = true;
+		}
+
+		return loaded;
+	}
+
+	private static Set<String> toPropertyNames(List<GemfirePersistentProperty> properties) {
+
+		Set<String> propertyNames = new HashSet<>(properties.size());
+
+		properties.forEach(property -> propertyNames.add(property.getName()));
+
+		return propertyNames;
+	}
+
+	private @Nullable Object readValue(GemfirePersistentProperty property) {
+		return PdxInstanceEntityProxyFactory.readValue(getSource(), property, this.conversionService);
+	}
+}
@@ -0,0 +1,395 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.mapping;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.geode.pdx.PdxInstance;
+
+import org.aopalliance.aop.Advice;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.core.CollectionFactory;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.model.EntityInstantiators;
+import org.springframework.data.mapping.model.PersistentEntityParameterValueProvider;
+import org.springframework.data.mapping.model.PropertyValueProvider;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * The {@link PdxInstanceEntityProxyFactory} class is a factory for lazy entity proxies backed by
+ * a {@link PdxInstance}, which deserialize an entity property from the {@link PdxInstance} only on first access.
+ *
+ * Proxies are class-based proxies of the entity type delegating to a target entity constructed from
+ * the {@link PdxInstance} with only the entity's constructor arguments deserialized. Entity types are only proxied
+ * when the type is neither {@literal final} nor declares {@literal final} methods, all persistent properties are
+ * either constructor arguments or mutable, and the persistent properties are backed by {@literal private} fields,
+ * such that the entity state can only be accessed through methods intercepted by the proxy. Otherwise,
+ * the entity is fully deserialized with {@link PdxInstance#getObject()}.
+ *
+ * @author agent
+ * @see org.apache.geode.pdx.PdxInstance
+ * @see org.springframework.aop.framework.ProxyFactory
+ * @see org.springframework.data.gemfire.mapping.PdxInstanceEntityMethodInterceptor
+ * @see org.springframework.data.gemfire.search.lucene.support.PdxInstanceMethodInterceptorFactory
+ * @since 3.0.0
+ */
+public class PdxInstanceEntityProxyFactory {
+
+	/**
+	 * Fully materializes the given entity if the entity is a lazy entity proxy created by
+	 * a {@link PdxInstanceEntityProxyFactory}.
+	 *
+	 * @param <T> {@link Class type} of the entity.
+	 * @param entity entity to materialize.
+	 * @return the fully materialized target entity if the given entity is a lazy entity proxy,
+	 * otherwise the given entity.
+	 */
+	@SuppressWarnings("unchecked")
+	public static @Nullable <T> T materialize(@Nullable T entity) {
+
+		if (entity instanceof Advised) {
+			for (Advisor advisor : ((Advised) entity).getAdvisors()) {
+
+				Advice advice = advisor.getAdvice();
+
+				if (advice instanceof PdxInstanceEntityMethodInterceptor) {
+					return (T) ((PdxInstanceEntityMethodInterceptor) advice).materialize();
+				}
+			}
+		}
+
+		return entity;
+	}
+
+	/**
+	 * Reads the value of the given {@link GemfirePersistentProperty} from the {@link PdxInstance},
+	 * converting the value to the property {@link Class type} if necessary.
+	 *
+	 * Nested {@link PdxInstance PdxInstances}, including {@link PdxInstance PdxInstances} contained in
+	 * {@link Collection Collections}, {@link Map Maps} and arrays, are fully deserialized.
+	 */
+	static @Nullable Object readValue(@NonNull PdxInstance source, @NonNull GemfirePersistentProperty property,
+			@NonNull ConversionService conversionService) {
+
+		String propertyName = property.getName();
+
+		Object value = source.hasField(propertyName) ? source.getField(propertyName) : null;
+
+		value = deserialize(value);
+
+		return value == null || ClassUtils.isAssignableValue(property.getType(), value) ? value
+			: conversionService.convert(value, property.getType());
+	}
+
+	/**
+	 * Fully deserializes the given value if the value is a {@link PdxInstance}, or recursively deserializes
+	 * the {@link PdxInstance PdxInstances} contained in the given {@link Collection}, {@link Map} or array.
+	 *
+	 * A {@link Collection}, {@link Map} or array is only copied if it contains a {@link PdxInstance}.
+	 */
+	@SuppressWarnings("unchecked")
+	private static @Nullable Object deserialize(@Nullable Object value) {
+
+		if (value instanceof PdxInstance) {
+			return ((PdxInstance) value).getObject();
+		}
+		else if (value instanceof Collection) {
+
+			Collection<?> collection = (Collection<?>) value;
+
+			Collection<Object> deserializedCollection =
+				CollectionFactory.createApproximateCollection(collection, collection.size());
+
+			boolean deserialized = false;
+
+			for (Object element : collection) {
+
+				Object deserializedElement = deserialize(element);
+
+				deserialized |= deserializedElement != element;
+				deserializedCollection.add(deserializedElement);
+			}
+
+			return deserialized ? deserializedCollection : collection;
+		}
+		else if (value instanceof Map) {
+
+			Map<?, ?> map = (Map<?, ?>) value;
+
+			Map<Object, Object> deserializedMap = CollectionFactory.createApproximateMap(map, map.size());
+
+			boolean deserialized = false;
+
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+
+				Object deserializedKey = deserialize(entry.getKey());
+				Object deserializedValue = deserialize(entry.getValue());
+
+				deserialized |= deserializedKey != entry.getKey() || deserializedValue != entry.getValue();
+				deserializedMap.put(deserializedKey, deserializedValue);
+			}
+
+			return deserialized ? deserializedMap : map;
+		}
+		else if (value instanceof Object[]) {
+
+			Object[] array = (Object[]) value;
+
+			Object[] deserializedArray = null;
+
+			for (int index = 0; index < array.length; index++) {
+
+				Object deserializedElement = deserialize(array[index]);
+
+				if (deserializedElement != array[index]) {
+
+					// The array component type may not be assignable from the deserialized element type
+					deserializedArray = deserializedArray != null ? deserializedArray
+						: Arrays.copyOf(array, array.length, Object[].class);
+
+					deserializedArray[index] = deserializedElement;
+				}
+			}
+
+			return deserializedArray != null ? deserializedArray : array;
+		}
+
+		return value;
+	}
+
+	private final ConversionService conversionService;
+
+	private final EntityInstantiators entityInstantiators = new EntityInstantiators();
+
+	private final Map<Class<?>, Optional<ProxyMetadata>> proxyMetadata = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a new {@link PdxInstanceEntityProxyFactory} using the shared {@link DefaultConversionService}.
+	 *
+	 * @see org.springframework.core.convert.support.DefaultConversionService#getSharedInstance()
+	 */
+	public PdxInstanceEntityProxyFactory() {
+		this(DefaultConversionService.getSharedInstance());
+	}
+
+	/**
+	 * Constructs a new {@link PdxInstanceEntityProxyFactory} initialized with the given {@link ConversionService}.
+	 *
+	 * @param conversionService {@link ConversionService} used to convert {@link PdxInstance} field values
+	 * to entity property values; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link ConversionService} is {@literal null}.
+	 * @see org.springframework.core.convert.ConversionService
+	 */
+	public PdxInstanceEntityProxyFactory(@NonNull ConversionService conversionService) {
+
+		Assert.notNull(conversionService, "ConversionService must not be null");
+
+		this.conversionService = conversionService;
+	}
+
+	/**
+	 * Returns a reference to the configured {@link ConversionService}.
+	 *
+	 * @return a reference to the configured {@link ConversionService}.
+	 * @see org.springframework.core.convert.ConversionService
+	 */
+	protected @NonNull ConversionService getConversionService() {
+		return this.conversionService;
+	}
+
+	/**
+	 * Returns the entity for the given query result.
+	 *
+	 * If the result is a {@link PdxInstance} of the given entity {@link Class type}, then a lazy entity proxy
+	 * is returned when the entity {@link Class type} is supported, or the fully deserialized entity otherwise.
+	 * Any other result is returned as is.
+	 *
+	 * @param entity {@link GemfirePersistentEntity} of the entity {@link Class type}; must not be {@literal null}.
+	 * @param result query result to resolve.
+	 * @return a lazy entity proxy, the fully deserialized entity or the given result.
+	 * @see #isProxyable(GemfirePersistentEntity)
+	 */
+	public @Nullable Object getEntity(@NonNull GemfirePersistentEntity<?> entity, @Nullable Object result) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		if (result instanceof PdxInstance) {
+
+			PdxInstance pdxInstance = (PdxInstance) result;
+
+			Optional<ProxyMetadata> metadata = entity.getType().getName().equals(pdxInstance.getClassName())
+				? resolveProxyMetadata(entity)
+				: Optional.empty();
+
+			return metadata.isPresent()
+				? newProxy(entity, pdxInstance, metadata.get())
+				: pdxInstance.getObject();
+		}
+
+		return result;
+	}
+
+	/**
+	 * Determines whether entities of the {@link Class type} modeled by the given {@link GemfirePersistentEntity}
+	 * can be lazily materialized with a proxy.
+	 *
+	 * @param entity {@link GemfirePersistentEntity} to evaluate; must not be {@literal null}.
+	 * @return a boolean value indicating whether the entity {@link Class type} can be proxied.
+	 */
+	public boolean isProxyable(@NonNull GemfirePersistentEntity<?> entity) {
+		return resolveProxyMetadata(entity).isPresent();
+	}
+
+	private Optional<ProxyMetadata> resolveProxyMetadata(GemfirePersistentEntity<?> entity) {
+		return this.proxyMetadata.computeIfAbsent(entity.getType(), type -> newProxyMetadata(entity));
+	}
+
+	private Optional<ProxyMetadata> newProxyMetadata(GemfirePersistentEntity<?> entity) {
+
+		if (!isProxyableType(entity.getType())) {
+			return Optional.empty();
+		}
+
+		AtomicBoolean proxyable = new AtomicBoolean(true);
+
+		List<GemfirePersistentProperty> properties = new ArrayList<>();
+
+		Set<String> constructorProperties = new HashSet<>();
+
+		Map<String, GemfirePersistentProperty> getters = new HashMap<>();
+		Map<String, GemfirePersistentProperty> setters = new HashMap<>();
+
+		entity.doWithProperties((PropertyHandler<GemfirePersistentProperty>) property -> {
+
+			if (!property.isTransient()) {
+
+				Field field = property.getField();
+
+				boolean constructorArgument = entity.isConstructorArgument(property);
+
+				if ((field != null && !Modifier.isPrivate(field.getModifiers()))
+						|| (!constructorArgument && (!property.isWritable() || property.isImmutable()))) {
+
+					proxyable.set(false);
+				}
+
+				properties.add(property);
+
+				if (constructorArgument) {
+					constructorProperties.add(property.getName());
+				}
+
+				Optional.ofNullable(property.getGetter()).ifPresent(getter -> getters.put(getter.getName(), property));
+				Optional.ofNullable(property.getSetter()).ifPresent(setter -> setters.put(setter.getName(), property));
+			}
+		});
+
+		return proxyable.get()
+			? Optional.of(new ProxyMetadata(properties, constructorProperties, getters, setters))
+			: Optional.empty();
+	}
+
+	private boolean isProxyableType(Class<?> type) {
+
+		int modifiers = type.getModifiers();
+
+		if (Modifier.isFinal(modifiers) || Modifier.isPrivate(modifiers)
+				|| type.isArray() || type.isEnum() || type.isInterface() || type.isPrimitive()
+				|| (type.getEnclosingClass() != null && !Modifier.isStatic(modifiers))) {
+
+			return false;
+		}
+
+		for (Method method : ReflectionUtils.getAllDeclaredMethods(type)) {
+
+			int methodModifiers = method.getModifiers();
+
+			if (!Object.class.equals(method.getDeclaringClass()) && Modifier.isFinal(methodModifiers)
+					&& !Modifier.isPrivate(methodModifiers) && !Modifier.isStatic(methodModifiers)) {
+
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private Object newProxy(GemfirePersistentEntity<?> entity, PdxInstance source, ProxyMetadata metadata) {
+
+		PropertyValueProvider<GemfirePersistentProperty> propertyValueProvider =
+			new PropertyValueProvider<GemfirePersistentProperty>() {
+
+				@Override
+				public <T> T getPropertyValue(GemfirePersistentProperty property) {
+					return (T) readValue(source, property, getConversionService());
+				}
+			};
+
+		Object target = this.entityInstantiators.getInstantiatorFor(entity)
+			.createInstance(entity, new PersistentEntityParameterValueProvider<>(entity, propertyValueProvider, null));
+
+		ProxyFactory proxyFactory = new ProxyFactory(target);
+
+		proxyFactory.addAdvice(new PdxInstanceEntityMethodInterceptor(entity, target, source, metadata.properties,
+			metadata.constructorProperties, metadata.getters, metadata.setters, getConversionService()));
+		proxyFactory.setProxyTargetClass(true);
+
+		return proxyFactory.getProxy(entity.getType().getClassLoader());
+	}
+
+	private static final class ProxyMetadata {
+
+		private final List<GemfirePersistentProperty> properties;
+
+		private final Set<String> constructorProperties;
+
+		private final Map<String, GemfirePersistentProperty> getters;
+		private final Map<String, GemfirePersistentProperty> setters;
+
+		private ProxyMetadata(List<GemfirePersistentProperty> properties, Set<String> constructorProperties,
+				Map<String, GemfirePersistentProperty> getters, Map<String, GemfirePersistentProperty> setters) {
+
+			this.properties = Collections.unmodifiableList(properties);
+			this.constructorProperties = Collections.unmodifiableSet(constructorProperties);
+			this.getters = Collections.unmodifiableMap(getters);
+			this.setters = Collections.unmodifiableMap(setters);
+		}
+	}
+}
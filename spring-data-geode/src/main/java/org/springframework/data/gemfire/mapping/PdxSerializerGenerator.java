@@ -0,0 +1,48 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.mapping;
+
+import org.apache.geode.pdx.PdxSerializer;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Factory that generates a {@link PdxSerializer} specialized for a single {@link GemfirePersistentEntity}
+ * in order to avoid the reflective, meta-data driven (de)serialization performed by the {@link MappingPdxSerializer}.
+ *
+ * @author agent
+ * @see org.apache.geode.pdx.PdxSerializer
+ * @see org.springframework.data.gemfire.mapping.AsmPdxSerializerGenerator
+ * @see org.springframework.data.gemfire.mapping.MappingPdxSerializer
+ * @since 3.0.0
+ */
+@FunctionalInterface
+public interface PdxSerializerGenerator {
+
+	/**
+	 * Returns a (potentially new) {@link PdxSerializer} optimized for the given {@link GemfirePersistentEntity}.
+	 *
+	 * @param entity {@link GemfirePersistentEntity} to (de)serialize; must not be {@literal null}.
+	 * @param conversionService {@link ConversionService} used to convert PDX values to entity property types.
+	 * @return a {@link PdxSerializer} optimized for the given {@link GemfirePersistentEntity}, or {@literal null}
+	 * if the entity cannot be (de)serialized by a generated {@link PdxSerializer}.
+	 */
+	@Nullable PdxSerializer getPdxSerializer(@NonNull GemfirePersistentEntity<?> entity,
+		@NonNull ConversionService conversionService);
+
+}
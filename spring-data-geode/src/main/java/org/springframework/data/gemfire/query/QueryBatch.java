@@ -0,0 +1,116 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A batch of independent OQL queries, each with its own query arguments, executed together by
+ * {@link org.springframework.data.gemfire.GemfireOperations#findInBatch(QueryBatch)} in order to avoid
+ * paying one round trip per OQL query.
+ *
+ * The results of the OQL queries are returned in the order the OQL queries were {@link #add(String, Object...) added}
+ * to the batch.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.GemfireOperations#findInBatch(QueryBatch)
+ * @since 3.0.0
+ */
+public class QueryBatch {
+
+	private static final Object[] EMPTY_ARGUMENTS = new Object[0];
+
+	/**
+	 * Factory method used to construct a new, empty {@link QueryBatch}.
+	 *
+	 * @return a new, empty {@link QueryBatch}.
+	 */
+	public static @NonNull QueryBatch newQueryBatch() {
+		return new QueryBatch();
+	}
+
+	private final List<Object[]> arguments = new ArrayList<>();
+
+	private final List<String> queries = new ArrayList<>();
+
+	/**
+	 * Adds the given {@link String OQL query} along with the arguments bound to the OQL query parameters
+	 * to this batch.
+	 *
+	 * @param query {@link String} containing the OQL query to execute; must not be {@literal null} or empty.
+	 * @param arguments array of {@link Object} values bound to the OQL query parameters (such as $1).
+	 * @return this {@link QueryBatch}.
+	 * @throws IllegalArgumentException if the {@link String OQL query} is {@literal null} or empty.
+	 */
+	public @NonNull QueryBatch add(@NonNull String query, @Nullable Object... arguments) {
+
+		Assert.hasText(query, "Query is required");
+
+		this.queries.add(query);
+		this.arguments.add(arguments != null ? arguments : EMPTY_ARGUMENTS);
+
+		return this;
+	}
+
+	/**
+	 * Returns the arguments bound to the OQL query parameters of each OQL query in this batch.
+	 *
+	 * @return an unmodifiable {@link List} of query arguments, in the order the OQL queries were added.
+	 * @see #getQueries()
+	 */
+	public @NonNull List<Object[]> getArguments() {
+		return Collections.unmodifiableList(this.arguments);
+	}
+
+	/**
+	 * Returns the OQL queries in this batch.
+	 *
+	 * @return an unmodifiable {@link List} of OQL queries, in the order the OQL queries were added.
+	 * @see #getArguments()
+	 */
+	public @NonNull List<String> getQueries() {
+		return Collections.unmodifiableList(this.queries);
+	}
+
+	/**
+	 * Determines whether this batch contains any OQL queries.
+	 *
+	 * @return a boolean value indicating whether this batch contains any OQL queries.
+	 */
+	public boolean isEmpty() {
+		return this.queries.isEmpty();
+	}
+
+	/**
+	 * Returns the number of OQL queries in this batch.
+	 *
+	 * @return the number of OQL queries in this batch.
+	 */
+	public int size() {
+		return this.queries.size();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%1$s%2$s", getClass().getSimpleName(), getQueries());
+	}
+}
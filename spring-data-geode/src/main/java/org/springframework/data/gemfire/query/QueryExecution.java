@@ -0,0 +1,252 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.query;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link QueryExecution} records the execution of a GemFire OQL query, including the time it took to execute
+ * the query, the number of results, the indexes used to evaluate the query, the originating
+ * {@link org.springframework.data.repository.Repository} query method, if any, and the failure
+ * of the query, if the query failed.
+ *
+ * The originating query method is tracked per {@link Thread} using {@link #withOrigin(String, Supplier)},
+ * so that OQL queries executed by the {@link org.springframework.data.gemfire.GemfireTemplate} on behalf of
+ * a {@link org.springframework.data.repository.Repository} can be traced back to the query method.
+ *
+ * @author agent
+ * @see java.time.Duration
+ * @see org.springframework.data.gemfire.query.QueryExecutionListener
+ * @since 3.0.0
+ */
+public class QueryExecution {
+
+	private static final ThreadLocal<String> ORIGIN = new ThreadLocal<>();
+
+	/**
+	 * Returns the origin of the OQL queries executed by the current {@link Thread}.
+	 *
+	 * @return the origin of the OQL queries executed by the current {@link Thread},
+	 * or {@literal null} if the origin is unknown.
+	 * @see #withOrigin(String, Supplier)
+	 */
+	public static @Nullable String currentOrigin() {
+		return ORIGIN.get();
+	}
+
+	/**
+	 * Runs the given {@link Supplier operation} recording the given origin for all OQL queries
+	 * executed by the operation on the current {@link Thread}.
+	 *
+	 * Nested origins are not overridden; OQL queries are attributed to the outermost origin.
+	 *
+	 * @param <T> {@link Class type} of the operation result.
+	 * @param origin {@link String} describing the origin of the OQL queries, such as a {@literal Repository}
+	 * query method.
+	 * @param operation {@link Supplier} executing the OQL queries; must not be {@literal null}.
+	 * @return the result of the operation.
+	 */
+	public static <T> T withOrigin(@Nullable String origin, @NonNull Supplier<T> operation) {
+
+		if (origin == null || ORIGIN.get() != null) {
+			return operation.get();
+		}
+
+		ORIGIN.set(origin);
+
+		try {
+			return operation.get();
+		}
+		finally {
+			ORIGIN.remove();
+		}
+	}
+
+	/**
+	 * Factory method used to construct a new {@link QueryExecution} attributed to the origin
+	 * of the current {@link Thread}.
+	 *
+	 * @param query {@link String} containing the executed OQL query; must not be {@literal null}.
+	 * @param duration {@link Duration} of the query execution; must not be {@literal null}.
+	 * @param resultSize number of results returned by the query.
+	 * @param indexesUsed {@link List} of names of the indexes used to evaluate the query.
+	 * @return a new {@link QueryExecution}.
+	 * @see #currentOrigin()
+	 */
+	public static @NonNull QueryExecution of(@NonNull String query, @NonNull Duration duration, int resultSize,
+			@Nullable List<String> indexesUsed) {
+
+		return new QueryExecution(query, currentOrigin(), duration, resultSize, indexesUsed);
+	}
+
+	/**
+	 * Factory method used to construct a new {@link QueryExecution} for a failed OQL query attributed to the origin
+	 * of the current {@link Thread}.
+	 *
+	 * @param query {@link String} containing the executed OQL query; must not be {@literal null}.
+	 * @param duration {@link Duration} of the query execution up until the failure; must not be {@literal null}.
+	 * @param failure {@link Throwable} thrown by the query execution; must not be {@literal null}.
+	 * @return a new, failed {@link QueryExecution}.
+	 * @throws IllegalArgumentException if the query, duration or failure are {@literal null}.
+	 * @see #currentOrigin()
+	 */
+	public static @NonNull QueryExecution failed(@NonNull String query, @NonNull Duration duration,
+			@NonNull Throwable failure) {
+
+		Assert.notNull(failure, "Failure must not be null");
+
+		return new QueryExecution(query, currentOrigin(), duration, 0, null, failure);
+	}
+
+	private final Duration duration;
+
+	private final int resultSize;
+
+	private final List<String> indexesUsed;
+
+	private final String origin;
+	private final String query;
+
+	private final Throwable failure;
+
+	/**
+	 * Constructs a new instance of {@link QueryExecution}.
+	 *
+	 * @param query {@link String} containing the executed OQL query; must not be {@literal null}.
+	 * @param origin {@link String} describing the origin of the OQL query; may be {@literal null}.
+	 * @param duration {@link Duration} of the query execution; must not be {@literal null}.
+	 * @param resultSize number of results returned by the query.
+	 * @param indexesUsed {@link List} of names of the indexes used to evaluate the query.
+	 * @throws IllegalArgumentException if the query or duration are {@literal null}.
+	 */
+	public QueryExecution(@NonNull String query, @Nullable String origin, @NonNull Duration duration, int resultSize,
+			@Nullable List<String> indexesUsed) {
+
+		this(query, origin, duration, resultSize, indexesUsed, null);
+	}
+
+	/**
+	 * Constructs a new instance of {@link QueryExecution}.
+	 *
+	 * @param query {@link String} containing the executed OQL query; must not be {@literal null}.
+	 * @param origin {@link String} describing the origin of the OQL query; may be {@literal null}.
+	 * @param duration {@link Duration} of the query execution; must not be {@literal null}.
+	 * @param resultSize number of results returned by the query.
+	 * @param indexesUsed {@link List} of names of the indexes used to evaluate the query.
+	 * @param failure {@link Throwable} thrown by the query execution; {@literal null} if the query succeeded.
+	 * @throws IllegalArgumentException if the query or duration are {@literal null}.
+	 */
+	public QueryExecution(@NonNull String query, @Nullable String origin, @NonNull Duration duration, int resultSize,
+			@Nullable List<String> indexesUsed, @Nullable Throwable failure) {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(duration, "Duration must not be null");
+
+		this.query = query;
+		this.origin = origin;
+		this.duration = duration;
+		this.resultSize = resultSize;
+		this.indexesUsed = indexesUsed != null ? Collections.unmodifiableList(indexesUsed) : Collections.emptyList();
+		this.failure = failure;
+	}
+
+	/**
+	 * Determines whether the query failed.
+	 *
+	 * @return a boolean value indicating whether the query failed.
+	 * @see #getFailure()
+	 */
+	public boolean isFailed() {
+		return getFailure() != null;
+	}
+
+	/**
+	 * Returns the {@link Duration} of the query execution.
+	 *
+	 * @return the {@link Duration} of the query execution.
+	 */
+	public @NonNull Duration getDuration() {
+		return this.duration;
+	}
+
+	/**
+	 * Returns the {@link Throwable} thrown by the query execution.
+	 *
+	 * @return the {@link Throwable} thrown by the query execution or {@literal null} if the query succeeded.
+	 * @see #isFailed()
+	 */
+	public @Nullable Throwable getFailure() {
+		return this.failure;
+	}
+
+	/**
+	 * Returns the names of the indexes used to evaluate the query.
+	 *
+	 * Index usage is only determined, on a best-effort basis, for {@literal <TRACE>} OQL queries executed
+	 * on a peer cache. The indexes are determined from the increase in the total uses of each index on the member
+	 * during the query execution. Therefore, the indexes may include indexes used by other queries executed
+	 * concurrently on the member and exclude indexes used by the query on other members.
+	 *
+	 * @return the names of the indexes used to evaluate the query; never {@literal null}.
+	 */
+	public @NonNull List<String> getIndexesUsed() {
+		return this.indexesUsed;
+	}
+
+	/**
+	 * Returns the origin of the query, such as the {@literal Repository} query method.
+	 *
+	 * @return the origin of the query or {@literal null} if the origin is unknown.
+	 */
+	public @Nullable String getOrigin() {
+		return this.origin;
+	}
+
+	/**
+	 * Returns the executed OQL query.
+	 *
+	 * @return the executed OQL query.
+	 */
+	public @NonNull String getQuery() {
+		return this.query;
+	}
+
+	/**
+	 * Returns the number of results returned by the query.
+	 *
+	 * @return the number of results returned by the query.
+	 */
+	public int getResultSize() {
+		return this.resultSize;
+	}
+
+	@Override
+	public String toString() {
+
+		String queryExecution = String.format("query = %1$s, origin = %2$s, duration = %3$d ms, resultSize = %4$d,"
+			+ " indexesUsed = %5$s", getQuery(), getOrigin(), getDuration().toMillis(), getResultSize(), getIndexesUsed());
+
+		return isFailed() ? String.format("{ %1$s, failure = %2$s }", queryExecution, getFailure())
+			: String.format("{ %s }", queryExecution);
+	}
+}
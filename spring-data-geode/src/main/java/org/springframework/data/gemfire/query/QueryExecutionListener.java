@@ -0,0 +1,41 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.query;
+
+import org.springframework.lang.NonNull;
+
+/**
+ * Listener notified of each OQL query executed by the {@link org.springframework.data.gemfire.GemfireTemplate}.
+ *
+ * Listeners are invoked on the {@link Thread} executing the query and should therefore return quickly.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.query.QueryExecution
+ * @see org.springframework.data.gemfire.query.SlowQueryLogger
+ * @since 3.0.0
+ */
+@FunctionalInterface
+public interface QueryExecutionListener {
+
+	/**
+	 * Notifies this listener of an OQL query execution.
+	 *
+	 * @param queryExecution {@link QueryExecution} recording the OQL query execution.
+	 * @see org.springframework.data.gemfire.query.QueryExecution
+	 */
+	void onQueryExecution(@NonNull QueryExecution queryExecution);
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.query;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.lang.NonNull;
+
+/**
+ * Spring {@link ApplicationEvent} published by the {@link SlowQueryLogger} when an OQL query execution
+ * exceeds the slow query threshold.
+ *
+ * @author agent
+ * @see org.springframework.context.ApplicationEvent
+ * @see org.springframework.data.gemfire.query.QueryExecution
+ * @see org.springframework.data.gemfire.query.SlowQueryLogger
+ * @since 3.0.0
+ */
+@SuppressWarnings("serial")
+public class SlowQueryApplicationEvent extends ApplicationEvent {
+
+	private final QueryExecution queryExecution;
+
+	/**
+	 * Constructs a new instance of {@link SlowQueryApplicationEvent} initialized with the given event source
+	 * and the slow {@link QueryExecution}.
+	 *
+	 * @param source the source of the {@link ApplicationEvent}.
+	 * @param queryExecution the slow {@link QueryExecution}.
+	 */
+	public SlowQueryApplicationEvent(@NonNull Object source, @NonNull QueryExecution queryExecution) {
+		super(source);
+		this.queryExecution = queryExecution;
+	}
+
+	/**
+	 * Returns the slow {@link QueryExecution}.
+	 *
+	 * @return the slow {@link QueryExecution}.
+	 */
+	public @NonNull QueryExecution getQueryExecution() {
+		return this.queryExecution;
+	}
+}
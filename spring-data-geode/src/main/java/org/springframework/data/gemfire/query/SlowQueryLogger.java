@@ -0,0 +1,119 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.query;
+
+import java.time.Duration;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link QueryExecutionListener} logging OQL queries that take longer than a configurable threshold to execute
+ * and publishing a {@link SlowQueryApplicationEvent} when declared as a bean in the Spring application context.
+ *
+ * The log entry includes the originating {@literal Repository} query method, the number of results and the indexes
+ * used to evaluate the query, which helps identify missing indexes without inspecting the server logs.
+ *
+ * @author agent
+ * @see org.springframework.context.ApplicationEventPublisherAware
+ * @see org.springframework.data.gemfire.query.QueryExecutionListener
+ * @see org.springframework.data.gemfire.query.SlowQueryApplicationEvent
+ * @since 3.0.0
+ */
+public class SlowQueryLogger implements ApplicationEventPublisherAware, QueryExecutionListener {
+
+	public static final Duration DEFAULT_THRESHOLD =
+		Duration.ofMillis(Long.getLong("spring.data.gemfire.query.slow-query.threshold", 1000L));
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private ApplicationEventPublisher applicationEventPublisher;
+
+	private Duration threshold = DEFAULT_THRESHOLD;
+
+	/**
+	 * Configures the {@link ApplicationEventPublisher} used to publish {@link SlowQueryApplicationEvent}.
+	 *
+	 * @param applicationEventPublisher {@link ApplicationEventPublisher} used to publish slow query events.
+	 * @see org.springframework.context.ApplicationEventPublisher
+	 */
+	@Override
+	public void setApplicationEventPublisher(@Nullable ApplicationEventPublisher applicationEventPublisher) {
+		this.applicationEventPublisher = applicationEventPublisher;
+	}
+
+	/**
+	 * Returns the {@link Logger} used to log slow OQL queries.
+	 *
+	 * @return the {@link Logger} used to log slow OQL queries.
+	 */
+	protected @NonNull Logger getLogger() {
+		return this.logger;
+	}
+
+	/**
+	 * Configures the {@link Duration} after which an OQL query execution is considered slow.
+	 *
+	 * @param threshold {@link Duration} after which an OQL query execution is considered slow;
+	 * must not be {@literal null} or negative.
+	 * @throws IllegalArgumentException if the threshold is {@literal null} or negative.
+	 */
+	public void setThreshold(@NonNull Duration threshold) {
+
+		Assert.isTrue(threshold != null && !threshold.isNegative(),
+			() -> String.format("Threshold [%s] must not be null or negative", threshold));
+
+		this.threshold = threshold;
+	}
+
+	/**
+	 * Returns the {@link Duration} after which an OQL query execution is considered slow.
+	 *
+	 * @return the {@link Duration} after which an OQL query execution is considered slow.
+	 */
+	public @NonNull Duration getThreshold() {
+		return this.threshold;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public void onQueryExecution(@NonNull QueryExecution queryExecution) {
+
+		if (queryExecution.getDuration().compareTo(getThreshold()) >= 0) {
+
+			Logger logger = getLogger();
+
+			if (logger.isWarnEnabled()) {
+				logger.warn("Slow OQL query took [{} ms] (threshold [{} ms]); {}",
+					queryExecution.getDuration().toMillis(), getThreshold().toMillis(), queryExecution);
+			}
+
+			ApplicationEventPublisher applicationEventPublisher = this.applicationEventPublisher;
+
+			if (applicationEventPublisher != null) {
+				applicationEventPublisher.publishEvent(new SlowQueryApplicationEvent(this, queryExecution));
+			}
+		}
+	}
+}
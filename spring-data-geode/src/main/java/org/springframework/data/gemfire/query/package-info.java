@@ -0,0 +1,4 @@
+/**
+ * Package for monitoring GemFire OQL query executions, such as the slow query log.
+ */
+package org.springframework.data.gemfire.query;
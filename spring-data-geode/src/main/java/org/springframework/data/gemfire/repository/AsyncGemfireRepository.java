@@ -0,0 +1,88 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Asynchronous variant of the {@link GemfireRepository} interface returning {@link CompletableFuture}.
+ *
+ * An {@link AsyncGemfireRepository} is backed by a {@link GemfireRepository} along with
+ * a {@link java.util.concurrent.Executor} on which all data access operations and queries are executed.
+ * Query methods declared on the backing {@link GemfireRepository} are executed asynchronously
+ * with {@link #query(Supplier)}.
+ *
+ * @author agent
+ * @param <T> {@link Class type} of the entity.
+ * @param <ID> {@link Class type} of the entity identifier.
+ * @see java.util.concurrent.CompletableFuture
+ * @see org.springframework.data.gemfire.repository.GemfireRepository
+ * @since 3.0.0
+ */
+public interface AsyncGemfireRepository<T, ID> {
+
+	<S extends T> CompletableFuture<S> save(S entity);
+
+	<S extends T> CompletableFuture<List<S>> saveAll(Iterable<S> entities);
+
+	CompletableFuture<Optional<T>> findById(ID id);
+
+	CompletableFuture<Boolean> existsById(ID id);
+
+	CompletableFuture<List<T>> findAll();
+
+	CompletableFuture<List<T>> findAll(Sort sort);
+
+	CompletableFuture<Page<T>> findAll(Pageable pageable);
+
+	CompletableFuture<List<T>> findAllById(Iterable<ID> ids);
+
+	CompletableFuture<Long> count();
+
+	CompletableFuture<Void> deleteById(ID id);
+
+	CompletableFuture<Void> delete(T entity);
+
+	CompletableFuture<Void> deleteAllById(Iterable<? extends ID> ids);
+
+	CompletableFuture<Void> deleteAll(Iterable<? extends T> entities);
+
+	CompletableFuture<Void> deleteAll();
+
+	/**
+	 * Asynchronously executes the given {@link Supplier query}, for example, a derived or {@link Query} annotated
+	 * query method declared on the backing {@link GemfireRepository}.
+	 *
+	 * <pre>
+	 * <code>
+	 * CompletableFuture&lt;List&lt;Person&gt;&gt; people = asyncRepository.query(() -&gt; personRepository.findByLastname("Doe"));
+	 * </code>
+	 * </pre>
+	 *
+	 * @param <R> {@link Class type} of the query result.
+	 * @param query {@link Supplier} invoking a query method.
+	 * @return a {@link CompletableFuture} completed with the query result.
+	 */
+	<R> CompletableFuture<R> query(Supplier<R> query);
+
+}
@@ -15,8 +15,19 @@
  */
 package org.springframework.data.gemfire.repository;
 
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.gemfire.repository.query.KeysetSlice;
+import org.springframework.data.gemfire.repository.query.support.ChunkedValuesIterator;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 /**
  * Apache Geode extension of the Spring Data {@link PagingAndSortingRepository} interface.
@@ -36,4 +47,151 @@ public interface GemfireRepository<T, ID> extends CrudRepository<T, ID>, PagingA
 	 */
 	T save(Wrapper<T, ID> wrapper);
 
+	/**
+	 * Returns a {@link Slice} of entities using {@literal keyset} (or {@literal seek}) paging.
+	 *
+	 * Use {@link Slice#nextPageable()} to request the next {@link Slice}.
+	 *
+	 * The default implementation falls back to offset paging using {@link #findAll(Pageable)}.
+	 *
+	 * @param pageRequest {@link KeysetPageRequest} containing the details of the requested page.
+	 * @return a {@link Slice} of entities.
+	 * @see org.springframework.data.gemfire.repository.KeysetPageRequest
+	 * @see org.springframework.data.domain.Slice
+	 * @see #findAll(Pageable)
+	 */
+	default Slice<T> findAll(KeysetPageRequest pageRequest) {
+
+		Page<T> page = findAll((Pageable) pageRequest);
+
+		return new KeysetSlice<>(page.getContent(), pageRequest, page.hasNext());
+	}
+
+	/**
+	 * Returns a lazy {@link Stream} of all entities, fetching the entities incrementally in chunks
+	 * of the default size.
+	 *
+	 * @return a lazy {@link Stream} of all entities.
+	 * @see #findAllAsStream(int)
+	 * @see java.util.stream.Stream
+	 */
+	default Stream<T> findAllAsStream() {
+		return findAllAsStream(ChunkedValuesIterator.DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Returns a lazy {@link Stream} of all entities, fetching the entities incrementally in chunks of the given size.
+	 *
+	 * Only the keys along with a single chunk of entities are held in memory at any given time, rather than
+	 * all entities. The default implementation streams the entities returned by {@link #findAll()}.
+	 *
+	 * @param chunkSize {@link Integer} containing the maximum number of entities fetched per chunk;
+	 * must be greater than {@literal 0}.
+	 * @return a lazy {@link Stream} of all entities.
+	 * @throws IllegalArgumentException if the chunk size is less than {@literal 1}.
+	 * @see java.util.stream.Stream
+	 * @see #findAll()
+	 */
+	default Stream<T> findAllAsStream(int chunkSize) {
+
+		Assert.isTrue(chunkSize > 0, () -> String.format("Chunk size [%d] must be greater than 0", chunkSize));
+
+		return StreamSupport.stream(findAll().spliterator(), false);
+	}
+
+	/**
+	 * Counts the number of entities matching the given OQL query predicate.
+	 *
+	 * The count is computed by the OQL {@literal COUNT} aggregate function on the server(s) so that only
+	 * the count is returned. The predicate is the {@literal WHERE} clause of an OQL query on the {@literal Region}
+	 * of the entity, which is aliased as {@literal x}; for example: {@literal x.age >= $1}.
+	 *
+	 * The default implementation only supports counting all entities using {@link #count()}.
+	 *
+	 * @param predicate {@link String} containing the OQL query predicate; may be {@literal null},
+	 * in which case all entities are counted.
+	 * @param arguments array of {@link Object} values bound to the OQL query parameters (such as $1).
+	 * @return the number of entities matching the given OQL query predicate.
+	 * @throws UnsupportedOperationException by default if the OQL query predicate is not {@literal null}.
+	 * @see #count()
+	 */
+	default long count(@Nullable String predicate, Object... arguments) {
+
+		if (StringUtils.hasText(predicate)) {
+			throw new UnsupportedOperationException(String.format(
+				"OQL COUNT aggregate queries are not supported by [%s]", getClass().getName()));
+		}
+
+		return count();
+	}
+
+	/**
+	 * Computes the average value of the given property of the entities matching the given OQL query predicate
+	 * using the OQL {@literal AVG} aggregate function.
+	 *
+	 * @param property {@link String} containing the name (or path) of the numeric property to average.
+	 * @param predicate {@link String} containing the OQL query predicate; may be {@literal null}.
+	 * @param arguments array of {@link Object} values bound to the OQL query parameters (such as $1).
+	 * @return the average value, or {@literal null} if no entity matched the OQL query predicate.
+	 * @throws UnsupportedOperationException by default.
+	 * @see #count(String, Object...)
+	 */
+	default @Nullable Number avg(String property, @Nullable String predicate, Object... arguments) {
+		throw new UnsupportedOperationException(String.format("OQL AVG aggregate queries are not supported by [%s]",
+			getClass().getName()));
+	}
+
+	/**
+	 * Computes the maximum value of the given property of the entities matching the given OQL query predicate
+	 * using the OQL {@literal MAX} aggregate function.
+	 *
+	 * @param <R> {@link Class type} of the property.
+	 * @param property {@link String} containing the name (or path) of the {@link Comparable} property.
+	 * @param predicate {@link String} containing the OQL query predicate; may be {@literal null}.
+	 * @param arguments array of {@link Object} values bound to the OQL query parameters (such as $1).
+	 * @return the maximum value, or {@literal null} if no entity matched the OQL query predicate.
+	 * @throws UnsupportedOperationException by default.
+	 * @see #count(String, Object...)
+	 */
+	default @Nullable <R extends Comparable<?>> R max(String property, @Nullable String predicate,
+			Object... arguments) {
+
+		throw new UnsupportedOperationException(String.format("OQL MAX aggregate queries are not supported by [%s]",
+			getClass().getName()));
+	}
+
+	/**
+	 * Computes the minimum value of the given property of the entities matching the given OQL query predicate
+	 * using the OQL {@literal MIN} aggregate function.
+	 *
+	 * @param <R> {@link Class type} of the property.
+	 * @param property {@link String} containing the name (or path) of the {@link Comparable} property.
+	 * @param predicate {@link String} containing the OQL query predicate; may be {@literal null}.
+	 * @param arguments array of {@link Object} values bound to the OQL query parameters (such as $1).
+	 * @return the minimum value, or {@literal null} if no entity matched the OQL query predicate.
+	 * @throws UnsupportedOperationException by default.
+	 * @see #count(String, Object...)
+	 */
+	default @Nullable <R extends Comparable<?>> R min(String property, @Nullable String predicate,
+			Object... arguments) {
+
+		throw new UnsupportedOperationException(String.format("OQL MIN aggregate queries are not supported by [%s]",
+			getClass().getName()));
+	}
+
+	/**
+	 * Computes the sum of the given property of the entities matching the given OQL query predicate
+	 * using the OQL {@literal SUM} aggregate function.
+	 *
+	 * @param property {@link String} containing the name (or path) of the numeric property to sum.
+	 * @param predicate {@link String} containing the OQL query predicate; may be {@literal null}.
+	 * @param arguments array of {@link Object} values bound to the OQL query parameters (such as $1).
+	 * @return the sum, or {@literal null} if no entity matched the OQL query predicate.
+	 * @throws UnsupportedOperationException by default.
+	 * @see #count(String, Object...)
+	 */
+	default @Nullable Number sum(String property, @Nullable String predicate, Object... arguments) {
+		throw new UnsupportedOperationException(String.format("OQL SUM aggregate queries are not supported by [%s]",
+			getClass().getName()));
+	}
 }
@@ -0,0 +1,297 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * {@link Pageable} implementation used to request a {@literal keyset} (or {@literal seek}) paged result set.
+ *
+ * Rather than skipping over the results of all previous pages, a {@link KeysetPageRequest} carries the values of
+ * the {@link Sort sorted} properties from the last result of the previous page (the {@literal keyset}). The OQL query
+ * is then rewritten with a predicate on the {@link Sort sorted} properties, seeking directly past the last result
+ * of the previous page, along with a {@literal LIMIT} on the page size. Therefore, every page costs the same
+ * regardless of the depth of the page.
+ *
+ * Keyset paging is forward-only. The next page is requested using {@link Slice#nextPageable()} or
+ * {@link #after(Object)} given the last result of the current page. The {@link Sort} must uniquely order
+ * the results by including the identifier, typically as the last {@link Sort.Order}.
+ *
+ * @author agent
+ * @see org.springframework.data.domain.Pageable
+ * @see org.springframework.data.domain.Slice
+ * @see org.springframework.data.domain.Sort
+ * @since 3.0.0
+ */
+public class KeysetPageRequest implements Pageable {
+
+	/**
+	 * Factory method used to construct a new instance of {@link KeysetPageRequest} requesting the first page
+	 * of the given size, ordered by the given {@link Sort}.
+	 *
+	 * @param size number of results per page; must be greater than {@literal 0}.
+	 * @param sort {@link Sort} ordering the results; must be {@link Sort#isSorted() sorted}.
+	 * @return a new {@link KeysetPageRequest} for the first page.
+	 * @throws IllegalArgumentException if {@code size} is less than {@literal 1}
+	 * or {@link Sort} is {@literal null} or {@link Sort#isUnsorted() unsorted}.
+	 */
+	public static @NonNull KeysetPageRequest of(int size, @NonNull Sort sort) {
+		return new KeysetPageRequest(0, size, sort, Collections.emptyMap());
+	}
+
+	private final int pageNumber;
+	private final int pageSize;
+
+	private final Map<String, Object> keyset;
+
+	private final Sort sort;
+
+	/**
+	 * Constructs a new instance of {@link KeysetPageRequest} initialized with the given page number, page size,
+	 * {@link Sort} and {@literal keyset}.
+	 *
+	 * @param pageNumber {@link Integer} containing the zero-based page number.
+	 * @param pageSize {@link Integer} containing the number of results per page.
+	 * @param sort {@link Sort} ordering the results.
+	 * @param keyset {@link Map} of {@link Sort sorted} property names to the values from the last result
+	 * of the previous page.
+	 * @throws IllegalArgumentException if the arguments are not valid.
+	 */
+	protected KeysetPageRequest(int pageNumber, int pageSize, @NonNull Sort sort, @NonNull Map<String, ?> keyset) {
+
+		Assert.isTrue(pageNumber >= 0, () -> String.format("Page Number [%d] must be greater than equal to 0",
+			pageNumber));
+
+		Assert.isTrue(pageSize > 0, () -> String.format("Page Size [%d] must be greater than equal to 1",
+			pageSize));
+
+		Assert.notNull(sort, "Sort must not be null");
+		Assert.isTrue(sort.isSorted(), "Sort is required for keyset paging");
+		Assert.notNull(keyset, "Keyset must not be null");
+
+		for (Sort.Order order : sort) {
+			Assert.isTrue(keyset.isEmpty() || keyset.get(order.getProperty()) != null,
+				() -> String.format("Keyset value for sorted property [%s] must not be null", order.getProperty()));
+		}
+
+		this.pageNumber = pageNumber;
+		this.pageSize = pageSize;
+		this.sort = sort;
+		this.keyset = Collections.unmodifiableMap(new LinkedHashMap<>(keyset));
+	}
+
+	/**
+	 * Determines whether this {@link KeysetPageRequest} contains the {@literal keyset} of the previous page.
+	 *
+	 * The first page has no {@literal keyset}.
+	 *
+	 * @return a boolean value indicating whether this {@link KeysetPageRequest} has a {@literal keyset}.
+	 * @see #getKeyset()
+	 */
+	public boolean hasKeyset() {
+		return !getKeyset().isEmpty();
+	}
+
+	/**
+	 * Returns the {@literal keyset} containing the values of the {@link Sort sorted} properties from the last result
+	 * of the previous page.
+	 *
+	 * @return an unmodifiable {@link Map} of {@link Sort sorted} property names to values;
+	 * empty for the first page.
+	 */
+	public @NonNull Map<String, Object> getKeyset() {
+		return this.keyset;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public int getPageNumber() {
+		return this.pageNumber;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public int getPageSize() {
+		return this.pageSize;
+	}
+
+	/**
+	 * Returns the offset of the first result on this page.
+	 *
+	 * The offset is informational only; keyset paging never skips over the results of previous pages.
+	 *
+	 * @return the offset of the first result on this page.
+	 */
+	@Override
+	public long getOffset() {
+		return (long) getPageNumber() * getPageSize();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public @NonNull Sort getSort() {
+		return this.sort;
+	}
+
+	/**
+	 * Constructs a {@link KeysetPageRequest} for the page following the page ending with the given result.
+	 *
+	 * @param lastResult {@link Object} containing the last result of the current page; must not be {@literal null}.
+	 * @return a new {@link KeysetPageRequest} for the next page.
+	 * @throws IllegalArgumentException if the last result is {@literal null} or the value of any
+	 * {@link Sort sorted} property is {@literal null}.
+	 */
+	public @NonNull KeysetPageRequest after(@NonNull Object lastResult) {
+
+		Assert.notNull(lastResult, "The last result must not be null");
+
+		DirectFieldAccessFallbackBeanWrapper beanWrapper = new DirectFieldAccessFallbackBeanWrapper(lastResult);
+
+		Map<String, Object> keyset = new LinkedHashMap<>();
+
+		for (Sort.Order order : getSort()) {
+			keyset.put(order.getProperty(), beanWrapper.getPropertyValue(order.getProperty()));
+		}
+
+		return withKeyset(keyset);
+	}
+
+	/**
+	 * Constructs a {@link KeysetPageRequest} for the page following the page ending with the given {@literal keyset}.
+	 *
+	 * @param keyset {@link Map} of {@link Sort sorted} property names to the values from the last result
+	 * of the current page; must not be {@literal null}.
+	 * @return a new {@link KeysetPageRequest} for the next page.
+	 * @throws IllegalArgumentException if the value of any {@link Sort sorted} property is {@literal null}.
+	 */
+	public @NonNull KeysetPageRequest withKeyset(@NonNull Map<String, ?> keyset) {
+
+		Assert.notEmpty(keyset, "Keyset must not be null or empty");
+
+		return new KeysetPageRequest(getPageNumber() + 1, getPageSize(), getSort(), keyset);
+	}
+
+	/**
+	 * Keyset paging requires the last result of the current page to determine the next page.
+	 *
+	 * @throws UnsupportedOperationException always.
+	 * @see #after(Object)
+	 * @see Slice#nextPageable()
+	 */
+	@Override
+	public @NonNull Pageable next() {
+		throw new UnsupportedOperationException("Keyset paging requires the last result of the current page;"
+			+ " use KeysetPageRequest.after(lastResult) or Slice.nextPageable()");
+	}
+
+	/**
+	 * Keyset paging is forward-only; always returns the {@link #first() first page}.
+	 *
+	 * @return the {@link #first() first page}.
+	 */
+	@Override
+	public @NonNull Pageable previousOrFirst() {
+		return first();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public @NonNull KeysetPageRequest first() {
+		return of(getPageSize(), getSort());
+	}
+
+	/**
+	 * Keyset paging only supports random access to the {@link #first() first page}.
+	 *
+	 * @param pageNumber {@link Integer} containing the page number.
+	 * @return the {@link #first() first page}.
+	 * @throws UnsupportedOperationException if the page number is not {@literal 0}.
+	 */
+	@Override
+	public @NonNull Pageable withPage(int pageNumber) {
+
+		if (pageNumber == 0) {
+			return first();
+		}
+
+		throw new UnsupportedOperationException(String.format("Keyset paging cannot seek to page [%d]", pageNumber));
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public boolean hasPrevious() {
+		return getPageNumber() > 0;
+	}
+
+	@Override
+	public boolean equals(@Nullable Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof KeysetPageRequest)) {
+			return false;
+		}
+
+		KeysetPageRequest that = (KeysetPageRequest) obj;
+
+		return this.getPageNumber() == that.getPageNumber()
+			&& this.getPageSize() == that.getPageSize()
+			&& this.getSort().equals(that.getSort())
+			&& this.getKeyset().equals(that.getKeyset());
+	}
+
+	@Override
+	public int hashCode() {
+
+		int hashValue = 17;
+
+		hashValue = 37 * hashValue + ObjectUtils.nullSafeHashCode(getPageNumber());
+		hashValue = 37 * hashValue + ObjectUtils.nullSafeHashCode(getPageSize());
+		hashValue = 37 * hashValue + ObjectUtils.nullSafeHashCode(getSort());
+		hashValue = 37 * hashValue + ObjectUtils.nullSafeHashCode(getKeyset());
+
+		return hashValue;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("{ pageNumber: %1$d, pageSize: %2$d, sort: %3$s, keyset: %4$s }",
+			getPageNumber(), getPageSize(), getSort(), getKeyset());
+	}
+}
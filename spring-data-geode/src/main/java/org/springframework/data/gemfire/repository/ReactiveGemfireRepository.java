@@ -0,0 +1,99 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository;
+
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * Reactive variant of the {@link GemfireRepository} interface returning
+ * {@link java.util.concurrent.Flow Java Flow} {@link Flow.Publisher Publishers}.
+ *
+ * A {@link ReactiveGemfireRepository} is backed by a {@link GemfireRepository} along with
+ * a {@link java.util.concurrent.Executor} on which all data access operations and queries are executed
+ * once subscribed. Multi-valued operations publish entities in accordance with the demand of
+ * the {@link Flow.Subscriber} and fetch entities incrementally, in windows, where possible. Query methods
+ * declared on the backing {@link GemfireRepository} are executed reactively with {@link #query(Supplier)}.
+ *
+ * @author agent
+ * @param <T> {@link Class type} of the entity.
+ * @param <ID> {@link Class type} of the entity identifier.
+ * @see java.util.concurrent.Flow
+ * @see org.springframework.data.gemfire.repository.GemfireRepository
+ * @since 3.0.0
+ */
+public interface ReactiveGemfireRepository<T, ID> {
+
+	<S extends T> Flow.Publisher<S> save(S entity);
+
+	<S extends T> Flow.Publisher<S> saveAll(Iterable<S> entities);
+
+	Flow.Publisher<T> findById(ID id);
+
+	Flow.Publisher<Boolean> existsById(ID id);
+
+	/**
+	 * Publishes all entities, fetching the entities incrementally, as demanded, in windows.
+	 *
+	 * @return a {@link Flow.Publisher} publishing all entities.
+	 * @see org.springframework.data.gemfire.repository.GemfireRepository#findAllAsStream(int)
+	 */
+	Flow.Publisher<T> findAll();
+
+	Flow.Publisher<T> findAll(Sort sort);
+
+	/**
+	 * Publishes the entities with the given identifiers, fetching the entities incrementally, as demanded, in windows.
+	 *
+	 * @param ids {@link Iterable} of entity identifiers.
+	 * @return a {@link Flow.Publisher} publishing the entities with the given identifiers.
+	 */
+	Flow.Publisher<T> findAllById(Iterable<ID> ids);
+
+	Flow.Publisher<Long> count();
+
+	Flow.Publisher<Void> deleteById(ID id);
+
+	Flow.Publisher<Void> delete(T entity);
+
+	Flow.Publisher<Void> deleteAllById(Iterable<? extends ID> ids);
+
+	Flow.Publisher<Void> deleteAll(Iterable<? extends T> entities);
+
+	Flow.Publisher<Void> deleteAll();
+
+	/**
+	 * Reactively executes the given {@link Supplier query}, for example, a derived or {@link Query} annotated
+	 * query method returning a {@link Stream} declared on the backing {@link GemfireRepository}.
+	 *
+	 * The {@link Stream} is consumed as demanded and closed on completion, error or cancellation.
+	 *
+	 * <pre>
+	 * <code>
+	 * Flow.Publisher&lt;Person&gt; people = reactiveRepository.query(() -&gt; personRepository.streamByLastname("Doe"));
+	 * </code>
+	 * </pre>
+	 *
+	 * @param <R> {@link Class type} of the query results.
+	 * @param query {@link Supplier} invoking a query method returning a {@link Stream}.
+	 * @return a {@link Flow.Publisher} publishing the query results.
+	 */
+	<R> Flow.Publisher<R> query(Supplier<? extends Stream<R>> query);
+
+}
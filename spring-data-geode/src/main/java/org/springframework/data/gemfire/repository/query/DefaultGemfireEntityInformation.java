@@ -48,6 +48,16 @@ public class DefaultGemfireEntityInformation<T, ID> extends PersistentEntityInfo
 		this.entity = entity;
 	}
 
+	/**
+	 * Returns the {@link GemfirePersistentEntity} described by this {@link GemfireEntityInformation}.
+	 *
+	 * @return the {@link GemfirePersistentEntity} described by this {@link GemfireEntityInformation}.
+	 * @see org.springframework.data.gemfire.mapping.GemfirePersistentEntity
+	 */
+	public @NonNull GemfirePersistentEntity<T> getPersistentEntity() {
+		return this.entity;
+	}
+
 	/**
 	 * @inheritDoc
 	 */
@@ -21,8 +21,10 @@ import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
 import org.springframework.data.gemfire.repository.Query;
+import org.springframework.data.gemfire.repository.query.annotation.CachedQuery;
 import org.springframework.data.gemfire.repository.query.annotation.Hint;
 import org.springframework.data.gemfire.repository.query.annotation.Import;
+import org.springframework.data.gemfire.repository.query.annotation.LazyEntities;
 import org.springframework.data.gemfire.repository.query.annotation.Limit;
 import org.springframework.data.gemfire.repository.query.annotation.Trace;
 import org.springframework.data.mapping.context.MappingContext;
@@ -167,6 +169,60 @@ public class GemfireQueryMethod extends QueryMethod {
 		return StringUtils.hasText(queryString) ? queryString : null;
 	}
 
+	/**
+	 * Determines whether the results of this query method are cached on the client.
+	 *
+	 * @return a boolean value indicating whether the results of this query method are cached.
+	 * @see org.springframework.data.gemfire.repository.query.annotation.CachedQuery
+	 * @see java.lang.reflect.Method#isAnnotationPresent(Class)
+	 */
+	public boolean hasCachedQuery() {
+		return getMethod().isAnnotationPresent(CachedQuery.class);
+	}
+
+	/**
+	 * Gets the maximum number of cached results for this query method.
+	 *
+	 * @return the maximum number of cached results for this query method or {@literal 0}
+	 * if the results of this query method are not cached.
+	 * @see org.springframework.data.gemfire.repository.query.annotation.CachedQuery#maximumSize()
+	 * @see java.lang.reflect.Method#getAnnotation(Class)
+	 */
+	public int getCachedQueryMaximumSize() {
+
+		CachedQuery cachedQuery = getMethod().getAnnotation(CachedQuery.class);
+
+		return cachedQuery != null ? cachedQuery.maximumSize() : 0;
+	}
+
+	/**
+	 * Gets the time in milliseconds after which the cached results of this query method expire.
+	 *
+	 * @return the time in milliseconds after which the cached results of this query method expire or {@literal 0}
+	 * if the cached results only expire when invalidated.
+	 * @see org.springframework.data.gemfire.repository.query.annotation.CachedQuery#timeToLive()
+	 * @see java.lang.reflect.Method#getAnnotation(Class)
+	 */
+	public long getCachedQueryTimeToLive() {
+
+		CachedQuery cachedQuery = getMethod().getAnnotation(CachedQuery.class);
+
+		return cachedQuery != null ? Math.max(cachedQuery.timeToLive(), 0L) : 0L;
+	}
+
+	/**
+	 * Determines whether the entities returned by this query method are lazily materialized
+	 * from {@link org.apache.geode.pdx.PdxInstance PdxInstances}.
+	 *
+	 * @return a boolean value indicating whether the entities returned by this query method
+	 * are lazily materialized.
+	 * @see org.springframework.data.gemfire.repository.query.annotation.LazyEntities
+	 * @see java.lang.reflect.Method#isAnnotationPresent(Class)
+	 */
+	public boolean hasLazyEntities() {
+		return getMethod().isAnnotationPresent(LazyEntities.class);
+	}
+
 	/**
 	 * Determines whether this query method uses a query HINT to tell the GemFire OQL query engine which indexes
 	 * to apply to the query execution.
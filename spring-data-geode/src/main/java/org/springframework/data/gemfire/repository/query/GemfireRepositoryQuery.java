@@ -15,6 +15,12 @@
  */
 package org.springframework.data.gemfire.repository.query;
 
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.data.gemfire.query.QueryExecution;
+import org.springframework.data.gemfire.repository.query.support.QueryResultCache;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
@@ -44,6 +50,8 @@ public abstract class GemfireRepositoryQuery implements RepositoryQuery {
 
 	private QueryPostProcessor<Repository, String> queryPostProcessor = ProvidedQueryPostProcessor.IDENTITY;
 
+	private volatile QueryResultCache queryResultCache;
+
 	/**
 	 * Constructor used for testing purposes only!
 	 */
@@ -110,6 +118,69 @@ public abstract class GemfireRepositoryQuery implements RepositoryQuery {
 		return this.queryPostProcessor;
 	}
 
+	/**
+	 * Returns an {@link Optional} reference to the {@link QueryResultCache} used to cache the results
+	 * of this {@link RepositoryQuery}.
+	 *
+	 * @return an {@link Optional} reference to the configured {@link QueryResultCache}.
+	 * @see org.springframework.data.gemfire.repository.query.support.QueryResultCache
+	 */
+	public Optional<QueryResultCache> getQueryResultCache() {
+		return Optional.ofNullable(this.queryResultCache);
+	}
+
+	/**
+	 * Configures the {@link QueryResultCache} used to cache the results of this {@link RepositoryQuery}.
+	 *
+	 * @param queryResultCache {@link QueryResultCache} used to cache query results;
+	 * may be {@literal null} to disable caching.
+	 * @return this {@link GemfireRepositoryQuery}.
+	 * @see org.springframework.data.gemfire.repository.query.support.QueryResultCache
+	 */
+	public GemfireRepositoryQuery usingQueryResultCache(@Nullable QueryResultCache queryResultCache) {
+		this.queryResultCache = queryResultCache;
+		return this;
+	}
+
+	/**
+	 * Executes this {@link RepositoryQuery} with the given arguments using the given {@link Function},
+	 * serving the query result from the {@link QueryResultCache} when configured.
+	 *
+	 * OQL queries executed by the {@link Function} are attributed to the {@link QueryMethod} of this
+	 * {@link RepositoryQuery} in the recorded {@link QueryExecution QueryExecutions}.
+	 *
+	 * @param arguments array of {@link Object arguments} passed to the {@link QueryMethod}.
+	 * @param queryExecution {@link Function} executing the query.
+	 * @return the query result.
+	 * @see #getQueryResultCache()
+	 */
+	protected @Nullable Object execute(@Nullable Object[] arguments, @NonNull Function<Object[], Object> queryExecution) {
+
+		QueryResultCache queryResultCache = this.queryResultCache;
+
+		return QueryExecution.withOrigin(resolveOrigin(), () -> queryResultCache != null
+			? queryResultCache.get(arguments, queryExecution)
+			: queryExecution.apply(arguments));
+	}
+
+	/**
+	 * Resolves the origin of the OQL queries executed by this {@link RepositoryQuery}, which is the simple name of
+	 * the declaring {@link Repository} interface followed by the name of the {@link QueryMethod}.
+	 *
+	 * @return the origin of the OQL queries executed by this {@link RepositoryQuery}.
+	 * @see org.springframework.data.gemfire.query.QueryExecution#withOrigin(String, java.util.function.Supplier)
+	 */
+	@Nullable String resolveOrigin() {
+
+		GemfireQueryMethod queryMethod = this.queryMethod;
+
+		Method method = queryMethod != null ? queryMethod.getMethod() : null;
+
+		return method != null
+			? String.format("%1$s.%2$s", method.getDeclaringClass().getSimpleName(), method.getName())
+			: null;
+	}
+
 	/**
 	 * Registers the given {@link QueryPostProcessor} to use for processing {@literal OQL queries}
 	 * generated from {@link Repository} {@link QueryMethod query methods}.
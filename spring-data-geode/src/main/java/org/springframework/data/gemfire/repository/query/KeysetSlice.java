@@ -0,0 +1,102 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.gemfire.repository.KeysetPageRequest;
+import org.springframework.data.gemfire.util.CollectionUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Slice} of results from a {@literal keyset} paged OQL query.
+ *
+ * The {@link #nextPageable() next page request} is a {@link KeysetPageRequest} seeking past the last result
+ * in this {@link Slice}.
+ *
+ * @author agent
+ * @param <T> {@link Class type} of the results.
+ * @see org.springframework.data.domain.SliceImpl
+ * @see org.springframework.data.gemfire.repository.KeysetPageRequest
+ * @since 3.0.0
+ */
+public class KeysetSlice<T> extends SliceImpl<T> {
+
+	/**
+	 * Factory method used to construct a new {@link KeysetSlice} from the results of a {@literal keyset} paged
+	 * OQL query, which are {@literal LIMITED} to the page size plus 1.
+	 *
+	 * @param <T> {@link Class type} of the results.
+	 * @param results {@link List} of results from the {@literal keyset} paged OQL query.
+	 * @param pageRequest {@link KeysetPageRequest} used to query the results; must not be {@literal null}.
+	 * @return a new {@link KeysetSlice} containing at most page size number of results.
+	 * @throws IllegalArgumentException if {@link KeysetPageRequest} is {@literal null}.
+	 * @see org.springframework.data.gemfire.repository.KeysetPageRequest
+	 */
+	public static @NonNull <T> KeysetSlice<T> from(@NonNull List<T> results, @NonNull KeysetPageRequest pageRequest) {
+
+		Assert.notNull(pageRequest, "KeysetPageRequest must not be null");
+
+		List<T> resultList = CollectionUtils.nullSafeList(results);
+
+		int pageSize = pageRequest.getPageSize();
+
+		boolean hasNext = resultList.size() > pageSize;
+
+		List<T> content = hasNext ? new ArrayList<>(resultList.subList(0, pageSize)) : resultList;
+
+		return new KeysetSlice<>(content, pageRequest, hasNext);
+	}
+
+	private final KeysetPageRequest pageRequest;
+
+	/**
+	 * Constructs a new instance of {@link KeysetSlice} initialized with the given content,
+	 * {@link KeysetPageRequest} and whether a next page exists.
+	 *
+	 * @param content {@link List} of results in this {@link Slice}.
+	 * @param pageRequest {@link KeysetPageRequest} used to query the results; must not be {@literal null}.
+	 * @param hasNext boolean value indicating whether a next page exists.
+	 */
+	public KeysetSlice(@NonNull List<T> content, @NonNull KeysetPageRequest pageRequest, boolean hasNext) {
+
+		super(content, pageRequest, hasNext);
+
+		this.pageRequest = pageRequest;
+	}
+
+	/**
+	 * Returns a {@link KeysetPageRequest} seeking past the last result in this {@link Slice}
+	 * or {@link Pageable#unpaged()} if this is the last {@link Slice}.
+	 *
+	 * @return the {@link KeysetPageRequest} for the next page.
+	 * @see org.springframework.data.gemfire.repository.KeysetPageRequest#after(Object)
+	 */
+	@Override
+	public @NonNull Pageable nextPageable() {
+
+		List<T> content = getContent();
+
+		return hasNext() && !content.isEmpty()
+			? this.pageRequest.after(content.get(content.size() - 1))
+			: Pageable.unpaged();
+	}
+}
@@ -0,0 +1,459 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link OqlStatement} is an immutable, structural model of an Apache Geode OQL query statement.
+ *
+ * An OQL query statement is parsed in a single pass into its clauses: the optional {@literal <TRACE>} command,
+ * {@literal IMPORT} declarations, {@literal <HINT ...>} command, the query body (i.e. {@literal SELECT ... FROM ...
+ * WHERE ...}) and the optional, trailing {@literal ORDER BY} and {@literal LIMIT} clauses. String literals
+ * and nested (parenthesized) queries are skipped when recognizing clauses. Clauses are modified structurally
+ * and the OQL query statement is rendered once, in the order defined by the OQL grammar:
+ *
+ * <pre>
+ * [&lt;TRACE&gt;] [IMPORT ...;]* [&lt;HINT '...'&gt;] SELECT ... [ORDER BY ...] [LIMIT n]
+ * </pre>
+ *
+ * This is an internal class used by {@link QueryString}.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.repository.query.QueryString
+ * @since 3.0.0
+ */
+final class OqlStatement {
+
+	static final String HINT_COMMAND = "<HINT";
+	static final String IMPORT_KEYWORD = "IMPORT";
+	static final String LIMIT_KEYWORD = "LIMIT";
+	static final String ORDER_KEYWORD = "ORDER";
+	static final String BY_KEYWORD = "BY";
+	static final String GROUP_KEYWORD = "GROUP";
+	static final String TRACE_COMMAND = "<TRACE>";
+	static final String WHERE_KEYWORD = "WHERE";
+
+	/**
+	 * Parses the given {@link String OQL query statement}.
+	 *
+	 * @param query {@link String} containing the OQL query statement to parse; must not be {@literal null}.
+	 * @return a new {@link OqlStatement} modeling the given {@link String OQL query statement}.
+	 * @throws IllegalArgumentException if the {@link String OQL query statement} is {@literal null}.
+	 */
+	static @NonNull OqlStatement parse(@NonNull String query) {
+
+		Assert.notNull(query, "Query must not be null");
+
+		boolean trace = false;
+
+		List<String> hints = new ArrayList<>();
+		List<String> imports = new ArrayList<>();
+
+		int length = query.length();
+		int index = skipWhitespace(query, 0);
+
+		while (index < length) {
+
+			if (query.regionMatches(true, index, TRACE_COMMAND, 0, TRACE_COMMAND.length())) {
+				trace = true;
+				index = skipWhitespace(query, index + TRACE_COMMAND.length());
+			}
+			else if (query.regionMatches(true, index, HINT_COMMAND, 0, HINT_COMMAND.length())) {
+
+				int end = indexOfUnquoted(query, '>', index);
+
+				if (end < 0) {
+					break;
+				}
+
+				parseHints(query.substring(index + HINT_COMMAND.length(), end), hints);
+				index = skipWhitespace(query, end + 1);
+			}
+			else if (isKeywordAt(query, index, IMPORT_KEYWORD)) {
+
+				int end = indexOfUnquoted(query, ';', index);
+
+				if (end < 0) {
+					break;
+				}
+
+				imports.add(query.substring(index + IMPORT_KEYWORD.length(), end).trim());
+				index = skipWhitespace(query, end + 1);
+			}
+			else {
+				break;
+			}
+		}
+
+		String rest = query.substring(Math.min(index, length)).trim();
+
+		int orderByStart = -1;
+		int orderByEnd = -1;
+		int limitStart = -1;
+
+		Integer limit = null;
+
+		boolean quoted = false;
+
+		for (int depth = 0, position = 0, restLength = rest.length(); position < restLength; position++) {
+
+			char character = rest.charAt(position);
+
+			if (quoted) {
+				quoted = character != '\'';
+			}
+			else if (character == '\'') {
+				quoted = true;
+			}
+			else if (character == '(') {
+				depth++;
+			}
+			else if (character == ')') {
+				depth--;
+			}
+			else if (depth == 0) {
+
+				if (orderByStart < 0 && isKeywordAt(rest, position, ORDER_KEYWORD)) {
+
+					int byIndex = skipWhitespace(rest, position + ORDER_KEYWORD.length());
+
+					if (isKeywordAt(rest, byIndex, BY_KEYWORD)) {
+						orderByStart = position;
+						orderByEnd = byIndex + BY_KEYWORD.length();
+					}
+				}
+				else if (isKeywordAt(rest, position, LIMIT_KEYWORD)) {
+
+					Integer parsedLimit = parseLimit(rest, position + LIMIT_KEYWORD.length());
+
+					if (parsedLimit != null) {
+						limit = parsedLimit;
+						limitStart = position;
+					}
+				}
+			}
+		}
+
+		int bodyEnd = orderByStart >= 0 ? orderByStart : limitStart >= 0 ? limitStart : rest.length();
+
+		String body = rest.substring(0, bodyEnd).trim();
+
+		String orderBy = orderByStart >= 0
+			? rest.substring(orderByEnd, limitStart > orderByStart ? limitStart : rest.length()).trim()
+			: null;
+
+		if (orderByStart >= 0 && limitStart >= 0 && limitStart < orderByStart) {
+			limit = null;
+		}
+
+		return new OqlStatement(trace, imports, hints, body, orderBy, limit);
+	}
+
+	private static void parseHints(String hintList, List<String> hints) {
+
+		for (String hint : hintList.split(",")) {
+
+			String trimmedHint = StringUtils.trimTrailingCharacter(StringUtils.trimLeadingCharacter(hint.trim(), '\''),
+				'\'').trim();
+
+			if (StringUtils.hasText(trimmedHint) && !hints.contains(trimmedHint)) {
+				hints.add(trimmedHint);
+			}
+		}
+	}
+
+	private static @Nullable Integer parseLimit(String query, int index) {
+
+		int start = skipWhitespace(query, index);
+		int end = start;
+
+		if (end < query.length() && query.charAt(end) == '-') {
+			end++;
+		}
+
+		int digitsStart = end;
+
+		while (end < query.length() && Character.isDigit(query.charAt(end))) {
+			end++;
+		}
+
+		if (end == digitsStart || start == index) {
+			return null;
+		}
+
+		int remaining = skipWhitespace(query, end);
+
+		if (remaining < query.length() && query.charAt(remaining) == ';') {
+			remaining = skipWhitespace(query, remaining + 1);
+		}
+
+		if (remaining < query.length()) {
+			return null;
+		}
+
+		try {
+			return Integer.parseInt(query.substring(start, end));
+		}
+		catch (NumberFormatException ignore) {
+			return null;
+		}
+	}
+
+	// Returns the index of the keyword outside of String literals and nested (parenthesized) queries, or -1
+	private static int indexOfKeyword(String query, String keyword, @Nullable String followingKeyword) {
+
+		boolean quoted = false;
+
+		for (int depth = 0, index = 0, length = query.length(); index < length; index++) {
+
+			char character = query.charAt(index);
+
+			if (quoted) {
+				quoted = character != '\'';
+			}
+			else if (character == '\'') {
+				quoted = true;
+			}
+			else if (character == '(') {
+				depth++;
+			}
+			else if (character == ')') {
+				depth--;
+			}
+			else if (depth == 0 && isKeywordAt(query, index, keyword)) {
+				if (followingKeyword == null
+					|| isKeywordAt(query, skipWhitespace(query, index + keyword.length()), followingKeyword)) {
+
+					return index;
+				}
+			}
+		}
+
+		return -1;
+	}
+
+	private static int indexOfUnquoted(String query, char target, int fromIndex) {
+
+		boolean quoted = false;
+
+		for (int index = fromIndex, length = query.length(); index < length; index++) {
+
+			char character = query.charAt(index);
+
+			if (character == '\'') {
+				quoted = !quoted;
+			}
+			else if (!quoted && character == target) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	private static boolean isIdentifierCharacter(char character) {
+		return Character.isJavaIdentifierPart(character) || character == '.';
+	}
+
+	private static boolean isKeywordAt(String query, int index, String keyword) {
+
+		int end = index + keyword.length();
+
+		return index >= 0
+			&& end < query.length()
+			&& query.regionMatches(true, index, keyword, 0, keyword.length())
+			&& (index == 0 || !isIdentifierCharacter(query.charAt(index - 1)))
+			&& Character.isWhitespace(query.charAt(end));
+	}
+
+	private static int skipWhitespace(String query, int index) {
+
+		int length = query.length();
+
+		while (index < length && Character.isWhitespace(query.charAt(index))) {
+			index++;
+		}
+
+		return index;
+	}
+
+	private final boolean trace;
+
+	private final Integer limit;
+
+	private final List<String> hints;
+	private final List<String> imports;
+
+	private final String body;
+	private final String orderBy;
+
+	private OqlStatement(boolean trace, List<String> imports, List<String> hints, String body,
+			@Nullable String orderBy, @Nullable Integer limit) {
+
+		this.trace = trace;
+		this.imports = Collections.unmodifiableList(imports);
+		this.hints = Collections.unmodifiableList(hints);
+		this.body = body;
+		this.orderBy = StringUtils.hasText(orderBy) ? orderBy : null;
+		this.limit = limit;
+	}
+
+	@NonNull String getBody() {
+		return this.body;
+	}
+
+	@NonNull List<String> getHints() {
+		return this.hints;
+	}
+
+	@NonNull List<String> getImports() {
+		return this.imports;
+	}
+
+	@Nullable Integer getLimit() {
+		return this.limit;
+	}
+
+	@Nullable String getOrderBy() {
+		return this.orderBy;
+	}
+
+	boolean isTraced() {
+		return this.trace;
+	}
+
+	@NonNull OqlStatement withBody(@NonNull UnaryOperator<String> bodyFunction) {
+		return new OqlStatement(this.trace, this.imports, this.hints, bodyFunction.apply(this.body), this.orderBy,
+			this.limit);
+	}
+
+	@NonNull OqlStatement withHints(@NonNull String... hints) {
+
+		List<String> mergedHints = new ArrayList<>(this.hints);
+
+		for (String hint : hints) {
+			if (StringUtils.hasText(hint) && !mergedHints.contains(hint)) {
+				mergedHints.add(hint);
+			}
+		}
+
+		return new OqlStatement(this.trace, this.imports, mergedHints, this.body, this.orderBy, this.limit);
+	}
+
+	@NonNull OqlStatement withImport(@NonNull String importExpression) {
+
+		List<String> imports = new ArrayList<>(this.imports);
+
+		imports.add(importExpression.trim());
+
+		return new OqlStatement(this.trace, imports, this.hints, this.body, this.orderBy, this.limit);
+	}
+
+	@NonNull OqlStatement withLimit(@Nullable Integer limit) {
+		return new OqlStatement(this.trace, this.imports, this.hints, this.body, this.orderBy, limit);
+	}
+
+	@NonNull OqlStatement withOrderBy(@NonNull String orderBy) {
+
+		String resolvedOrderBy = this.orderBy != null ? String.format("%1$s, %2$s", this.orderBy, orderBy) : orderBy;
+
+		return new OqlStatement(this.trace, this.imports, this.hints, this.body, resolvedOrderBy, this.limit);
+	}
+
+	/**
+	 * Adds the given predicate to the {@literal WHERE} clause of the query body, combined with any existing
+	 * {@literal WHERE} clause using {@literal AND}. A {@literal WHERE} clause is added if the query body
+	 * does not have one. {@literal WHERE} clauses of nested queries are left unchanged.
+	 *
+	 * @param predicate {@link String} containing the OQL predicate to add; must not be {@literal null}.
+	 * @return a new {@link OqlStatement} with the predicate added to the {@literal WHERE} clause.
+	 */
+	@NonNull OqlStatement withPredicate(@NonNull String predicate) {
+
+		String body = getBody();
+
+		int groupByIndex = indexOfKeyword(body, GROUP_KEYWORD, BY_KEYWORD);
+		int whereEnd = groupByIndex >= 0 ? groupByIndex : body.length();
+		int whereIndex = indexOfKeyword(body.substring(0, whereEnd), WHERE_KEYWORD, null);
+
+		String selectFrom = body.substring(0, whereIndex >= 0 ? whereIndex : whereEnd).trim();
+		String groupBy = body.substring(whereEnd).trim();
+
+		String where = whereIndex >= 0
+			? String.format("(%1$s) AND (%2$s)", body.substring(whereIndex + WHERE_KEYWORD.length(), whereEnd).trim(),
+				predicate)
+			: predicate;
+
+		String resolvedBody = String.format("%1$s %2$s %3$s %4$s", selectFrom, WHERE_KEYWORD, where, groupBy).trim();
+
+		return new OqlStatement(this.trace, this.imports, this.hints, resolvedBody, this.orderBy, this.limit);
+	}
+
+	@NonNull OqlStatement withTrace() {
+		return new OqlStatement(true, this.imports, this.hints, this.body, this.orderBy, this.limit);
+	}
+
+	/**
+	 * Renders this {@link OqlStatement} as an OQL query statement.
+	 *
+	 * @return the rendered {@link String OQL query statement}.
+	 */
+	@Override
+	public String toString() {
+
+		StringBuilder query = new StringBuilder();
+
+		if (isTraced()) {
+			query.append(TRACE_COMMAND).append(' ');
+		}
+
+		for (String importExpression : getImports()) {
+			query.append(IMPORT_KEYWORD).append(' ').append(importExpression).append("; ");
+		}
+
+		if (!getHints().isEmpty()) {
+
+			query.append(HINT_COMMAND).append(' ');
+
+			for (int index = 0, size = getHints().size(); index < size; index++) {
+				query.append(index > 0 ? ", " : "").append('\'').append(getHints().get(index)).append('\'');
+			}
+
+			query.append("> ");
+		}
+
+		query.append(getBody());
+
+		if (getOrderBy() != null) {
+			query.append(' ').append(ORDER_KEYWORD).append(' ').append(BY_KEYWORD).append(' ').append(getOrderBy());
+		}
+
+		if (getLimit() != null) {
+			query.append(' ').append(LIMIT_KEYWORD).append(' ').append(getLimit());
+		}
+
+		return query.toString();
+	}
+}
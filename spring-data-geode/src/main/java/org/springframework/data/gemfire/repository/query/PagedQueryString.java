@@ -15,10 +15,21 @@
  */
 package org.springframework.data.gemfire.repository.query;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+import org.apache.geode.cache.Region;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.gemfire.repository.KeysetPageRequest;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 /**
  * {@link QueryString} implementation handling {@literal paging} functionality and behavior.
@@ -29,6 +40,15 @@ import org.springframework.util.Assert;
  */
 public class PagedQueryString extends QueryString {
 
+	// OQL Query Patterns
+	protected static final Pattern FROM_ALIAS_PATTERN =
+		Pattern.compile("FROM\\s+/\\S+(?:\\s+(?:AS\\s+)?(\\w+))?", Pattern.CASE_INSENSITIVE);
+	protected static final Pattern SELECT_STAR_PATTERN =
+		Pattern.compile("^((?:\\s*<[^>]+>)*\\s*(?:IMPORT [^;]+;\\s*)?)SELECT\\s+(DISTINCT\\s+)?\\*\\s+(FROM\\s+(/\\S+).*)$",
+			Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+	private static final String[] NON_ALIAS_KEYWORDS = { "WHERE", "ORDER", "LIMIT", "GROUP" };
+
 	/**
 	 * Factory method used to construct a new instance of {@link PagedQueryString} from an existing, {@literal non-null}
 	 * {@link QueryString}.
@@ -80,4 +100,258 @@ public class PagedQueryString extends QueryString {
 		this.queryMethod = queryMethod;
 		return this;
 	}
+
+	/**
+	 * Rewrites this OQL query as a {@literal keyset} paged query for the given {@link KeysetPageRequest}.
+	 *
+	 * The OQL query is ordered by the {@link KeysetPageRequest#getSort() sorted properties} if not already ordered.
+	 * An existing {@literal ORDER BY} clause must match the {@link KeysetPageRequest#getSort() Sort} since
+	 * the {@literal keyset} predicate is derived from the {@link Sort}. When the identifier property is known,
+	 * the {@link Sort} must include the identifier property so that the results are uniquely ordered.
+	 *
+	 * When the {@link KeysetPageRequest} has a {@literal keyset}, a predicate seeking past the {@literal keyset}
+	 * is added to the {@literal WHERE} clause, using bind parameters numbered from the given index.
+	 * Finally, the OQL query is {@literal LIMITED} to the page size plus 1 to determine whether a next page exists,
+	 * or to the results remaining under the {@literal LIMIT} declared in this OQL query, whichever is less.
+	 *
+	 * @param pageRequest {@link KeysetPageRequest} containing the details of the requested page;
+	 * must not be {@literal null}.
+	 * @param idProperty {@link String} containing the name of the identifier property of the queried entities;
+	 * may be {@literal null} if unknown.
+	 * @param parameterIndex {@link Integer} containing the index of the first bind parameter
+	 * used in the {@literal keyset} predicate.
+	 * @return a new {@link PagedQueryString} containing the {@literal keyset} paged OQL query.
+	 * @throws IllegalArgumentException if {@link KeysetPageRequest} is {@literal null}, the {@link Sort} does not
+	 * include the identifier property, or the {@literal ORDER BY} clause of this OQL query does not match the
+	 * {@link Sort}.
+	 * @see org.springframework.data.gemfire.repository.KeysetPageRequest
+	 * @see #getKeysetArguments(KeysetPageRequest)
+	 */
+	public @NonNull PagedQueryString withKeyset(@NonNull KeysetPageRequest pageRequest, @Nullable String idProperty,
+			int parameterIndex) {
+
+		Assert.notNull(pageRequest, "KeysetPageRequest must not be null");
+
+		Sort sort = pageRequest.getSort();
+
+		Assert.isTrue(idProperty == null || sort.getOrderFor(idProperty) != null,
+			() -> String.format("Sort [%1$s] must include the identifier property [%2$s] for keyset paging",
+				sort, idProperty));
+
+		OqlStatement statement = getStatement();
+
+		String alias = resolveAlias(statement.getBody());
+		String orderByClause = statement.getOrderBy();
+
+		if (orderByClause != null) {
+			Assert.isTrue(isOrderedBy(orderByClause, alias, sort),
+				() -> String.format("ORDER BY clause [%1$s] must match the Sort [%2$s] for keyset paging",
+					orderByClause, sort));
+		}
+		else {
+			statement = new QueryString(statement).orderBy(sort).getStatement();
+		}
+
+		if (pageRequest.hasKeyset()) {
+			statement = statement.withPredicate(toKeysetPredicate(sort, alias, parameterIndex));
+		}
+
+		return PagedQueryString.of(statement.withLimit(resolveKeysetLimit(pageRequest)).toString())
+			.withQueryMethod(this.queryMethod);
+	}
+
+	/**
+	 * Rewrites this {@literal SELECT *} OQL query as a {@literal keys query} projecting only the identifier
+	 * of the matching entities, along with the properties referenced in the {@literal ORDER BY} clause,
+	 * which must be part of the projection.
+	 *
+	 * For example, {@literal SELECT DISTINCT * FROM /People x WHERE x.age > $1 ORDER BY lastname ASC} is rewritten
+	 * as {@literal SELECT DISTINCT x.id, x.lastname FROM /People x WHERE x.age > $1 ORDER BY lastname ASC}.
+	 *
+	 * The identifier is always the first field of the projection.
+	 *
+	 * @param idProperty {@link String} containing the name of the identifier property.
+	 * @return an {@link Optional} {@link PagedQueryString} containing the {@literal keys query}, or
+	 * {@link Optional#empty()} if this OQL query is not a {@literal SELECT *} query or cannot otherwise be rewritten.
+	 */
+	public @NonNull Optional<PagedQueryString> asKeysQuery(@NonNull String idProperty) {
+
+		Matcher selectStarMatcher = SELECT_STAR_PATTERN.matcher(getQuery());
+
+		if (selectStarMatcher.matches()) {
+
+			String prefix = selectStarMatcher.group(1);
+			String distinct = selectStarMatcher.group(2) != null ? "DISTINCT " : "";
+			String fromClause = selectStarMatcher.group(3);
+			String alias = resolveAlias(fromClause);
+
+			List<String> projection = new ArrayList<>();
+
+			projection.add(resolveProperty(alias, idProperty));
+
+			String orderBy = getStatement().getOrderBy();
+
+			if (orderBy != null) {
+				for (String order : orderBy.split(",")) {
+
+					String property = order.trim().split("\\s+")[0];
+
+					if (!property.matches("\\w+")) {
+						return Optional.empty();
+					}
+
+					if (!property.equals(idProperty)) {
+						projection.add(resolveProperty(alias, property));
+					}
+				}
+			}
+
+			String keysQuery = String.format("%1$sSELECT %2$s%3$s %4$s", prefix, distinct,
+				StringUtils.collectionToDelimitedString(projection, ", "), fromClause);
+
+			return Optional.of(PagedQueryString.of(keysQuery).withQueryMethod(this.queryMethod));
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Returns the {@link Region#getFullPath() Region path} queried by this {@literal SELECT *} OQL query.
+	 *
+	 * @return an {@link Optional} {@link String} containing the {@link Region#getFullPath() Region path}
+	 * or {@link Optional#empty()} if this OQL query is not a {@literal SELECT *} query.
+	 */
+	public @NonNull Optional<String> getRegionPath() {
+
+		Matcher selectStarMatcher = SELECT_STAR_PATTERN.matcher(getQuery());
+
+		return selectStarMatcher.matches()
+			? Optional.of(selectStarMatcher.group(4))
+			: Optional.empty();
+	}
+
+	/**
+	 * Returns the {@literal keyset} values of the given {@link KeysetPageRequest} in {@link Sort} order,
+	 * to be passed as the arguments for the bind parameters of the {@literal keyset} predicate.
+	 *
+	 * @param pageRequest {@link KeysetPageRequest} containing the {@literal keyset}; must not be {@literal null}.
+	 * @return an array of {@literal keyset} values in {@link Sort} order; empty for the first page.
+	 * @see #withKeyset(KeysetPageRequest, String, int)
+	 */
+	public static @NonNull Object[] getKeysetArguments(@NonNull KeysetPageRequest pageRequest) {
+
+		if (!pageRequest.hasKeyset()) {
+			return new Object[0];
+		}
+
+		Map<String, Object> keyset = pageRequest.getKeyset();
+
+		return pageRequest.getSort().stream()
+			.map(order -> keyset.get(order.getProperty()))
+			.toArray();
+	}
+
+	@Nullable String resolveAlias(@NonNull String query) {
+
+		Matcher matcher = FROM_ALIAS_PATTERN.matcher(query);
+
+		if (matcher.find()) {
+
+			String alias = matcher.group(1);
+
+			if (alias != null) {
+				for (String keyword : NON_ALIAS_KEYWORDS) {
+					if (keyword.equalsIgnoreCase(alias)) {
+						return null;
+					}
+				}
+			}
+
+			return alias;
+		}
+
+		return null;
+	}
+
+	// The page size plus 1 to determine whether a next page exists, bounded by the results remaining under the LIMIT
+	private int resolveKeysetLimit(KeysetPageRequest pageRequest) {
+
+		int pageLimit = pageRequest.getPageSize() + 1;
+
+		if (isLimited()) {
+
+			long remaining = Math.max(getLimit() - pageRequest.getOffset(), 0L);
+
+			return (int) Math.min(pageLimit, remaining);
+		}
+
+		return pageLimit;
+	}
+
+	private boolean isOrderedBy(String orderByClause, @Nullable String alias, Sort sort) {
+
+		String[] expressions = orderByClause.split(",");
+
+		Sort.Order[] orders = sort.stream().toArray(Sort.Order[]::new);
+
+		if (expressions.length != orders.length) {
+			return false;
+		}
+
+		for (int index = 0; index < orders.length; index++) {
+
+			String[] tokens = expressions[index].trim().split("\\s+");
+
+			String property = alias != null && tokens[0].startsWith(alias + ".")
+				? tokens[0].substring(alias.length() + 1)
+				: tokens[0];
+
+			Sort.Direction direction = tokens.length > 1
+				? Sort.Direction.fromOptionalString(tokens[1]).orElse(null)
+				: Sort.Direction.ASC;
+
+			if (tokens.length > 2
+				|| !orders[index].getProperty().equals(property)
+				|| !orders[index].getDirection().equals(direction)) {
+
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	// (a > $1) OR (a = $1 AND b > $2) OR (a = $1 AND b = $2 AND c > $3)
+	private String toKeysetPredicate(Sort sort, @Nullable String alias, int parameterIndex) {
+
+		StringBuilder predicate = new StringBuilder();
+
+		Sort.Order[] orders = sort.stream().toArray(Sort.Order[]::new);
+
+		for (int index = 0; index < orders.length; index++) {
+
+			predicate.append(index > 0 ? " OR " : "").append("(");
+
+			for (int equalityIndex = 0; equalityIndex < index; equalityIndex++) {
+				predicate.append(resolveProperty(alias, orders[equalityIndex]))
+					.append(" = $").append(parameterIndex + equalityIndex)
+					.append(" AND ");
+			}
+
+			predicate.append(resolveProperty(alias, orders[index]))
+				.append(orders[index].isAscending() ? " > $" : " < $")
+				.append(parameterIndex + index)
+				.append(")");
+		}
+
+		return predicate.toString();
+	}
+
+	private String resolveProperty(@Nullable String alias, Sort.Order order) {
+		return resolveProperty(alias, order.getProperty());
+	}
+
+	private String resolveProperty(@Nullable String alias, String property) {
+		return alias != null ? alias + "." + property : property;
+	}
 }
@@ -85,6 +85,16 @@ public class PagedSelectResults<T> extends AbstractSelectResults<T> {
 		return this.pageRequest;
 	}
 
+	/**
+	 * Determines whether the query results contain results beyond the {@link Pageable requested page}.
+	 *
+	 * @return a boolean value indicating whether a next page exists.
+	 * @see org.springframework.data.gemfire.repository.query.support.PagingUtils#getQueryResultSetEndIndexForPage(Pageable)
+	 */
+	public boolean hasNext() {
+		return getSelectResults().size() > PagingUtils.getQueryResultSetEndIndexForPage(getPageRequest());
+	}
+
 	/**
 	 * @inheritDoc
 	 */
@@ -16,23 +16,45 @@
 package org.springframework.data.gemfire.repository.query;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+import org.apache.geode.cache.CacheLoader;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
+import org.springframework.data.gemfire.util.CollectionUtils;
+import org.springframework.data.gemfire.util.RegionUtils;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
  * {@link GemfireRepositoryQuery} backed by a {@link PartTree}, deriving an OQL query
  * from the backing {@link QueryMethod QueryMethod's} name/signature.
  *
+ * A derived query having a single equality ({@literal findById}) or {@literal IN} ({@literal findByIdIn})
+ * predicate on the identifier property of the entity is executed as a key lookup using {@link Region#get(Object)}
+ * or {@link Region#getAll(Collection)} rather than as an OQL query.
+ *
  * @author Oliver Gierke
  * @author John Blum
  * @see org.springframework.data.gemfire.GemfireTemplate
@@ -44,10 +66,26 @@ import org.springframework.util.Assert;
  */
 public class PartTreeGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
+	static final int QUERY_PLAN_CACHE_SIZE =
+		Integer.getInteger("spring.data.gemfire.query.plan.cache.size", 64);
+
 	private final GemfireTemplate template;
 
+	private final Map<Sort, GemfireRepositoryQuery> queryPlanCache =
+		new LinkedHashMap<Sort, GemfireRepositoryQuery>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Sort, GemfireRepositoryQuery> eldest) {
+				return size() > QUERY_PLAN_CACHE_SIZE;
+			}
+		};
+
+	private final Part.Type[] partTypes;
+
 	private final PartTree tree;
 
+	private volatile boolean keyLookup;
+
 	/**
 	 * Constructs a new instance of {@link PartTreeGemfireRepositoryQuery} initialized with
 	 * the given {@link GemfireQueryMethod} and {@link GemfireTemplate}.
@@ -68,6 +106,51 @@ public class PartTreeGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
 		this.template = template;
 		this.tree = new PartTree(queryMethod.getName(), queryMethod.getEntityInformation().getJavaType());
+		this.partTypes = this.tree.getParts().stream().map(Part::getType).toArray(Part.Type[]::new);
+		this.keyLookup = isKeyLookup(queryMethod, this.tree);
+	}
+
+	/**
+	 * Determines whether the derived query of the given {@link GemfireQueryMethod} can be executed as a key lookup
+	 * on the {@link Region}.
+	 *
+	 * The {@link PartTree} must consist of a single, case-sensitive equality or {@literal IN} predicate
+	 * on the identifier property of the entity and the {@link GemfireQueryMethod} must return the entity,
+	 * or a {@link Collection} of entities, without paging, sorting, limiting, projections or
+	 * {@link GemfireQueryMethod#hasLazyEntities() lazy entities}, which are materialized from the query results.
+	 *
+	 * @param queryMethod {@link GemfireQueryMethod} modeling the derived query.
+	 * @param tree {@link PartTree} of the derived query.
+	 * @return a boolean value indicating whether the derived query can be executed as a key lookup.
+	 */
+	static boolean isKeyLookup(@NonNull GemfireQueryMethod queryMethod, @NonNull PartTree tree) {
+
+		Parameters<?, ?> parameters = queryMethod.getParameters();
+
+		boolean eligibleQueryMethod = (queryMethod.isCollectionQuery() || queryMethod.isQueryForEntity())
+			&& !(queryMethod.isPageQuery() || queryMethod.isSliceQuery() || queryMethod.isStreamQuery())
+			&& !(parameters.hasSortParameter() || parameters.hasPageableParameter())
+			&& !(queryMethod.hasLimit() || queryMethod.hasTrace() || queryMethod.hasLazyEntities())
+			&& !queryMethod.getResultProcessor().getReturnedType().isProjecting();
+
+		boolean eligiblePartTree = eligibleQueryMethod
+			&& !(tree.isCountProjection() || tree.isExistsProjection() || tree.isDelete() || tree.isLimiting())
+			&& tree.stream().count() == 1
+			&& tree.getParts().toList().size() == 1;
+
+		return eligiblePartTree && tree.getParts().stream()
+			.findFirst()
+			.filter(part -> Part.Type.SIMPLE_PROPERTY.equals(part.getType()) || Part.Type.IN.equals(part.getType()))
+			.filter(part -> Part.IgnoreCaseType.NEVER.equals(part.shouldIgnoreCase()))
+			.filter(part -> part.getNumberOfArguments() == 1)
+			.map(Part::getProperty)
+			.filter(property -> !property.hasNext())
+			.map(PropertyPath::getSegment)
+			.filter(propertyName -> Optional.ofNullable(queryMethod.getPersistentEntity().getIdProperty())
+				.map(GemfirePersistentProperty::getName)
+				.filter(propertyName::equals)
+				.isPresent())
+			.isPresent();
 	}
 
 	/**
@@ -90,29 +173,234 @@ public class PartTreeGemfireRepositoryQuery extends GemfireRepositoryQuery {
 		return this.template;
 	}
 
+	/**
+	 * Registers the given {@link QueryPostProcessor} and evicts all cached query plans, which were built with
+	 * the previously registered {@link QueryPostProcessor QueryPostProcessors}.
+	 *
+	 * @param queryPostProcessor {@link QueryPostProcessor} to register.
+	 * @return this {@link GemfireRepositoryQuery}.
+	 * @see org.springframework.data.gemfire.repository.query.QueryPostProcessor
+	 */
+	@Override
+	public GemfireRepositoryQuery register(@Nullable QueryPostProcessor<Repository, String> queryPostProcessor) {
+
+		GemfireRepositoryQuery repositoryQuery = super.register(queryPostProcessor);
+
+		synchronized (this.queryPlanCache) {
+			this.queryPlanCache.clear();
+		}
+
+		// Key lookups do not execute an OQL query; QueryPostProcessors modifying this OQL query must see the query
+		this.keyLookup = this.keyLookup && !isApplicable(queryPostProcessor);
+
+		return repositoryQuery;
+	}
+
+	/**
+	 * Determines whether the given {@link QueryPostProcessor} applies to the derived OQL query of this
+	 * {@link RepositoryQuery}, that is, whether the {@link QueryPostProcessor} modifies the OQL query.
+	 *
+	 * A {@link QueryPostProcessor} failing to process the OQL query is considered to be applicable.
+	 *
+	 * @param queryPostProcessor {@link QueryPostProcessor} to evaluate.
+	 * @return a boolean value indicating whether the given {@link QueryPostProcessor} modifies the derived OQL query.
+	 * @see org.springframework.data.gemfire.repository.query.QueryPostProcessor
+	 */
+	private boolean isApplicable(@Nullable QueryPostProcessor<Repository, String> queryPostProcessor) {
+
+		if (queryPostProcessor != null) {
+
+			GemfireQueryMethod queryMethod = getGemfireQueryMethod();
+
+			String query = newQueryString(queryMethod, getPartTree(), Sort.unsorted()).toString();
+
+			try {
+				return !query.equals(queryPostProcessor.postProcess(queryMethod, query));
+			}
+			catch (RuntimeException ignore) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Determines whether a key lookup on the given {@link Region} returns the same entities as the derived OQL query.
+	 *
+	 * Unlike an OQL query, {@link Region#get(Object)} may invoke a {@link CacheLoader} or return a stale value
+	 * cached locally in a client {@literal CACHING_PROXY} {@link Region}. Therefore, key lookups are only performed
+	 * on client {@literal PROXY} {@link Region Regions} and on peer {@link Region Regions} hosting the data
+	 * (e.g. {@literal REPLICATE} or {@literal PARTITION}), without a {@link CacheLoader}.
+	 *
+	 * @param region {@link Region} to evaluate.
+	 * @return a boolean value indicating whether key lookups can be performed on the given {@link Region}.
+	 * @see org.apache.geode.cache.Region
+	 */
+	static boolean isKeyLookupRegion(@Nullable Region<?, ?> region) {
+
+		RegionAttributes<?, ?> regionAttributes = region != null ? region.getAttributes() : null;
+
+		DataPolicy dataPolicy = regionAttributes != null ? regionAttributes.getDataPolicy() : null;
+
+		return dataPolicy != null
+			&& regionAttributes.getCacheLoader() == null
+			&& (RegionUtils.isClient(region) ? DataPolicy.EMPTY.equals(dataPolicy)
+				: dataPolicy.withReplication() || dataPolicy.withPartitioning());
+	}
+
 	/**
 	 * @inheritDoc
 	 */
 	@Override
 	public Object execute(Object[] arguments) {
+		return execute(arguments, this::doExecute);
+	}
+
+	/**
+	 * Executes the derived query with the given arguments.
+	 *
+	 * @param arguments array of {@link Object arguments} passed to the {@link QueryMethod}.
+	 * @return the query results.
+	 * @see #execute(Object[])
+	 */
+	protected Object doExecute(Object[] arguments) {
 
 		GemfireQueryMethod queryMethod = getGemfireQueryMethod();
 
-		QueryString query = newQueryString(queryMethod, getPartTree(), arguments);
+		if (this.keyLookup && isKeyLookupRegion(getTemplate().getRegion())) {
+			return executeKeyLookup(queryMethod, arguments);
+		}
+
+		Sort sort = resolveSort(queryMethod, arguments);
 
-		GemfireRepositoryQuery repositoryQuery = newRepositoryQuery(queryMethod, query, getTemplate());
+		GemfireRepositoryQuery repositoryQuery = resolveQueryPlan(queryMethod, sort);
 
 		return repositoryQuery.execute(prepareStringParameters(arguments));
 	}
 
-	private QueryString newQueryString(GemfireQueryMethod queryMethod, PartTree tree, Object[] arguments) {
+	/**
+	 * Executes the derived query as a key lookup on the {@link Region} using {@link Region#get(Object)}
+	 * for an equality predicate or {@link Region#getAll(Collection)} for an {@literal IN} predicate
+	 * on the identifier property.
+	 *
+	 * Key lookups are only performed on {@link Region Regions} where a key lookup returns the same entities
+	 * as the derived OQL query.
+	 *
+	 * @param queryMethod {@link GemfireQueryMethod} modeling the derived query.
+	 * @param arguments array of {@link Object arguments} passed to the {@link GemfireQueryMethod}.
+	 * @return the entity, or {@link Collection} of entities, for the given identifier(s).
+	 * @throws IncorrectResultSizeDataAccessException if the {@link GemfireQueryMethod} returns a single entity
+	 * but more than one entity was found.
+	 * @see #isKeyLookup(GemfireQueryMethod, PartTree)
+	 * @see #isKeyLookupRegion(Region)
+	 */
+	protected @Nullable Object executeKeyLookup(@NonNull GemfireQueryMethod queryMethod, @NonNull Object[] arguments) {
+
+		Object key = arguments[queryMethod.getParameters().getBindableParameter(0).getIndex()];
+
+		List<Object> results;
+
+		if (Part.Type.IN.equals(this.partTypes[0])) {
+
+			Collection<Object> keys = new LinkedHashSet<>(toCollection(key));
+
+			keys.remove(null);
+
+			Map<Object, Object> keysToValues = keys.isEmpty() ? Collections.emptyMap()
+				: CollectionUtils.nullSafeMap(getTemplate().getAll(keys));
+
+			results = new ArrayList<>(keys.size());
+
+			for (Object id : keys) {
 
-		ParametersParameterAccessor parameterAccessor =
-			new ParametersParameterAccessor(queryMethod.getParameters(), arguments);
+				Object value = keysToValues.get(id);
+
+				if (value != null) {
+					results.add(value);
+				}
+			}
+		}
+		else {
+
+			Object value = key != null ? getTemplate().get(key) : null;
+
+			results = value != null ? Collections.singletonList(value) : Collections.emptyList();
+		}
+
+		if (queryMethod.isCollectionQuery()) {
+			return results;
+		}
+		else if (results.size() > 1) {
+			throw new IncorrectResultSizeDataAccessException(1, results.size());
+		}
+
+		return results.isEmpty() ? null : results.get(0);
+	}
+
+	private Collection<?> toCollection(@Nullable Object value) {
+
+		return value == null ? Collections.emptyList()
+			: value instanceof Collection ? (Collection<?>) value
+			: value.getClass().isArray() ? CollectionUtils.arrayToList(value)
+			: Collections.singletonList(value);
+	}
+
+	/**
+	 * Resolves the {@link GemfireRepositoryQuery query plan} used to execute the derived OQL query
+	 * for the given {@link Sort}.
+	 *
+	 * The derived OQL query only varies by {@link Sort} for a given {@link QueryMethod}. Therefore, query plans
+	 * are cached by {@link Sort} to avoid re-creating, re-rendering and re-configuring the OQL query on every
+	 * invocation of the {@link QueryMethod}. The number of cached query plans is bounded, evicting the least
+	 * recently used query plan.
+	 *
+	 * @param queryMethod {@link GemfireQueryMethod} modeling the derived OQL query.
+	 * @param sort {@link Sort} applied to the derived OQL query.
+	 * @return the resolved {@link GemfireRepositoryQuery query plan}.
+	 * @see org.springframework.data.gemfire.repository.query.GemfireRepositoryQuery
+	 * @see org.springframework.data.domain.Sort
+	 */
+	protected @NonNull GemfireRepositoryQuery resolveQueryPlan(@NonNull GemfireQueryMethod queryMethod,
+			@NonNull Sort sort) {
+
+		GemfireRepositoryQuery repositoryQuery;
+
+		synchronized (this.queryPlanCache) {
+			repositoryQuery = this.queryPlanCache.get(sort);
+		}
+
+		if (repositoryQuery == null) {
+
+			QueryString query = newQueryString(queryMethod, getPartTree(), sort);
+
+			repositoryQuery = newRepositoryQuery(queryMethod, query, getTemplate());
+
+			synchronized (this.queryPlanCache) {
+
+				GemfireRepositoryQuery existingRepositoryQuery = this.queryPlanCache.putIfAbsent(sort, repositoryQuery);
+
+				repositoryQuery = existingRepositoryQuery != null ? existingRepositoryQuery : repositoryQuery;
+			}
+		}
+
+		return repositoryQuery;
+	}
+
+	private Sort resolveSort(GemfireQueryMethod queryMethod, Object[] arguments) {
+
+		Parameters<?, ?> parameters = queryMethod.getParameters();
+
+		return parameters.hasSortParameter() || parameters.hasPageableParameter()
+			? new ParametersParameterAccessor(parameters, arguments).getSort()
+			: Sort.unsorted();
+	}
+
+	private QueryString newQueryString(GemfireQueryMethod queryMethod, PartTree tree, Sort sort) {
 
 		GemfireQueryCreator queryCreator = new GemfireQueryCreator(tree, queryMethod.getPersistentEntity());
 
-		return queryCreator.createQuery(parameterAccessor.getSort());
+		return queryCreator.createQuery(sort);
 	}
 
 	private GemfireRepositoryQuery newRepositoryQuery(GemfireQueryMethod queryMethod,
@@ -129,31 +417,36 @@ public class PartTreeGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
 	private Object[] prepareStringParameters(Object[] parameters) {
 
-		Iterator<Part> partsIterator = getPartTree().getParts().iterator();
+		Part.Type[] partTypes = this.partTypes;
+
+		Object[] stringParameters = new Object[parameters.length];
+
+		int partIndex = 0;
+
+		for (int index = 0; index < parameters.length; index++) {
 
-		List<Object> stringParameters = new ArrayList<>(parameters.length);
+			Object parameter = parameters[index];
 
-		for (Object parameter : parameters) {
-			if (parameter == null || parameter instanceof Sort) {
-				stringParameters.add(parameter);
+			if (parameter == null || parameter instanceof Sort || partIndex >= partTypes.length) {
+				stringParameters[index] = parameter;
 			}
 			else {
-				switch (partsIterator.next().getType()) {
+				switch (partTypes[partIndex++]) {
 					case CONTAINING:
-						stringParameters.add(String.format("%%%s%%", parameter.toString()));
+						stringParameters[index] = "%" + parameter + "%";
 						break;
 					case STARTING_WITH:
-						stringParameters.add(String.format("%s%%", parameter.toString()));
+						stringParameters[index] = parameter + "%";
 						break;
 					case ENDING_WITH:
-						stringParameters.add(String.format("%%%s", parameter.toString()));
+						stringParameters[index] = "%" + parameter;
 						break;
 					default:
-						stringParameters.add(parameter);
+						stringParameters[index] = parameter;
 				}
 			}
 		}
 
-		return stringParameters.toArray();
+		return stringParameters;
 	}
 }
@@ -34,16 +34,20 @@ import org.springframework.util.Assert;
 class QueryBuilder {
 
 	static final String DEFAULT_ALIAS = "x";
-	static final String SELECT_OQL_TEMPLATE = "SELECT %1$s * FROM /%2$s %3$s";
+	static final String SELECT_OQL_TEMPLATE = "SELECT %1$s %2$s FROM /%3$s %4$s";
 	static final String WHERE_CLAUSE_TEMPLATE = "%1$s WHERE %2$s";
 
 	private final String query;
 
 	static String asQuery(GemfirePersistentEntity<?> entity, PartTree tree) {
 
-		String distinctKeyword = tree.isDistinct() ? OqlKeyword.DISTINCT.toString() : "";
+		boolean distinct = tree.isDistinct();
+
+		// Derived count queries are computed by the OQL aggregate function so only the count is returned
+		String distinctKeyword = distinct ? OqlKeyword.DISTINCT.toString() : "";
+		String projection = QueryString.resolveProjection(tree.isCountProjection() && !distinct);
 		String regionName = entity.getRegionName();
-		String query = String.format(SELECT_OQL_TEMPLATE, distinctKeyword, regionName, DEFAULT_ALIAS)
+		String query = String.format(SELECT_OQL_TEMPLATE, distinctKeyword, projection, regionName, DEFAULT_ALIAS)
 			.replaceAll("\\s{2,}", " "); // single space tokens
 
 		return query;
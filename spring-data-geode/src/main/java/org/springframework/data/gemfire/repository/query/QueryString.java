@@ -16,8 +16,12 @@
 package org.springframework.data.gemfire.repository.query;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -38,18 +42,19 @@ import org.springframework.util.StringUtils;
  * {@link QueryString} is a base class used to construct and model syntactically valid Apache Geode
  * OQL query statements.
  *
- * {@link QueryString} uses {@link Pattern} based recognition and {@link Matcher matching} to parse and modify
- * the OQL query statement.
+ * {@link QueryString} parses the OQL query statement once, on demand, into an {@link OqlStatement} and modifies
+ * the {@literal TRACE}, {@literal IMPORT}, {@literal HINT}, {@literal ORDER BY} and {@literal LIMIT} clauses
+ * structurally. A modified OQL query statement is only rendered once, when the {@link QueryString} is first
+ * converted to a {@link String}.
  *
  * This is an internal class used by the SDG {@link Repository} infrastructure extension.
  *
  * @author Oliver Gierke
  * @author David Turanski
  * @author John Blum
- * @see java.util.regex.Matcher
- * @see java.util.regex.Pattern
  * @see org.apache.geode.cache.Region
  * @see org.springframework.data.domain.Sort
+ * @see org.springframework.data.gemfire.repository.query.OqlStatement
  * @see org.springframework.data.gemfire.repository.query.support.OqlKeyword
  * @see org.springframework.data.repository.Repository
  */
@@ -70,12 +75,24 @@ public class QueryString {
 
 	// OQL Query Regular Expression Patterns
 	protected static final String COUNT_PROJECTION = "count(*)";
-	protected static final String IN_PATTERN = "(?<=IN (SET|LIST) )\\$\\d";
-	protected static final String IN_PARAMETER_PATTERN = "(?<=IN (SET|LIST) \\$)\\d";
+	protected static final String IN_PATTERN = "(?<=IN (SET|LIST) )\\$\\d+";
+	protected static final String IN_PARAMETER_PATTERN = "(?<=IN (SET|LIST) \\$)\\d+";
+	protected static final String IN_SET_PARAMETER_PATTERN = "(?<=IN )(SET|LIST) (?=\\$\\d+)";
 	protected static final String IN_VALUES_TEMPLATE = "(%s)";
 	protected static final String REGION_PATTERN = "\\/(\\/?\\w)+";
 	protected static final String STAR_PROJECTION = "*";
 
+	private static final Pattern IN_PARAMETER_INDEX_PATTERN = Pattern.compile(IN_PARAMETER_PATTERN);
+
+	private static final Pattern PROPERTY_NAME_PATTERN = Pattern.compile("\\w+");
+
+	private static final Pattern STAR_SELECT_PATTERN = Pattern.compile(
+		"^(SELECT\\s+(?:DISTINCT\\s+)?)\\*(\\s+FROM\\s+/[^\\s,]+)(?:\\s+(?:AS\\s+)?(\\w+))?(\\s*,)?",
+		Pattern.CASE_INSENSITIVE);
+
+	private static final List<String> FROM_CLAUSE_TERMINATING_KEYWORDS =
+		Arrays.asList("GROUP", "LIMIT", "ORDER", "WHERE");
+
 	/**
 	 * @deprecated use {@link #COUNT_PROJECTION}.
 	 */
@@ -180,7 +197,11 @@ public class QueryString {
 		return query;
 	}
 
-	private final String query;
+	private volatile List<Integer> inParameterIndexes;
+
+	private volatile OqlStatement statement;
+
+	private volatile String query;
 
 	/**
 	 * Constructs a new instance of {@link QueryString} initialized with the given {@link String OQL query}.
@@ -194,6 +215,20 @@ public class QueryString {
 		this.query = validateQuery(query);
 	}
 
+	/**
+	 * Constructs a new instance of {@link QueryString} initialized with the given, parsed {@link OqlStatement}.
+	 *
+	 * The {@link String OQL query statement} is rendered from the {@link OqlStatement} on first use.
+	 *
+	 * @param statement parsed {@link OqlStatement}; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link OqlStatement} is {@literal null}.
+	 * @see org.springframework.data.gemfire.repository.query.OqlStatement
+	 */
+	QueryString(@NonNull OqlStatement statement) {
+		Assert.notNull(statement, "OqlStatement must not be null");
+		this.statement = statement;
+	}
+
 	/**
 	 * Constructs a new instance of {@link QueryString} initialized with the given
 	 * {@link Class application domain model type} used to construct an OQL {@literal SELECT} query statement.
@@ -231,25 +266,64 @@ public class QueryString {
 	 * @see #getLimit()
 	 */
 	public boolean isLimited() {
-		return LIMIT_PATTERN.matcher(getQuery()).find();
+		return getStatement().getLimit() != null;
+	}
+
+	/**
+	 * Determines whether the OQL query declares query {@literal HINTS}.
+	 *
+	 * @return a boolean value determining whether the OQL query declares query {@literal HINTS}.
+	 * @see #withHints(String...)
+	 */
+	public boolean hasHints() {
+		return !getStatement().getHints().isEmpty();
+	}
+
+	/**
+	 * Determines whether the OQL query declares an {@literal IMPORT}.
+	 *
+	 * @return a boolean value determining whether the OQL query declares an {@literal IMPORT}.
+	 * @see #withImport(String)
+	 */
+	public boolean hasImport() {
+		return !getStatement().getImports().isEmpty();
+	}
+
+	/**
+	 * Determines whether {@literal TRACE} logging is enabled for the OQL query.
+	 *
+	 * @return a boolean value determining whether {@literal TRACE} logging is enabled for the OQL query.
+	 * @see #withTrace()
+	 */
+	public boolean isTraced() {
+		return getStatement().isTraced();
 	}
 
 	/**
 	 * Returns the parameter indexes used in this query.
 	 *
+	 * The parameter indexes are computed once and cached since the {@link String OQL query} is immutable.
+	 *
 	 * @return the parameter indexes used in this query or an empty {@link Iterable} if no parameter indexes are used.
 	 * @see java.lang.Iterable
 	 */
 	public Iterable<Integer> getInParameterIndexes() {
 
-		Pattern pattern = Pattern.compile(IN_PARAMETER_PATTERN);
+		List<Integer> indexes = this.inParameterIndexes;
 
-		Matcher matcher = pattern.matcher(getQuery());
+		if (indexes == null) {
 
-		List<Integer> indexes = new ArrayList<>();
+			Matcher matcher = IN_PARAMETER_INDEX_PATTERN.matcher(getQuery());
 
-		while (matcher.find()) {
-			indexes.add(Integer.parseInt(matcher.group()));
+			indexes = new ArrayList<>();
+
+			while (matcher.find()) {
+				indexes.add(Integer.parseInt(matcher.group()));
+			}
+
+			indexes = indexes.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(indexes);
+
+			this.inParameterIndexes = indexes;
 		}
 
 		return indexes;
@@ -266,30 +340,48 @@ public class QueryString {
 	 */
 	public int getLimit() {
 
-		String query = getQuery();
-
-		Matcher matcher = LIMIT_PATTERN.matcher(query);
+		Integer limit = getStatement().getLimit();
 
-		if (matcher.find()) {
+		return limit != null ? limit : Integer.MAX_VALUE;
+	}
 
-			int startIndex = matcher.start();
-			int endIndex = matcher.end();
+	/**
+	 * Returns the {@link String OQL query statement} modeled by this {@link QueryString}.
+	 *
+	 * The {@link String OQL query statement} is rendered from the {@link OqlStatement} only once.
+	 *
+	 * @return the {@link String OQL query}; never {@literal null} or {@literal empty}.
+	 */
+	protected @NonNull String getQuery() {
 
-			String limit = query.substring(startIndex, endIndex);
+		String query = this.query;
 
-			return Integer.parseInt(getDigitsOnly(limit));
+		if (query == null) {
+			query = this.statement.toString();
+			this.query = query;
 		}
 
-		return Integer.MAX_VALUE;
+		return query;
 	}
 
 	/**
-	 * Returns the {@link String OQL query statement} from which this {@link QueryString} was constructed.
+	 * Returns the {@link OqlStatement} parsed from the {@link String OQL query statement}.
 	 *
-	 * @return the {@link String OQL query}; never {@literal null} or {@literal empty}.
+	 * The {@link String OQL query statement} is parsed only once.
+	 *
+	 * @return the parsed {@link OqlStatement}.
+	 * @see org.springframework.data.gemfire.repository.query.OqlStatement
 	 */
-	protected @NonNull String getQuery() {
-		return this.query;
+	@NonNull OqlStatement getStatement() {
+
+		OqlStatement statement = this.statement;
+
+		if (statement == null) {
+			statement = OqlStatement.parse(getQuery());
+			this.statement = statement;
+		}
+
+		return statement;
 	}
 
 	/**
@@ -301,10 +393,7 @@ public class QueryString {
 	 * @see #withLimit(Integer)
 	 */
 	public QueryString adjustLimit(@Nullable Integer limit) {
-
-		return limit != null
-			? QueryString.of(LIMIT_PATTERN.matcher(getQuery()).replaceAll("").trim()).withLimit(limit)
-			: this;
+		return withLimit(limit);
 	}
 
 	/**
@@ -316,7 +405,7 @@ public class QueryString {
 	 * @see #asDistinct(String)
 	 */
 	public QueryString asDistinct() {
-		return QueryString.of(asDistinct(getQuery()));
+		return new QueryString(getStatement().withBody(this::asDistinct));
 	}
 
 	/**
@@ -335,6 +424,92 @@ public class QueryString {
 				String.format("%1$s %2$s", OqlKeyword.SELECT.getKeyword(), OqlKeyword.DISTINCT.getKeyword()));
 	}
 
+	/**
+	 * Replaces the {@literal *} projection of an OQL {@literal SELECT} query on a single {@link Region}
+	 * with the given properties, for example: {@literal SELECT x.name, x.age FROM /People x}.
+	 *
+	 * Only the projected properties of each query result are transferred and deserialized. An OQL query projecting
+	 * multiple properties returns {@link org.apache.geode.cache.query.Struct Structs} while an OQL query projecting
+	 * a single property returns the values of the property. Properties referenced in the {@literal ORDER BY} clause
+	 * are included in the projection since Apache Geode requires the {@literal ORDER BY} properties
+	 * of a {@literal DISTINCT} query to be projected.
+	 *
+	 * The OQL query is not modified if it does not select {@literal *} from a single {@link Region}, or if any of
+	 * the properties, or the {@literal ORDER BY} expressions, are not simple property names.
+	 *
+	 * @param propertyNames {@link Collection} of names of the properties to project.
+	 * @return a new {@link QueryString} projecting the given properties, or this {@link QueryString}
+	 * if the OQL query cannot be projected.
+	 */
+	public @NonNull QueryString withProjection(@Nullable Collection<String> propertyNames) {
+
+		if (CollectionUtils.nullSafeIsEmpty(propertyNames)) {
+			return this;
+		}
+
+		OqlStatement statement = getStatement();
+
+		Matcher matcher = STAR_SELECT_PATTERN.matcher(statement.getBody());
+
+		if (!matcher.find() || matcher.group(4) != null) {
+			return this;
+		}
+
+		String alias = matcher.group(3);
+
+		alias = alias == null || FROM_CLAUSE_TERMINATING_KEYWORDS.contains(alias.toUpperCase()) ? null : alias;
+
+		Set<String> projectedProperties = new LinkedHashSet<>(propertyNames);
+
+		if (statement.getOrderBy() != null) {
+			for (String order : statement.getOrderBy().split(",")) {
+
+				String property = order.trim().split("\\s+")[0];
+
+				projectedProperties.add(alias != null && property.startsWith(alias + ".")
+					? property.substring(alias.length() + 1)
+					: property);
+			}
+		}
+
+		StringBuilder projection = new StringBuilder();
+
+		for (String property : projectedProperties) {
+
+			if (!PROPERTY_NAME_PATTERN.matcher(property).matches()) {
+				return this;
+			}
+
+			projection.append(projection.length() > 0 ? ", " : "")
+				.append(alias != null ? alias + "." : "")
+				.append(property);
+		}
+
+		String body = statement.getBody();
+		String projectedBody = matcher.group(1) + projection + body.substring(matcher.start(2));
+
+		return new QueryString(statement.withBody(it -> projectedBody));
+	}
+
+	/**
+	 * Rewrites all {@literal IN SET $n} and {@literal IN LIST $n} parameters of the OQL Query as {@literal IN $n}
+	 * query parameters, which are bound to a {@link Collection} argument when the OQL Query is executed.
+	 *
+	 * Unlike {@link #bindIn(Collection)}, the OQL Query statement remains the same regardless of the values
+	 * bound to the {@literal IN} parameters, which keeps the OQL Query statement small and allows the compiled
+	 * OQL Query to be reused.
+	 *
+	 * @return a new {@link QueryString} with all {@literal IN} parameters rewritten as OQL Query parameters
+	 * or this {@link QueryString} if the OQL Query has no {@literal IN} parameters.
+	 * @see #getInParameterIndexes()
+	 */
+	public @NonNull QueryString withInParameters() {
+
+		return getInParameterIndexes().iterator().hasNext()
+			? new QueryString(getStatement().withBody(body -> body.replaceAll(IN_SET_PARAMETER_PATTERN, "")))
+			: this;
+	}
+
 	/**
 	 * Binds the given {@link Collection} of values into the first {@literal IN} parameter of the OQL Query
 	 * ({@link String}) by expanding the given values into a comma-separated list.
@@ -343,7 +518,10 @@ public class QueryString {
 	 * @return a new {@link QueryString} having {@literal IN} parameter bound with values
 	 * or returns this {@link QueryString} if the {@link Collection} of values is {@literal null} or {@literal empty}.
 	 * @see java.util.Collection
+	 * @deprecated use {@link #withInParameters()} and pass the {@link Collection} of values
+	 * as an OQL Query parameter.
 	 */
+	@Deprecated
 	public @NonNull QueryString bindIn(@NonNull Collection<?> values) {
 
 		if (!CollectionUtils.nullSafeIsEmpty(values)) {
@@ -354,10 +532,11 @@ public class QueryString {
 			String prefix = isNumeric ? "" : "'";
 			String suffix = prefix;
 
-			String query = getQuery().replaceFirst(IN_PATTERN, String.format(IN_VALUES_TEMPLATE,
-				StringUtils.collectionToDelimitedString(values, delimiter, prefix, suffix)));
+			String inValues = String.format(IN_VALUES_TEMPLATE,
+				StringUtils.collectionToDelimitedString(values, delimiter, prefix, suffix));
 
-			return QueryString.of(query);
+			return new QueryString(getStatement()
+				.withBody(body -> body.replaceFirst(IN_PATTERN, Matcher.quoteReplacement(inValues))));
 		}
 
 		return this;
@@ -376,7 +555,9 @@ public class QueryString {
 	 */
 	@SuppressWarnings("unused")
 	public QueryString fromRegion(Region<?, ?> region, Class<?> domainType) {
-		return QueryString.of(getQuery().replaceAll(REGION_PATTERN, region.getFullPath()));
+		String regionPath = Matcher.quoteReplacement(region.getFullPath());
+
+		return new QueryString(getStatement().withBody(body -> body.replaceAll(REGION_PATTERN, regionPath)));
 	}
 
 	/**
@@ -400,16 +581,14 @@ public class QueryString {
 
 		if (hasSort(sort)) {
 
-			StringBuilder orderByClause = new StringBuilder("ORDER BY ");
-
-			int count = 0;
+			StringBuilder orderBy = new StringBuilder();
 
 			for (Sort.Order order : sort) {
-				orderByClause.append(count++ > 0 ? ", " : "");
-				orderByClause.append(String.format("%1$s %2$s", order.getProperty(), order.getDirection()));
+				orderBy.append(orderBy.length() > 0 ? ", " : "");
+				orderBy.append(String.format("%1$s %2$s", order.getProperty(), order.getDirection()));
 			}
 
-			return new QueryString(String.format("%1$s %2$s", asDistinct(getQuery()), orderByClause.toString()));
+			return new QueryString(getStatement().withBody(this::asDistinct).withOrderBy(orderBy.toString()));
 		}
 
 		return this;
@@ -429,24 +608,16 @@ public class QueryString {
 	/**
 	 * Applies HINTS to the OQL Query.
 	 *
+	 * The given hints are merged with any hints already declared in the OQL Query.
+	 *
 	 * @param hints array of {@link String Strings} containing query hints.
 	 * @return a new {@link QueryString} if hints are not null or empty, or return this {@link QueryString}.
 	 */
 	public @NonNull QueryString withHints(@NonNull String... hints) {
 
-		if (!ObjectUtils.isEmpty(hints)) {
-
-			StringBuilder builder = new StringBuilder();
-
-			for (String hint : hints) {
-				builder.append(builder.length() > 0 ? ", " : "");
-				builder.append(String.format("'%s'", hint));
-			}
-
-			return QueryString.of(String.format(HINTS_OQL_TEMPLATE, builder.toString(), getQuery()));
-		}
-
-		return this;
+		return !ObjectUtils.isEmpty(hints)
+			? new QueryString(getStatement().withHints(hints))
+			: this;
 	}
 
 	/**
@@ -458,20 +629,22 @@ public class QueryString {
 	public @NonNull QueryString withImport(@NonNull String importExpression) {
 
 		return StringUtils.hasText(importExpression)
-			? QueryString.of(String.format(IMPORT_OQL_TEMPLATE, importExpression, getQuery()))
+			? new QueryString(getStatement().withImport(importExpression))
 			: this;
 	}
 
 	/**
 	 * Applies a LIMIT to the OQL Query.
 	 *
+	 * The given LIMIT replaces any LIMIT already declared in the OQL Query.
+	 *
 	 * @param limit {@link Integer} indicating the number of results to return from the query.
 	 * @return a new {@link QueryString} if a limit was specified, or return this {@link QueryString}.
 	 */
-	public @NonNull QueryString withLimit(@NonNull Integer limit) {
+	public @NonNull QueryString withLimit(@Nullable Integer limit) {
 
 		return limit != null
-			? QueryString.of(String.format(LIMIT_OQL_TEMPLATE, getQuery(), limit))
+			? new QueryString(getStatement().withLimit(limit))
 			: this;
 	}
 
@@ -481,7 +654,7 @@ public class QueryString {
 	 * @return a new {@link QueryString} with tracing enabled.
 	 */
 	public @NonNull QueryString withTrace() {
-		return QueryString.of(String.format(TRACE_OQL_TEMPLATE, getQuery()));
+		return isTraced() ? this : new QueryString(getStatement().withTrace());
 	}
 
 	/**
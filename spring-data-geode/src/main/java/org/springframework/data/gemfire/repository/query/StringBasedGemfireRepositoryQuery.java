@@ -18,34 +18,60 @@ package org.springframework.data.gemfire.repository.query;
 import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.apache.geode.cache.Region;
 import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.Struct;
 
+import org.springframework.beans.BeanUtils;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
+import org.springframework.data.gemfire.mapping.PdxInstanceEntityProxyFactory;
+import org.springframework.data.gemfire.repository.KeysetPageRequest;
 import org.springframework.data.gemfire.repository.Query;
+import org.springframework.data.gemfire.repository.query.support.ChunkedValuesIterator;
 import org.springframework.data.gemfire.repository.query.support.OqlQueryExecutor;
 import org.springframework.data.gemfire.repository.query.support.PagingUtils;
 import org.springframework.data.gemfire.repository.query.support.TemplateBasedOqlQueryExecutor;
+import org.springframework.data.gemfire.repository.query.support.WindowedKeysIterator;
 import org.springframework.data.gemfire.util.CollectionUtils;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.model.PreferredConstructorDiscoverer;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Parameters;
-import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
 
 /**
  * {@link GemfireRepositoryQuery} using plain {@link String} based OQL queries.
  *
+ * When the {@link QueryMethod} returns a closed interface projection or a DTO projection, the {@literal *} projection
+ * of the OQL query is replaced with the properties of the projection (e.g. {@literal SELECT x.name, x.age FROM ...}),
+ * so that only the projected properties are transferred and deserialized. The resulting
+ * {@link Struct Structs} are mapped to the projection.
+ *
  * @author Oliver Gierke
  * @author David Turanski
  * @author John Blum
@@ -73,8 +99,14 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 	private final OqlQueryExecutor nonPagedQueryExecutor;
 	private final OqlQueryExecutor pagedQueryExecutor;
 
+	private final PdxInstanceEntityProxyFactory lazyEntityProxyFactory = new PdxInstanceEntityProxyFactory();
+
 	private final QueryString query;
 
+	private volatile boolean projectedQuery;
+
+	private volatile QueryString resolvedQuery;
+
 	/**
 	 * Constructor used for testing purposes only!
 	 */
@@ -85,10 +117,7 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 		this.pagedQueryExecutor = (queryMethod, query, arguments) -> null;
 		this.template = null;
 
-		register(ProvidedQueryPostProcessors.LIMIT
-			.processBefore(ProvidedQueryPostProcessors.IMPORT)
-			.processBefore(ProvidedQueryPostProcessors.HINT)
-			.processBefore(ProvidedQueryPostProcessors.TRACE));
+		register(ProvidedQueryPostProcessors.ALL);
 	}
 
 	/**
@@ -119,14 +148,12 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
 		this.nonPagedQueryExecutor = new TemplateBasedOqlQueryExecutor(template);
 
-		this.pagedQueryExecutor = new SmartPagedOqlQueryExecutor(template)
-			.thenExecuteWith(new TwoPhasePagedOqlQueryExecutor(template)
-				.thenExecuteWith(new TemplateBasedOqlQueryExecutor(template)));
+		this.pagedQueryExecutor = new KeysetPagedOqlQueryExecutor(template)
+			.thenExecuteWith(new SmartPagedOqlQueryExecutor(template)
+				.thenExecuteWith(new TwoPhasePagedOqlQueryExecutor(template)
+					.thenExecuteWith(new TemplateBasedOqlQueryExecutor(template))));
 
-		register(ProvidedQueryPostProcessors.LIMIT
-			.processBefore(ProvidedQueryPostProcessors.IMPORT)
-			.processBefore(ProvidedQueryPostProcessors.HINT)
-			.processBefore(ProvidedQueryPostProcessors.TRACE));
+		register(ProvidedQueryPostProcessors.ALL);
 	}
 
 	/**
@@ -138,6 +165,7 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 	 */
 	public @NonNull StringBasedGemfireRepositoryQuery asDerivedQuery() {
 		this.userDefinedQuery = false;
+		this.resolvedQuery = null;
 		return this;
 	}
 
@@ -149,6 +177,7 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 	 */
 	public @NonNull StringBasedGemfireRepositoryQuery asUserDefinedQuery() {
 		this.userDefinedQuery = true;
+		this.resolvedQuery = null;
 		return this;
 	}
 
@@ -231,13 +260,36 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 	 */
 	@Override
 	public Object execute(Object[] arguments) {
+		return execute(arguments, this::doExecute);
+	}
+
+	/**
+	 * Executes the OQL query with the given arguments.
+	 *
+	 * @param arguments array of {@link Object arguments} passed to the {@link QueryMethod}.
+	 * @return the processed query results.
+	 * @see #execute(Object[])
+	 */
+	protected Object doExecute(Object[] arguments) {
 
 		QueryMethod queryMethod = getQueryMethod();
 
 		QueryString query = getQuery();
 
+		arguments = bindInParameters(queryMethod, query, arguments);
+
 		String preparedQuery = prepareQuery(queryMethod, query, arguments);
 
+		// The values streamed by the keys query are not mapped to the projection returned by the QueryMethod
+		if (queryMethod.isStreamQuery() && !PagingUtils.isPagingPresent(queryMethod) && !isProjecting(queryMethod)) {
+
+			Optional<String> keysQuery = resolveKeysQuery(getTemplate(), queryMethod, preparedQuery);
+
+			if (keysQuery.isPresent()) {
+				return streamQueryResults(keysQuery.get(), arguments);
+			}
+		}
+
 		SelectResults<?> selectResults =
 			resolveOqlQueryExecutor(queryMethod).execute(queryMethod, preparedQuery, arguments);
 
@@ -247,6 +299,10 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 	/**
 	 * Prepares the OQL query statement to execute.
 	 *
+	 * The {@literal FROM clause} of a derived OQL query is resolved to the queried {@link org.apache.geode.cache.Region}
+	 * and {@literal IN} parameters are bound as OQL query parameters, so that the OQL query statement is the same
+	 * for all arguments. Therefore, the OQL query statement is resolved only once.
+	 *
 	 * @param queryMethod {@link QueryMethod} modeling the OQL query.
 	 * @param query {@link QueryString} containing the OQL query statement.
 	 * @param arguments array of {@link Object} values containing the arguments for the OQL query bind in parameters.
@@ -254,33 +310,122 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 	 * @see org.springframework.data.gemfire.repository.query.QueryPostProcessor
 	 * @see org.springframework.data.gemfire.repository.query.QueryString
 	 * @see org.springframework.data.repository.query.QueryMethod
-	 * @see #bindInParameters(QueryMethod, QueryString, Object[])
-	 * @see #resolveFromClause(QueryMethod, QueryString)
+	 * @see #resolveQuery(QueryMethod, QueryString)
 	 * @see #getQueryPostProcessor()
 	 */
 	protected @NonNull String prepareQuery(@NonNull QueryMethod queryMethod, @NonNull QueryString query,
 			@NonNull Object[] arguments) {
 
-		query = bindInParameters(queryMethod, resolveFromClause(queryMethod, query), arguments);
-
-		String queryString = query.toString();
+		String queryString = resolveQuery(queryMethod, query).toString();
 		String processedQueryString = getQueryPostProcessor().postProcess(queryMethod, queryString, arguments);
 
 		return processedQueryString;
 	}
 
-	private QueryString bindInParameters(QueryMethod queryMethod, QueryString query, Object[] arguments) {
+	/**
+	 * Converts the arguments bound to the {@literal IN} parameters of the OQL query into {@link Collection Collections}
+	 * so that the arguments can be passed as OQL query parameters (e.g. {@literal IN $1}) rather than inlined
+	 * into the OQL query statement as literal values.
+	 *
+	 * @param queryMethod {@link QueryMethod} modeling the OQL query.
+	 * @param query {@link QueryString} containing the OQL query statement.
+	 * @param arguments array of {@link Object} values containing the arguments for the OQL query bind in parameters.
+	 * @return the array of {@link Object arguments} with each {@literal IN} parameter argument
+	 * converted into a {@link Collection}.
+	 * @see org.springframework.data.gemfire.repository.query.QueryString#getInParameterIndexes()
+	 * @see #toCollection(Object)
+	 */
+	Object[] bindInParameters(@NonNull QueryMethod queryMethod, @NonNull QueryString query,
+			@NonNull Object[] arguments) {
+
+		Object[] boundArguments = arguments;
 
 		Parameters<?, ?> queryMethodParameters = queryMethod.getParameters();
 
-		ParametersParameterAccessor parameterAccessor =
-			new ParametersParameterAccessor(queryMethodParameters, arguments);
-
 		for (Integer index : query.getInParameterIndexes()) {
-			query = query.bindIn(toCollection(parameterAccessor.getBindableValue(index - 1)));
+
+			int argumentIndex = queryMethodParameters.getBindableParameter(index - 1).getIndex();
+
+			if (argumentIndex < arguments.length) {
+
+				boundArguments = boundArguments == arguments ? arguments.clone() : boundArguments;
+				boundArguments[argumentIndex] = toCollection(arguments[argumentIndex]);
+			}
 		}
 
-		return query;
+		return boundArguments;
+	}
+
+	private QueryString resolveQuery(QueryMethod queryMethod, QueryString query) {
+
+		if (query == getQuery()) {
+
+			// The OQL query statement of this RepositoryQuery never changes; resolve the query only once
+			QueryString resolvedQuery = this.resolvedQuery;
+
+			if (resolvedQuery == null) {
+				resolvedQuery = resolveProjection(queryMethod, resolveFromClause(queryMethod, query).withInParameters());
+				this.resolvedQuery = resolvedQuery;
+			}
+
+			return resolvedQuery;
+		}
+
+		return resolveProjection(queryMethod, resolveFromClause(queryMethod, query).withInParameters());
+	}
+
+	private QueryString resolveProjection(QueryMethod queryMethod, QueryString query) {
+
+		QueryString projectedQuery = query.withProjection(resolveProjectedProperties(queryMethod));
+
+		this.projectedQuery = projectedQuery != query;
+
+		return projectedQuery;
+	}
+
+	/**
+	 * Resolves the properties of the projection returned by the {@link QueryMethod} that are projected
+	 * in the OQL query.
+	 *
+	 * Properties are only projected for closed interface projections and DTO projections. Paged, sliced and streamed
+	 * OQL queries, which require the full results (or keys) of the query, are not projected.
+	 *
+	 * @param queryMethod {@link QueryMethod} modeling the OQL query.
+	 * @return a {@link List} of the projected property names or an empty {@link List} if the OQL query
+	 * should not be projected.
+	 * @see org.springframework.data.repository.query.ReturnedType#getInputProperties()
+	 */
+	static @NonNull List<String> resolveProjectedProperties(@NonNull QueryMethod queryMethod) {
+
+		ReturnedType returnedType = resolveReturnedType(queryMethod);
+		Parameters<?, ?> parameters = queryMethod.getParameters();
+
+		boolean projectable = isProjection(returnedType)
+			&& !(queryMethod.isPageQuery() || queryMethod.isSliceQuery() || queryMethod.isStreamQuery())
+			&& !(parameters != null && parameters.hasPageableParameter());
+
+		return projectable ? returnedType.getInputProperties() : Collections.emptyList();
+	}
+
+	private static @Nullable ReturnedType resolveReturnedType(@NonNull QueryMethod queryMethod) {
+
+		ResultProcessor resultProcessor = queryMethod.getResultProcessor();
+
+		return resultProcessor != null ? resultProcessor.getReturnedType() : null;
+	}
+
+	private static boolean isProjecting(@NonNull QueryMethod queryMethod) {
+
+		ReturnedType returnedType = resolveReturnedType(queryMethod);
+
+		return returnedType != null && returnedType.isProjecting();
+	}
+
+	private static boolean isProjection(@Nullable ReturnedType returnedType) {
+
+		return returnedType != null
+			&& returnedType.isProjecting()
+			&& (returnedType.getReturnedType().isInterface() || returnedType.needsCustomConstruction());
 	}
 
 	private QueryString resolveFromClause(QueryMethod queryMethod, QueryString query) {
@@ -289,6 +434,124 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 			: query.fromRegion(getTemplate().getRegion(), queryMethod.getEntityInformation().getJavaType());
 	}
 
+	/**
+	 * Streams the results of a {@literal SELECT *} OQL query by executing the given {@literal keys query}
+	 * and then incrementally fetching the values for the keys in chunks.
+	 *
+	 * When the {@literal keys query} is not ordered, the keys are fetched in {@literal LIMIT} windows of the chunk size,
+	 * ordered by identifier, seeking past the last key of the previous window. Then, only a single window of keys
+	 * is held in memory along with a single chunk of values. Therefore, the identifiers must be {@link Comparable}.
+	 * When the {@literal keys query} is ordered, the keys of the full OQL query result set are held in memory.
+	 *
+	 * @param keysQuery {@link String} containing the {@literal keys query} to execute.
+	 * @param arguments array of {@link Object} values containing the arguments for the OQL query bind in parameters.
+	 * @return a lazy {@link Stream} of the OQL query results.
+	 * @see org.springframework.data.gemfire.repository.query.support.ChunkedValuesIterator
+	 * @see java.util.stream.Stream
+	 */
+	protected @NonNull Stream<?> streamQueryResults(@NonNull String keysQuery, @NonNull Object... arguments) {
+
+		QueryMethod queryMethod = getQueryMethod();
+
+		PagedQueryString pagedKeysQuery = PagedQueryString.of(keysQuery);
+
+		String idProperty = resolveIdProperty(queryMethod);
+
+		int chunkSize = ChunkedValuesIterator.DEFAULT_CHUNK_SIZE;
+
+		Iterable<Object> keys = idProperty != null && pagedKeysQuery.getStatement().getOrderBy() == null
+			? findKeysInWindows(pagedKeysQuery, idProperty, chunkSize, arguments)
+			: PagedQueryKeys.from(getTemplate().find(keysQuery, arguments), 0L).getKeys();
+
+		Stream<?> values = ChunkedValuesIterator.stream(keys, chunkSize, getTemplate()::getAll);
+
+		if (isLazyEntityQuery(queryMethod)) {
+
+			GemfirePersistentEntity<?> entity = getPersistentEntity(queryMethod);
+
+			values = values.map(value -> this.lazyEntityProxyFactory.getEntity(entity, value));
+		}
+
+		return values;
+	}
+
+	private Iterable<Object> findKeysInWindows(PagedQueryString keysQuery, String idProperty, int windowSize,
+			Object... arguments) {
+
+		KeysetPageRequest firstWindowRequest = KeysetPageRequest.of(windowSize, Sort.by(idProperty));
+
+		return WindowedKeysIterator.iterable(windowSize, lastKey -> {
+
+			KeysetPageRequest windowRequest = lastKey != null
+				? firstWindowRequest.withKeyset(Collections.singletonMap(idProperty, lastKey))
+				: firstWindowRequest;
+
+			String windowQuery = keysQuery.withKeyset(windowRequest, idProperty, arguments.length + 1).toString();
+
+			SelectResults<?> keysSelectResults =
+				getTemplate().find(windowQuery, withKeysetArguments(arguments, windowRequest));
+
+			return PagedQueryKeys.from(keysSelectResults, 0L).getKeys();
+		});
+	}
+
+	// Keyset values are bound to parameters following the QueryMethod arguments
+	private static Object[] withKeysetArguments(Object[] arguments, KeysetPageRequest pageRequest) {
+
+		Object[] keysetArguments = PagedQueryString.getKeysetArguments(pageRequest);
+		Object[] argumentsWithKeyset = Arrays.copyOf(arguments, arguments.length + keysetArguments.length);
+
+		System.arraycopy(keysetArguments, 0, argumentsWithKeyset, arguments.length, keysetArguments.length);
+
+		return argumentsWithKeyset;
+	}
+
+	/**
+	 * Resolves the {@literal keys query} projecting only the identifiers of the entities matching
+	 * the given {@literal SELECT *} OQL query.
+	 *
+	 * The OQL query must query the {@link Region} of the {@link GemfireTemplate} for entities
+	 * having an identifier.
+	 *
+	 * @param template {@link GemfireTemplate} used to execute the OQL query.
+	 * @param queryMethod {@link QueryMethod} modeling the OQL query.
+	 * @param query {@link String} containing the OQL query statement.
+	 * @return an {@link Optional} {@link String} containing the {@literal keys query} or {@link Optional#empty()}
+	 * if the OQL query cannot be rewritten as a {@literal keys query}.
+	 * @see org.springframework.data.gemfire.repository.query.PagedQueryString#asKeysQuery(String)
+	 */
+	static @NonNull Optional<String> resolveKeysQuery(@NonNull GemfireTemplate template,
+			@NonNull QueryMethod queryMethod, @NonNull String query) {
+
+		String idProperty = resolveIdProperty(queryMethod);
+
+		Region<?, ?> region = template.getRegion();
+
+		PagedQueryString pagedQuery = PagedQueryString.of(query);
+
+		boolean rewritable = idProperty != null
+			&& region != null
+			&& pagedQuery.getRegionPath().filter(region.getFullPath()::equals).isPresent();
+
+		return rewritable
+			? pagedQuery.asKeysQuery(idProperty).map(PagedQueryString::toString)
+			: Optional.empty();
+	}
+
+	private static @Nullable String resolveIdProperty(@NonNull QueryMethod queryMethod) {
+
+		if (queryMethod instanceof GemfireQueryMethod) {
+
+			GemfirePersistentEntity<?> entity = ((GemfireQueryMethod) queryMethod).getPersistentEntity();
+
+			GemfirePersistentProperty idProperty = entity != null ? entity.getIdProperty() : null;
+
+			return idProperty != null ? idProperty.getName() : null;
+		}
+
+		return null;
+	}
+
 	/**
 	 * Resolves the {@link OqlQueryExecutor} used to execute the {@link String OQL query statement} modeled by
 	 * the given {@link QueryMethod}.
@@ -322,13 +585,62 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 	protected @Nullable Object processQueryResults(@NonNull QueryMethod queryMethod,
 			@NonNull SelectResults<?> selectResults, @NonNull Object... arguments) {
 
-		Collection collection = toCollection(selectResults);
+		Collection collection = processProjections(queryMethod,
+			processLazyEntities(queryMethod, toCollection(selectResults)));
+
+		KeysetPageRequest keysetPageRequest = PagingUtils.getKeysetPageRequest(queryMethod, arguments);
+
+		if (keysetPageRequest != null) {
 
-		if (queryMethod.isCollectionQuery()) {
+			KeysetSlice<Object> keysetSlice = KeysetSlice.from(new ArrayList<>(collection), keysetPageRequest);
+
+			if (queryMethod.isSliceQuery()) {
+				return keysetSlice;
+			}
+
+			collection = keysetSlice.getContent();
+		}
+
+		if (queryMethod.isStreamQuery()) {
+			return collection.stream();
+		}
+		else if (queryMethod.isCollectionQuery()) {
 			return collection;
 		}
 		else if (queryMethod.isPageQuery()) {
-			return new PageImpl<Object>(new ArrayList<>(collection), PagingUtils.getPageRequest(queryMethod, arguments), Integer.MAX_VALUE);
+
+			long total = selectResults instanceof TwoPhasePagedSelectResults
+				? ((TwoPhasePagedSelectResults<?>) selectResults).getTotalSize()
+				: Integer.MAX_VALUE;
+
+			return new PageImpl<Object>(new ArrayList<>(collection), PagingUtils.getPageRequest(queryMethod, arguments), total);
+		}
+		else if (queryMethod.isSliceQuery()) {
+
+			Pageable pageRequest = PagingUtils.getPageRequest(queryMethod, arguments);
+
+			List<Object> content = new ArrayList<>(collection);
+
+			boolean hasNext;
+
+			if (selectResults instanceof TwoPhasePagedSelectResults) {
+				hasNext = ((TwoPhasePagedSelectResults<?>) selectResults).getTotalSize()
+					> PagingUtils.getQueryResultSetEndIndexForPage(pageRequest);
+			}
+			else if (selectResults instanceof PagedSelectResults) {
+				hasNext = ((PagedSelectResults<?>) selectResults).hasNext();
+			}
+			else {
+
+				// the query results include one result beyond the requested page when a next page exists
+				hasNext = content.size() > pageRequest.getPageSize();
+
+				if (hasNext) {
+					content = content.subList(0, pageRequest.getPageSize());
+				}
+			}
+
+			return new SliceImpl<Object>(content, pageRequest, hasNext);
 		}
 		else if (queryMethod.isQueryForEntity()) {
 			if (collection.isEmpty()) {
@@ -349,6 +661,119 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 		}
 	}
 
+	/**
+	 * Maps the {@link org.apache.geode.pdx.PdxInstance PdxInstance} results of an OQL query to lazily materialized
+	 * entities when the {@link QueryMethod} is annotated with
+	 * {@link org.springframework.data.gemfire.repository.query.annotation.LazyEntities}.
+	 *
+	 * @param queryMethod {@link QueryMethod} modeling the OQL query.
+	 * @param results {@link Collection} of OQL query results.
+	 * @return a {@link Collection} containing the lazily materialized entities, or the given {@link Collection}
+	 * of results if the {@link QueryMethod} does not return lazy entities.
+	 * @see org.springframework.data.gemfire.mapping.PdxInstanceEntityProxyFactory
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	@NonNull Collection processLazyEntities(@NonNull QueryMethod queryMethod, @NonNull Collection results) {
+
+		if (results.isEmpty() || !isLazyEntityQuery(queryMethod)) {
+			return results;
+		}
+
+		GemfirePersistentEntity<?> entity = getPersistentEntity(queryMethod);
+
+		List<Object> entities = new ArrayList<>(results.size());
+
+		for (Object result : (Collection<Object>) results) {
+			entities.add(this.lazyEntityProxyFactory.getEntity(entity, result));
+		}
+
+		return entities;
+	}
+
+	private static boolean isLazyEntityQuery(@NonNull QueryMethod queryMethod) {
+		return queryMethod instanceof GemfireQueryMethod && ((GemfireQueryMethod) queryMethod).hasLazyEntities();
+	}
+
+	private static @NonNull GemfirePersistentEntity<?> getPersistentEntity(@NonNull QueryMethod queryMethod) {
+		return ((GemfireQueryMethod) queryMethod).getPersistentEntity();
+	}
+
+	/**
+	 * Maps the {@link Struct} results, or single property values, of a projected OQL query to the projection
+	 * returned by the {@link QueryMethod}.
+	 *
+	 * @param queryMethod {@link QueryMethod} modeling the OQL query.
+	 * @param results {@link Collection} of OQL query results.
+	 * @return a {@link Collection} containing the projected results, or the given {@link Collection} of results
+	 * if the {@link QueryMethod} does not return a projection.
+	 * @see #resolveProjectedProperties(QueryMethod)
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	@NonNull Collection processProjections(@NonNull QueryMethod queryMethod, @NonNull Collection results) {
+
+		ReturnedType returnedType = resolveReturnedType(queryMethod);
+
+		if (results.isEmpty() || !isProjection(returnedType)) {
+			return results;
+		}
+
+		List<String> inputProperties = returnedType.getInputProperties();
+
+		boolean singlePropertyProjection = this.projectedQuery && inputProperties.size() == 1;
+
+		List<Object> projections = new ArrayList<>(results.size());
+
+		for (Object result : (Collection<Object>) results) {
+			if (result instanceof Struct) {
+				projections.add(toProjection(queryMethod, returnedType, toMap((Struct) result)));
+			}
+			else if (singlePropertyProjection && !returnedType.getDomainType().isInstance(result)) {
+
+				Map<String, Object> source = new LinkedHashMap<>();
+
+				source.put(inputProperties.get(0), result);
+				projections.add(toProjection(queryMethod, returnedType, source));
+			}
+			else {
+				projections.add(result);
+			}
+		}
+
+		return projections;
+	}
+
+	private Map<String, Object> toMap(Struct struct) {
+
+		String[] fieldNames = struct.getStructType().getFieldNames();
+		Object[] fieldValues = struct.getFieldValues();
+
+		Map<String, Object> source = new LinkedHashMap<>(fieldNames.length);
+
+		for (int index = 0; index < fieldNames.length; index++) {
+			source.put(fieldNames[index], fieldValues[index]);
+		}
+
+		return source;
+	}
+
+	private Object toProjection(QueryMethod queryMethod, ReturnedType returnedType, Map<String, Object> source) {
+
+		if (returnedType.getReturnedType().isInterface()) {
+			return queryMethod.getResultProcessor().processResult(source);
+		}
+
+		PreferredConstructor<?, ?> constructor = PreferredConstructorDiscoverer.discover(returnedType.getReturnedType());
+
+		Assert.state(constructor != null,
+			() -> String.format("No constructor found for DTO projection [%s]", returnedType.getReturnedType().getName()));
+
+		Object[] arguments = returnedType.getInputProperties().stream()
+			.map(source::get)
+			.toArray();
+
+		return BeanUtils.instantiateClass(constructor.getConstructor(), arguments);
+	}
+
 	private boolean isSingleNonEntityResult(QueryMethod method, Collection<?> result) {
 
 		Class<?> methodReturnType = method.getReturnedObjectType();
@@ -393,8 +818,13 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
 					GemfireQueryMethod gemfireQueryMethod = (GemfireQueryMethod) queryMethod;
 
-					if (gemfireQueryMethod.hasHint() && !QueryString.HINT_PATTERN.matcher(query).find()) {
-						query = QueryString.of(query).withHints(gemfireQueryMethod.getHints()).toString();
+					if (gemfireQueryMethod.hasHint()) {
+
+						QueryString queryString = QueryString.of(query);
+
+						if (!queryString.hasHints()) {
+							query = queryString.withHints(gemfireQueryMethod.getHints()).toString();
+						}
 					}
 				}
 
@@ -411,8 +841,13 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
 					GemfireQueryMethod gemfireQueryMethod = (GemfireQueryMethod) queryMethod;
 
-					if (gemfireQueryMethod.hasImport() && !QueryString.IMPORT_PATTERN.matcher(query).find()) {
-						query = QueryString.of(query).withImport(gemfireQueryMethod.getImport()).toString();
+					if (gemfireQueryMethod.hasImport()) {
+
+						QueryString queryString = QueryString.of(query);
+
+						if (!queryString.hasImport()) {
+							query = queryString.withImport(gemfireQueryMethod.getImport()).toString();
+						}
 					}
 				}
 
@@ -429,8 +864,13 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
 					GemfireQueryMethod gemfireQueryMethod = (GemfireQueryMethod) queryMethod;
 
-					if (gemfireQueryMethod.hasLimit() && !QueryString.LIMIT_PATTERN.matcher(query).find()) {
-						query = QueryString.of(query).withLimit(gemfireQueryMethod.getLimit()).toString();
+					if (gemfireQueryMethod.hasLimit()) {
+
+						QueryString queryString = QueryString.of(query);
+
+						if (!queryString.isLimited()) {
+							query = queryString.withLimit(gemfireQueryMethod.getLimit()).toString();
+						}
 					}
 				}
 
@@ -447,34 +887,145 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
 					GemfireQueryMethod gemfireQueryMethod = (GemfireQueryMethod) queryMethod;
 
-					if (gemfireQueryMethod.hasTrace() && !QueryString.TRACE_PATTERN.matcher(query).find()) {
-						query = QueryString.of(query).withTrace().toString();
+					if (gemfireQueryMethod.hasTrace()) {
+
+						QueryString queryString = QueryString.of(query);
+
+						if (!queryString.isTraced()) {
+							query = queryString.withTrace().toString();
+						}
 					}
 				}
 
+				return query;
+			}
+		},
+
+		/**
+		 * Applies the {@literal HINT}, {@literal IMPORT}, {@literal LIMIT} and {@literal TRACE}
+		 * {@link GemfireQueryMethod} extensions in a single pass, parsing and rendering the OQL query only once.
+		 */
+		ALL {
+
+			@Override
+			public String postProcess(QueryMethod queryMethod, String query, Object... arguments) {
+
+				if (queryMethod instanceof GemfireQueryMethod) {
+
+					GemfireQueryMethod gemfireQueryMethod = (GemfireQueryMethod) queryMethod;
+
+					QueryString queryString = QueryString.of(query);
+					QueryString processedQueryString = queryString;
+
+					if (gemfireQueryMethod.hasLimit() && !queryString.isLimited()) {
+						processedQueryString = processedQueryString.withLimit(gemfireQueryMethod.getLimit());
+					}
+
+					if (gemfireQueryMethod.hasImport() && !queryString.hasImport()) {
+						processedQueryString = processedQueryString.withImport(gemfireQueryMethod.getImport());
+					}
+
+					if (gemfireQueryMethod.hasHint() && !queryString.hasHints()) {
+						processedQueryString = processedQueryString.withHints(gemfireQueryMethod.getHints());
+					}
+
+					if (gemfireQueryMethod.hasTrace()) {
+						processedQueryString = processedQueryString.withTrace();
+					}
+
+					return processedQueryString != queryString ? processedQueryString.toString() : query;
+				}
+
 				return query;
 			}
 		}
 	}
 
+	/**
+	 * A {@link TemplateBasedOqlQueryExecutor} implementation that executes a {@literal keyset} (or {@literal seek})
+	 * paged OQL query when the {@link Pageable} argument is a {@link KeysetPageRequest}.
+	 *
+	 * The OQL query is rewritten with a predicate on the {@link Sort sorted} properties seeking past the last result
+	 * of the previous page, along with a {@literal LIMIT} of the page size plus 1. Therefore, the cost of every page
+	 * is the same regardless of the depth of the page.
+	 *
+	 * @see org.springframework.data.gemfire.repository.KeysetPageRequest
+	 * @see org.springframework.data.gemfire.repository.query.PagedQueryString#withKeyset(KeysetPageRequest, String, int)
+	 * @see org.springframework.data.gemfire.repository.query.support.TemplateBasedOqlQueryExecutor
+	 */
+	static class KeysetPagedOqlQueryExecutor extends TemplateBasedOqlQueryExecutor {
+
+		/**
+		 * Constructs a new instance of {@link KeysetPagedOqlQueryExecutor} initialized with the given, required
+		 * {@link GemfireTemplate}.
+		 *
+		 * @param template {@link GemfireTemplate} used to execute Apache Geode OQL queries; must not be {@literal null}.
+		 * @throws IllegalArgumentException if {@link GemfireTemplate} is {@literal null}.
+		 * @see org.springframework.data.gemfire.GemfireTemplate
+		 */
+		KeysetPagedOqlQueryExecutor(@NonNull GemfireTemplate template) {
+			super(template);
+		}
+
+		/**
+		 * @inheritDoc
+		 */
+		@Override
+		@SuppressWarnings("rawtypes")
+		public @NonNull SelectResults execute(@NonNull QueryMethod queryMethod, @NonNull String query,
+				@NonNull Object... arguments) {
+
+			KeysetPageRequest pageRequest = PagingUtils.getKeysetPageRequest(queryMethod, arguments);
+
+			if (pageRequest != null) {
+
+				String pagedQuery = PagedQueryString.of(query)
+					.withKeyset(pageRequest, resolveIdProperty(queryMethod), arguments.length + 1)
+					.toString();
+
+				return super.execute(queryMethod, pagedQuery, withKeysetArguments(arguments, pageRequest));
+			}
+
+			throw newUnsupportedQueryExecutionException(query);
+		}
+	}
+
 	/**
 	 * A {@link SimplePagedOqlQueryExecutor} implementation that implements a paged OQL query statement
 	 * using a 2-phase approach.
 	 *
 	 * The first phase executes a {@literal keys query} (or OQL query for keys) satisfying the user's defined
 	 * OQL query predicate(s) specified in the {@literal WHERE} clause, {@link Sort sorted} according to
-	 * the user-defined {@literal ORDER BY} clause.
+	 * the user-defined {@literal ORDER BY} clause. The {@literal keys query} only projects the identifiers
+	 * of the matching entities, along with any {@literal ORDER BY} properties, rather than whole entities.
 	 *
-	 * The returned keys are then filtered by the {@link Pageable requested page}.
+	 * The ordered list of keys is cached for a configurable/tunable amount of time keyed by the {@literal keys query}
+	 * and the OQL query arguments (excluding the {@link Pageable page request}) so that requests for subsequent pages
+	 * do not re-execute the {@literal keys query}.
 	 *
-	 * Then, in the second (and final) phase, the keys returned by the {@literal keys query} are used as a predicate
-	 * in the user's original OQL query statement to limit the results returned to exactly those keys satisfying
-	 * the {@link Pageable requested page}.
+	 * The keys are then filtered by the {@link Pageable requested page}.
+	 *
+	 * Then, in the second (and final) phase, only the values for the keys of the {@link Pageable requested page}
+	 * are fetched from the {@link org.apache.geode.cache.Region} with a single {@literal getAll} operation.
+	 *
+	 * The 2-phase approach only applies to {@literal SELECT *} OQL queries on the {@link org.apache.geode.cache.Region}
+	 * of the {@link GemfireTemplate} for entities having an identifier. All other OQL queries are delegated to
+	 * the next {@link OqlQueryExecutor}.
 	 *
 	 * @see SimplePagedOqlQueryExecutor
+	 * @see org.springframework.data.gemfire.repository.query.PagedQueryString#asKeysQuery(String)
+	 * @see org.springframework.data.gemfire.repository.query.TwoPhasePagedSelectResults
 	 */
 	static class TwoPhasePagedOqlQueryExecutor extends SimplePagedOqlQueryExecutor {
 
+		static final long PAGED_QUERY_KEYS_CACHE_TTL_MILLISECONDS =
+			Long.getLong("spring.data.gemfire.query.paging.keys.ttl", 10000L);
+
+		static final int PAGED_QUERY_KEYS_CACHE_SIZE =
+			Integer.getInteger("spring.data.gemfire.query.paging.keys.cache.size", 64);
+
+		private final Map<PagedQueryKeysCacheKey, PagedQueryKeys> pagedQueryKeysCache = new ConcurrentHashMap<>();
+
 		/**
 		 * Constructs a new instance of {@link TwoPhasePagedOqlQueryExecutor} initialized with the given, required
 		 * {@link GemfireTemplate}.
@@ -487,6 +1038,44 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 			super(template);
 		}
 
+		/**
+		 * Executes the {@literal keys query} (phase 1), or resolves the cached keys, and then fetches the values
+		 * for the keys of the {@link Pageable requested page} (phase 2).
+		 *
+		 * @inheritDoc
+		 */
+		@Override
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		protected SelectResults doExecute(@NonNull Pageable pageRequest, @NonNull QueryMethod queryMethod,
+				@NonNull String query, @NonNull Object... arguments) {
+
+			String keysQuery = resolveKeysQuery(getTemplate(), queryMethod, query)
+				.orElseThrow(() -> newUnsupportedQueryExecutionException(query));
+
+			PagedQueryKeys pagedQueryKeys = resolvePagedQueryKeys(queryMethod, keysQuery, arguments);
+
+			List<Object> pageKeys = PagingUtils.getPagedList(pagedQueryKeys.getKeys(), pageRequest);
+
+			Map<Object, Object> keysToValues = pageKeys.isEmpty()
+				? Collections.emptyMap()
+				: getTemplate().getAll(pageKeys);
+
+			List<Object> pageValues = new ArrayList<>(pageKeys.size());
+
+			// Preserve the order of the keys returned by the keys query
+			for (Object key : pageKeys) {
+
+				Object value = keysToValues.get(key);
+
+				if (value != null) {
+					pageValues.add(value);
+				}
+			}
+
+			return processPagedQueryResults(new TwoPhasePagedSelectResults(pagedQueryKeys.getSelectResults(),
+				pageValues, pagedQueryKeys.getKeys().size()), pageRequest);
+		}
+
 		/**
 		 * Simply return the {@link SelectResults} as is.
 		 *
@@ -503,8 +1092,145 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 		@Override
 		@SuppressWarnings("rawtypes")
 		protected SelectResults processPagedQueryResults(SelectResults selectResults, Pageable pageRequest) {
-			//return selectResults;
-			return super.processPagedQueryResults(selectResults, pageRequest);
+			return selectResults;
+		}
+
+		@SuppressWarnings("rawtypes")
+		private PagedQueryKeys resolvePagedQueryKeys(QueryMethod queryMethod, String keysQuery, Object... arguments) {
+
+			PagedQueryKeysCacheKey cacheKey = PagedQueryKeysCacheKey.of(queryMethod, keysQuery, arguments);
+
+			long now = System.currentTimeMillis();
+
+			PagedQueryKeys pagedQueryKeys = this.pagedQueryKeysCache.get(cacheKey);
+
+			if (pagedQueryKeys == null || pagedQueryKeys.isExpired(now)) {
+
+				SelectResults keysSelectResults = getTemplate().find(keysQuery, arguments);
+
+				pagedQueryKeys = PagedQueryKeys.from(keysSelectResults, now + PAGED_QUERY_KEYS_CACHE_TTL_MILLISECONDS);
+
+				if (PAGED_QUERY_KEYS_CACHE_TTL_MILLISECONDS > 0) {
+
+					this.pagedQueryKeysCache.values().removeIf(cachedKeys -> cachedKeys.isExpired(now));
+
+					if (this.pagedQueryKeysCache.size() < PAGED_QUERY_KEYS_CACHE_SIZE) {
+						this.pagedQueryKeysCache.put(cacheKey, pagedQueryKeys);
+					}
+				}
+			}
+
+			return pagedQueryKeys;
+		}
+	}
+
+	/**
+	 * Ordered keys returned by a {@literal keys query} in phase 1 of a 2-phase paged OQL query
+	 * along with the time at which the keys expire.
+	 */
+	static class PagedQueryKeys {
+
+		@SuppressWarnings("rawtypes")
+		static PagedQueryKeys from(@NonNull SelectResults keysSelectResults, long expirationTime) {
+
+			List<Object> keys = new ArrayList<>(keysSelectResults.size());
+
+			for (Object result : keysSelectResults.asList()) {
+				keys.add(result instanceof Struct ? ((Struct) result).getFieldValues()[0] : result);
+			}
+
+			return new PagedQueryKeys(keysSelectResults, Collections.unmodifiableList(keys), expirationTime);
+		}
+
+		private final List<Object> keys;
+
+		private final long expirationTime;
+
+		@SuppressWarnings("rawtypes")
+		private final SelectResults selectResults;
+
+		@SuppressWarnings("rawtypes")
+		private PagedQueryKeys(SelectResults selectResults, List<Object> keys, long expirationTime) {
+
+			this.selectResults = selectResults;
+			this.keys = keys;
+			this.expirationTime = expirationTime;
+		}
+
+		boolean isExpired(long now) {
+			return now >= this.expirationTime;
+		}
+
+		List<Object> getKeys() {
+			return this.keys;
+		}
+
+		@SuppressWarnings("rawtypes")
+		SelectResults getSelectResults() {
+			return this.selectResults;
+		}
+	}
+
+	/**
+	 * Key identifying the cached {@link PagedQueryKeys} by the {@literal keys query} and OQL query arguments,
+	 * excluding the {@link Pageable page request} argument.
+	 */
+	static class PagedQueryKeysCacheKey {
+
+		static PagedQueryKeysCacheKey of(@NonNull QueryMethod queryMethod, @NonNull String keysQuery,
+				@NonNull Object... arguments) {
+
+			Object[] argumentsWithoutPageRequest = arguments.clone();
+
+			Parameters<?, ?> parameters = queryMethod.getParameters();
+
+			if (parameters.hasPageableParameter()) {
+
+				int pageableIndex = parameters.getPageableIndex();
+
+				if (pageableIndex >= 0 && pageableIndex < argumentsWithoutPageRequest.length) {
+					argumentsWithoutPageRequest[pageableIndex] = null;
+				}
+			}
+
+			return new PagedQueryKeysCacheKey(keysQuery, Arrays.asList(argumentsWithoutPageRequest));
+		}
+
+		private final List<Object> arguments;
+
+		private final String keysQuery;
+
+		private PagedQueryKeysCacheKey(String keysQuery, List<Object> arguments) {
+			this.keysQuery = keysQuery;
+			this.arguments = arguments;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof PagedQueryKeysCacheKey)) {
+				return false;
+			}
+
+			PagedQueryKeysCacheKey that = (PagedQueryKeysCacheKey) obj;
+
+			return this.keysQuery.equals(that.keysQuery)
+				&& this.arguments.equals(that.arguments);
+		}
+
+		@Override
+		public int hashCode() {
+
+			int hashValue = 17;
+
+			hashValue = 37 * hashValue + ObjectUtils.nullSafeHashCode(this.keysQuery);
+			hashValue = 37 * hashValue + ObjectUtils.nullSafeHashCode(this.arguments);
+
+			return hashValue;
 		}
 	}
 
@@ -604,7 +1330,8 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
 			QueryString pagedQueryString = QueryString.of(pagedQuery);
 
-			int pagedQueryResultSetLimit = PagingUtils.getQueryResultSetLimitForPage(pageRequest);
+			// one result beyond the requested page determines whether a next page exists
+			int pagedQueryResultSetLimit = PagingUtils.getQueryResultSetLimitForPage(pageRequest) + 1;
 
 			if (pagedQueryString.isLimited()) {
 
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.geode.cache.query.SelectResults;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.gemfire.util.CollectionUtils;
+import org.springframework.lang.NonNull;
+
+/**
+ * An Apache Geode {@link SelectResults} implementation containing the values for a single {@link Pageable page}
+ * of a 2-phase paged OQL query.
+ *
+ * The backing {@link SelectResults} contains the keys of the full, ordered OQL query result set (phase 1) while
+ * this {@link SelectResults} contains only the values for the keys of the {@link Pageable requested page} (phase 2).
+ *
+ * @author agent
+ * @param <T> {@link Class type} of the values.
+ * @see org.apache.geode.cache.query.SelectResults
+ * @see org.springframework.data.gemfire.repository.query.AbstractSelectResults
+ * @since 3.0.0
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class TwoPhasePagedSelectResults<T> extends AbstractSelectResults<T> {
+
+	private final int totalSize;
+
+	private final List<T> values;
+
+	/**
+	 * Constructs a new instance of {@link TwoPhasePagedSelectResults} initialized with the given, required
+	 * {@link SelectResults} containing the keys of the full OQL query result set, the {@link List} of values
+	 * for the {@link Pageable requested page} and the total number of keys.
+	 *
+	 * @param keysSelectResults {@link SelectResults} containing the keys; must not be {@literal null}.
+	 * @param values {@link List} of values for the {@link Pageable requested page}.
+	 * @param totalSize total number of results (keys) in the full OQL query result set.
+	 * @throws IllegalArgumentException if the keys {@link SelectResults} is {@literal null}.
+	 * @see org.apache.geode.cache.query.SelectResults
+	 */
+	public TwoPhasePagedSelectResults(@NonNull SelectResults keysSelectResults, List<T> values, int totalSize) {
+
+		super(keysSelectResults);
+
+		this.values = Collections.unmodifiableList(CollectionUtils.nullSafeList(values));
+		this.totalSize = totalSize;
+	}
+
+	/**
+	 * Returns the total number of results in the full, non-paged OQL query result set.
+	 *
+	 * @return the total number of results in the full, non-paged OQL query result set.
+	 */
+	public int getTotalSize() {
+		return this.totalSize;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public Set<T> asSet() {
+		return new LinkedHashSet<>(asList());
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public List<T> asList() {
+		return this.values;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public boolean contains(Object result) {
+		return asList().contains(result);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public boolean isEmpty() {
+		return asList().isEmpty();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return asList().iterator();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public int size() {
+		return asList().size();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public Object[] toArray() {
+		return asList().toArray();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	@SuppressWarnings("all")
+	public <E> E[] toArray(E[] array) {
+		return asList().toArray(array);
+	}
+}
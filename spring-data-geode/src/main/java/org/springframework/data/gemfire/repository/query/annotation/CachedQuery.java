@@ -0,0 +1,67 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The CachedQuery class is an annotation type indicating that the results of a GemFire OQL Query are cached
+ * on the client, keyed by the query method and arguments, so that repeated queries are served locally.
+ *
+ * Cached results are invalidated when the data in the queried Region changes, using a CacheListener registered
+ * on the Region. A client Region registers interest in all keys without receiving values, which requires a Pool
+ * with subscriptions enabled. Any change invalidates all cached results of the Region. Additionally, cached results
+ * expire after the configured {@link #timeToLive()} to bound staleness, for example, while the subscription is
+ * re-established after a failover.
+ *
+ * Results of {@link java.util.stream.Stream} query methods are not cached. Cached results are copied
+ * for each caller and returned as unmodifiable {@link java.util.Collection Collections}.
+ *
+ * @author agent
+ * @see java.lang.annotation.Documented
+ * @see java.lang.annotation.Inherited
+ * @see java.lang.annotation.Retention
+ * @see java.lang.annotation.Target
+ * @see org.apache.geode.cache.CacheListener
+ * @since 3.0.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD })
+@SuppressWarnings("unused")
+public @interface CachedQuery {
+
+	/**
+	 * Maximum number of query results cached for the query method.
+	 *
+	 * Defaults to {@literal 1000}.
+	 */
+	int maximumSize() default 1000;
+
+	/**
+	 * Time in milliseconds after which the cached query results expire.
+	 *
+	 * Defaults to {@literal 0}, which means cached query results only expire when invalidated.
+	 */
+	long timeToLive() default 0L;
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The LazyEntities class is an annotation type indicating that the entities returned by a GemFire OQL Query
+ * are lazily materialized from the {@link org.apache.geode.pdx.PdxInstance PdxInstances} returned when
+ * PDX {@literal read-serialized} is enabled.
+ *
+ * Rather than deserializing each entity in full, the query method returns proxies of the entity type backed by
+ * the {@link org.apache.geode.pdx.PdxInstance}, which only deserialize a property on first access through its
+ * getter. Invoking any other method on the proxy, including {@link Object#equals(Object)},
+ * {@link Object#hashCode()} and {@link Object#toString()}, fully materializes the entity. Entity types that
+ * cannot be proxied, for example, {@literal final} classes or classes declaring {@literal final} methods,
+ * are deserialized in full.
+ *
+ * Proxied entities are materialized in full when saved with a {@link org.springframework.data.repository.Repository}.
+ *
+ * @author agent
+ * @see java.lang.annotation.Documented
+ * @see java.lang.annotation.Inherited
+ * @see java.lang.annotation.Retention
+ * @see java.lang.annotation.Target
+ * @see org.apache.geode.pdx.PdxInstance
+ * @see org.springframework.data.gemfire.mapping.PdxInstanceEntityProxyFactory
+ * @since 3.0.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD })
+@SuppressWarnings("unused")
+public @interface LazyEntities {
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.data.gemfire.util.CollectionUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Iterator} implementation iterating the values for an ordered {@link Iterable} of keys, fetching the values
+ * incrementally in chunks using a {@literal getAll} operation, such as {@link org.apache.geode.cache.Region#getAll}.
+ *
+ * Only a single chunk of values is held in memory at any given time. Values are returned in key order
+ * and keys without a value (e.g. the entry was destroyed) are skipped.
+ *
+ * @author agent
+ * @param <K> {@link Class type} of the keys.
+ * @param <V> {@link Class type} of the values.
+ * @see java.util.Iterator
+ * @see java.util.stream.Stream
+ * @since 3.0.0
+ */
+public class ChunkedValuesIterator<K, V> implements Iterator<V> {
+
+	public static final int DEFAULT_CHUNK_SIZE = Integer.getInteger("spring.data.gemfire.stream.chunk.size", 1000);
+
+	/**
+	 * Factory method used to construct a new, lazy {@link Stream} of the values for the given keys,
+	 * fetched incrementally in chunks of the given size using the given {@literal getAll} {@link Function}.
+	 *
+	 * @param <K> {@link Class type} of the keys.
+	 * @param <V> {@link Class type} of the values.
+	 * @param keys ordered {@link Iterable} of keys; must not be {@literal null}.
+	 * @param chunkSize {@link Integer} containing the maximum number of values fetched per chunk;
+	 * must be greater than {@literal 0}.
+	 * @param getAllFunction {@link Function} used to fetch the values for a chunk of keys;
+	 * must not be {@literal null}.
+	 * @return a new, lazy {@link Stream} of the values.
+	 * @throws IllegalArgumentException if the keys or {@literal getAll} {@link Function} is {@literal null},
+	 * or the chunk size is less than {@literal 1}.
+	 * @see java.util.stream.Stream
+	 */
+	public static @NonNull <K, V> Stream<V> stream(@NonNull Iterable<K> keys, int chunkSize,
+			@NonNull Function<List<K>, Map<K, V>> getAllFunction) {
+
+		Iterator<V> iterator = new ChunkedValuesIterator<>(keys, chunkSize, getAllFunction);
+
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+			Spliterator.ORDERED | Spliterator.NONNULL), false);
+	}
+
+	private final int chunkSize;
+
+	private final Function<List<K>, Map<K, V>> getAllFunction;
+
+	private Iterator<V> chunk = Collections.emptyIterator();
+
+	private final Iterator<K> keys;
+
+	/**
+	 * Constructs a new instance of {@link ChunkedValuesIterator} initialized with the given, ordered keys, chunk size
+	 * and {@literal getAll} {@link Function} used to fetch the values for a chunk of keys.
+	 *
+	 * @param keys ordered {@link Iterable} of keys; must not be {@literal null}.
+	 * @param chunkSize {@link Integer} containing the maximum number of values fetched per chunk;
+	 * must be greater than {@literal 0}.
+	 * @param getAllFunction {@link Function} used to fetch the values for a chunk of keys;
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if the keys or {@literal getAll} {@link Function} is {@literal null},
+	 * or the chunk size is less than {@literal 1}.
+	 */
+	public ChunkedValuesIterator(@NonNull Iterable<K> keys, int chunkSize,
+			@NonNull Function<List<K>, Map<K, V>> getAllFunction) {
+
+		Assert.notNull(keys, "Keys must not be null");
+		Assert.isTrue(chunkSize > 0, () -> String.format("Chunk size [%d] must be greater than 0", chunkSize));
+		Assert.notNull(getAllFunction, "GetAll Function must not be null");
+
+		this.keys = keys.iterator();
+		this.chunkSize = chunkSize;
+		this.getAllFunction = getAllFunction;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public boolean hasNext() {
+
+		while (!this.chunk.hasNext() && this.keys.hasNext()) {
+			this.chunk = nextChunk();
+		}
+
+		return this.chunk.hasNext();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public V next() {
+
+		if (!hasNext()) {
+			throw new NoSuchElementException("No more values");
+		}
+
+		return this.chunk.next();
+	}
+
+	private Iterator<V> nextChunk() {
+
+		List<K> chunkKeys = new ArrayList<>(this.chunkSize);
+
+		while (chunkKeys.size() < this.chunkSize && this.keys.hasNext()) {
+
+			K key = this.keys.next();
+
+			if (key != null) {
+				chunkKeys.add(key);
+			}
+		}
+
+		if (chunkKeys.isEmpty()) {
+			return Collections.emptyIterator();
+		}
+
+		Map<K, V> keysToValues = CollectionUtils.nullSafeMap(this.getAllFunction.apply(chunkKeys));
+
+		List<V> chunkValues = new ArrayList<>(chunkKeys.size());
+
+		for (K key : chunkKeys) {
+
+			V value = keysToValues.get(key);
+
+			if (value != null) {
+				chunkValues.add(value);
+			}
+		}
+
+		return chunkValues.iterator();
+	}
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query.support;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.ToLongFunction;
+
+import org.springframework.data.gemfire.IndexType;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Abstract Data Type (ADT) modeling an {@link org.apache.geode.cache.query.Index} recommended by
+ * the {@link IndexRecommender} for the {@literal WHERE} clause predicates of {@literal Repository} query methods.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.IndexType
+ * @see org.springframework.data.gemfire.repository.query.support.IndexRecommender
+ * @since 3.0.0
+ */
+public class IndexRecommendation {
+
+	private final IndexType type;
+
+	private final Set<String> origins = Collections.synchronizedSet(new TreeSet<>());
+
+	private final String expression;
+	private final String from;
+	private final String name;
+
+	private volatile ToLongFunction<String> executionCounter = origin -> 0L;
+
+	/**
+	 * Constructs a new {@link IndexRecommendation} for the given {@link String expression} evaluated against
+	 * the {@link org.apache.geode.cache.Region} identified by the given {@link String from clause}.
+	 *
+	 * @param name {@link String} containing the name of the recommended Index; must not be {@literal null}.
+	 * @param expression {@link String} containing the Index expression; must not be {@literal null}.
+	 * @param from {@link String} containing the Index from clause; must not be {@literal null}.
+	 * @param type {@link IndexType} of the recommended Index; must not be {@literal null}.
+	 * @throws IllegalArgumentException if any argument is {@literal null} or empty.
+	 * @see org.springframework.data.gemfire.IndexType
+	 */
+	public IndexRecommendation(@NonNull String name, @NonNull String expression, @NonNull String from,
+			@NonNull IndexType type) {
+
+		Assert.hasText(name, "Index name is required");
+		Assert.hasText(expression, "Index expression is required");
+		Assert.hasText(from, "Index from clause is required");
+		Assert.notNull(type, "IndexType is required");
+
+		this.name = name;
+		this.expression = expression;
+		this.from = from;
+		this.type = type;
+	}
+
+	/**
+	 * Returns the {@link String expression} of the recommended Index.
+	 *
+	 * @return the {@link String expression} of the recommended Index.
+	 */
+	public @NonNull String getExpression() {
+		return this.expression;
+	}
+
+	/**
+	 * Returns the total number of times the {@literal Repository} query methods that would benefit from
+	 * the recommended Index were observed to execute.
+	 *
+	 * @return the total number of observed executions of the originating {@literal Repository} query methods.
+	 * @see #getOrigins()
+	 */
+	public long getExecutions() {
+
+		ToLongFunction<String> executionCounter = this.executionCounter;
+
+		return getOrigins().stream()
+			.mapToLong(executionCounter)
+			.sum();
+	}
+
+	/**
+	 * Returns the {@link String from clause} of the recommended Index.
+	 *
+	 * @return the {@link String from clause} of the recommended Index.
+	 */
+	public @NonNull String getFrom() {
+		return this.from;
+	}
+
+	/**
+	 * Returns the {@link String name} of the recommended Index.
+	 *
+	 * @return the {@link String name} of the recommended Index.
+	 */
+	public @NonNull String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Returns the {@link Set} of {@literal Repository} query methods, identified by the simple name of the declaring
+	 * {@literal Repository} interface followed by the name of the query method, that would benefit from
+	 * the recommended Index.
+	 *
+	 * @return the {@link Set} of {@literal Repository} query methods benefiting from the recommended Index.
+	 */
+	public @NonNull Set<String> getOrigins() {
+
+		synchronized (this.origins) {
+			return Collections.unmodifiableSet(new TreeSet<>(this.origins));
+		}
+	}
+
+	/**
+	 * Returns the {@link IndexType} of the recommended Index.
+	 *
+	 * @return the {@link IndexType} of the recommended Index.
+	 * @see org.springframework.data.gemfire.IndexType
+	 */
+	public @NonNull IndexType getType() {
+		return this.type;
+	}
+
+	IndexRecommendation withExecutionCounter(@NonNull ToLongFunction<String> executionCounter) {
+		this.executionCounter = executionCounter;
+		return this;
+	}
+
+	IndexRecommendation withOrigin(@NonNull String origin) {
+		this.origins.add(origin);
+		return this;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof IndexRecommendation)) {
+			return false;
+		}
+
+		IndexRecommendation that = (IndexRecommendation) obj;
+
+		return this.getExpression().equals(that.getExpression())
+			&& this.getFrom().equals(that.getFrom())
+			&& this.getType().equals(that.getType());
+	}
+
+	@Override
+	public int hashCode() {
+
+		int hashValue = 17;
+
+		hashValue = 37 * hashValue + ObjectUtils.nullSafeHashCode(getExpression());
+		hashValue = 37 * hashValue + ObjectUtils.nullSafeHashCode(getFrom());
+		hashValue = 37 * hashValue + ObjectUtils.nullSafeHashCode(getType());
+
+		return hashValue;
+	}
+
+	@Override
+	public String toString() {
+
+		return String.format("%1$s [expression = %2$s, from = %3$s, type = %4$s, executions = %5$d, origins = %6$s]",
+			getName(), getExpression(), getFrom(), getType(), getExecutions(), getOrigins());
+	}
+}
@@ -0,0 +1,439 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query.support;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionService;
+import org.apache.geode.cache.query.Index;
+import org.apache.geode.cache.query.MultiIndexCreationException;
+import org.apache.geode.cache.query.QueryService;
+
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.data.gemfire.IndexFactoryBean;
+import org.springframework.data.gemfire.IndexType;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
+import org.springframework.data.gemfire.mapping.annotation.Indexed;
+import org.springframework.data.gemfire.query.QueryExecution;
+import org.springframework.data.gemfire.query.QueryExecutionListener;
+import org.springframework.data.gemfire.repository.query.GemfireQueryMethod;
+import org.springframework.data.gemfire.util.RegionUtils;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link IndexRecommender} analyzes the {@literal WHERE} clause predicates of {@literal Repository}
+ * {@link GemfireQueryMethod query methods} when the {@literal Repositories} are created and recommends
+ * {@link IndexType#FUNCTIONAL} {@link Index Indexes} for the queried properties that are not already
+ * covered by the identifier or an {@link Indexed} annotated property of the {@link GemfirePersistentEntity entity}.
+ *
+ * When declared as a bean in the Spring application context, the {@link IndexRecommender} additionally observes
+ * the OQL query executions of the {@literal Repository} query methods to rank recommendations by frequency, logs
+ * the recommendations once the context is refreshed and optionally defines the recommended {@link Index Indexes}
+ * on peer caches using the {@link IndexFactoryBean}, creating all of them in a single pass over the data.
+ *
+ * @author agent
+ * @see org.apache.geode.cache.query.Index
+ * @see org.springframework.context.ApplicationListener
+ * @see org.springframework.data.gemfire.IndexFactoryBean
+ * @see org.springframework.data.gemfire.query.QueryExecutionListener
+ * @see org.springframework.data.gemfire.repository.query.support.IndexRecommendation
+ * @since 3.0.0
+ */
+public class IndexRecommender implements ApplicationListener<ContextRefreshedEvent>, QueryExecutionListener {
+
+	protected static final Set<Part.Type> INDEXABLE_PART_TYPES = Collections.unmodifiableSet(EnumSet.of(
+		Part.Type.AFTER, Part.Type.BEFORE, Part.Type.BETWEEN, Part.Type.FALSE, Part.Type.GREATER_THAN,
+		Part.Type.GREATER_THAN_EQUAL, Part.Type.IN, Part.Type.LESS_THAN, Part.Type.LESS_THAN_EQUAL,
+		Part.Type.SIMPLE_PROPERTY, Part.Type.STARTING_WITH, Part.Type.TRUE));
+
+	private static final Pattern FROM_CLAUSE_PATTERN = Pattern.compile(
+		"\\bFROM\\s+(/[\\w/-]+)(?:\\s+(?:AS\\s+)?(?!(?:WHERE|ORDER|GROUP|LIMIT)\\b)([A-Za-z_]\\w*))?",
+		Pattern.CASE_INSENSITIVE);
+
+	private static final Pattern PREDICATE_PATTERN = Pattern.compile(
+		"(?<![\\w.$'])([A-Za-z_][\\w.]*)\\s*(<>|!=|<=|>=|=|<|>|\\bIN\\b|\\bLIKE\\b)", Pattern.CASE_INSENSITIVE);
+
+	private static final Pattern WHERE_CLAUSE_PATTERN = Pattern.compile(
+		"\\bWHERE\\b(.*?)(?:\\bORDER\\s+BY\\b|\\bGROUP\\s+BY\\b|\\bLIMIT\\b|$)",
+		Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+	private static final Set<String> OQL_KEYWORDS = Collections.unmodifiableSet(new HashSet<>(
+		Arrays.asList("AND", "NOT", "OR", "WHERE")));
+
+	private static final String INDEX_NAME_TEMPLATE = "%1$s%2$s%3$sIdx";
+
+	private final AtomicBoolean indexesDefined = new AtomicBoolean(false);
+
+	private boolean define = false;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final Map<String, IndexRecommendation> recommendations = new ConcurrentHashMap<>();
+
+	private final Map<String, LongAdder> executions = new ConcurrentHashMap<>();
+
+	private volatile RegionService regionService;
+
+	/**
+	 * Configures whether the recommended {@link Index Indexes} are defined and created on peer caches
+	 * when the Spring application context is refreshed.
+	 *
+	 * Defaults to {@literal false}, in which case the recommendations are only logged.
+	 *
+	 * @param define boolean value indicating whether the recommended {@link Index Indexes} are created.
+	 */
+	public void setDefine(boolean define) {
+		this.define = define;
+	}
+
+	/**
+	 * Determines whether the recommended {@link Index Indexes} are defined and created on peer caches
+	 * when the Spring application context is refreshed.
+	 *
+	 * @return a boolean value indicating whether the recommended {@link Index Indexes} are created.
+	 */
+	protected boolean isDefine() {
+		return this.define;
+	}
+
+	/**
+	 * Returns the {@link Logger} used to log the {@link IndexRecommendation IndexRecommendations}.
+	 *
+	 * @return the {@link Logger} used to log the {@link IndexRecommendation IndexRecommendations}.
+	 */
+	protected @NonNull Logger getLogger() {
+		return this.logger;
+	}
+
+	/**
+	 * Returns the {@link IndexRecommendation IndexRecommendations} collected so far, ordered by the most frequently
+	 * executed first, then by name.
+	 *
+	 * @return a {@link List} of {@link IndexRecommendation IndexRecommendations}.
+	 * @see org.springframework.data.gemfire.repository.query.support.IndexRecommendation
+	 */
+	public @NonNull List<IndexRecommendation> getRecommendations() {
+
+		Map<IndexRecommendation, Long> executions = this.recommendations.values().stream()
+			.collect(Collectors.toMap(Function.identity(), IndexRecommendation::getExecutions));
+
+		return executions.keySet().stream()
+			.sorted(Comparator.<IndexRecommendation, Long>comparing(executions::get, Comparator.reverseOrder())
+				.thenComparing(IndexRecommendation::getName))
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * Analyzes the {@literal WHERE} clause predicates of the given {@link GemfireQueryMethod}.
+	 *
+	 * The predicates of derived query methods are determined from the {@link PartTree} of the query method name
+	 * while the predicates of user-defined OQL queries are parsed from the OQL query {@link String}. Only
+	 * predicates on the {@link Region} aliased in the {@literal FROM} clause are considered. Case-insensitive
+	 * ({@literal IgnoreCase}) derived query predicates are not considered since these cannot use an index.
+	 *
+	 * @param queryMethod {@link GemfireQueryMethod} to analyze; must not be {@literal null}.
+	 * @param region {@link Region} queried by the {@link GemfireQueryMethod}; must not be {@literal null}.
+	 * @param query user-defined OQL query {@link String}, or {@literal null} for a derived query method.
+	 * @throws IllegalArgumentException if the {@link GemfireQueryMethod} or {@link Region} is {@literal null}.
+	 * @see org.springframework.data.gemfire.repository.query.GemfireQueryMethod
+	 * @see org.apache.geode.cache.Region
+	 */
+	public void analyze(@NonNull GemfireQueryMethod queryMethod, @NonNull Region<?, ?> region,
+			@Nullable String query) {
+
+		Assert.notNull(queryMethod, "QueryMethod must not be null");
+		Assert.notNull(region, "Region must not be null");
+
+		this.regionService = region.getRegionService();
+
+		String origin = resolveOrigin(queryMethod);
+
+		if (StringUtils.hasText(query)) {
+			analyzeQuery(queryMethod, region, query, origin);
+		}
+		else {
+			analyzePartTree(queryMethod, region, origin);
+		}
+	}
+
+	private void analyzePartTree(GemfireQueryMethod queryMethod, Region<?, ?> region, String origin) {
+
+		PartTree tree = new PartTree(queryMethod.getName(), queryMethod.getEntityInformation().getJavaType());
+
+		tree.getParts().stream()
+			.filter(part -> INDEXABLE_PART_TYPES.contains(part.getType()))
+			// Case-insensitive predicates compare the upper-cased property value, which cannot use the index
+			.filter(part -> Part.IgnoreCaseType.NEVER.equals(part.shouldIgnoreCase()))
+			.map(part -> part.getProperty().toDotPath())
+			.forEach(propertyPath ->
+				recommend(queryMethod.getPersistentEntity(), region.getFullPath(), propertyPath, origin));
+	}
+
+	private void analyzeQuery(GemfireQueryMethod queryMethod, Region<?, ?> region, String query, String origin) {
+
+		Matcher fromClause = FROM_CLAUSE_PATTERN.matcher(query);
+		Matcher whereClause = WHERE_CLAUSE_PATTERN.matcher(query);
+
+		if (fromClause.find() && whereClause.find()) {
+
+			String from = fromClause.group(1);
+			String alias = fromClause.group(2);
+
+			GemfirePersistentEntity<?> entity = region.getFullPath().equals(from)
+				? queryMethod.getPersistentEntity()
+				: null;
+
+			Matcher predicate = PREDICATE_PATTERN.matcher(whereClause.group(1));
+
+			while (predicate.find()) {
+
+				String identifier = predicate.group(1);
+				String operator = predicate.group(2);
+
+				if (!("<>".equals(operator) || "!=".equals(operator))) {
+					resolvePropertyPath(identifier, alias)
+						.ifPresent(propertyPath -> recommend(entity, from, propertyPath, origin));
+				}
+			}
+		}
+	}
+
+	private Optional<String> resolvePropertyPath(String identifier, @Nullable String alias) {
+
+		String propertyPath = identifier;
+
+		if (alias != null) {
+			if (identifier.equals(alias)) {
+				return Optional.empty();
+			}
+			else if (identifier.startsWith(alias.concat("."))) {
+				propertyPath = identifier.substring(alias.length() + 1);
+			}
+		}
+
+		return Optional.of(propertyPath)
+			.filter(StringUtils::hasText)
+			.filter(it -> !OQL_KEYWORDS.contains(it.toUpperCase()));
+	}
+
+	private void recommend(@Nullable GemfirePersistentEntity<?> entity, String from, String propertyPath,
+			String origin) {
+
+		if (!isIndexed(entity, propertyPath)) {
+
+			String key = String.format("%1$s:%2$s", from, propertyPath);
+
+			this.recommendations.computeIfAbsent(key, it ->
+					new IndexRecommendation(generateIndexName(from, propertyPath, IndexType.FUNCTIONAL),
+						propertyPath, from, IndexType.FUNCTIONAL).withExecutionCounter(this::getExecutions))
+				.withOrigin(origin);
+		}
+	}
+
+	private boolean isIndexed(@Nullable GemfirePersistentEntity<?> entity, String propertyPath) {
+
+		String propertyName = propertyPath.contains(".")
+			? propertyPath.substring(0, propertyPath.indexOf('.'))
+			: propertyPath;
+
+		GemfirePersistentProperty property = entity != null ? entity.getPersistentProperty(propertyName) : null;
+
+		return property != null && (property.isIdProperty()
+			|| (propertyName.equals(propertyPath) && property.isAnnotationPresent(Indexed.class)));
+	}
+
+	private String generateIndexName(String from, String propertyPath, IndexType indexType) {
+
+		String regionName = from.substring(from.lastIndexOf('/') + 1);
+
+		String propertyName = Arrays.stream(propertyPath.split("\\."))
+			.map(StringUtils::capitalize)
+			.collect(Collectors.joining());
+
+		return String.format(INDEX_NAME_TEMPLATE, regionName, propertyName,
+			StringUtils.capitalize(indexType.name().toLowerCase()));
+	}
+
+	private String resolveOrigin(GemfireQueryMethod queryMethod) {
+
+		Method method = queryMethod.getMethod();
+
+		return String.format("%1$s.%2$s", method.getDeclaringClass().getSimpleName(), method.getName());
+	}
+
+	private long getExecutions(String origin) {
+
+		LongAdder executionCount = this.executions.get(origin);
+
+		return executionCount != null ? executionCount.sum() : 0L;
+	}
+
+	/**
+	 * Counts the OQL query executions of the originating {@literal Repository} query method.
+	 *
+	 * @param queryExecution {@link QueryExecution} describing the OQL query execution.
+	 * @see org.springframework.data.gemfire.query.QueryExecution#getOrigin()
+	 */
+	@Override
+	public void onQueryExecution(@NonNull QueryExecution queryExecution) {
+
+		String origin = queryExecution.getOrigin();
+
+		if (origin != null) {
+			this.executions.computeIfAbsent(origin, it -> new LongAdder()).increment();
+		}
+	}
+
+	/**
+	 * Logs the {@link IndexRecommendation IndexRecommendations} and defines the recommended {@link Index Indexes}
+	 * if configured to do so.
+	 *
+	 * @param event {@link ContextRefreshedEvent} signaling that all {@literal Repositories} have been created.
+	 * @see #setDefine(boolean)
+	 * @see #report()
+	 */
+	@Override
+	public void onApplicationEvent(@NonNull ContextRefreshedEvent event) {
+
+		report();
+
+		if (isDefine() && this.indexesDefined.compareAndSet(false, true)) {
+			defineIndexes();
+		}
+	}
+
+	/**
+	 * Logs the {@link IndexRecommendation IndexRecommendations} collected so far, most frequently executed first.
+	 *
+	 * @see #getRecommendations()
+	 */
+	public void report() {
+
+		Logger logger = getLogger();
+
+		if (logger.isInfoEnabled()) {
+			getRecommendations().forEach(recommendation ->
+				logger.info("Recommend creating {} Index [{}] on expression [{}] from [{}] for query methods {}"
+						+ " executed [{}] time(s)", recommendation.getType(), recommendation.getName(),
+					recommendation.getExpression(), recommendation.getFrom(), recommendation.getOrigins(),
+					recommendation.getExecutions()));
+		}
+	}
+
+	/**
+	 * Defines the recommended {@link Index Indexes} not already present in the cache with the {@link IndexFactoryBean}
+	 * and creates all defined {@link Index Indexes} at once.
+	 *
+	 * {@link Index Indexes} are only created on peer caches since client OQL queries are evaluated on the servers.
+	 *
+	 * @return the {@link List} of {@link IndexRecommendation IndexRecommendations} that were defined.
+	 * @see org.apache.geode.cache.query.QueryService#createDefinedIndexes()
+	 * @see org.springframework.data.gemfire.IndexFactoryBean#setDefine(boolean)
+	 */
+	protected @NonNull List<IndexRecommendation> defineIndexes() {
+
+		RegionService regionService = this.regionService;
+
+		if (regionService == null) {
+			return Collections.emptyList();
+		}
+
+		QueryService queryService = regionService.getQueryService();
+
+		Collection<Index> existingIndexes = queryService.getIndexes();
+
+		List<IndexRecommendation> definedRecommendations = getRecommendations().stream()
+			.filter(recommendation -> isPeerRegion(regionService.getRegion(recommendation.getFrom())))
+			.filter(recommendation -> existingIndexes.stream().noneMatch(index -> isMatch(index, recommendation)))
+			.filter(recommendation -> define(regionService, queryService, recommendation))
+			.collect(Collectors.toList());
+
+		if (!definedRecommendations.isEmpty()) {
+			try {
+				queryService.createDefinedIndexes();
+			}
+			catch (MultiIndexCreationException cause) {
+				getLogger().warn("Failed to create recommended Indexes {}", cause.getFailedIndexNames(), cause);
+			}
+		}
+
+		return definedRecommendations;
+	}
+
+	private boolean define(RegionService regionService, QueryService queryService,
+			IndexRecommendation recommendation) {
+
+		try {
+
+			IndexFactoryBean indexFactoryBean = new IndexFactoryBean();
+
+			indexFactoryBean.setCache(regionService);
+			indexFactoryBean.setDefine(true);
+			indexFactoryBean.setExpression(recommendation.getExpression());
+			indexFactoryBean.setFrom(recommendation.getFrom());
+			indexFactoryBean.setIgnoreIfExists(true);
+			indexFactoryBean.setName(recommendation.getName());
+			indexFactoryBean.setQueryService(queryService);
+			indexFactoryBean.setType(recommendation.getType());
+			indexFactoryBean.afterPropertiesSet();
+
+			return true;
+		}
+		catch (Exception cause) {
+			getLogger().warn("Failed to define recommended Index [{}]", recommendation.getName(), cause);
+			return false;
+		}
+	}
+
+	private boolean isMatch(Index index, IndexRecommendation recommendation) {
+
+		return recommendation.getName().equals(index.getName())
+			|| (recommendation.getExpression().equals(index.getIndexedExpression())
+				&& recommendation.getFrom().equals(index.getFromClause()));
+	}
+
+	private boolean isPeerRegion(@Nullable Region<?, ?> region) {
+		return region != null && !RegionUtils.isClient(region);
+	}
+}
@@ -30,6 +30,7 @@ public enum OqlKeyword {
 
 	AND,
 	AS,
+	AVG,
 	COUNT,
 	DISTINCT,
 	ELEMENT,
@@ -41,12 +42,15 @@ public enum OqlKeyword {
 	IS_UNDEFINED,
 	LIMIT,
 	LIKE,
+	MAX,
+	MIN,
 	NOT,
 	NVL,
 	OR,
 	ORDER_BY("ORDER BY"),
 	SELECT,
 	SET,
+	SUM,
 	TRACE,
 	TO_DATE,
 	TYPE,
@@ -25,6 +25,7 @@ import java.util.stream.StreamSupport;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.gemfire.repository.KeysetPageRequest;
 import org.springframework.data.gemfire.util.ArrayUtils;
 import org.springframework.data.gemfire.util.CollectionUtils;
 import org.springframework.data.repository.query.Parameters;
@@ -176,6 +177,35 @@ public abstract class PagingUtils {
 		return (Pageable) pageableArgument;
 	}
 
+	/**
+	 * Null-safe method used to get the {@link KeysetPageRequest} from the array of {@link Object arguments}
+	 * passed to the {@link QueryMethod}.
+	 *
+	 * @param queryMethod {@link QueryMethod} declaring a {@link Pageable} parameter.
+	 * @param arguments array of {@link Object arguments} passed to the {@link QueryMethod}.
+	 * @return the {@link KeysetPageRequest} passed to the {@link QueryMethod} or {@literal null} if
+	 * the {@link QueryMethod} does not declare a {@link Pageable} parameter or the {@link Pageable} argument
+	 * is not a {@link KeysetPageRequest}.
+	 * @see org.springframework.data.gemfire.repository.KeysetPageRequest
+	 * @see #getPageRequest(QueryMethod, Object...)
+	 */
+	public static @Nullable KeysetPageRequest getKeysetPageRequest(@Nullable QueryMethod queryMethod,
+			@Nullable Object... arguments) {
+
+		if (hasPageableParameterFunction.apply(queryMethod)) {
+
+			int pageableIndex = queryMethod.getParameters().getPageableIndex();
+
+			arguments = ArrayUtils.nullSafeArray(arguments, Object.class);
+
+			Object pageableArgument = pageableIndex < arguments.length ? arguments[pageableIndex] : null;
+
+			return pageableArgument instanceof KeysetPageRequest ? (KeysetPageRequest) pageableArgument : null;
+		}
+
+		return null;
+	}
+
 	/**
 	 * Null-safe method used to determine the starting index in the query result set for populating the content
 	 * of the {@link Page}.
@@ -0,0 +1,351 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.BaseStream;
+
+import org.apache.geode.CopyException;
+import org.apache.geode.CopyHelper;
+
+import org.springframework.data.gemfire.repository.query.GemfireQueryMethod;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Client-side cache of the results of a {@link GemfireQueryMethod query method} keyed by the query method arguments.
+ *
+ * The {@link QueryResultCache} is {@link #invalidate() invalidated} when the data in the queried
+ * {@link org.apache.geode.cache.Region} changes, typically by a {@link org.apache.geode.cache.CacheListener}
+ * registered on the {@link org.apache.geode.cache.Region}. Cached results additionally expire after
+ * the configured time-to-live (TTL), and the least recently used results are evicted when the maximum size
+ * is reached.
+ *
+ * A query result computed concurrently with an invalidation is returned to the caller, but is not cached.
+ *
+ * Callers never share the cached query results. A copy of the query result is cached and each cache hit
+ * returns a copy of the cached query result, where the elements, for example entities, are copied with
+ * {@link CopyHelper#copy(Object)}.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.repository.query.GemfireQueryMethod
+ * @see org.springframework.data.gemfire.repository.query.annotation.CachedQuery
+ * @since 3.0.0
+ */
+public class QueryResultCache {
+
+	/**
+	 * Factory method used to construct a new {@link QueryResultCache} configured with the maximum size
+	 * and time-to-live (TTL) declared by the given {@link GemfireQueryMethod}.
+	 *
+	 * @param queryMethod {@link GemfireQueryMethod} declaring the query result cache configuration;
+	 * must not be {@literal null}.
+	 * @return a new {@link QueryResultCache} for the given {@link GemfireQueryMethod}.
+	 * @throws IllegalArgumentException if {@link GemfireQueryMethod} is {@literal null}.
+	 * @see org.springframework.data.gemfire.repository.query.GemfireQueryMethod#getCachedQueryMaximumSize()
+	 * @see org.springframework.data.gemfire.repository.query.GemfireQueryMethod#getCachedQueryTimeToLive()
+	 */
+	public static @NonNull QueryResultCache from(@NonNull GemfireQueryMethod queryMethod) {
+
+		Assert.notNull(queryMethod, "QueryMethod must not be null");
+
+		return new QueryResultCache(queryMethod.getCachedQueryMaximumSize(), queryMethod.getCachedQueryTimeToLive());
+	}
+
+	private final AtomicLong generation = new AtomicLong(0L);
+	private final AtomicLong hitCount = new AtomicLong(0L);
+	private final AtomicLong missCount = new AtomicLong(0L);
+
+	private final int maximumSize;
+
+	private final long timeToLive;
+
+	private final LongSupplier clock;
+
+	private final Map<ArgumentsKey, CachedResult> results;
+
+	/**
+	 * Constructs a new instance of {@link QueryResultCache} initialized with the given maximum size
+	 * and time-to-live (TTL).
+	 *
+	 * @param maximumSize maximum number of cached query results; {@literal 0} disables caching.
+	 * @param timeToLive time in milliseconds after which cached query results expire; {@literal 0} means
+	 * cached query results only expire on {@link #invalidate()}.
+	 */
+	public QueryResultCache(int maximumSize, long timeToLive) {
+		this(maximumSize, timeToLive, System::currentTimeMillis);
+	}
+
+	QueryResultCache(int maximumSize, long timeToLive, @NonNull LongSupplier clock) {
+
+		this.maximumSize = Math.max(maximumSize, 0);
+		this.timeToLive = Math.max(timeToLive, 0L);
+		this.clock = clock;
+
+		this.results = new LinkedHashMap<ArgumentsKey, CachedResult>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<ArgumentsKey, CachedResult> eldest) {
+				return size() > QueryResultCache.this.maximumSize;
+			}
+		};
+	}
+
+	/**
+	 * Determines whether query results are cached.
+	 *
+	 * @return a boolean value indicating whether query results are cached.
+	 */
+	public boolean isEnabled() {
+		return this.maximumSize > 0;
+	}
+
+	/**
+	 * Returns the number of query executions served from the cache.
+	 *
+	 * @return the number of query executions served from the cache.
+	 */
+	public long getHitCount() {
+		return this.hitCount.get();
+	}
+
+	/**
+	 * Returns the number of query executions that were not served from the cache.
+	 *
+	 * @return the number of query executions that were not served from the cache.
+	 */
+	public long getMissCount() {
+		return this.missCount.get();
+	}
+
+	/**
+	 * Returns the maximum number of cached query results.
+	 *
+	 * @return the maximum number of cached query results.
+	 */
+	public int getMaximumSize() {
+		return this.maximumSize;
+	}
+
+	/**
+	 * Returns the time in milliseconds after which cached query results expire.
+	 *
+	 * @return the time in milliseconds after which cached query results expire.
+	 */
+	public long getTimeToLive() {
+		return this.timeToLive;
+	}
+
+	/**
+	 * Gets the cached query result for the given arguments, executing the query and caching the query result
+	 * on a cache miss.
+	 *
+	 * {@link BaseStream Streams} and {@link Iterator Iterators} are not cached since they can only be consumed once.
+	 * {@link Collection Collections} are returned as unmodifiable {@link Collection Collections}. A cached query
+	 * result is copied on every cache hit.
+	 *
+	 * @param arguments array of {@link Object arguments} passed to the query method.
+	 * @param query {@link Function} executing the query with the given arguments; must not be {@literal null}.
+	 * @return the cached or computed query result.
+	 */
+	public @Nullable Object get(@Nullable Object[] arguments, @NonNull Function<Object[], Object> query) {
+
+		if (!isEnabled()) {
+			return query.apply(arguments);
+		}
+
+		ArgumentsKey key = new ArgumentsKey(arguments);
+
+		long now = this.clock.getAsLong();
+
+		CachedResult cachedResult;
+
+		synchronized (this.results) {
+
+			cachedResult = this.results.get(key);
+
+			if (cachedResult != null && cachedResult.isExpired(now, getTimeToLive())) {
+				this.results.remove(key);
+				cachedResult = null;
+			}
+		}
+
+		if (cachedResult != null) {
+			this.hitCount.incrementAndGet();
+			return copy(cachedResult.getValue());
+		}
+
+		this.missCount.incrementAndGet();
+
+		long currentGeneration = this.generation.get();
+
+		Object result = query.apply(arguments);
+
+		if (!isCacheable(result)) {
+			return result;
+		}
+
+		synchronized (this.results) {
+			if (currentGeneration == this.generation.get()) {
+				this.results.put(key, new CachedResult(copy(result), now));
+			}
+		}
+
+		return toUnmodifiable(result);
+	}
+
+	private boolean isCacheable(@Nullable Object result) {
+		return !(result instanceof BaseStream || result instanceof Iterator);
+	}
+
+	@SuppressWarnings("unchecked")
+	private @Nullable Object toUnmodifiable(@Nullable Object result) {
+
+		return result instanceof List ? Collections.unmodifiableList((List<Object>) result)
+			: result instanceof Set ? Collections.unmodifiableSet((Set<Object>) result)
+			: result instanceof Collection ? Collections.unmodifiableCollection((Collection<Object>) result)
+			: result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private @Nullable Object copy(@Nullable Object result) {
+
+		if (result instanceof List) {
+			return Collections.unmodifiableList(copyAll((List<Object>) result, new ArrayList<>()));
+		}
+		else if (result instanceof Set) {
+			return Collections.unmodifiableSet(copyAll((Set<Object>) result, new LinkedHashSet<>()));
+		}
+		else if (result instanceof Collection) {
+			return Collections.unmodifiableCollection(copyAll((Collection<Object>) result, new ArrayList<>()));
+		}
+		else if (result instanceof Optional) {
+			return ((Optional<?>) result).map(this::copyValue);
+		}
+
+		return copyValue(result);
+	}
+
+	private <T extends Collection<Object>> T copyAll(@NonNull Collection<Object> source, @NonNull T target) {
+
+		source.forEach(element -> target.add(copyValue(element)));
+
+		return target;
+	}
+
+	// Immutable values are returned as is by CopyHelper; values that cannot be copied are shared.
+	private @Nullable Object copyValue(@Nullable Object value) {
+
+		if (value == null) {
+			return null;
+		}
+
+		try {
+			return CopyHelper.copy(value);
+		}
+		catch (CopyException ignore) {
+			return value;
+		}
+	}
+
+	/**
+	 * Invalidates all cached query results.
+	 */
+	public void invalidate() {
+
+		synchronized (this.results) {
+			this.generation.incrementAndGet();
+			this.results.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of cached query results.
+	 *
+	 * @return the number of cached query results.
+	 */
+	public int size() {
+
+		synchronized (this.results) {
+			return this.results.size();
+		}
+	}
+
+	private static class ArgumentsKey {
+
+		private final Object[] arguments;
+
+		private final int hashCode;
+
+		ArgumentsKey(@Nullable Object[] arguments) {
+			this.arguments = arguments != null ? arguments.clone() : new Object[0];
+			this.hashCode = Arrays.deepHashCode(this.arguments);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof ArgumentsKey)) {
+				return false;
+			}
+
+			return Arrays.deepEquals(this.arguments, ((ArgumentsKey) obj).arguments);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+	}
+
+	private static class CachedResult {
+
+		private final long cachedAt;
+
+		private final Object value;
+
+		CachedResult(@Nullable Object value, long cachedAt) {
+			this.value = value;
+			this.cachedAt = cachedAt;
+		}
+
+		@Nullable Object getValue() {
+			return this.value;
+		}
+
+		boolean isExpired(long now, long timeToLive) {
+			return timeToLive > 0L && now - this.cachedAt >= timeToLive;
+		}
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query.support;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import org.springframework.data.gemfire.util.CollectionUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Iterator} implementation iterating ordered keys fetched incrementally in windows, such as with
+ * a {@literal LIMIT} windowed OQL {@literal keys query} seeking past the last key of the previous window.
+ *
+ * Only a single window of keys is held in memory at any given time. The window {@link Function} is given the last key
+ * of the previous window, or {@literal null} for the first window, and returns up to the window size plus 1 keys
+ * following that key. The extra key determines whether another window exists and is not returned by this iterator
+ * until the next window is fetched.
+ *
+ * @author agent
+ * @param <K> {@link Class type} of the keys.
+ * @see java.util.Iterator
+ * @see org.springframework.data.gemfire.repository.query.support.ChunkedValuesIterator
+ * @since 3.0.0
+ */
+public class WindowedKeysIterator<K> implements Iterator<K> {
+
+	/**
+	 * Factory method used to construct a new {@link Iterable} of keys fetched incrementally in windows of the given size
+	 * using the given window {@link Function}.
+	 *
+	 * @param <K> {@link Class type} of the keys.
+	 * @param windowSize {@link Integer} containing the maximum number of keys per window; must be greater than {@literal 0}.
+	 * @param windowFunction {@link Function} used to fetch the keys following the last key of the previous window;
+	 * must not be {@literal null}.
+	 * @return a new {@link Iterable} of keys fetched incrementally in windows.
+	 * @throws IllegalArgumentException if the window size is less than {@literal 1}
+	 * or the window {@link Function} is {@literal null}.
+	 */
+	public static @NonNull <K> Iterable<K> iterable(int windowSize, @NonNull Function<K, List<K>> windowFunction) {
+
+		Assert.isTrue(windowSize > 0, () -> String.format("Window size [%d] must be greater than 0", windowSize));
+		Assert.notNull(windowFunction, "Window Function must not be null");
+
+		return () -> new WindowedKeysIterator<>(windowSize, windowFunction);
+	}
+
+	private boolean hasNextWindow = true;
+
+	private final int windowSize;
+
+	private final Function<K, List<K>> windowFunction;
+
+	private Iterator<K> window = Collections.emptyIterator();
+
+	private K lastKey;
+
+	/**
+	 * Constructs a new instance of {@link WindowedKeysIterator} initialized with the given window size
+	 * and window {@link Function}.
+	 *
+	 * @param windowSize {@link Integer} containing the maximum number of keys per window; must be greater than {@literal 0}.
+	 * @param windowFunction {@link Function} used to fetch the keys following the last key of the previous window;
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if the window size is less than {@literal 1}
+	 * or the window {@link Function} is {@literal null}.
+	 */
+	public WindowedKeysIterator(int windowSize, @NonNull Function<K, List<K>> windowFunction) {
+
+		Assert.isTrue(windowSize > 0, () -> String.format("Window size [%d] must be greater than 0", windowSize));
+		Assert.notNull(windowFunction, "Window Function must not be null");
+
+		this.windowSize = windowSize;
+		this.windowFunction = windowFunction;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public boolean hasNext() {
+
+		while (!this.window.hasNext() && this.hasNextWindow) {
+			this.window = nextWindow(this.lastKey);
+		}
+
+		return this.window.hasNext();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public K next() {
+
+		if (!hasNext()) {
+			throw new NoSuchElementException("No more keys");
+		}
+
+		K key = this.window.next();
+
+		this.lastKey = key;
+
+		return key;
+	}
+
+	private Iterator<K> nextWindow(@Nullable K lastKey) {
+
+		List<K> keys = CollectionUtils.nullSafeList(this.windowFunction.apply(lastKey));
+
+		this.hasNextWindow = keys.size() > this.windowSize;
+
+		return this.hasNextWindow
+			? keys.subList(0, this.windowSize).iterator()
+			: keys.iterator();
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.support;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.lang.NonNull;
+
+/**
+ * {@link DataAccessException} thrown when one or more chunks of a chunked {@link org.apache.geode.cache.Region}
+ * bulk operation (e.g. {@literal putAll} or {@literal getAll}) failed.
+ *
+ * All chunks are attempted. The keys and cause of each failed chunk are available from {@link #getFailures()}
+ * so that the caller is able to retry only the failed chunks.
+ *
+ * @author agent
+ * @see org.springframework.dao.DataAccessException
+ * @see org.springframework.data.gemfire.repository.support.SimpleGemfireRepository
+ * @since 3.0.0
+ */
+@SuppressWarnings("serial")
+public class ChunkedOperationException extends DataAccessException {
+
+	private final int chunkCount;
+
+	private final List<ChunkFailure> failures;
+
+	/**
+	 * Constructs a new instance of {@link ChunkedOperationException} initialized with the total number of chunks
+	 * and the {@link List} of {@link ChunkFailure failed chunks}.
+	 *
+	 * The cause of the first {@link ChunkFailure failed chunk} is used as the cause of this exception.
+	 *
+	 * @param chunkCount total number of chunks in the chunked operation.
+	 * @param failures {@link List} of {@link ChunkFailure failed chunks}; must not be {@literal null} or empty.
+	 */
+	public ChunkedOperationException(int chunkCount, @NonNull List<ChunkFailure> failures) {
+
+		super(String.format("[%1$d] of [%2$d] chunks failed", failures.size(), chunkCount),
+			failures.isEmpty() ? null : failures.get(0).getCause());
+
+		this.chunkCount = chunkCount;
+		this.failures = Collections.unmodifiableList(failures);
+
+		this.failures.stream()
+			.skip(1)
+			.map(ChunkFailure::getCause)
+			.filter(cause -> cause != getCause())
+			.forEach(this::addSuppressed);
+	}
+
+	/**
+	 * Returns the total number of chunks in the chunked operation.
+	 *
+	 * @return the total number of chunks in the chunked operation.
+	 */
+	public int getChunkCount() {
+		return this.chunkCount;
+	}
+
+	/**
+	 * Returns the {@link List} of {@link ChunkFailure failed chunks}.
+	 *
+	 * @return the {@link List} of {@link ChunkFailure failed chunks}.
+	 */
+	public @NonNull List<ChunkFailure> getFailures() {
+		return this.failures;
+	}
+
+	/**
+	 * The keys of a failed chunk along with the cause of the failure.
+	 */
+	public static class ChunkFailure {
+
+		private final List<?> keys;
+
+		private final Throwable cause;
+
+		/**
+		 * Constructs a new instance of {@link ChunkFailure} initialized with the keys of the failed chunk
+		 * and the cause of the failure.
+		 *
+		 * @param keys {@link List} of keys in the failed chunk.
+		 * @param cause {@link Throwable} causing the chunk to fail.
+		 */
+		public ChunkFailure(@NonNull List<?> keys, @NonNull Throwable cause) {
+			this.keys = Collections.unmodifiableList(keys);
+			this.cause = cause;
+		}
+
+		/**
+		 * Returns the {@link Throwable cause} of the failure.
+		 *
+		 * @return the {@link Throwable cause} of the failure.
+		 */
+		public @NonNull Throwable getCause() {
+			return this.cause;
+		}
+
+		/**
+		 * Returns the {@link List} of keys in the failed chunk.
+		 *
+		 * @return the {@link List} of keys in the failed chunk.
+		 */
+		public @NonNull List<?> getKeys() {
+			return this.keys;
+		}
+	}
+}
@@ -19,19 +19,35 @@ import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newI
 
 import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.InterestResultPolicy;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionEvent;
+import org.apache.geode.cache.client.Pool;
+import org.apache.geode.cache.client.PoolManager;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+import org.apache.geode.cache.util.CacheListenerAdapter;
 
 import org.springframework.data.gemfire.GemfireTemplate;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
 import org.springframework.data.gemfire.mapping.Regions;
+import org.springframework.data.gemfire.query.QueryExecutionListener;
 import org.springframework.data.gemfire.repository.query.DefaultGemfireEntityInformation;
 import org.springframework.data.gemfire.repository.query.GemfireEntityInformation;
 import org.springframework.data.gemfire.repository.query.GemfireQueryMethod;
+import org.springframework.data.gemfire.repository.query.GemfireRepositoryQuery;
 import org.springframework.data.gemfire.repository.query.PartTreeGemfireRepositoryQuery;
 import org.springframework.data.gemfire.repository.query.StringBasedGemfireRepositoryQuery;
+import org.springframework.data.gemfire.repository.query.support.IndexRecommender;
+import org.springframework.data.gemfire.repository.query.support.QueryResultCache;
+import org.springframework.data.gemfire.util.RegionUtils;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.Repository;
@@ -64,6 +80,10 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 	static final String REGION_NOT_FOUND = "Region [%1$s] for Domain Type [%2$s] using Repository [%3$s] was not found;"
 		+ " You must configure a Region with name [%1$s] in the application context";
 
+	static final String QUERY_RESULT_CACHE_NOT_INVALIDATED = "Cached query method [%s] requires either"
+		+ " a client Region with subscriptions enabled or a non-PARTITION Region to invalidate cached results,"
+		+ " or a timeToLive to expire cached results";
+
 	static final String REGION_REPOSITORY_ID_TYPE_MISMATCH =
 		"Region [%1$s] requires keys of type [%2$s], but Repository [%3$s] declared an id of type [%4$s]";
 
@@ -72,6 +92,12 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 
 	private final MappingContext<? extends GemfirePersistentEntity<?>, GemfirePersistentProperty> mappingContext;
 
+	private IndexRecommender indexRecommender;
+
+	private QueryExecutionListener queryExecutionListener;
+
+	private final Map<String, List<QueryResultCache>> regionQueryResultCaches = new ConcurrentHashMap<>();
+
 	private final Regions regions;
 
 	/**
@@ -119,6 +145,47 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 		return this.regions;
 	}
 
+	/**
+	 * Configures the {@link IndexRecommender} used to analyze the query methods of the {@link Repository}
+	 * and recommend {@link org.apache.geode.cache.query.Index Indexes} for the queried properties.
+	 *
+	 * @param indexRecommender {@link IndexRecommender} used to analyze the {@link Repository} query methods.
+	 * @see org.springframework.data.gemfire.repository.query.support.IndexRecommender
+	 */
+	public void setIndexRecommender(@Nullable IndexRecommender indexRecommender) {
+		this.indexRecommender = indexRecommender;
+	}
+
+	/**
+	 * Returns an {@link Optional} reference to the configured {@link IndexRecommender}.
+	 *
+	 * @return an {@link Optional} reference to the configured {@link IndexRecommender}.
+	 * @see org.springframework.data.gemfire.repository.query.support.IndexRecommender
+	 */
+	protected Optional<IndexRecommender> getIndexRecommender() {
+		return Optional.ofNullable(this.indexRecommender);
+	}
+
+	/**
+	 * Configures the {@link QueryExecutionListener} notified of the OQL queries executed by the {@link Repository}.
+	 *
+	 * @param queryExecutionListener {@link QueryExecutionListener} notified of OQL query executions.
+	 * @see org.springframework.data.gemfire.query.QueryExecutionListener
+	 */
+	public void setQueryExecutionListener(@Nullable QueryExecutionListener queryExecutionListener) {
+		this.queryExecutionListener = queryExecutionListener;
+	}
+
+	/**
+	 * Returns an {@link Optional} reference to the configured {@link QueryExecutionListener}.
+	 *
+	 * @return an {@link Optional} reference to the configured {@link QueryExecutionListener}.
+	 * @see org.springframework.data.gemfire.query.QueryExecutionListener
+	 */
+	protected Optional<QueryExecutionListener> getQueryExecutionListener() {
+		return Optional.ofNullable(this.queryExecutionListener);
+	}
+
 	/**
 	 * @inheritDoc
 	 */
@@ -166,7 +233,12 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 
 		GemfirePersistentEntity<?> entity = resolvePersistentEntity(repositoryMetadata.getDomainType());
 
-		return new GemfireTemplate(validate(repositoryMetadata, entity, resolveRegion(repositoryMetadata, entity)));
+		GemfireTemplate template =
+			new GemfireTemplate(validate(repositoryMetadata, entity, resolveRegion(repositoryMetadata, entity)));
+
+		getQueryExecutionListener().ifPresent(template::setQueryExecutionListener);
+
+		return template;
 	}
 
 	@Nullable
@@ -256,12 +328,99 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 					: queryMethod.hasAnnotatedQuery() ? queryMethod.getAnnotatedQuery()
 					: null;
 
-				return StringUtils.hasText(query)
+				GemfireRepositoryQuery repositoryQuery = StringUtils.hasText(query)
 					? new StringBasedGemfireRepositoryQuery(query, queryMethod, template).asUserDefinedQuery()
 					: new PartTreeGemfireRepositoryQuery(queryMethod, template); // derived query
+
+				getIndexRecommender().ifPresent(indexRecommender ->
+					indexRecommender.analyze(queryMethod, template.getRegion(), query));
+
+				return configureQueryResultCache(queryMethod, template, repositoryQuery);
 			});
 	}
 
+	/**
+	 * Configures a {@link QueryResultCache} for the given {@link GemfireRepositoryQuery} if the {@link QueryMethod}
+	 * is annotated with {@link org.springframework.data.gemfire.repository.query.annotation.CachedQuery}.
+	 *
+	 * The {@link QueryResultCache} is invalidated by a {@link org.apache.geode.cache.CacheListener} on the queried
+	 * {@link Region}, which is registered once per {@link Region}. A client {@link Region} additionally registers
+	 * interest in all keys without receiving values so that changes on the servers are sent to the client
+	 * as invalidations, which only carry the key.
+	 *
+	 * @param queryMethod {@link GemfireQueryMethod} modeling the query.
+	 * @param template {@link GemfireTemplate} used to query the {@link Region}.
+	 * @param repositoryQuery {@link GemfireRepositoryQuery} to configure.
+	 * @return the given {@link GemfireRepositoryQuery}.
+	 * @throws IllegalStateException if the cached results of the {@link QueryMethod} can neither be invalidated
+	 * nor expire.
+	 * @see org.springframework.data.gemfire.repository.query.support.QueryResultCache
+	 * @see #isQueryResultCacheInvalidatable(Region)
+	 */
+	protected GemfireRepositoryQuery configureQueryResultCache(@NonNull GemfireQueryMethod queryMethod,
+			@NonNull GemfireTemplate template, @NonNull GemfireRepositoryQuery repositoryQuery) {
+
+		if (queryMethod.hasCachedQuery() && !queryMethod.isStreamQuery()) {
+
+			Region<?, ?> region = template.getRegion();
+
+			boolean invalidatable = isQueryResultCacheInvalidatable(region);
+
+			Assert.state(invalidatable || queryMethod.getCachedQueryTimeToLive() > 0L,
+				() -> String.format(QUERY_RESULT_CACHE_NOT_INVALIDATED, queryMethod));
+
+			QueryResultCache queryResultCache = QueryResultCache.from(queryMethod);
+
+			if (invalidatable) {
+				this.regionQueryResultCaches
+					.computeIfAbsent(region.getFullPath(), regionPath -> registerQueryResultCacheInvalidation(region))
+					.add(queryResultCache);
+			}
+
+			repositoryQuery.usingQueryResultCache(queryResultCache);
+		}
+
+		return repositoryQuery;
+	}
+
+	/**
+	 * Determines whether changes to the data in the given {@link Region} can be observed by the client or peer
+	 * to invalidate the cached query results.
+	 *
+	 * A client {@link Region} must use a {@link Pool} with subscriptions enabled. A peer {@link Region} must not be
+	 * a {@literal PARTITION} {@link Region} since a {@link org.apache.geode.cache.CacheListener} on
+	 * a {@literal PARTITION} {@link Region} only observes changes to the primary buckets hosted by the peer.
+	 *
+	 * @param region {@link Region} to evaluate.
+	 * @return a boolean value indicating whether the cached query results for the {@link Region}
+	 * can be invalidated.
+	 */
+	boolean isQueryResultCacheInvalidatable(@NonNull Region<?, ?> region) {
+
+		return RegionUtils.isClient(region)
+			? resolvePool(region.getAttributes().getPoolName()).filter(Pool::getSubscriptionEnabled).isPresent()
+			: !PartitionRegionHelper.isPartitionedRegion(region);
+	}
+
+	Optional<Pool> resolvePool(@NonNull String poolName) {
+		return Optional.ofNullable(PoolManager.find(poolName));
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<QueryResultCache> registerQueryResultCacheInvalidation(@NonNull Region<?, ?> region) {
+
+		List<QueryResultCache> queryResultCaches = new CopyOnWriteArrayList<>();
+
+		((Region<Object, Object>) region).getAttributesMutator()
+			.addCacheListener(new QueryResultCacheInvalidatingCacheListener(queryResultCaches));
+
+		if (RegionUtils.isClient(region)) {
+			region.registerInterestForAllKeys(InterestResultPolicy.NONE, false, false);
+		}
+
+		return queryResultCaches;
+	}
+
 	@SuppressWarnings({ "unchecked", "unused" })
 	protected <T extends QueryMethod> T newQueryMethod(Method method, RepositoryMetadata repositoryMetadata,
 			ProjectionFactory projectionFactory, QueryMethodEvaluationContextProvider evaluationContextProvider) {
@@ -269,4 +428,54 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 		return (T) new GemfireQueryMethod(method, repositoryMetadata, projectionFactory, getMappingContext(),
 			evaluationContextProvider);
 	}
+
+	/**
+	 * {@link org.apache.geode.cache.CacheListener} invalidating all {@link QueryResultCache QueryResultCaches}
+	 * of a {@link Region} on any change to the data in the {@link Region}.
+	 *
+	 * Since an event does not determine which cached query results are affected by the change, all cached query
+	 * results of the {@link Region} are invalidated.
+	 */
+	static class QueryResultCacheInvalidatingCacheListener extends CacheListenerAdapter<Object, Object> {
+
+		private final List<QueryResultCache> queryResultCaches;
+
+		QueryResultCacheInvalidatingCacheListener(@NonNull List<QueryResultCache> queryResultCaches) {
+			this.queryResultCaches = queryResultCaches;
+		}
+
+		private void invalidate() {
+			this.queryResultCaches.forEach(QueryResultCache::invalidate);
+		}
+
+		@Override
+		public void afterCreate(EntryEvent<Object, Object> event) {
+			invalidate();
+		}
+
+		@Override
+		public void afterDestroy(EntryEvent<Object, Object> event) {
+			invalidate();
+		}
+
+		@Override
+		public void afterInvalidate(EntryEvent<Object, Object> event) {
+			invalidate();
+		}
+
+		@Override
+		public void afterUpdate(EntryEvent<Object, Object> event) {
+			invalidate();
+		}
+
+		@Override
+		public void afterRegionClear(RegionEvent<Object, Object> event) {
+			invalidate();
+		}
+
+		@Override
+		public void afterRegionInvalidate(RegionEvent<Object, Object> event) {
+			invalidate();
+		}
+	}
 }
@@ -32,6 +32,7 @@ import org.apache.geode.cache.Region;
 
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
@@ -39,8 +40,10 @@ import org.springframework.core.OrderComparator;
 import org.springframework.data.gemfire.mapping.GemfireMappingContext;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
+import org.springframework.data.gemfire.query.QueryExecutionListener;
 import org.springframework.data.gemfire.repository.query.GemfireRepositoryQuery;
 import org.springframework.data.gemfire.repository.query.QueryPostProcessor;
+import org.springframework.data.gemfire.repository.query.support.IndexRecommender;
 import org.springframework.data.gemfire.util.CollectionUtils;
 import org.springframework.data.gemfire.util.SpringExtensions;
 import org.springframework.data.mapping.context.MappingContext;
@@ -240,6 +243,18 @@ public class GemfireRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 		GemfireRepositoryFactory repositoryFactory =
 			new GemfireRepositoryFactory(getRegions(), getGemfireMappingContext());
 
+		getApplicationContext()
+			.map(applicationContext -> applicationContext.getBeanProvider(IndexRecommender.class))
+			.map(ObjectProvider::getIfUnique)
+			.ifPresent(repositoryFactory::setIndexRecommender);
+
+		getApplicationContext()
+			.map(applicationContext -> applicationContext.getBeanProvider(QueryExecutionListener.class))
+			.map(queryExecutionListeners -> queryExecutionListeners.orderedStream().collect(Collectors.toList()))
+			.filter(queryExecutionListeners -> !queryExecutionListeners.isEmpty())
+			.map(this::compose)
+			.ifPresent(repositoryFactory::setQueryExecutionListener);
+
 		getApplicationContext()
 			.map(applicationContext -> new QueryPostProcessorRegistrationOnQueryCreationListener(applicationContext))
 			.ifPresent(repositoryFactory::addQueryCreationListener);
@@ -260,6 +275,15 @@ public class GemfireRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 		return SpringExtensions.requireObject(this::getGemfireMappingContext, "GemfireMappingContext must not be null");
 	}
 
+	private QueryExecutionListener compose(List<QueryExecutionListener> queryExecutionListeners) {
+
+		if (queryExecutionListeners.size() == 1) {
+			return queryExecutionListeners.get(0);
+		}
+
+		return queryExecution -> queryExecutionListeners.forEach(listener -> listener.onQueryExecution(queryExecution));
+	}
+
 	protected class QueryPostProcessorRegistrationOnQueryCreationListener
 			implements QueryCreationListener<GemfireRepositoryQuery> {
 
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.support;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.gemfire.mapping.PdxInstanceEntityProxyFactory;
+import org.springframework.data.gemfire.repository.AsyncGemfireRepository;
+import org.springframework.data.gemfire.repository.GemfireRepository;
+import org.springframework.data.gemfire.util.CollectionUtils;
+import org.springframework.data.util.Streamable;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * {@link AsyncGemfireRepository} implementation delegating to a {@link GemfireRepository}, executing all operations
+ * on the configured {@link Executor}.
+ *
+ * The {@link Executor} determines the concurrency, for example, a bounded
+ * {@link java.util.concurrent.ThreadPoolExecutor} or a virtual {@link Thread} per task {@link Executor} when running
+ * on a Java runtime that supports virtual {@link Thread Threads}.
+ *
+ * Apache Geode cache transactions are bound to the {@link Thread} that began the transaction. An operation executed
+ * on the {@link Executor} would not participate in the transaction of the calling {@link Thread}, and therefore,
+ * all operations fail fast with an {@link IllegalStateException} when called in the scope of a cache transaction.
+ *
+ * @author agent
+ * @param <T> {@link Class type} of the entity.
+ * @param <ID> {@link Class type} of the entity identifier.
+ * @see java.util.concurrent.CompletableFuture
+ * @see java.util.concurrent.Executor
+ * @see org.springframework.data.gemfire.repository.AsyncGemfireRepository
+ * @see org.springframework.data.gemfire.repository.GemfireRepository
+ * @since 3.0.0
+ */
+public class SimpleAsyncGemfireRepository<T, ID> implements AsyncGemfireRepository<T, ID> {
+
+	private final Executor executor;
+
+	private final GemfireRepository<T, ID> repository;
+
+	/**
+	 * Constructs a new instance of {@link SimpleAsyncGemfireRepository} initialized with the given, required
+	 * {@link GemfireRepository} and {@link Executor}.
+	 *
+	 * @param repository {@link GemfireRepository} to which all operations are delegated; must not be {@literal null}.
+	 * @param executor {@link Executor} used to execute all operations; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link GemfireRepository} or {@link Executor} is {@literal null}.
+	 */
+	public SimpleAsyncGemfireRepository(@NonNull GemfireRepository<T, ID> repository, @NonNull Executor executor) {
+
+		Assert.notNull(repository, "GemfireRepository must not be null");
+		Assert.notNull(executor, "Executor must not be null");
+
+		this.repository = repository;
+		this.executor = executor;
+	}
+
+	/**
+	 * Returns the configured {@link Executor} used to execute all operations.
+	 *
+	 * @return the configured {@link Executor}.
+	 */
+	public @NonNull Executor getExecutor() {
+		return this.executor;
+	}
+
+	/**
+	 * Returns the configured {@link GemfireRepository} to which all operations are delegated.
+	 *
+	 * @return the configured {@link GemfireRepository}.
+	 */
+	public @NonNull GemfireRepository<T, ID> getRepository() {
+		return this.repository;
+	}
+
+	/**
+	 * Executes the given {@link Supplier operation} asynchronously on the configured {@link Executor}.
+	 *
+	 * @param <R> {@link Class type} of the result.
+	 * @param operation {@link Supplier} encapsulating the operation to execute; must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with the result of the operation.
+	 * @throws IllegalStateException if a cache transaction is in progress on the calling {@link Thread}.
+	 */
+	protected @NonNull <R> CompletableFuture<R> async(@NonNull Supplier<R> operation) {
+
+		assertNoTransactionPresent();
+
+		return CompletableFuture.supplyAsync(operation, getExecutor());
+	}
+
+	/**
+	 * Executes the given {@link Runnable operation} asynchronously on the configured {@link Executor}.
+	 *
+	 * @param operation {@link Runnable} encapsulating the operation to execute; must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completed when the operation completes.
+	 * @throws IllegalStateException if a cache transaction is in progress on the calling {@link Thread}.
+	 */
+	protected @NonNull CompletableFuture<Void> asyncRun(@NonNull Runnable operation) {
+
+		assertNoTransactionPresent();
+
+		return CompletableFuture.runAsync(operation, getExecutor());
+	}
+
+	private void assertNoTransactionPresent() {
+		Assert.state(!isTransactionPresent(),
+			"Asynchronous operations cannot participate in the cache transaction of the calling Thread");
+	}
+
+	/**
+	 * Determines whether a cache transaction is in progress on the calling {@link Thread}.
+	 *
+	 * The cache transaction is only determined when the configured {@link GemfireRepository}
+	 * is a {@link SimpleGemfireRepository}.
+	 *
+	 * @return a boolean value indicating whether a cache transaction is in progress on the calling {@link Thread}.
+	 * @see org.apache.geode.cache.CacheTransactionManager#exists()
+	 */
+	protected boolean isTransactionPresent() {
+
+		GemfireRepository<T, ID> repository = getRepository();
+
+		if (repository instanceof SimpleGemfireRepository) {
+
+			SimpleGemfireRepository<T, ID> simpleRepository = (SimpleGemfireRepository<T, ID>) repository;
+
+			return simpleRepository.isTransactionPresent(simpleRepository.getRegion());
+		}
+
+		return false;
+	}
+
+	@Override
+	public <S extends T> CompletableFuture<S> save(S entity) {
+		return async(() -> getRepository().save(entity));
+	}
+
+	@Override
+	public <S extends T> CompletableFuture<List<S>> saveAll(Iterable<S> entities) {
+		return async(() -> toList(getRepository().saveAll(entities)));
+	}
+
+	@Override
+	public CompletableFuture<Optional<T>> findById(ID id) {
+		return async(() -> getRepository().findById(id));
+	}
+
+	@Override
+	public CompletableFuture<Boolean> existsById(ID id) {
+		return async(() -> getRepository().existsById(id));
+	}
+
+	@Override
+	public CompletableFuture<List<T>> findAll() {
+		return async(() -> toList(getRepository().findAll()));
+	}
+
+	@Override
+	public CompletableFuture<List<T>> findAll(Sort sort) {
+		return async(() -> toList(getRepository().findAll(sort)));
+	}
+
+	@Override
+	public CompletableFuture<Page<T>> findAll(Pageable pageable) {
+		return async(() -> getRepository().findAll(pageable));
+	}
+
+	@Override
+	public CompletableFuture<List<T>> findAllById(Iterable<ID> ids) {
+		return async(() -> toList(getRepository().findAllById(ids)));
+	}
+
+	@Override
+	public CompletableFuture<Long> count() {
+		return async(() -> getRepository().count());
+	}
+
+	@Override
+	public CompletableFuture<Void> deleteById(ID id) {
+		return asyncRun(() -> getRepository().deleteById(id));
+	}
+
+	@Override
+	public CompletableFuture<Void> delete(T entity) {
+		return asyncRun(() -> getRepository().delete(PdxInstanceEntityProxyFactory.materialize(entity)));
+	}
+
+	@Override
+	public CompletableFuture<Void> deleteAllById(Iterable<? extends ID> ids) {
+		return asyncRun(() -> getRepository().deleteAllById(ids));
+	}
+
+	@Override
+	public CompletableFuture<Void> deleteAll(Iterable<? extends T> entities) {
+		return asyncRun(() -> getRepository().deleteAll(Streamable.of(CollectionUtils.nullSafeIterable(entities))
+			.map(PdxInstanceEntityProxyFactory::materialize)));
+	}
+
+	@Override
+	public CompletableFuture<Void> deleteAll() {
+		return asyncRun(() -> getRepository().deleteAll());
+	}
+
+	@Override
+	public <R> CompletableFuture<R> query(Supplier<R> query) {
+		return async(query);
+	}
+
+	private <E> List<E> toList(Iterable<E> iterable) {
+
+		return iterable instanceof List ? (List<E>) iterable
+			: StreamSupport.stream(CollectionUtils.nullSafeIterable(iterable).spliterator(), false)
+				.collect(Collectors.toList());
+	}
+}
@@ -15,32 +15,55 @@
  */
 package org.springframework.data.gemfire.repository.support;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.apache.geode.cache.CacheTransactionManager;
 import org.apache.geode.cache.DataPolicy;
 import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
 import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.distributed.DistributedMember;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.GemfireCallback;
 import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
+import org.springframework.data.gemfire.mapping.PdxInstanceEntityProxyFactory;
 import org.springframework.data.gemfire.repository.GemfireRepository;
+import org.springframework.data.gemfire.repository.KeysetPageRequest;
 import org.springframework.data.gemfire.repository.Wrapper;
+import org.springframework.data.gemfire.repository.query.DefaultGemfireEntityInformation;
+import org.springframework.data.gemfire.repository.query.KeysetSlice;
+import org.springframework.data.gemfire.repository.query.PagedQueryString;
 import org.springframework.data.gemfire.repository.query.QueryString;
+import org.springframework.data.gemfire.repository.query.support.ChunkedValuesIterator;
+import org.springframework.data.gemfire.repository.query.support.OqlKeyword;
 import org.springframework.data.gemfire.repository.query.support.PagingUtils;
+import org.springframework.data.gemfire.repository.query.support.WindowedKeysIterator;
 import org.springframework.data.gemfire.util.CollectionUtils;
 import org.springframework.data.gemfire.util.RegionUtils;
 import org.springframework.data.gemfire.util.SpringExtensions;
@@ -52,6 +75,7 @@ import org.springframework.data.util.Streamable;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -74,10 +98,30 @@ import org.slf4j.LoggerFactory;
  */
 public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID> {
 
+	protected static final String SELECT_AGGREGATE_OQL_QUERY = "SELECT %1$s(%2$s) FROM %3$s x";
 	protected static final String SELECT_COUNT_OQL_QUERY = "SELECT count(*) FROM %s";
+	protected static final String SELECT_IDS_OQL_QUERY = "SELECT %1$s FROM %2$s";
+	protected static final String SELECT_KEYS_OQL_QUERY = "SELECT k FROM %1$s.keySet k LIMIT %2$d";
+
+	protected static final int DEFAULT_DELETE_CHUNK_SIZE =
+		Integer.getInteger("spring.data.gemfire.repository.delete.chunk.size", 1000);
+
+	protected static final int DEFAULT_BATCH_CHUNK_SIZE =
+		Integer.getInteger("spring.data.gemfire.repository.batch.chunk.size", 1000);
+
+	protected static final int DEFAULT_BATCH_PARALLELISM =
+		Integer.getInteger("spring.data.gemfire.repository.batch.parallelism", 1);
+
+	private static final Pattern PROPERTY_PATH_PATTERN = Pattern.compile("\\w+(\\.\\w+)*");
 
 	private final EntityInformation<T, ID> entityInformation;
 
+	private volatile Executor batchExecutor;
+
+	private volatile int batchChunkSize = DEFAULT_BATCH_CHUNK_SIZE;
+	private volatile int batchParallelism = DEFAULT_BATCH_PARALLELISM;
+	private volatile int deleteChunkSize = DEFAULT_DELETE_CHUNK_SIZE;
+
 	private final GemfireTemplate template;
 
 	private final Logger logger = LoggerFactory.getLogger(getClass());
@@ -151,16 +195,18 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 	@Override
 	public <U extends T> U save(@NonNull U entity) {
 
-		ID id = getEntityInformation().getRequiredId(entity);
+		U resolvedEntity = PdxInstanceEntityProxyFactory.materialize(entity);
+
+		ID id = getEntityInformation().getRequiredId(resolvedEntity);
 
 		// CREATE/UPDATE entity in Region
-		T existingValue = getTemplate().put(id, entity);
+		T existingValue = getTemplate().put(id, resolvedEntity);
 
 		if (getLogger().isDebugEnabled()) {
 			getLogger().debug("Overwrote existing value [{}] for ID [{}]", existingValue, id);
 		}
 
-		return entity;
+		return resolvedEntity;
 	}
 
 	/**
@@ -182,37 +228,108 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 	}
 
 	/**
-	 * @inheritDoc
+	 * Saves all the given entities.
+	 *
+	 * The entities are saved with a single {@link Region#putAll(Map) putAll} operation when they fit in a single
+	 * {@link #getBatchChunkSize() chunk}. Otherwise, the entities are buffered while iterating, up to the
+	 * {@link #getBatchChunkSize() chunk size} times the {@link #getBatchParallelism() parallelism}, and each full
+	 * buffer is saved in chunks before iterating further. Therefore, only the buffered entities are held in
+	 * an additional {@link Map} at any given time.
+	 *
+	 * @param entities {@link Iterable} of entities to save.
+	 * @return an {@link Iterable} of the saved entities.
+	 * @throws ChunkedOperationException if saving the entities failed for one or more chunks.
+	 * @see #doInChunks(Region, Collection, Function)
 	 */
 	@Override
 	public <U extends T> Iterable<U> saveAll(@NonNull Iterable<U> entities) {
 
 		EntityInformation<T, ID> entityInformation = getEntityInformation();
 
+		Region<ID, T> region = getRegion();
+
+		int bufferSize = getBatchChunkSize() * Math.max(getBatchParallelism(), 1);
+		int chunkCount = 0;
+
+		List<ChunkedOperationException.ChunkFailure> failures = new ArrayList<>();
+		List<U> savedEntities = new ArrayList<>();
+
 		Map<ID, U> entitiesToSave = new HashMap<>();
 
-		Streamable.of(CollectionUtils.nullSafeIterable(entities)).stream()
-			.filter(Objects::nonNull)
-			.forEach(entity -> entitiesToSave.put(entityInformation.getRequiredId(entity), entity));
+		for (U entity : CollectionUtils.nullSafeIterable(entities)) {
+			if (entity != null) {
 
-		if (!entitiesToSave.isEmpty()) {
-			getTemplate().putAll(entitiesToSave);
+				U resolvedEntity = PdxInstanceEntityProxyFactory.materialize(entity);
+
+				entitiesToSave.put(entityInformation.getRequiredId(resolvedEntity), resolvedEntity);
+				savedEntities.add(resolvedEntity);
+
+				if (entitiesToSave.size() == bufferSize) {
+					chunkCount += saveInChunks(region, entitiesToSave, true, failures);
+					entitiesToSave = new HashMap<>();
+				}
+			}
 		}
 
-		return entitiesToSave.values();
+		if (chunkCount == 0 && entitiesToSave.size() <= getBatchChunkSize()) {
+			if (!entitiesToSave.isEmpty()) {
+				getTemplate().putAll(entitiesToSave);
+			}
+		}
+		else if (!entitiesToSave.isEmpty()) {
+			chunkCount += saveInChunks(region, entitiesToSave, chunkCount > 0, failures);
+		}
+
+		if (!failures.isEmpty()) {
+			throw new ChunkedOperationException(chunkCount, failures);
+		}
+
+		return savedEntities;
+	}
+
+	private <U extends T> int saveInChunks(@NonNull Region<ID, T> region, @NonNull Map<ID, U> entitiesToSave,
+			boolean batched, @NonNull List<ChunkedOperationException.ChunkFailure> failures) {
+
+		List<List<ID>> chunks = toChunks(region, entitiesToSave.keySet());
+
+		doInChunks(region, chunks, batched || chunks.size() > 1, keys -> {
+
+			Map<ID, U> chunk = new HashMap<>(keys.size());
+
+			keys.forEach(key -> chunk.put(key, entitiesToSave.get(key)));
+			getTemplate().putAll(chunk);
+
+			return chunk;
+		}, failures);
+
+		return chunks.size();
 	}
 
 	/**
 	 * Counts the number of entities stored in the {@link Region}.
 	 *
-	 * This method executes a {@literal SELECT count(*) FROM /Region} OQL query.
+	 * For client {@link Region Regions}, this method returns {@link Region#sizeOnServer()}. For peer
+	 * {@link Region Regions} hosting all the data (i.e. {@literal REPLICATE} or {@literal PARTITION}), this method
+	 * returns {@link Region#size()}. Otherwise, this method executes a {@literal SELECT count(*) FROM /Region}
+	 * OQL query.
 	 *
 	 * @return a count of the number of entities stored in the {@link Region}.
+	 * @see org.apache.geode.cache.Region#sizeOnServer()
+	 * @see org.apache.geode.cache.Region#size()
 	 */
 	@Override
 	public long count() {
 
-		String regionPath = getRegion().getFullPath();
+		Region<ID, T> region = getRegion();
+
+		if (RegionUtils.isClient(region)) {
+			return region.sizeOnServer();
+		}
+		else if (isDataHosting(region)) {
+			return region.size();
+		}
+
+		String regionPath = region.getFullPath();
 		String countQuery = String.format(SELECT_COUNT_OQL_QUERY, regionPath);
 
 		SelectResults<Integer> results = getTemplate().find(countQuery);
@@ -225,15 +342,134 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 			.orElse(0L);
 	}
 
+	/**
+	 * Counts the number of entities matching the given OQL query predicate by executing
+	 * a {@literal SELECT COUNT(*) FROM /Region x WHERE <predicate>} OQL query.
+	 *
+	 * @param predicate {@link String} containing the OQL query predicate; may be {@literal null},
+	 * in which case this method delegates to {@link #count()}.
+	 * @param arguments array of {@link Object} values bound to the OQL query parameters (such as $1).
+	 * @return the number of entities matching the given OQL query predicate.
+	 * @see #aggregate(OqlKeyword, String, String, Object...)
+	 * @see #count()
+	 */
+	@Override
+	public long count(@Nullable String predicate, Object... arguments) {
+
+		if (!StringUtils.hasText(predicate)) {
+			return count();
+		}
+
+		Number count = aggregate(OqlKeyword.COUNT, "*", predicate, arguments);
+
+		return count != null ? count.longValue() : 0L;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public @Nullable Number avg(@NonNull String property, @Nullable String predicate, Object... arguments) {
+		return aggregate(OqlKeyword.AVG, toPropertyExpression(property), predicate, arguments);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public @Nullable <R extends Comparable<?>> R max(@NonNull String property, @Nullable String predicate,
+			Object... arguments) {
+
+		return aggregate(OqlKeyword.MAX, toPropertyExpression(property), predicate, arguments);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public @Nullable <R extends Comparable<?>> R min(@NonNull String property, @Nullable String predicate,
+			Object... arguments) {
+
+		return aggregate(OqlKeyword.MIN, toPropertyExpression(property), predicate, arguments);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public @Nullable Number sum(@NonNull String property, @Nullable String predicate, Object... arguments) {
+		return aggregate(OqlKeyword.SUM, toPropertyExpression(property), predicate, arguments);
+	}
+
+	/**
+	 * Executes an OQL query applying the given OQL aggregate function to the given expression over the entities
+	 * matching the given OQL query predicate, for example:
+	 * {@literal SELECT SUM(x.amount) FROM /Region x WHERE <predicate>}.
+	 *
+	 * The aggregate is computed by the server(s) hosting the data so that only the scalar result
+	 * is returned to the client.
+	 *
+	 * @param <R> {@link Class type} of the aggregate result.
+	 * @param function {@link OqlKeyword} of the OQL aggregate function to apply.
+	 * @param expression {@link String} containing the expression to aggregate.
+	 * @param predicate {@link String} containing the OQL query predicate; may be {@literal null}.
+	 * @param arguments array of {@link Object} values bound to the OQL query parameters (such as $1).
+	 * @return the aggregate result or {@literal null} if the OQL query returned no result.
+	 * @see org.springframework.data.gemfire.repository.query.support.OqlKeyword
+	 */
+	protected @Nullable <R> R aggregate(@NonNull OqlKeyword function, @NonNull String expression,
+			@Nullable String predicate, Object... arguments) {
+
+		String query = String.format(SELECT_AGGREGATE_OQL_QUERY, function, expression, getRegion().getFullPath());
+
+		query = StringUtils.hasText(predicate) ? String.format("%1$s WHERE %2$s", query, predicate.trim()) : query;
+
+		SelectResults<R> results = getTemplate().find(query, arguments);
+
+		return Optional.ofNullable(results)
+			.map(SelectResults::iterator)
+			.filter(Iterator::hasNext)
+			.map(Iterator::next)
+			.orElse(null);
+	}
+
+	private String toPropertyExpression(String property) {
+
+		Assert.isTrue(property != null && PROPERTY_PATH_PATTERN.matcher(property).matches(),
+			() -> String.format("Property [%s] must be a property name or path", property));
+
+		return String.format("x.%s", property);
+	}
+
 	/**
 	 * Determines whether an entity with the given ID is stored in the {@link Region}.
 	 *
+	 * For client {@link Region Regions}, this method uses {@link Region#containsKeyOnServer(Object)}. For peer
+	 * {@link Region Regions} hosting all the data (i.e. {@literal REPLICATE} or {@literal PARTITION}), this method
+	 * uses {@link Region#containsKey(Object)}. In both cases, the entity is neither fetched nor deserialized.
+	 * Otherwise, this method falls back to {@link #findById(Object)}.
+	 *
 	 * @param id {@link Long} value identifying the entity.
 	 * @return a boolean value indicating whether an entity with the given ID is stored in the {@link Region}.
+	 * @see org.apache.geode.cache.Region#containsKeyOnServer(Object)
+	 * @see org.apache.geode.cache.Region#containsKey(Object)
 	 * @see #findById(Object)
 	 */
 	@Override
 	public boolean existsById(ID id) {
+
+		if (id != null) {
+
+			Region<ID, T> region = getRegion();
+
+			if (RegionUtils.isClient(region)) {
+				return region.containsKeyOnServer(id);
+			}
+			else if (isDataHosting(region)) {
+				return region.containsKey(id);
+			}
+		}
+
 		return findById(id).isPresent();
 	}
 
@@ -264,6 +500,103 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 		return toPage(results, pageable);
 	}
 
+	/**
+	 * Returns a {@link Slice} of entities using {@literal keyset} (or {@literal seek}) paging.
+	 *
+	 * This method executes a {@literal SELECT * FROM /Region WHERE <keyset predicate> ORDER BY <sort> LIMIT <size>}
+	 * OQL query, so the cost of every page is the same regardless of the depth of the page.
+	 *
+	 * @param pageRequest {@link KeysetPageRequest} containing the details of the requested page;
+	 * must not be {@literal null}.
+	 * @return a {@link Slice} of entities.
+	 * @throws IllegalArgumentException if {@link KeysetPageRequest} is {@literal null}.
+	 * @see org.springframework.data.gemfire.repository.KeysetPageRequest
+	 * @see org.springframework.data.domain.Slice
+	 */
+	@Override
+	public @NonNull Slice<T> findAll(@NonNull KeysetPageRequest pageRequest) {
+
+		Assert.notNull(pageRequest, "KeysetPageRequest must not be null");
+
+		String regionPath = getRegion().getFullPath();
+
+		String query = PagedQueryString.of(String.format("SELECT * FROM %s", regionPath))
+			.withKeyset(pageRequest, resolveIdProperty(), 1)
+			.toString();
+
+		SelectResults<T> selectResults = getTemplate().find(query, PagedQueryString.getKeysetArguments(pageRequest));
+
+		return KeysetSlice.from(toList(selectResults), pageRequest);
+	}
+
+	@Nullable String resolveIdProperty() {
+
+		EntityInformation<T, ID> entityInformation = getEntityInformation();
+
+		GemfirePersistentProperty idProperty = entityInformation instanceof DefaultGemfireEntityInformation
+			? ((DefaultGemfireEntityInformation<T, ID>) entityInformation).getPersistentEntity().getIdProperty()
+			: null;
+
+		return idProperty != null ? idProperty.getName() : null;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public @NonNull Stream<T> findAllAsStream() {
+		return findAllAsStream(ChunkedValuesIterator.DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Returns a lazy {@link Stream} of all entities.
+	 *
+	 * The entities are fetched incrementally with a {@link Region#getAll(Collection) getAll} operation per chunk
+	 * of keys. On a client, the keys are fetched from the server in windows of the chunk size, ordered by identifier,
+	 * rather than pulling all keys into client memory up front. Therefore, the identifiers must be
+	 * {@link Comparable}. On a peer, the keys are iterated from the local {@link Region#keySet() key set}.
+	 *
+	 * @param chunkSize {@link Integer} containing the maximum number of entities fetched per chunk;
+	 * must be greater than {@literal 0}.
+	 * @return a lazy {@link Stream} of all entities.
+	 * @throws IllegalArgumentException if the chunk size is less than {@literal 1}.
+	 * @see org.springframework.data.gemfire.repository.query.support.ChunkedValuesIterator
+	 * @see java.util.stream.Stream
+	 */
+	@Override
+	public @NonNull Stream<T> findAllAsStream(int chunkSize) {
+
+		Region<ID, T> region = getRegion();
+
+		String idProperty = resolveIdProperty();
+
+		Iterable<ID> keys = RegionUtils.isClient(region) && idProperty != null
+			? findKeysInWindows(region, idProperty, chunkSize)
+			: resolveRegionKeys(region);
+
+		return ChunkedValuesIterator.stream(keys, chunkSize, getTemplate()::getAll);
+	}
+
+	// Seeks past the last key of the previous window so that the cost of every window is the same
+	@NonNull Iterable<ID> findKeysInWindows(@NonNull Region<ID, T> region, @NonNull String idProperty,
+			int windowSize) {
+
+		PagedQueryString keysQuery =
+			PagedQueryString.of(String.format(SELECT_IDS_OQL_QUERY, idProperty, region.getFullPath()));
+
+		KeysetPageRequest firstWindowRequest = KeysetPageRequest.of(windowSize, Sort.by(idProperty));
+
+		return WindowedKeysIterator.iterable(windowSize, lastKey -> {
+
+			KeysetPageRequest windowRequest = lastKey != null
+				? firstWindowRequest.withKeyset(Collections.singletonMap(idProperty, lastKey))
+				: firstWindowRequest;
+
+			return findKeys(keysQuery.withKeyset(windowRequest, idProperty, 1).toString(),
+				PagedQueryString.getKeysetArguments(windowRequest));
+		});
+	}
+
 	/**
 	 * @inheritDoc
 	 */
@@ -289,6 +622,14 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 			.filter(Objects::nonNull)
 			.collect(StreamUtils.toUnmodifiableList());
 
+		if (keys.size() > getBatchChunkSize()) {
+
+			return doInChunks(getRegion(), keys, chunk -> getTemplate().<ID, T>getAll(chunk)).stream()
+				.flatMap(keysValues -> CollectionUtils.nullSafeMap(keysValues).values().stream())
+				.filter(Objects::nonNull)
+				.collect(Collectors.toList());
+		}
+
 		Map<ID, T> keysValues = !keys.isEmpty()
 			? getTemplate().getAll(keys)
 			: Collections.emptyMap();
@@ -314,11 +655,17 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 	}
 
 	/**
-	 * @inheritDoc
+	 * Deletes the given entity from the {@link Region}.
+	 *
+	 * Lazy entity proxies are {@link PdxInstanceEntityProxyFactory#materialize(Object) materialized} in order
+	 * to resolve the identifier of the entity.
+	 *
+	 * @param entity entity to delete.
+	 * @see PdxInstanceEntityProxyFactory#materialize(Object)
 	 */
 	@Override
 	public void delete(@NonNull T entity) {
-		deleteById(getEntityInformation().getRequiredId(entity));
+		deleteById(getEntityInformation().getRequiredId(PdxInstanceEntityProxyFactory.materialize(entity)));
 	}
 
 	/**
@@ -341,11 +688,29 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 	}
 
 	/**
-	 * @inheritDoc
+	 * Deletes all given entities from the {@link Region}.
+	 *
+	 * The identifiers of the entities are removed with a {@link Region#removeAll(Collection) removeAll} operation
+	 * per {@link #getDeleteChunkSize() chunk} rather than a {@link Region#remove(Object) remove} operation
+	 * per entity. Lazy entity proxies are {@link PdxInstanceEntityProxyFactory#materialize(Object) materialized}
+	 * in order to resolve the identifiers of the entities.
+	 *
+	 * @param entities {@link Iterable} of entities to delete.
+	 * @see #getDeleteChunkSize()
+	 * @see PdxInstanceEntityProxyFactory#materialize(Object)
 	 */
 	@Override
 	public void deleteAll(@NonNull Iterable<? extends T> entities) {
-		CollectionUtils.nullSafeIterable(entities).forEach(this::delete);
+
+		EntityInformation<T, ID> entityInformation = getEntityInformation();
+
+		Set<ID> keys = Streamable.of(CollectionUtils.nullSafeIterable(entities)).stream()
+			.filter(Objects::nonNull)
+			.map(PdxInstanceEntityProxyFactory::materialize)
+			.map(entityInformation::getRequiredId)
+			.collect(Collectors.toCollection(LinkedHashSet::new));
+
+		removeAllInChunks(keys, getTemplate()::removeAll);
 	}
 
 	/**
@@ -359,9 +724,7 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 				.filter(Objects::nonNull)
 				.collect(Collectors.toSet());
 
-		if (!keys.isEmpty()) {
-			getTemplate().removeAll(keys);
-		}
+		removeAllInChunks(keys, getTemplate()::removeAll);
 	}
 
 	/**
@@ -383,6 +746,17 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 		return dataPolicy != null && dataPolicy.withPartitioning();
 	}
 
+	boolean isDataHosting(@Nullable Region<?, ?> region) {
+
+		return region != null
+			&& region.getAttributes() != null
+			&& isDataHosting(region.getAttributes().getDataPolicy());
+	}
+
+	boolean isDataHosting(@Nullable DataPolicy dataPolicy) {
+		return dataPolicy != null && (dataPolicy.withReplication() || dataPolicy.withPartitioning());
+	}
+
 	boolean isTransactionPresent(@Nullable Region<?, ?> region) {
 
 		return region != null
@@ -394,8 +768,333 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 		return cacheTransactionManager != null && cacheTransactionManager.exists();
 	}
 
+	/**
+	 * Configures the maximum number of entities put or got per {@link Region#putAll(Map) putAll}
+	 * or {@link Region#getAll(Collection) getAll} operation in {@link #saveAll(Iterable)}
+	 * and {@link #findAllById(Iterable)}.
+	 *
+	 * Defaults to the value of the {@literal spring.data.gemfire.repository.batch.chunk.size} System property,
+	 * or {@literal 1000}.
+	 *
+	 * @param batchChunkSize maximum number of entities per {@link Region} bulk operation;
+	 * must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if {@code batchChunkSize} is less than {@literal 1}.
+	 * @see #getBatchChunkSize()
+	 */
+	public void setBatchChunkSize(int batchChunkSize) {
+
+		Assert.isTrue(batchChunkSize > 0,
+			() -> String.format("Batch chunk size [%d] must be greater than 0", batchChunkSize));
+
+		this.batchChunkSize = batchChunkSize;
+	}
+
+	/**
+	 * Returns the maximum number of entities put or got per {@link Region#putAll(Map) putAll}
+	 * or {@link Region#getAll(Collection) getAll} operation in {@link #saveAll(Iterable)}
+	 * and {@link #findAllById(Iterable)}.
+	 *
+	 * @return the maximum number of entities per {@link Region} bulk operation.
+	 * @see #setBatchChunkSize(int)
+	 */
+	protected int getBatchChunkSize() {
+		return Math.max(this.batchChunkSize, 1);
+	}
+
+	/**
+	 * Configures the {@link Executor} used to process chunks concurrently in {@link #saveAll(Iterable)}
+	 * and {@link #findAllById(Iterable)}.
+	 *
+	 * The {@link Executor} is managed by the caller. Chunks are processed sequentially in the calling {@link Thread}
+	 * when no {@link Executor} is configured.
+	 *
+	 * @param batchExecutor {@link Executor} used to process chunks concurrently; may be {@literal null}.
+	 * @see #setBatchParallelism(int)
+	 * @see java.util.concurrent.Executor
+	 */
+	public void setBatchExecutor(@Nullable Executor batchExecutor) {
+		this.batchExecutor = batchExecutor;
+	}
+
+	/**
+	 * Returns an {@link Optional} reference to the {@link Executor} used to process chunks concurrently.
+	 *
+	 * @return an {@link Optional} reference to the {@link Executor} used to process chunks concurrently.
+	 * @see #setBatchExecutor(Executor)
+	 */
+	protected Optional<Executor> getBatchExecutor() {
+		return Optional.ofNullable(this.batchExecutor);
+	}
+
+	/**
+	 * Configures the maximum number of chunks processed concurrently by {@link #saveAll(Iterable)}
+	 * and {@link #findAllById(Iterable)} using the configured {@link #setBatchExecutor(Executor) Executor}.
+	 *
+	 * Defaults to the value of the {@literal spring.data.gemfire.repository.batch.parallelism} System property,
+	 * or {@literal 1}, which processes the chunks sequentially in the calling {@link Thread}.
+	 *
+	 * @param batchParallelism maximum number of chunks processed concurrently; must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if {@code batchParallelism} is less than {@literal 1}.
+	 * @see #getBatchParallelism()
+	 */
+	public void setBatchParallelism(int batchParallelism) {
+
+		Assert.isTrue(batchParallelism > 0,
+			() -> String.format("Batch parallelism [%d] must be greater than 0", batchParallelism));
+
+		this.batchParallelism = batchParallelism;
+	}
+
+	/**
+	 * Returns the maximum number of chunks processed concurrently by {@link #saveAll(Iterable)}
+	 * and {@link #findAllById(Iterable)}.
+	 *
+	 * A value of {@literal 1} (the default) processes the chunks sequentially in the calling {@link Thread}.
+	 *
+	 * @return the maximum number of chunks processed concurrently.
+	 * @see #setBatchParallelism(int)
+	 */
+	protected int getBatchParallelism() {
+		return this.batchParallelism;
+	}
+
+	/**
+	 * Applies the given {@link Function operation} to the given keys in {@link #getBatchChunkSize() chunks}.
+	 *
+	 * On server {@link Region#getAttributes() PARTITION} {@link Region Regions}, the keys are grouped by
+	 * the primary member hosting the bucket for each key first, so that each chunk targets a single member.
+	 * The chunks are processed concurrently using the configured {@link #getBatchExecutor() Executor}, with at most
+	 * {@link #getBatchParallelism() parallelism} chunks in flight, when the parallelism is greater than {@literal 1}
+	 * and no transaction is in progress. All chunks are processed even when some fail.
+	 *
+	 * @param <K> {@link Class type} of the keys.
+	 * @param <R> {@link Class type} of the result of the operation on a chunk.
+	 * @param region {@link Region} on which the operation is performed.
+	 * @param keys {@link Collection} of keys to process in chunks.
+	 * @param chunkOperation {@link Function} applied to each chunk of keys.
+	 * @return a {@link List} of the results for each chunk.
+	 * @throws ChunkedOperationException if the operation failed for one or more chunks.
+	 */
+	<K, R> List<R> doInChunks(@NonNull Region<K, ?> region, @NonNull Collection<K> keys,
+			@NonNull Function<List<K>, R> chunkOperation) {
+
+		List<List<K>> chunks = toChunks(region, keys);
+
+		List<ChunkedOperationException.ChunkFailure> failures = new ArrayList<>();
+
+		List<R> results = doInChunks(region, chunks, chunks.size() > 1, chunkOperation, failures);
+
+		if (!failures.isEmpty()) {
+			throw new ChunkedOperationException(chunks.size(), failures);
+		}
+
+		return results;
+	}
+
+	// Processes the chunks concurrently when multiple chunks are processed and concurrency is enabled
+	private <K, R> List<R> doInChunks(@NonNull Region<K, ?> region, @NonNull List<List<K>> chunks,
+			boolean multipleChunks, @NonNull Function<List<K>, R> chunkOperation,
+			@NonNull List<ChunkedOperationException.ChunkFailure> failures) {
+
+		List<R> results = new ArrayList<>(chunks.size());
+
+		int parallelism = getBatchParallelism();
+
+		Executor executor = getBatchExecutor().orElse(null);
+
+		if (multipleChunks && parallelism > 1 && executor != null && !isTransactionPresent(region)) {
+
+			for (int windowIndex = 0; windowIndex < chunks.size(); windowIndex += parallelism) {
+
+				List<List<K>> window = chunks.subList(windowIndex, Math.min(windowIndex + parallelism, chunks.size()));
+
+				List<CompletableFuture<R>> futures = window.stream()
+					.map(chunk -> CompletableFuture.supplyAsync(() -> chunkOperation.apply(chunk), executor))
+					.collect(Collectors.toList());
+
+				for (int index = 0; index < futures.size(); index++) {
+					try {
+						results.add(futures.get(index).join());
+					}
+					catch (RuntimeException cause) {
+
+						Throwable resolvedCause = cause instanceof CompletionException && cause.getCause() != null
+							? cause.getCause()
+							: cause;
+
+						failures.add(new ChunkedOperationException.ChunkFailure(window.get(index), resolvedCause));
+					}
+				}
+			}
+		}
+		else {
+			for (List<K> chunk : chunks) {
+				try {
+					results.add(chunkOperation.apply(chunk));
+				}
+				catch (RuntimeException cause) {
+					failures.add(new ChunkedOperationException.ChunkFailure(chunk, cause));
+				}
+			}
+		}
+
+		return results;
+	}
+
+	<K> List<List<K>> toChunks(@NonNull Region<K, ?> region, @NonNull Collection<K> keys) {
+
+		int chunkSize = getBatchChunkSize();
+
+		List<List<K>> chunks = new ArrayList<>();
+
+		for (Collection<K> group : groupByPrimaryMember(region, keys)) {
+
+			List<K> chunk = new ArrayList<>(Math.min(chunkSize, group.size()));
+
+			for (K key : group) {
+
+				chunk.add(key);
+
+				if (chunk.size() == chunkSize) {
+					chunks.add(chunk);
+					chunk = new ArrayList<>(chunkSize);
+				}
+			}
+
+			if (!chunk.isEmpty()) {
+				chunks.add(chunk);
+			}
+		}
+
+		return chunks;
+	}
+
+	<K> Collection<? extends Collection<K>> groupByPrimaryMember(@NonNull Region<K, ?> region,
+			@NonNull Collection<K> keys) {
+
+		if (isPartitioned(region) && RegionUtils.isServer(region)) {
+			try {
+
+				Map<DistributedMember, List<K>> keysByPrimaryMember = new LinkedHashMap<>();
+
+				for (K key : keys) {
+					keysByPrimaryMember.computeIfAbsent(PartitionRegionHelper.getPrimaryMemberForKey(region, key),
+						member -> new ArrayList<>()).add(key);
+				}
+
+				return keysByPrimaryMember.values();
+			}
+			catch (RuntimeException ignore) {
+				// Bucket metadata is not available; fallback to chunking the keys in order
+			}
+		}
+
+		return Collections.singletonList(keys);
+	}
+
+	/**
+	 * Configures the maximum number of keys removed from the {@link Region} per {@link Region#removeAll(Collection)}
+	 * operation.
+	 *
+	 * Defaults to the value of the {@literal spring.data.gemfire.repository.delete.chunk.size} System property,
+	 * or {@literal 1000}.
+	 *
+	 * @param deleteChunkSize maximum number of keys removed per {@link Region#removeAll(Collection)} operation;
+	 * must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if {@code deleteChunkSize} is less than {@literal 1}.
+	 * @see #getDeleteChunkSize()
+	 */
+	public void setDeleteChunkSize(int deleteChunkSize) {
+
+		Assert.isTrue(deleteChunkSize > 0,
+			() -> String.format("Delete chunk size [%d] must be greater than 0", deleteChunkSize));
+
+		this.deleteChunkSize = deleteChunkSize;
+	}
+
+	/**
+	 * Returns the maximum number of keys removed from the {@link Region} per {@link Region#removeAll(Collection)}
+	 * operation.
+	 *
+	 * @return the maximum number of keys removed per {@link Region#removeAll(Collection)} operation.
+	 * @see #setDeleteChunkSize(int)
+	 */
+	protected int getDeleteChunkSize() {
+		return this.deleteChunkSize;
+	}
+
 	<K> void  doRegionClear(@NonNull Region<K, ?> region) {
-		region.removeAll(resolveRegionKeys(region));
+
+		if (RegionUtils.isClient(region)) {
+			doClientRegionClear(region);
+		}
+		else {
+			removeAllInChunks(resolveRegionKeys(region), region::removeAll);
+		}
+	}
+
+	// Removes the keys in batches on the server rather than pulling all keys from the server into client memory.
+	// The number of batches is bounded by the number of entries on the server when the clear began (plus 1 batch
+	// for entries added during the clear), and the clear stops early when a batch fails to remove any keys.
+	<K> void doClientRegionClear(@NonNull Region<K, ?> region) {
+
+		int chunkSize = Math.max(getDeleteChunkSize(), 1);
+
+		long maximumBatches = (Math.max(region.sizeOnServer(), 0) + chunkSize - 1L) / chunkSize + 1L;
+
+		String keysQuery = String.format(SELECT_KEYS_OQL_QUERY, region.getFullPath(), chunkSize);
+
+		List<K> removedKeys = Collections.emptyList();
+
+		for (long batch = 0; batch < maximumBatches; batch++) {
+
+			List<K> keys = findKeys(keysQuery);
+
+			if (keys.isEmpty() || keys.equals(removedKeys)) {
+				break;
+			}
+
+			region.removeAll(keys);
+			removedKeys = keys;
+		}
+	}
+
+	private <K> List<K> findKeys(String keysQuery, Object... arguments) {
+
+		SelectResults<K> selectResults = getTemplate().find(keysQuery, arguments);
+
+		return selectResults != null
+			? CollectionUtils.nullSafeList(selectResults.asList())
+			: Collections.emptyList();
+	}
+
+	<K> void removeAllInChunks(@NonNull Collection<K> keys, @NonNull Consumer<Collection<K>> removeAll) {
+
+		int chunkSize = Math.max(getDeleteChunkSize(), 1);
+
+		if (keys.size() <= chunkSize) {
+			if (!keys.isEmpty()) {
+				removeAll.accept(keys);
+			}
+		}
+		else {
+
+			List<K> chunk = new ArrayList<>(chunkSize);
+
+			for (K key : keys) {
+
+				chunk.add(key);
+
+				if (chunk.size() == chunkSize) {
+					removeAll.accept(chunk);
+					chunk = new ArrayList<>(chunkSize);
+				}
+			}
+
+			if (!chunk.isEmpty()) {
+				removeAll.accept(chunk);
+			}
+		}
 	}
 
 	@NonNull <K> Set<K> resolveRegionKeys(@NonNull Region<K, ?> region) {
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.support;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.gemfire.ReactiveGemfireTemplate;
+import org.springframework.data.gemfire.mapping.PdxInstanceEntityProxyFactory;
+import org.springframework.data.gemfire.repository.GemfireRepository;
+import org.springframework.data.gemfire.repository.ReactiveGemfireRepository;
+import org.springframework.data.gemfire.support.StreamPublisher;
+import org.springframework.data.gemfire.util.CollectionUtils;
+import org.springframework.data.util.Streamable;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ReactiveGemfireRepository} implementation delegating to a {@link GemfireRepository}, executing all operations
+ * on the configured {@link Executor} once subscribed.
+ *
+ * {@link #findAll()} and {@link #findAllById(Iterable)} fetch entities incrementally, as demanded by
+ * the {@link Flow.Subscriber}, in windows of the configured {@link #getWindowSize() window size}, so that no more than
+ * a single window of entities is held in memory.
+ *
+ * @author agent
+ * @param <T> {@link Class type} of the entity.
+ * @param <ID> {@link Class type} of the entity identifier.
+ * @see java.util.concurrent.Executor
+ * @see java.util.concurrent.Flow
+ * @see org.springframework.data.gemfire.repository.GemfireRepository
+ * @see org.springframework.data.gemfire.repository.ReactiveGemfireRepository
+ * @see org.springframework.data.gemfire.support.StreamPublisher
+ * @since 3.0.0
+ */
+public class SimpleReactiveGemfireRepository<T, ID> implements ReactiveGemfireRepository<T, ID> {
+
+	private final Executor executor;
+
+	private final GemfireRepository<T, ID> repository;
+
+	private final int windowSize;
+
+	/**
+	 * Constructs a new instance of {@link SimpleReactiveGemfireRepository} initialized with the given, required
+	 * {@link GemfireRepository} and {@link Executor} using the {@link ReactiveGemfireTemplate#DEFAULT_WINDOW_SIZE}.
+	 *
+	 * @param repository {@link GemfireRepository} to which all operations are delegated; must not be {@literal null}.
+	 * @param executor {@link Executor} used to execute all operations; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link GemfireRepository} or {@link Executor} is {@literal null}.
+	 * @see #SimpleReactiveGemfireRepository(GemfireRepository, Executor, int)
+	 */
+	public SimpleReactiveGemfireRepository(@NonNull GemfireRepository<T, ID> repository, @NonNull Executor executor) {
+		this(repository, executor, ReactiveGemfireTemplate.DEFAULT_WINDOW_SIZE);
+	}
+
+	/**
+	 * Constructs a new instance of {@link SimpleReactiveGemfireRepository} initialized with the given, required
+	 * {@link GemfireRepository}, {@link Executor} and window size.
+	 *
+	 * @param repository {@link GemfireRepository} to which all operations are delegated; must not be {@literal null}.
+	 * @param executor {@link Executor} used to execute all operations; must not be {@literal null}.
+	 * @param windowSize {@link Integer} containing the maximum number of entities fetched per window;
+	 * must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if {@link GemfireRepository} or {@link Executor} is {@literal null},
+	 * or the window size is less than {@literal 1}.
+	 */
+	public SimpleReactiveGemfireRepository(@NonNull GemfireRepository<T, ID> repository, @NonNull Executor executor,
+			int windowSize) {
+
+		Assert.notNull(repository, "GemfireRepository must not be null");
+		Assert.notNull(executor, "Executor must not be null");
+		Assert.isTrue(windowSize > 0, () -> String.format("Window size [%d] must be greater than 0", windowSize));
+
+		this.repository = repository;
+		this.executor = executor;
+		this.windowSize = windowSize;
+	}
+
+	/**
+	 * Returns the configured {@link Executor} used to execute all operations.
+	 *
+	 * @return the configured {@link Executor}.
+	 */
+	public @NonNull Executor getExecutor() {
+		return this.executor;
+	}
+
+	/**
+	 * Returns the configured {@link GemfireRepository} to which all operations are delegated.
+	 *
+	 * @return the configured {@link GemfireRepository}.
+	 */
+	public @NonNull GemfireRepository<T, ID> getRepository() {
+		return this.repository;
+	}
+
+	/**
+	 * Returns the maximum number of entities fetched per window.
+	 *
+	 * @return the maximum number of entities fetched per window.
+	 */
+	public int getWindowSize() {
+		return this.windowSize;
+	}
+
+	/**
+	 * Returns a {@link Flow.Publisher} publishing the elements of the {@link Stream} returned by
+	 * the given {@link Supplier operation} executed on the configured {@link Executor}.
+	 *
+	 * @param <R> {@link Class type} of the elements.
+	 * @param operation {@link Supplier} encapsulating the operation to execute; must not be {@literal null}.
+	 * @return a {@link Flow.Publisher} publishing the elements of the {@link Stream}.
+	 */
+	protected @NonNull <R> Flow.Publisher<R> from(@NonNull Supplier<? extends Stream<R>> operation) {
+		return StreamPublisher.from(operation, getExecutor());
+	}
+
+	/**
+	 * Returns a {@link Flow.Publisher} publishing the single result of the given {@link Supplier operation},
+	 * if any, executed on the configured {@link Executor}.
+	 *
+	 * @param <R> {@link Class type} of the result.
+	 * @param operation {@link Supplier} encapsulating the operation to execute; must not be {@literal null}.
+	 * @return a {@link Flow.Publisher} publishing the {@literal non-null} result of the operation.
+	 */
+	protected @NonNull <R> Flow.Publisher<R> just(@NonNull Supplier<R> operation) {
+		return StreamPublisher.just(operation, getExecutor());
+	}
+
+	/**
+	 * Returns a {@link Flow.Publisher} completing, without a value, once the given {@link Runnable operation}
+	 * executed on the configured {@link Executor} completes.
+	 *
+	 * @param operation {@link Runnable} encapsulating the operation to execute; must not be {@literal null}.
+	 * @return a {@link Flow.Publisher} signaling the completion of the operation.
+	 */
+	protected @NonNull Flow.Publisher<Void> run(@NonNull Runnable operation) {
+		return StreamPublisher.run(operation, getExecutor());
+	}
+
+	@Override
+	public <S extends T> Flow.Publisher<S> save(S entity) {
+		return just(() -> getRepository().save(entity));
+	}
+
+	@Override
+	public <S extends T> Flow.Publisher<S> saveAll(Iterable<S> entities) {
+		return from(() -> stream(getRepository().saveAll(entities)));
+	}
+
+	@Override
+	public Flow.Publisher<T> findById(ID id) {
+		return just(() -> getRepository().findById(id).orElse(null));
+	}
+
+	@Override
+	public Flow.Publisher<Boolean> existsById(ID id) {
+		return just(() -> getRepository().existsById(id));
+	}
+
+	@Override
+	public Flow.Publisher<T> findAll() {
+		return from(() -> getRepository().findAllAsStream(getWindowSize()));
+	}
+
+	@Override
+	public Flow.Publisher<T> findAll(Sort sort) {
+		return from(() -> stream(getRepository().findAll(sort)));
+	}
+
+	@Override
+	public Flow.Publisher<T> findAllById(Iterable<ID> ids) {
+
+		return from(() -> windows(CollectionUtils.nullSafeIterable(ids).iterator())
+			.flatMap(windowIds -> stream(getRepository().findAllById(windowIds))));
+	}
+
+	@Override
+	public Flow.Publisher<Long> count() {
+		return just(() -> getRepository().count());
+	}
+
+	@Override
+	public Flow.Publisher<Void> deleteById(ID id) {
+		return run(() -> getRepository().deleteById(id));
+	}
+
+	@Override
+	public Flow.Publisher<Void> delete(T entity) {
+		return run(() -> getRepository().delete(PdxInstanceEntityProxyFactory.materialize(entity)));
+	}
+
+	@Override
+	public Flow.Publisher<Void> deleteAllById(Iterable<? extends ID> ids) {
+		return run(() -> getRepository().deleteAllById(ids));
+	}
+
+	@Override
+	public Flow.Publisher<Void> deleteAll(Iterable<? extends T> entities) {
+		return run(() -> getRepository().deleteAll(Streamable.of(CollectionUtils.nullSafeIterable(entities))
+			.map(PdxInstanceEntityProxyFactory::materialize)));
+	}
+
+	@Override
+	public Flow.Publisher<Void> deleteAll() {
+		return run(() -> getRepository().deleteAll());
+	}
+
+	@Override
+	public <R> Flow.Publisher<R> query(Supplier<? extends Stream<R>> query) {
+		return from(query);
+	}
+
+	private <E> Stream<E> stream(Iterable<E> iterable) {
+		return StreamSupport.stream(CollectionUtils.nullSafeIterable(iterable).spliterator(), false);
+	}
+
+	private Stream<List<ID>> windows(Iterator<ID> ids) {
+
+		Iterator<List<ID>> windows = new Iterator<>() {
+
+			@Override
+			public boolean hasNext() {
+				return ids.hasNext();
+			}
+
+			@Override
+			public List<ID> next() {
+
+				List<ID> window = new ArrayList<>(getWindowSize());
+
+				while (window.size() < getWindowSize() && ids.hasNext()) {
+					window.add(ids.next());
+				}
+
+				return window;
+			}
+		};
+
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(windows, Spliterator.ORDERED), false);
+	}
+}
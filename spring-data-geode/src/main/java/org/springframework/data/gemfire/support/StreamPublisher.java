@@ -0,0 +1,298 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.support;
+
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Flow.Publisher} implementation publishing the elements of a lazily supplied {@link Stream}
+ * to each {@link Flow.Subscriber} in accordance with the {@link Flow.Subscriber Subscriber's} demand.
+ *
+ * The {@link Stream} is only opened when the {@link Flow.Subscriber} first requests elements and elements
+ * are only pulled from the {@link Stream} as requested, which, in combination with a lazy, chunked {@link Stream}
+ * (e.g. {@link org.springframework.data.gemfire.repository.GemfireRepository#findAllAsStream(int)}), limits
+ * the number of elements held in memory to a single window. All {@link Stream} access and signals are serialized
+ * and executed on the configured {@link Executor}, and the {@link Stream} is closed when the {@link Flow.Subscription}
+ * completes, fails or is cancelled.
+ *
+ * Being a {@link java.util.concurrent.Flow Java Flow} {@link Flow.Publisher}, an instance is easily adapted to
+ * {@literal Project Reactor}, e.g. with {@literal JdkFlowAdapter.flowPublisherToFlux(..)}.
+ *
+ * @author agent
+ * @param <T> {@link Class type} of the elements published.
+ * @see java.util.concurrent.Executor
+ * @see java.util.concurrent.Flow
+ * @see java.util.stream.Stream
+ * @since 3.0.0
+ */
+public class StreamPublisher<T> implements Flow.Publisher<T> {
+
+	/**
+	 * Factory method used to construct a new {@link StreamPublisher} publishing the elements of the {@link Stream}
+	 * returned by the given {@link Supplier}.
+	 *
+	 * @param <T> {@link Class type} of the elements published.
+	 * @param streamSupplier {@link Supplier} of the {@link Stream}; must not be {@literal null}.
+	 * @param executor {@link Executor} used to pull and publish elements; must not be {@literal null}.
+	 * @return a new {@link StreamPublisher}.
+	 * @throws IllegalArgumentException if the {@link Supplier} or {@link Executor} is {@literal null}.
+	 */
+	public static @NonNull <T> StreamPublisher<T> from(@NonNull Supplier<? extends Stream<T>> streamSupplier,
+			@NonNull Executor executor) {
+
+		return new StreamPublisher<>(streamSupplier, executor);
+	}
+
+	/**
+	 * Factory method used to construct a new {@link StreamPublisher} publishing the single, {@literal non-null} value
+	 * returned by the given {@link Supplier}, or no value if the {@link Supplier} returns {@literal null}.
+	 *
+	 * @param <T> {@link Class type} of the value published.
+	 * @param valueSupplier {@link Supplier} of the value; must not be {@literal null}.
+	 * @param executor {@link Executor} used to compute and publish the value; must not be {@literal null}.
+	 * @return a new {@link StreamPublisher}.
+	 * @throws IllegalArgumentException if the {@link Supplier} or {@link Executor} is {@literal null}.
+	 */
+	public static @NonNull <T> StreamPublisher<T> just(@NonNull Supplier<T> valueSupplier,
+			@NonNull Executor executor) {
+
+		Assert.notNull(valueSupplier, "Value Supplier must not be null");
+
+		return from(() -> Stream.ofNullable(valueSupplier.get()), executor);
+	}
+
+	/**
+	 * Factory method used to construct a new {@link StreamPublisher} running the given {@link Runnable action}
+	 * and completing without publishing any value.
+	 *
+	 * @param action {@link Runnable} to run; must not be {@literal null}.
+	 * @param executor {@link Executor} used to run the action; must not be {@literal null}.
+	 * @return a new {@link StreamPublisher}.
+	 * @throws IllegalArgumentException if the {@link Runnable} or {@link Executor} is {@literal null}.
+	 */
+	public static @NonNull StreamPublisher<Void> run(@NonNull Runnable action, @NonNull Executor executor) {
+
+		Assert.notNull(action, "Runnable must not be null");
+
+		return from(() -> {
+			action.run();
+			return Stream.empty();
+		}, executor);
+	}
+
+	private final Executor executor;
+
+	private final Supplier<? extends Stream<T>> streamSupplier;
+
+	/**
+	 * Constructs a new instance of {@link StreamPublisher} initialized with the given {@link Supplier}
+	 * of the {@link Stream} and the {@link Executor}.
+	 *
+	 * @param streamSupplier {@link Supplier} of the {@link Stream}; must not be {@literal null}.
+	 * @param executor {@link Executor} used to pull and publish elements; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Supplier} or {@link Executor} is {@literal null}.
+	 */
+	public StreamPublisher(@NonNull Supplier<? extends Stream<T>> streamSupplier, @NonNull Executor executor) {
+
+		Assert.notNull(streamSupplier, "Stream Supplier must not be null");
+		Assert.notNull(executor, "Executor must not be null");
+
+		this.streamSupplier = streamSupplier;
+		this.executor = executor;
+	}
+
+	/**
+	 * Returns the configured {@link Executor} used to pull and publish elements.
+	 *
+	 * @return the configured {@link Executor}.
+	 */
+	public @NonNull Executor getExecutor() {
+		return this.executor;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public void subscribe(@NonNull Flow.Subscriber<? super T> subscriber) {
+
+		Assert.notNull(subscriber, "Subscriber must not be null");
+
+		subscriber.onSubscribe(new StreamSubscription<>(subscriber, this.streamSupplier, getExecutor()));
+	}
+
+	static class StreamSubscription<T> implements Flow.Subscription, Runnable {
+
+		private final AtomicInteger workInProgress = new AtomicInteger(0);
+
+		private final AtomicLong demand = new AtomicLong(0L);
+
+		private volatile boolean cancelled;
+		private boolean done;
+
+		private final Executor executor;
+
+		private final Flow.Subscriber<? super T> subscriber;
+
+		private Iterator<T> iterator;
+
+		private Stream<T> stream;
+
+		private final Supplier<? extends Stream<T>> streamSupplier;
+
+		private volatile Throwable invalidRequest;
+
+		StreamSubscription(Flow.Subscriber<? super T> subscriber, Supplier<? extends Stream<T>> streamSupplier,
+				Executor executor) {
+
+			this.subscriber = subscriber;
+			this.streamSupplier = streamSupplier;
+			this.executor = executor;
+		}
+
+		@Override
+		public void request(long n) {
+
+			if (n > 0) {
+				this.demand.getAndUpdate(requested -> requested + n < 0 ? Long.MAX_VALUE : requested + n);
+			}
+			else {
+				this.invalidRequest = new IllegalArgumentException(
+					String.format("Number of elements requested [%d] must be greater than 0", n));
+			}
+
+			schedule();
+		}
+
+		@Override
+		public void cancel() {
+			this.cancelled = true;
+			schedule();
+		}
+
+		private void schedule() {
+
+			if (this.workInProgress.getAndIncrement() == 0) {
+				try {
+					this.executor.execute(this);
+				}
+				catch (RuntimeException cause) {
+					this.workInProgress.set(0);
+					this.cancelled = true;
+					this.subscriber.onError(cause);
+				}
+			}
+		}
+
+		@Override
+		public void run() {
+
+			int missed = 1;
+
+			do {
+				drain();
+				missed = this.workInProgress.addAndGet(-missed);
+			}
+			while (missed != 0);
+		}
+
+		private void drain() {
+
+			if (this.done) {
+				return;
+			}
+
+			if (this.cancelled) {
+				terminate();
+				return;
+			}
+
+			Throwable invalidRequest = this.invalidRequest;
+
+			if (invalidRequest != null) {
+				terminate();
+				this.subscriber.onError(invalidRequest);
+				return;
+			}
+
+			try {
+
+				if (this.iterator == null) {
+					this.stream = this.streamSupplier.get();
+					this.iterator = this.stream != null ? this.stream.iterator() : null;
+				}
+
+				if (this.iterator == null || !this.iterator.hasNext()) {
+					terminate();
+					this.subscriber.onComplete();
+					return;
+				}
+
+				while (this.demand.get() > 0 && !this.cancelled) {
+
+					T element = this.iterator.next();
+
+					this.demand.getAndUpdate(requested -> requested == Long.MAX_VALUE ? requested : requested - 1);
+					this.subscriber.onNext(element);
+
+					if (!this.iterator.hasNext()) {
+						terminate();
+						this.subscriber.onComplete();
+						return;
+					}
+				}
+
+				if (this.cancelled) {
+					terminate();
+				}
+			}
+			catch (Throwable cause) {
+				terminate();
+				this.subscriber.onError(cause);
+			}
+		}
+
+		private void terminate() {
+
+			this.done = true;
+
+			close(this.stream);
+
+			this.stream = null;
+			this.iterator = null;
+		}
+
+		private void close(@Nullable Stream<T> stream) {
+
+			try {
+				if (stream != null) {
+					stream.close();
+				}
+			}
+			catch (RuntimeException ignore) { }
+		}
+	}
+}
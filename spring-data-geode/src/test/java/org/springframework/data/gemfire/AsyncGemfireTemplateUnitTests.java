@@ -0,0 +1,157 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.CacheTransactionManager;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.query.SelectResults;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+
+/**
+ * Unit Tests for {@link AsyncGemfireTemplate}.
+ *
+ * @author agent
+ * @see java.util.concurrent.CompletableFuture
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.AsyncGemfireTemplate
+ * @since 3.0.0
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class AsyncGemfireTemplateUnitTests {
+
+	private final AtomicInteger executions = new AtomicInteger(0);
+
+	private final Executor executor = runnable -> {
+		this.executions.incrementAndGet();
+		runnable.run();
+	};
+
+	private final GemfireOperations mockTemplate = mock(GemfireOperations.class);
+
+	private final AsyncGemfireTemplate asyncTemplate = new AsyncGemfireTemplate(this.mockTemplate, this.executor);
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullTemplateThrowsIllegalArgumentException() {
+		new AsyncGemfireTemplate(null, this.executor);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullExecutorThrowsIllegalArgumentException() {
+		new AsyncGemfireTemplate(this.mockTemplate, null);
+	}
+
+	@Test
+	public void getExecutesOnExecutor() {
+
+		doReturn("one").when(this.mockTemplate).get(eq(1));
+
+		CompletableFuture<String> value = this.asyncTemplate.get(1);
+
+		assertThat(value.join()).isEqualTo("one");
+		assertThat(this.executions.get()).isEqualTo(1);
+
+		verify(this.mockTemplate).get(eq(1));
+	}
+
+	@Test
+	public void putAllAndRemoveAllExecuteOnExecutor() {
+
+		List<Integer> keys = Arrays.asList(1, 2);
+
+		this.asyncTemplate.putAll(Collections.singletonMap(1, "one")).join();
+		this.asyncTemplate.removeAll(keys).join();
+
+		assertThat(this.executions.get()).isEqualTo(2);
+
+		verify(this.mockTemplate).putAll(eq(Collections.singletonMap(1, "one")));
+		verify(this.mockTemplate).removeAll(eq(keys));
+	}
+
+	@Test
+	public void findExecutesOnExecutor() {
+
+		SelectResults mockSelectResults = mock(SelectResults.class);
+
+		doReturn(mockSelectResults).when(this.mockTemplate).find(eq("SELECT * FROM /Example WHERE id = $1"), eq(1));
+
+		assertThat(this.asyncTemplate.find("SELECT * FROM /Example WHERE id = $1", 1).join())
+			.isSameAs(mockSelectResults);
+		assertThat(this.executions.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void failedOperationCompletesExceptionally() {
+
+		InvalidDataAccessApiUsageException cause = new InvalidDataAccessApiUsageException("TEST");
+
+		doThrow(cause).when(this.mockTemplate).findUnique(eq("SELECT * FROM /Example"));
+
+		CompletableFuture<Object> result = this.asyncTemplate.findUnique("SELECT * FROM /Example");
+
+		assertThat(result).isCompletedExceptionally();
+
+		assertThatThrownBy(result::join)
+			.isInstanceOf(CompletionException.class)
+			.hasCause(cause);
+	}
+
+	@Test
+	public void operationInTransactionFailsFast() {
+
+		CacheTransactionManager mockCacheTransactionManager = mock(CacheTransactionManager.class);
+		GemFireCache mockCache = mock(GemFireCache.class);
+		GemfireTemplate mockGemfireTemplate = mock(GemfireTemplate.class);
+		Region mockRegion = mock(Region.class);
+
+		doReturn(mockRegion).when(mockGemfireTemplate).getRegion();
+		doReturn(mockCache).when(mockRegion).getRegionService();
+		doReturn(mockCacheTransactionManager).when(mockCache).getCacheTransactionManager();
+		doReturn(true).when(mockCacheTransactionManager).exists();
+
+		AsyncGemfireTemplate asyncTemplate = new AsyncGemfireTemplate(mockGemfireTemplate, this.executor);
+
+		assertThatThrownBy(() -> asyncTemplate.put(1, "one"))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("Asynchronous operations cannot participate in the cache transaction of the calling Thread");
+
+		assertThat(this.executions.get()).isZero();
+
+		verify(mockGemfireTemplate, never()).put(any(), any());
+	}
+}
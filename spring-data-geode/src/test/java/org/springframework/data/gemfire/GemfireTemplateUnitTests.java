@@ -16,20 +16,27 @@
 package org.springframework.data.gemfire;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.Before;
@@ -43,11 +50,21 @@ import org.apache.geode.cache.RegionAttributes;
 import org.apache.geode.cache.RegionService;
 import org.apache.geode.cache.Scope;
 import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.cache.query.Index;
+import org.apache.geode.cache.query.IndexStatistics;
 import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.QueryInvocationTargetException;
 import org.apache.geode.cache.query.QueryService;
 import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.distributed.DistributedMember;
 
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.gemfire.function.RegionQueryFunction;
+import org.springframework.data.gemfire.function.execution.GemfireOnRegionFunctionTemplate;
+import org.springframework.data.gemfire.function.execution.RegionQueryResultCollector;
+import org.springframework.data.gemfire.query.QueryBatch;
+import org.springframework.data.gemfire.query.QueryExecution;
 import org.springframework.data.gemfire.tests.integration.IntegrationTestsSupport;
 
 /**
@@ -271,6 +288,431 @@ public class GemfireTemplateUnitTests extends IntegrationTestsSupport {
 		}
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findInParallelWithAggregateQueryFallsBackToFind() throws Exception {
+
+		String expectedQuery = "SELECT count(*) FROM /Example WHERE active = $1";
+
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		when(mockSelectResults.asList()).thenReturn(Collections.singletonList(2));
+		when(mockQuery.execute(eq(true))).thenReturn(mockSelectResults);
+
+		assertThat(template.<Object>findInParallel(expectedQuery, true)).containsExactly(2);
+
+		verify(mockQueryService, times(1)).newQuery(eq(expectedQuery));
+		verify(mockSelectResults, times(1)).asList();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findInParallelOnNonPartitionRegionFallsBackToFind() throws Exception {
+
+		String expectedQuery = "SELECT * FROM /Example WHERE id = $1";
+
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		when(mockSelectResults.asList()).thenReturn(Arrays.asList("one", "two"));
+		when(mockQuery.execute(eq(1))).thenReturn(mockSelectResults);
+
+		assertThat(template.isParallelQueryable(mockRegion)).isFalse();
+		assertThat(template.<Object>findInParallel(expectedQuery, 1)).containsExactly("one", "two");
+
+		verify(mockQuery, times(1)).execute(eq(1));
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void findInParallelOnClientRegionFallsBackToFindUnlessParallelQueryFunctionIsEnabled() throws Exception {
+
+		String expectedQuery = "SELECT * FROM /Example WHERE id = $1";
+
+		RegionAttributes mockRegionAttributes = mock(RegionAttributes.class);
+
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		when(mockRegionAttributes.getPoolName()).thenReturn("TestPool");
+		when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockSelectResults.asList()).thenReturn(Arrays.asList("one", "two"));
+		when(mockQuery.execute(eq(1))).thenReturn(mockSelectResults);
+
+		assertThat(template.isParallelQueryFunctionEnabled()).isFalse();
+		assertThat(template.isParallelQueryable(mockRegion)).isFalse();
+		assertThat(template.<Object>findInParallel(expectedQuery, 1)).containsExactly("one", "two");
+
+		verify(mockQuery, times(1)).execute(eq(1));
+
+		template.setParallelQueryFunctionEnabled(true);
+
+		assertThat(template.isParallelQueryFunctionEnabled()).isTrue();
+		assertThat(template.isParallelQueryable(mockRegion)).isTrue();
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void findInParallelExecutesRegionQueryFunctionAndMergesResults() throws Exception {
+
+		String expectedQuery = "SELECT DISTINCT * FROM /Example WHERE active = $1 LIMIT 3";
+
+		RegionAttributes mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(mockRegionAttributes.getPoolName()).thenReturn("TestPool");
+		when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+
+		GemfireOnRegionFunctionTemplate functionTemplate = new GemfireOnRegionFunctionTemplate(mockRegion) {
+
+			@Override
+			public <T> Iterable<T> execute(String functionId, Object... args) {
+
+				assertThat(functionId).isEqualTo(RegionQueryFunction.ID);
+				assertThat(args).containsExactly(expectedQuery, new Object[] { true });
+
+				ResultCollector resultCollector = getResultCollector();
+
+				assertThat(resultCollector).isInstanceOf(RegionQueryResultCollector.class);
+
+				resultCollector.addResult(mock(DistributedMember.class), Arrays.asList("one", "two"));
+				resultCollector.addResult(mock(DistributedMember.class), Arrays.asList("two", "three", "four"));
+				resultCollector.endResults();
+
+				return (Iterable<T>) resultCollector.getResult();
+			}
+		};
+
+		GemfireTemplate templateSpy = spy(template);
+
+		templateSpy.setParallelQueryFunctionEnabled(true);
+
+		doReturn(functionTemplate).when(templateSpy).newOnRegionFunctionTemplate(eq(mockRegion));
+
+		assertThat(templateSpy.<Object>findInParallel(expectedQuery, true)).containsExactly("one", "two", "three");
+
+		verify(templateSpy, times(1)).newOnRegionFunctionTemplate(eq(mockRegion));
+		verify(mockQueryService, never()).newQuery(anyString());
+	}
+
+	@Test
+	public void findInBatchWithEmptyBatchReturnsEmptyList() {
+
+		assertThat(template.findInBatch(QueryBatch.newQueryBatch())).isEmpty();
+
+		verify(mockQueryService, never()).newQuery(anyString());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findInBatchExecutesQueriesSequentiallyInOrder() throws Exception {
+
+		SelectResults<Object> mockSelectResultsOne = mock(SelectResults.class);
+		SelectResults<Object> mockSelectResultsTwo = mock(SelectResults.class);
+
+		when(mockSelectResultsOne.asList()).thenReturn(Arrays.asList("one", "two"));
+		when(mockSelectResultsTwo.asList()).thenReturn(Collections.singletonList(3));
+		when(mockQuery.execute(eq(1))).thenReturn(mockSelectResultsOne);
+		when(mockQuery.execute(eq("active"))).thenReturn(mockSelectResultsTwo);
+
+		QueryBatch batch = QueryBatch.newQueryBatch()
+			.add("SELECT * FROM /Example WHERE id = $1", 1)
+			.add("SELECT count(*) FROM /Example WHERE status = $1", "active");
+
+		assertThat(template.findInBatch(batch))
+			.containsExactly(Arrays.asList("one", "two"), Collections.singletonList(3));
+
+		verify(mockQueryService, times(1)).newQuery(eq("SELECT * FROM /Example WHERE id = $1"));
+		verify(mockQueryService, times(1)).newQuery(eq("SELECT count(*) FROM /Example WHERE status = $1"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findInBatchExecutesQueriesConcurrentlyInOrderWithOrigin() throws Exception {
+
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+		try {
+
+			List<QueryExecution> queryExecutions = Collections.synchronizedList(new ArrayList<>());
+
+			SelectResults<Object> mockSelectResultsOne = mock(SelectResults.class);
+			SelectResults<Object> mockSelectResultsTwo = mock(SelectResults.class);
+
+			when(mockSelectResultsOne.asList()).thenReturn(Collections.singletonList("one"));
+			when(mockSelectResultsTwo.asList()).thenReturn(Collections.singletonList("two"));
+			when(mockQuery.execute(eq(1))).thenReturn(mockSelectResultsOne);
+			when(mockQuery.execute(eq(2))).thenReturn(mockSelectResultsTwo);
+
+			template.setQueryBatchExecutor(executorService);
+			template.setQueryExecutionListener(queryExecutions::add);
+
+			QueryBatch batch = QueryBatch.newQueryBatch()
+				.add("SELECT * FROM /Example WHERE id = $1", 1)
+				.add("SELECT * FROM /Example WHERE id = $1", 2);
+
+			assertThat(QueryExecution.withOrigin("ExampleRepository.findPage", () -> template.findInBatch(batch)))
+				.containsExactly(Collections.singletonList("one"), Collections.singletonList("two"));
+
+			assertThat(queryExecutions).hasSize(2);
+			assertThat(queryExecutions).extracting(QueryExecution::getOrigin)
+				.containsOnly("ExampleRepository.findPage");
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	public void findNotifiesQueryExecutionListener() throws Exception {
+
+		List<QueryExecution> queryExecutions = new ArrayList<>();
+
+		String expectedQuery = "SELECT * FROM /Example WHERE id = $1";
+
+		SelectResults<?> mockSelectResults = mock(SelectResults.class);
+
+		when(mockSelectResults.size()).thenReturn(2);
+		when(mockQuery.execute(eq(1))).thenReturn(mockSelectResults);
+
+		template.setQueryExecutionListener(queryExecutions::add);
+
+		assertThat(QueryExecution.withOrigin("ExampleRepository.findById",
+			() -> template.find(expectedQuery, 1))).isSameAs(mockSelectResults);
+
+		assertThat(queryExecutions).hasSize(1);
+		assertThat(queryExecutions.get(0).getQuery()).isEqualTo(expectedQuery);
+		assertThat(queryExecutions.get(0).getOrigin()).isEqualTo("ExampleRepository.findById");
+		assertThat(queryExecutions.get(0).getResultSize()).isEqualTo(2);
+		assertThat(queryExecutions.get(0).getDuration()).isNotNegative();
+		assertThat(queryExecutions.get(0).getIndexesUsed()).isEmpty();
+
+		verify(mockQueryService, never()).getIndexes(any(Region.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findTracedQueryResolvesIndexesUsed() throws Exception {
+
+		List<QueryExecution> queryExecutions = new ArrayList<>();
+
+		String expectedQuery = "<TRACE> SELECT * FROM /Example WHERE name = $1";
+
+		Index mockUsedIndex = mock(Index.class);
+		Index mockUnusedIndex = mock(Index.class);
+
+		IndexStatistics mockUsedIndexStatistics = mock(IndexStatistics.class);
+		IndexStatistics mockUnusedIndexStatistics = mock(IndexStatistics.class);
+
+		when(mockUsedIndex.getName()).thenReturn("NameIdx");
+		when(mockUsedIndex.getStatistics()).thenReturn(mockUsedIndexStatistics);
+		when(mockUsedIndexStatistics.getTotalUses()).thenReturn(4L, 5L);
+		when(mockUnusedIndex.getName()).thenReturn("IdIdx");
+		when(mockUnusedIndex.getStatistics()).thenReturn(mockUnusedIndexStatistics);
+		when(mockUnusedIndexStatistics.getTotalUses()).thenReturn(8L);
+		when(mockQueryService.getIndexes(eq(mockRegion))).thenReturn(Arrays.asList(mockUsedIndex, mockUnusedIndex));
+		when(mockQuery.execute(eq("Jon"))).thenReturn(mock(SelectResults.class));
+
+		template.setQueryExecutionListener(queryExecutions::add);
+		template.find(expectedQuery, "Jon");
+
+		assertThat(queryExecutions).hasSize(1);
+		assertThat(queryExecutions.get(0).getIndexesUsed()).containsExactly("NameIdx");
+		assertThat(queryExecutions.get(0).getOrigin()).isNull();
+	}
+
+	@Test
+	public void findNotifiesQueryExecutionListenerOfQueryFailures() throws Exception {
+
+		List<QueryExecution> queryExecutions = new ArrayList<>();
+
+		QueryInvocationTargetException cause = new QueryInvocationTargetException("TEST");
+
+		when(mockQuery.execute(eq(1))).thenThrow(cause);
+
+		template.setQueryExecutionListener(queryExecutions::add);
+
+		assertThat(catchThrowable(() -> template.find("SELECT * FROM /Example WHERE id = $1", 1)))
+			.hasRootCause(cause);
+
+		assertThat(queryExecutions).hasSize(1);
+		assertThat(queryExecutions.get(0).isFailed()).isTrue();
+		assertThat(queryExecutions.get(0).getFailure()).isSameAs(cause);
+		assertThat(queryExecutions.get(0).getQuery()).isEqualTo("SELECT * FROM /Example WHERE id = $1");
+		assertThat(queryExecutions.get(0).getResultSize()).isZero();
+		assertThat(queryExecutions.get(0).getDuration()).isNotNegative();
+	}
+
+	@Test
+	public void findIgnoresQueryExecutionListenerFailures() throws Exception {
+
+		SelectResults<?> mockSelectResults = mock(SelectResults.class);
+
+		when(mockQuery.execute(eq(1))).thenReturn(mockSelectResults);
+
+		template.setQueryExecutionListener(queryExecution -> { throw new IllegalStateException("TEST"); });
+
+		assertThat(template.find("SELECT * FROM /Example WHERE id = $1", 1)).isSameAs(mockSelectResults);
+	}
+
+	@Test
+	public void findReusesCompiledQuery() throws Exception {
+
+		String expectedQuery = "SELECT * FROM /Example WHERE id = $1";
+
+		SelectResults<?> mockSelectResults = mock(SelectResults.class);
+
+		when(mockQuery.execute(any(Object.class))).thenReturn(mockSelectResults);
+		when(mockQuery.execute(eq(3))).thenReturn("test");
+
+		assertThat(template.find(expectedQuery, 1)).isEqualTo(mockSelectResults);
+		assertThat(template.find(expectedQuery, 2)).isEqualTo(mockSelectResults);
+		assertThat((Object) template.findUnique(expectedQuery, 3)).isEqualTo("test");
+
+		assertThat(template.getQueryCache().getHitCount()).isEqualTo(2L);
+		assertThat(template.getQueryCache().getMissCount()).isEqualTo(1L);
+		assertThat(template.getQueryCache().size()).isOne();
+
+		verify(mockQueryService, times(1)).newQuery(eq(expectedQuery));
+		verify(mockQuery, times(1)).execute(eq(1));
+		verify(mockQuery, times(1)).execute(eq(2));
+		verify(mockQuery, times(1)).execute(eq(3));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findReusesQueryServiceAndCompiledQueryWhenRegionServiceReturnsNewQueryServiceOnEveryCall()
+			throws Exception {
+
+		String expectedQuery = "SELECT * FROM /Example WHERE id = $1";
+
+		Region<?, ?> mockRegionTwo = mock(Region.class);
+
+		RegionService mockRegionServiceTwo = mock(RegionService.class);
+
+		SelectResults<?> mockSelectResults = mock(SelectResults.class);
+
+		when(mockRegionTwo.getRegionService()).thenReturn(mockRegionServiceTwo);
+		when(mockRegionServiceTwo.getQueryService()).thenAnswer(invocation -> {
+
+			QueryService mockNewQueryService = mock(QueryService.class);
+
+			when(mockNewQueryService.newQuery(anyString())).thenReturn(mockQuery);
+
+			return mockNewQueryService;
+		});
+		when(mockQuery.execute(any(Object.class))).thenReturn(mockSelectResults);
+
+		GemfireTemplate localTemplate = new GemfireTemplate(mockRegionTwo);
+
+		assertThat(localTemplate.find(expectedQuery, 1)).isEqualTo(mockSelectResults);
+		assertThat(localTemplate.find(expectedQuery, 2)).isEqualTo(mockSelectResults);
+		assertThat(localTemplate.find(expectedQuery, 3)).isEqualTo(mockSelectResults);
+		assertThat(localTemplate.getQueryService()).isSameAs(localTemplate.getQueryService());
+		assertThat(localTemplate.getQueryCache().getHitCount()).isEqualTo(2L);
+		assertThat(localTemplate.getQueryCache().getMissCount()).isEqualTo(1L);
+		assertThat(localTemplate.getQueryCache().size()).isOne();
+
+		verify(mockRegionServiceTwo, times(1)).getQueryService();
+		verify(mockQuery, times(3)).execute(any(Object.class));
+	}
+
+	@Test
+	public void setRegionResetsQueryService() {
+
+		QueryService mockQueryServiceTwo = mock(QueryService.class);
+
+		Region<?, ?> mockRegionTwo = mock(Region.class);
+
+		RegionService mockRegionServiceTwo = mock(RegionService.class);
+
+		when(mockRegionTwo.getRegionService()).thenReturn(mockRegionServiceTwo);
+		when(mockRegionServiceTwo.getQueryService()).thenReturn(mockQueryServiceTwo);
+
+		assertThat(template.getQueryService()).isSameAs(mockQueryService);
+
+		template.setRegion(mockRegionTwo);
+
+		assertThat(template.getQueryService()).isSameAs(mockQueryServiceTwo);
+		assertThat(template.getQueryService()).isSameAs(mockQueryServiceTwo);
+
+		verify(mockRegionService, times(1)).getQueryService();
+		verify(mockRegionServiceTwo, times(1)).getQueryService();
+	}
+
+	@Test
+	public void findWithQueryCacheDisabledCompilesQueryEveryTime() throws Exception {
+
+		String expectedQuery = "SELECT * FROM /Example";
+
+		SelectResults<?> mockSelectResults = mock(SelectResults.class);
+
+		when(mockQuery.execute(any(Object.class))).thenReturn(mockSelectResults);
+
+		template.setQueryCacheSize(0);
+
+		assertThat(template.getQueryCache().isEnabled()).isFalse();
+		assertThat(template.find(expectedQuery, "arg")).isEqualTo(mockSelectResults);
+		assertThat(template.find(expectedQuery, "arg")).isEqualTo(mockSelectResults);
+		assertThat(template.getQueryCache().getHitCount()).isZero();
+		assertThat(template.getQueryCache().size()).isZero();
+
+		verify(mockQueryService, times(2)).newQuery(eq(expectedQuery));
+	}
+
+	@Test
+	public void queryCacheEvictsLeastRecentlyUsedQuery() {
+
+		template.setQueryCacheSize(2);
+
+		GemfireTemplate.CompiledQueryCache queryCache = template.getQueryCache();
+
+		queryCache.get(mockQueryService, "SELECT * FROM /One");
+		queryCache.get(mockQueryService, "SELECT * FROM /Two");
+		queryCache.get(mockQueryService, "SELECT * FROM /One");
+		queryCache.get(mockQueryService, "SELECT * FROM /Three");
+		queryCache.get(mockQueryService, "SELECT * FROM /One");
+		queryCache.get(mockQueryService, "SELECT * FROM /Two");
+
+		assertThat(queryCache.size()).isEqualTo(2);
+		assertThat(queryCache.getHitCount()).isEqualTo(2L);
+		assertThat(queryCache.getMissCount()).isEqualTo(4L);
+
+		verify(mockQueryService, times(1)).newQuery(eq("SELECT * FROM /One"));
+		verify(mockQueryService, times(2)).newQuery(eq("SELECT * FROM /Two"));
+		verify(mockQueryService, times(1)).newQuery(eq("SELECT * FROM /Three"));
+	}
+
+	@Test
+	public void queryCacheIsKeyedByQueryService() {
+
+		QueryService mockQueryServiceTwo = mock(QueryService.class);
+
+		when(mockQueryServiceTwo.newQuery(anyString())).thenReturn(mock(Query.class));
+
+		GemfireTemplate.CompiledQueryCache queryCache = template.getQueryCache();
+
+		Query queryOne = queryCache.get(mockQueryService, "SELECT * FROM /Example");
+		Query queryTwo = queryCache.get(mockQueryServiceTwo, "SELECT * FROM /Example");
+
+		assertThat(queryOne).isSameAs(mockQuery);
+		assertThat(queryTwo).isNotSameAs(mockQuery);
+		assertThat(queryCache.get(mockQueryServiceTwo, "SELECT * FROM /Example")).isSameAs(queryTwo);
+		assertThat(queryCache.size()).isEqualTo(2);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setQueryCacheSizeToNegativeValueThrowsIllegalArgumentException() {
+
+		try {
+			template.setQueryCacheSize(-1);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Query cache size [-1] must be greater than or equal to 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
 	@Test
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	public void removeAllCallsRegionRemoveAll() {
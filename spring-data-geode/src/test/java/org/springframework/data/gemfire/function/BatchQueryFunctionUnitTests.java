@@ -0,0 +1,143 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultSender;
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.security.ResourcePermission;
+
+/**
+ * Unit Tests for {@link BatchQueryFunction}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.function.BatchQueryFunction
+ * @since 3.0.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class BatchQueryFunctionUnitTests {
+
+	@Mock
+	private Cache mockCache;
+
+	@Mock
+	private FunctionContext<Object[]> mockFunctionContext;
+
+	@Mock
+	private QueryService mockQueryService;
+
+	@Mock
+	private ResultSender<Object> mockResultSender;
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executesAllQueriesAndSendsResultsInOrder() throws Exception {
+
+		Query mockQueryOne = mock(Query.class);
+		Query mockQueryTwo = mock(Query.class);
+
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		when(mockSelectResults.toArray()).thenReturn(new Object[] { "one", "two" });
+		when(mockQueryOne.execute(eq(1))).thenReturn(mockSelectResults);
+		when(mockQueryTwo.execute(new Object[0])).thenReturn(2);
+		when(this.mockQueryService.newQuery(eq("SELECT * FROM /Example WHERE id = $1"))).thenReturn(mockQueryOne);
+		when(this.mockQueryService.newQuery(eq("SELECT count(*) FROM /Example"))).thenReturn(mockQueryTwo);
+		when(this.mockCache.getQueryService()).thenReturn(this.mockQueryService);
+		when(this.mockFunctionContext.getCache()).thenReturn(this.mockCache);
+		when(this.mockFunctionContext.getResultSender()).thenReturn(this.mockResultSender);
+		when(this.mockFunctionContext.getArguments()).thenReturn(new Object[] {
+			new String[] { "SELECT * FROM /Example WHERE id = $1", "SELECT count(*) FROM /Example" },
+			new Object[][] { { 1 }, {} }
+		});
+
+		new BatchQueryFunction().execute(this.mockFunctionContext);
+
+		ArgumentCaptor<Object> results = ArgumentCaptor.forClass(Object.class);
+
+		verify(this.mockResultSender).lastResult(results.capture());
+
+		assertThat((List<Object>) results.getValue())
+			.containsExactly(Arrays.asList("one", "two"), Collections.singletonList(2));
+	}
+
+	@Test
+	public void executeWithoutQueriesThrowsFunctionException() {
+
+		when(this.mockFunctionContext.getArguments()).thenReturn(new Object[] { "SELECT * FROM /Example" });
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(() -> new BatchQueryFunction().execute(this.mockFunctionContext))
+			.withMessageContaining("requires an array of OQL query arguments");
+	}
+
+	@Test
+	public void requiresDataReadPermissionOnQueriedRegions() {
+
+		Object[] arguments = {
+			new String[] {
+				"SELECT * FROM /People p WHERE p.name = 'FROM /Secret'",
+				"SELECT DISTINCT * FROM /Orders o, /Parent/Child c WHERE o.id IN (SELECT i.id FROM /Items i)"
+			}
+		};
+
+		assertThat(new BatchQueryFunction().getRequiredPermissions(null, arguments))
+			.extracting(ResourcePermission::getResource, ResourcePermission::getOperation, ResourcePermission::getTarget)
+			.containsExactly(
+				tuple(ResourcePermission.Resource.DATA, ResourcePermission.Operation.READ, "People"),
+				tuple(ResourcePermission.Resource.DATA, ResourcePermission.Operation.READ, "Orders"),
+				tuple(ResourcePermission.Resource.DATA, ResourcePermission.Operation.READ, "Parent/Child"),
+				tuple(ResourcePermission.Resource.DATA, ResourcePermission.Operation.READ, "Items"));
+	}
+
+	@Test
+	public void requiresDataReadPermissionOnAllRegionsWhenQueriedRegionsAreUnknown() {
+
+		Object[] arguments = { new String[] { "SELECT * FROM /People", "SELECT * FROM $1" } };
+
+		assertThat(new BatchQueryFunction().getRequiredPermissions(null, arguments))
+			.extracting(ResourcePermission::getResource, ResourcePermission::getOperation)
+			.containsExactly(tuple(ResourcePermission.Resource.DATA, ResourcePermission.Operation.READ));
+
+		assertThat(new BatchQueryFunction().getRequiredPermissions(null, null))
+			.extracting(ResourcePermission::getResource, ResourcePermission::getOperation)
+			.containsExactly(tuple(ResourcePermission.Resource.DATA, ResourcePermission.Operation.READ));
+	}
+}
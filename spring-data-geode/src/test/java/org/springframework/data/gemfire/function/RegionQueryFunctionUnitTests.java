@@ -0,0 +1,162 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.execute.ResultSender;
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.QueryInvocationTargetException;
+import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.security.ResourcePermission;
+
+/**
+ * Unit Tests for {@link RegionQueryFunction}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.function.RegionQueryFunction
+ * @since 3.0.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class RegionQueryFunctionUnitTests {
+
+	@Mock
+	private Cache mockCache;
+
+	@Mock
+	private Query mockQuery;
+
+	@Mock
+	private QueryService mockQueryService;
+
+	@Mock
+	private RegionFunctionContext<Object[]> mockRegionFunctionContext;
+
+	@Mock
+	private ResultSender<Object> mockResultSender;
+
+	private void stubQuery(String query) {
+
+		when(this.mockQueryService.newQuery(eq(query))).thenReturn(this.mockQuery);
+		when(this.mockCache.getQueryService()).thenReturn(this.mockQueryService);
+		when(this.mockRegionFunctionContext.getCache()).thenReturn(this.mockCache);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executesQueryOnLocalDataAndSendsResults() throws Exception {
+
+		List<Object> results = Arrays.asList("one", "two", "three");
+
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		when(mockSelectResults.iterator()).thenAnswer(invocation -> results.iterator());
+		when(this.mockQuery.execute(eq(this.mockRegionFunctionContext), eq(new Object[] { true })))
+			.thenReturn(mockSelectResults);
+		when(this.mockRegionFunctionContext.getArguments())
+			.thenReturn(new Object[] { "SELECT * FROM /Example WHERE active = $1", new Object[] { true } });
+		when(this.mockRegionFunctionContext.getResultSender()).thenReturn(this.mockResultSender);
+
+		stubQuery("SELECT * FROM /Example WHERE active = $1");
+
+		List<Object> sentResults = new ArrayList<>();
+
+		doAnswer(invocation -> sentResults.addAll(invocation.getArgument(0)))
+			.when(this.mockResultSender).lastResult(any());
+
+		new RegionQueryFunction().execute(this.mockRegionFunctionContext);
+
+		assertThat(sentResults).containsExactly("one", "two", "three");
+
+		verify(this.mockQuery).execute(eq(this.mockRegionFunctionContext), eq(new Object[] { true }));
+	}
+
+	@Test
+	public void executeWithQueryExceptionThrowsFunctionException() throws Exception {
+
+		QueryInvocationTargetException cause = new QueryInvocationTargetException("TEST");
+
+		when(this.mockQuery.execute(eq(this.mockRegionFunctionContext), eq(new Object[0]))).thenThrow(cause);
+		when(this.mockRegionFunctionContext.getArguments()).thenReturn(new Object[] { "SELECT * FROM /Example" });
+
+		stubQuery("SELECT * FROM /Example");
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(() -> new RegionQueryFunction().execute(this.mockRegionFunctionContext))
+			.withMessage("Failed to execute OQL query [SELECT * FROM /Example]")
+			.withCause(cause);
+	}
+
+	@Test
+	public void executeWithoutQueryThrowsFunctionException() {
+
+		when(this.mockRegionFunctionContext.getArguments()).thenReturn(new Object[0]);
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(() -> new RegionQueryFunction().execute(this.mockRegionFunctionContext))
+			.withMessageContaining("requires an OQL query argument");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeWithoutRegionFunctionContextThrowsFunctionException() {
+
+		FunctionContext<Object[]> mockFunctionContext = mock(FunctionContext.class);
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(() -> new RegionQueryFunction().execute(mockFunctionContext))
+			.withMessageContaining("must be executed on a Region");
+	}
+
+	@Test
+	public void requiresDataReadPermissionOnQueriedRegion() {
+
+		Collection<ResourcePermission> permissions =
+			new RegionQueryFunction().getRequiredPermissions("Example", new Object[0]);
+
+		assertThat(permissions).hasSize(1);
+
+		ResourcePermission permission = permissions.iterator().next();
+
+		assertThat(permission.getResource()).isEqualTo(ResourcePermission.Resource.DATA);
+		assertThat(permission.getOperation()).isEqualTo(ResourcePermission.Operation.READ);
+		assertThat(permission.getTarget()).isEqualTo("Example");
+	}
+}
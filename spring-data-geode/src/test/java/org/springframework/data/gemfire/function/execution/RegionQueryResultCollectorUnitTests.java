@@ -0,0 +1,237 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.distributed.DistributedMember;
+
+/**
+ * Unit Tests for {@link RegionQueryResultCollector}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.function.execution.RegionQueryResultCollector
+ * @since 3.0.0
+ */
+public class RegionQueryResultCollectorUnitTests {
+
+	private final DistributedMember memberOne = mock(DistributedMember.class);
+	private final DistributedMember memberTwo = mock(DistributedMember.class);
+
+	@Test
+	public void fromAggregateQueryReturnsNull() {
+
+		assertThat(RegionQueryResultCollector.from("SELECT count(*) FROM /People")).isNull();
+		assertThat(RegionQueryResultCollector.from("SELECT DISTINCT SUM(p.age) FROM /People p")).isNull();
+		assertThat(RegionQueryResultCollector.from("select max (p.age) from /People p")).isNull();
+	}
+
+	@Test
+	public void fromGroupByQueryReturnsNull() {
+		assertThat(RegionQueryResultCollector.from("SELECT p.lastName FROM /People p GROUP BY p.lastName")).isNull();
+	}
+
+	@Test
+	public void fromOrderByExpressionQueryReturnsNull() {
+		assertThat(RegionQueryResultCollector.from("SELECT * FROM /People p ORDER BY p.name.toUpperCase()")).isNull();
+	}
+
+	@Test
+	public void fromSimpleQuery() {
+
+		RegionQueryResultCollector collector =
+			RegionQueryResultCollector.from("SELECT * FROM /People p WHERE p.age > $1");
+
+		assertThat(collector).isNotNull();
+		assertThat(collector.getComparator()).isNull();
+		assertThat(collector.isDistinct()).isFalse();
+		assertThat(collector.getLimit()).isEqualTo(Integer.MAX_VALUE);
+	}
+
+	@Test
+	public void fromDistinctOrderedLimitedQuery() {
+
+		RegionQueryResultCollector collector = RegionQueryResultCollector
+			.from("SELECT DISTINCT * FROM /People p WHERE p.age > $1 ORDER BY p.lastName DESC, p.age LIMIT 10");
+
+		assertThat(collector).isNotNull();
+		assertThat(collector.getComparator()).isNotNull();
+		assertThat(collector.isDistinct()).isTrue();
+		assertThat(collector.getLimit()).isEqualTo(10);
+	}
+
+	@Test
+	public void concatenatesUnorderedResultsFromAllMembers() {
+
+		RegionQueryResultCollector collector = RegionQueryResultCollector.from("SELECT * FROM /People");
+
+		assertThat(collector).isNotNull();
+
+		collector.addResult(this.memberOne, Arrays.asList(1, 2));
+		collector.addResult(this.memberTwo, Arrays.asList(3, 4));
+		collector.addResult(this.memberOne, Collections.singletonList(5));
+		collector.endResults();
+
+		assertThat(collector.getResult()).containsExactlyInAnyOrder(1, 2, 3, 4, 5);
+	}
+
+	@Test
+	public void copiesResultChunks() {
+
+		RegionQueryResultCollector collector = RegionQueryResultCollector.from("SELECT * FROM /People");
+
+		assertThat(collector).isNotNull();
+
+		List<Object> chunk = new ArrayList<>(Arrays.asList(1, 2));
+
+		collector.addResult(this.memberOne, chunk);
+		chunk.clear();
+		collector.endResults();
+
+		assertThat(collector.getResult()).containsExactly(1, 2);
+	}
+
+	@Test
+	public void discardsUnorderedResultsAfterLimitIsReached() {
+
+		RegionQueryResultCollector collector = RegionQueryResultCollector.from("SELECT * FROM /People LIMIT 3");
+
+		assertThat(collector).isNotNull();
+
+		collector.addResult(this.memberOne, Arrays.asList(1, 2));
+		collector.addResult(this.memberTwo, Arrays.asList(3, 4));
+		collector.addResult(this.memberOne, Collections.singletonList(5));
+		collector.endResults();
+
+		assertThat(collector.getResult()).containsExactly(1, 2, 3);
+	}
+
+	@Test
+	public void mergesOrderedResultsFromAllMembers() {
+
+		RegionQueryResultCollector collector =
+			RegionQueryResultCollector.from("SELECT * FROM /People p ORDER BY p.age DESC, p.name LIMIT 4");
+
+		assertThat(collector).isNotNull();
+
+		collector.addResult(this.memberOne, Arrays.asList(new Person("Jon", 42), new Person("Cookie", 8)));
+		collector.addResult(this.memberTwo, Arrays.asList(new Person("Jane", 42), new Person("Pie", 21)));
+		collector.addResult(this.memberTwo, Collections.singletonList(new Person("Sour", 2)));
+		collector.endResults();
+
+		assertThat(collector.getResult()).extracting("name").containsExactly("Jane", "Jon", "Pie", "Cookie");
+	}
+
+	@Test
+	public void mergesOrderedMapResultsWithNullValuesFirst() {
+
+		RegionQueryResultCollector collector =
+			RegionQueryResultCollector.from("SELECT * FROM /People ORDER BY age");
+
+		assertThat(collector).isNotNull();
+
+		collector.addResult(this.memberOne, Arrays.asList(Collections.singletonMap("age", 1),
+			Collections.singletonMap("age", 3)));
+		collector.addResult(this.memberTwo, Arrays.asList(Collections.singletonMap("age", null),
+			Collections.singletonMap("age", 2)));
+		collector.endResults();
+
+		assertThat(collector.getResult()).extracting(result -> ((Map<?, ?>) result).get("age"))
+			.containsExactly(null, 1, 2, 3);
+	}
+
+	@Test
+	public void removesDuplicateResultsAcrossMembers() {
+
+		RegionQueryResultCollector collector =
+			RegionQueryResultCollector.from("SELECT DISTINCT p.name FROM /People p LIMIT 2");
+
+		assertThat(collector).isNotNull();
+
+		collector.addResult(this.memberOne, Arrays.asList("Jon", "Jane"));
+		collector.addResult(this.memberTwo, Arrays.asList("Jon", "Jane", "Pie"));
+		collector.endResults();
+
+		assertThat(collector.getResult()).containsExactly("Jon", "Jane");
+	}
+
+	@Test
+	public void clearResultsRemovesAllResults() {
+
+		RegionQueryResultCollector collector = RegionQueryResultCollector.from("SELECT * FROM /People LIMIT 2");
+
+		assertThat(collector).isNotNull();
+
+		collector.addResult(this.memberOne, Arrays.asList(1, 2));
+		collector.clearResults();
+		collector.addResult(this.memberOne, Collections.singletonList(3));
+		collector.endResults();
+
+		assertThat(collector.getResult()).containsExactly(3);
+	}
+
+	@Test(expected = FunctionException.class)
+	public void addResultWithThrowableThrowsFunctionException() {
+
+		RegionQueryResultCollector collector = RegionQueryResultCollector.from("SELECT * FROM /People");
+
+		assertThat(collector).isNotNull();
+
+		collector.addResult(this.memberOne, new IllegalStateException("TEST"));
+	}
+
+	@Test(expected = FunctionException.class)
+	public void getResultTimesOutWhenResultsHaveNotEnded() throws InterruptedException {
+
+		RegionQueryResultCollector collector = RegionQueryResultCollector.from("SELECT * FROM /People");
+
+		assertThat(collector).isNotNull();
+
+		collector.getResult(10, TimeUnit.MILLISECONDS);
+	}
+
+	public static class Person {
+
+		private final Integer age;
+
+		private final String name;
+
+		Person(String name, Integer age) {
+			this.name = name;
+			this.age = age;
+		}
+
+		public Integer getAge() {
+			return this.age;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+	}
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.pdx.PdxReader;
+import org.apache.geode.pdx.PdxSerializer;
+import org.apache.geode.pdx.PdxWriter;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.annotation.AccessType;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+
+/**
+ * Unit Tests for {@link AsmPdxSerializerGenerator}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.mockito.junit.MockitoJUnitRunner
+ * @see org.apache.geode.pdx.PdxReader
+ * @see org.apache.geode.pdx.PdxSerializer
+ * @see org.apache.geode.pdx.PdxWriter
+ * @see org.springframework.data.gemfire.mapping.AsmPdxSerializerGenerator
+ * @since 3.0.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AsmPdxSerializerGeneratorUnitTests {
+
+	private final ConversionService conversionService = new DefaultConversionService();
+
+	private AsmPdxSerializerGenerator generator;
+
+	private GemfireMappingContext mappingContext;
+
+	@Mock
+	private PdxReader mockReader;
+
+	@Mock
+	private PdxWriter mockWriter;
+
+	@Before
+	public void setup() {
+		this.generator = new AsmPdxSerializerGenerator();
+		this.mappingContext = new GemfireMappingContext();
+	}
+
+	private PdxSerializer getPdxSerializer(Class<?> type) {
+		return this.generator.getPdxSerializer(this.mappingContext.getPersistentEntity(type), this.conversionService);
+	}
+
+	@Test
+	public void generatesPdxSerializerForSupportedEntity() {
+
+		PdxSerializer pdxSerializer = getPdxSerializer(SupportedEntity.class);
+
+		assertThat(pdxSerializer).isInstanceOf(AbstractGeneratedPdxSerializer.class);
+		assertThat(((AbstractGeneratedPdxSerializer) pdxSerializer).getEntityType()).isEqualTo(SupportedEntity.class);
+	}
+
+	@Test
+	public void generatesPdxSerializerClassOncePerEntityType() {
+
+		PdxSerializer pdxSerializerOne = getPdxSerializer(SupportedEntity.class);
+		PdxSerializer pdxSerializerTwo = getPdxSerializer(SupportedEntity.class);
+
+		assertThat(pdxSerializerOne).isNotNull();
+		assertThat(pdxSerializerTwo).isNotNull();
+		assertThat(pdxSerializerOne.getClass()).isSameAs(pdxSerializerTwo.getClass());
+	}
+
+	@Test
+	public void toDataWritesTypedPdxFields() {
+
+		Date now = new Date();
+
+		SupportedEntity entity = new SupportedEntity();
+
+		entity.id = 1L;
+		entity.name = "Jon Doe";
+		entity.age = 42;
+		entity.birthDate = now;
+		entity.scores = new int[] { 1, 2, 3 };
+		entity.note = "test";
+		entity.setActive(true);
+
+		PdxSerializer pdxSerializer = getPdxSerializer(SupportedEntity.class);
+
+		assertThat(pdxSerializer).isNotNull();
+		assertThat(pdxSerializer.toData(entity, this.mockWriter)).isTrue();
+
+		verify(this.mockWriter).writeObject(eq("id"), eq(1L));
+		verify(this.mockWriter).writeString(eq("name"), eq("Jon Doe"));
+		verify(this.mockWriter).writeInt(eq("age"), eq(42));
+		verify(this.mockWriter).writeDate(eq("birthDate"), eq(now));
+		verify(this.mockWriter).writeIntArray(eq("scores"), eq(new int[] { 1, 2, 3 }));
+		verify(this.mockWriter).writeBoolean(eq("active"), eq(true));
+		verify(this.mockWriter).markIdentityField(eq("id"));
+		verify(this.mockWriter, never()).writeString(eq("note"), anyString());
+		verify(this.mockWriter, never()).writeField(anyString(), any(), any());
+	}
+
+	@Test
+	public void fromDataReadsTypedPdxFields() {
+
+		Date now = new Date();
+
+		when(this.mockReader.readObject(eq("id"))).thenReturn(2);
+		when(this.mockReader.readString(eq("name"))).thenReturn("Jane Doe");
+		when(this.mockReader.readInt(eq("age"))).thenReturn(21);
+		when(this.mockReader.readDate(eq("birthDate"))).thenReturn(now);
+		when(this.mockReader.readIntArray(eq("scores"))).thenReturn(new int[] { 4, 5 });
+		when(this.mockReader.readBoolean(eq("active"))).thenReturn(true);
+
+		PdxSerializer pdxSerializer = getPdxSerializer(SupportedEntity.class);
+
+		assertThat(pdxSerializer).isNotNull();
+
+		Object value = pdxSerializer.fromData(SupportedEntity.class, this.mockReader);
+
+		assertThat(value).isInstanceOf(SupportedEntity.class);
+
+		SupportedEntity entity = (SupportedEntity) value;
+
+		assertThat(entity.id).isEqualTo(2L);
+		assertThat(entity.name).isEqualTo("Jane Doe");
+		assertThat(entity.age).isEqualTo(21);
+		assertThat(entity.birthDate).isEqualTo(now);
+		assertThat(entity.scores).containsExactly(4, 5);
+		assertThat(entity.isActive()).isTrue();
+		assertThat(entity.note).isNull();
+
+		verify(this.mockReader, never()).readString(eq("note"));
+	}
+
+	@Test
+	public void returnsNullForEntityWithInaccessibleProperty() {
+		assertThat(getPdxSerializer(InaccessiblePropertyEntity.class)).isNull();
+	}
+
+	@Test
+	public void returnsNullForEntityWithPrivateFieldAccessedProperty() {
+		assertThat(getPdxSerializer(PrivateFieldAccessedPropertyEntity.class)).isNull();
+	}
+
+	@Test
+	public void returnsNullForEntityWithConstructorArguments() {
+		assertThat(getPdxSerializer(ConstructorArgumentEntity.class)).isNull();
+	}
+
+	@Test
+	public void returnsNullForNonPublicEntity() {
+		assertThat(getPdxSerializer(NonPublicEntity.class)).isNull();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void getPdxSerializerWithNullEntityThrowsIllegalArgumentException() {
+
+		try {
+			this.generator.getPdxSerializer(null, this.conversionService);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Entity must not be null");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	public static class SupportedEntity {
+
+		@Id
+		public Long id;
+
+		public Date birthDate;
+
+		public int age;
+
+		public int[] scores;
+
+		public String name;
+
+		@Transient
+		public String note;
+
+		@AccessType(AccessType.Type.PROPERTY)
+		private boolean active;
+
+		public boolean isActive() {
+			return this.active;
+		}
+
+		public void setActive(boolean active) {
+			this.active = active;
+		}
+	}
+
+	public static class InaccessiblePropertyEntity {
+
+		@Id
+		public Long id;
+
+		@SuppressWarnings("unused")
+		private String name;
+
+	}
+
+	public static class PrivateFieldAccessedPropertyEntity {
+
+		@Id
+		public Long id;
+
+		private String name;
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	public static class ConstructorArgumentEntity {
+
+		@Id
+		public final Long id;
+
+		public ConstructorArgumentEntity(Long id) {
+			this.id = id;
+		}
+	}
+
+	static class NonPublicEntity {
+
+		@Id
+		public Long id;
+
+	}
+}
@@ -17,6 +17,7 @@ package org.springframework.data.gemfire.mapping;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
@@ -46,6 +47,7 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import org.apache.geode.pdx.PdxFieldTypeMismatchException;
 import org.apache.geode.pdx.PdxReader;
 import org.apache.geode.pdx.PdxSerializer;
 import org.apache.geode.pdx.PdxWriter;
@@ -886,6 +888,256 @@ public class MappingPdxSerializerUnitTests {
 		assertThat(this.pdxSerializer.toData(new ApplicationDomainType(), this.mockWriter)).isFalse();
 	}
 
+	@Test
+	public void fromDataReadsPrimitivePropertiesWithPrimitivePdxReaderMethods() {
+
+		when(this.mockReader.readInt(eq("count"))).thenReturn(2);
+		when(this.mockReader.readLong(eq("total"))).thenReturn(4L);
+		when(this.mockReader.readDouble(eq("average"))).thenReturn(2.0d);
+		when(this.mockReader.readBoolean(eq("active"))).thenReturn(true);
+		when(this.mockReader.readField(eq("name"))).thenReturn("test");
+
+		this.pdxSerializer.setIncludeTypeFilters(type -> PrimitiveEntity.class.equals(type));
+
+		Object value = this.pdxSerializer.fromData(PrimitiveEntity.class, this.mockReader);
+
+		assertThat(value).isInstanceOf(PrimitiveEntity.class);
+
+		PrimitiveEntity entity = (PrimitiveEntity) value;
+
+		assertThat(entity.count).isEqualTo(2);
+		assertThat(entity.total).isEqualTo(4L);
+		assertThat(entity.average).isEqualTo(2.0d);
+		assertThat(entity.active).isTrue();
+		assertThat(entity.name).isEqualTo("test");
+
+		verify(this.mockReader, never()).readField(eq("count"));
+		verify(this.mockReader, never()).readField(eq("total"));
+		verify(this.mockReader, never()).readField(eq("average"));
+		verify(this.mockReader, never()).readField(eq("active"));
+	}
+
+	@Test
+	public void fromDataReadsMismatchedPrimitivePdxFieldTypesAsBoxedValues() {
+
+		when(this.mockReader.readInt(eq("count"))).thenThrow(new PdxFieldTypeMismatchException("TEST"));
+		when(this.mockReader.readField(eq("count"))).thenReturn(2L);
+		when(this.mockReader.readLong(eq("total"))).thenReturn(4L);
+
+		this.pdxSerializer.setIncludeTypeFilters(type -> PrimitiveEntity.class.equals(type));
+
+		PrimitiveEntity entity = (PrimitiveEntity) this.pdxSerializer.fromData(PrimitiveEntity.class, this.mockReader);
+
+		assertThat(entity.count).isEqualTo(2);
+		assertThat(entity.total).isEqualTo(4L);
+
+		verify(this.mockReader).readField(eq("count"));
+		verify(this.mockReader, never()).readField(eq("total"));
+	}
+
+	@Test
+	public void toDataWritesPrimitivePropertiesWithPrimitivePdxWriterMethods() {
+
+		PrimitiveEntity entity = new PrimitiveEntity();
+
+		entity.count = 2;
+		entity.total = 4L;
+		entity.average = 2.0d;
+		entity.active = true;
+		entity.name = "test";
+
+		this.pdxSerializer.setIncludeTypeFilters(type -> PrimitiveEntity.class.equals(type));
+
+		assertThat(this.pdxSerializer.toData(entity, this.mockWriter)).isTrue();
+
+		verify(this.mockWriter, times(1)).writeInt(eq("count"), eq(2));
+		verify(this.mockWriter, times(1)).writeLong(eq("total"), eq(4L));
+		verify(this.mockWriter, times(1)).writeDouble(eq("average"), eq(2.0d));
+		verify(this.mockWriter, times(1)).writeBoolean(eq("active"), eq(true));
+		verify(this.mockWriter, times(1)).writeField(eq("name"), eq("test"), eq(String.class));
+		verify(this.mockWriter, times(1)).writeField(anyString(), any(), any());
+	}
+
+	@Test
+	public void primitivePropertyWithCustomPdxSerializerDoesNotUsePrimitivePdxWriterMethods() {
+
+		PdxSerializer mockCountSerializer = mock(PdxSerializer.class);
+
+		PrimitiveEntity entity = new PrimitiveEntity();
+
+		entity.count = 2;
+
+		this.pdxSerializer.setCustomPdxSerializers(Collections.singletonMap(
+			PrimitiveEntity.class.getName().concat(".count"), mockCountSerializer));
+		this.pdxSerializer.setIncludeTypeFilters(type -> PrimitiveEntity.class.equals(type));
+
+		assertThat(this.pdxSerializer.toData(entity, this.mockWriter)).isTrue();
+
+		verify(mockCountSerializer, times(1)).toData(eq(2), eq(this.mockWriter));
+		verify(this.mockWriter, never()).writeInt(anyString(), anyInt());
+	}
+
+	@Test
+	public void isTypeAcceptedMemoizesTypeFilterDecisions() {
+
+		this.pdxSerializer.setIncludeTypeFilters(type -> ApplicationDomainType.class.equals(type));
+
+		assertThat(this.pdxSerializer.isTypeAccepted(ApplicationDomainType.class)).isTrue();
+		assertThat(this.pdxSerializer.isTypeAccepted(ApplicationDomainType.class)).isTrue();
+		assertThat(this.pdxSerializer.isTypeAccepted(Principal.class)).isFalse();
+		assertThat(this.pdxSerializer.isTypeAccepted(Principal.class)).isFalse();
+
+		verify(this.pdxSerializer, times(2)).getTypeFilters();
+	}
+
+	@Test
+	public void isTypeAcceptedReflectsChangedTypeFilters() {
+
+		assertThat(this.pdxSerializer.isTypeAccepted(ApplicationDomainType.class)).isFalse();
+
+		this.pdxSerializer.setIncludeTypeFilters(type -> ApplicationDomainType.class.equals(type));
+
+		assertThat(this.pdxSerializer.isTypeAccepted(ApplicationDomainType.class)).isTrue();
+
+		this.pdxSerializer.setExcludeTypeFilters(type -> !ApplicationDomainType.class.equals(type));
+
+		assertThat(this.pdxSerializer.isTypeAccepted(ApplicationDomainType.class)).isTrue();
+		assertThat(this.pdxSerializer.isTypeAccepted(Person.class)).isFalse();
+	}
+
+	@Test
+	public void isTypeAcceptedWithNullTypeReturnsFalse() {
+		assertThat(this.pdxSerializer.isTypeAccepted(null)).isFalse();
+	}
+
+	@Test
+	public void resolveSerializationPlanForEntity() {
+
+		PdxSerializer mockAddressSerializer = mock(PdxSerializer.class);
+
+		this.pdxSerializer.setCustomPdxSerializers(Collections.singletonMap(Address.class, mockAddressSerializer));
+
+		MappingPdxSerializer.SerializationPlan serializationPlan =
+			this.pdxSerializer.resolveSerializationPlan(this.mappingContext.getPersistentEntity(Person.class));
+
+		assertThat(serializationPlan).isNotNull();
+		assertThat(serializationPlan.getIdentityFieldName()).isEqualTo("id");
+		assertThat(serializationPlan.hasCustomPdxSerializers()).isTrue();
+		assertThat(serializationPlan.getReadableProperties())
+			.extracting(MappingPdxSerializer.SerializationPlan.PropertyPlan::getName)
+			.containsExactlyInAnyOrder("address", "firstname", "id", "lastname");
+		assertThat(serializationPlan.getWritableProperties())
+			.extracting(MappingPdxSerializer.SerializationPlan.PropertyPlan::getName)
+			.containsExactlyInAnyOrder("address", "firstname", "id", "lastname");
+
+		for (MappingPdxSerializer.SerializationPlan.PropertyPlan propertyPlan : serializationPlan.getReadableProperties()) {
+			if (Address.class.equals(propertyPlan.getType())) {
+				assertThat(propertyPlan.getCustomPdxSerializer()).isSameAs(mockAddressSerializer);
+			}
+			else {
+				assertThat(propertyPlan.getCustomPdxSerializer()).isNull();
+			}
+		}
+	}
+
+	@Test
+	public void resolveSerializationPlanIsCachedPerEntityType() {
+
+		GemfirePersistentEntity<?> entity = this.mappingContext.getPersistentEntity(Person.class);
+
+		MappingPdxSerializer.SerializationPlan serializationPlan = this.pdxSerializer.resolveSerializationPlan(entity);
+
+		assertThat(serializationPlan).isNotNull();
+		assertThat(this.pdxSerializer.resolveSerializationPlan(entity)).isSameAs(serializationPlan);
+
+		verify(this.pdxSerializer, times(1)).newSerializationPlan(eq(entity));
+	}
+
+	@Test
+	public void registeringCustomPdxSerializersOrResolversInvalidatesSerializationPlans() {
+
+		GemfirePersistentEntity<?> entity = this.mappingContext.getPersistentEntity(Person.class);
+
+		MappingPdxSerializer.SerializationPlan serializationPlan = this.pdxSerializer.resolveSerializationPlan(entity);
+
+		assertThat(serializationPlan.hasCustomPdxSerializers()).isFalse();
+
+		this.pdxSerializer.setCustomPdxSerializers(Collections.singletonMap(Address.class, mock(PdxSerializer.class)));
+
+		MappingPdxSerializer.SerializationPlan customSerializationPlan =
+			this.pdxSerializer.resolveSerializationPlan(entity);
+
+		assertThat(customSerializationPlan).isNotSameAs(serializationPlan);
+		assertThat(customSerializationPlan.hasCustomPdxSerializers()).isTrue();
+
+		this.pdxSerializer.register((customPdxSerializers, property) -> null);
+
+		assertThat(this.pdxSerializer.resolveSerializationPlan(entity)).isNotSameAs(customSerializationPlan);
+
+		verify(this.pdxSerializer, times(3)).newSerializationPlan(eq(entity));
+	}
+
+	@Test
+	public void fromDataAndToDataUseGeneratedPdxSerializer() {
+
+		Address address = new Address();
+
+		PdxSerializer mockGeneratedPdxSerializer = mock(PdxSerializer.class);
+
+		PdxSerializerGenerator mockPdxSerializerGenerator = mock(PdxSerializerGenerator.class);
+
+		when(mockPdxSerializerGenerator.getPdxSerializer(any(GemfirePersistentEntity.class), eq(this.conversionService)))
+			.thenReturn(mockGeneratedPdxSerializer);
+		when(mockGeneratedPdxSerializer.fromData(eq(Address.class), eq(this.mockReader))).thenReturn(address);
+		when(mockGeneratedPdxSerializer.toData(eq(address), eq(this.mockWriter))).thenReturn(true);
+
+		this.pdxSerializer.setIncludeTypeFilters(type -> Address.class.equals(type));
+		this.pdxSerializer.setPdxSerializerGenerator(mockPdxSerializerGenerator);
+
+		assertThat(this.pdxSerializer.fromData(Address.class, this.mockReader)).isSameAs(address);
+		assertThat(this.pdxSerializer.toData(address, this.mockWriter)).isTrue();
+
+		verify(mockPdxSerializerGenerator, times(1))
+			.getPdxSerializer(any(GemfirePersistentEntity.class), eq(this.conversionService));
+		verify(mockGeneratedPdxSerializer, times(1)).fromData(eq(Address.class), eq(this.mockReader));
+		verify(mockGeneratedPdxSerializer, times(1)).toData(eq(address), eq(this.mockWriter));
+		verifyNoInteractions(this.mockReader, this.mockWriter);
+	}
+
+	@Test
+	public void toDataWithCustomEntityInstantiatorsDoesNotUseGeneratedPdxSerializer() {
+
+		Address address = new Address();
+
+		address.street = "100 Main St.";
+
+		PdxSerializerGenerator mockPdxSerializerGenerator = mock(PdxSerializerGenerator.class);
+
+		this.pdxSerializer.setIncludeTypeFilters(type -> Address.class.equals(type));
+		this.pdxSerializer.setPdxSerializerGenerator(mockPdxSerializerGenerator);
+		this.pdxSerializer.setEntityInstantiators(Collections.singletonMap(Address.class, this.mockEntityInstantiator));
+
+		assertThat(this.pdxSerializer.toData(address, this.mockWriter)).isTrue();
+
+		verify(this.mockWriter, times(1))
+			.writeField(eq("street"), eq("100 Main St."), eq(String.class));
+		verifyNoInteractions(mockPdxSerializerGenerator);
+	}
+
 	private static class ApplicationDomainType { }
 
+	public static class PrimitiveEntity {
+
+		private boolean active;
+
+		private double average;
+
+		private int count;
+
+		private long total;
+
+		private String name;
+
+	}
+
 }
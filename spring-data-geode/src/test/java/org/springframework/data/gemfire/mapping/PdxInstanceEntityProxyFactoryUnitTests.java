@@ -0,0 +1,359 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.pdx.PdxInstance;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.repository.query.DefaultGemfireEntityInformation;
+import org.springframework.data.gemfire.repository.sample.Person;
+import org.springframework.data.gemfire.repository.support.SimpleGemfireRepository;
+
+/**
+ * Unit Tests for {@link PdxInstanceEntityProxyFactory}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.mockito.junit.MockitoJUnitRunner
+ * @see org.apache.geode.pdx.PdxInstance
+ * @see org.springframework.data.gemfire.mapping.PdxInstanceEntityProxyFactory
+ * @since 3.0.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PdxInstanceEntityProxyFactoryUnitTests {
+
+	private GemfireMappingContext mappingContext;
+
+	@Mock
+	private PdxInstance mockPdxInstance;
+
+	private PdxInstanceEntityProxyFactory proxyFactory;
+
+	@Before
+	public void setup() {
+		this.mappingContext = new GemfireMappingContext();
+		this.proxyFactory = new PdxInstanceEntityProxyFactory();
+	}
+
+	private GemfirePersistentEntity<?> getPersistentEntity(Class<?> type) {
+		return this.mappingContext.getPersistentEntity(type);
+	}
+
+	private void mockPdxField(String fieldName, Object value) {
+		when(this.mockPdxInstance.hasField(eq(fieldName))).thenReturn(true);
+		when(this.mockPdxInstance.getField(eq(fieldName))).thenReturn(value);
+	}
+
+	@Test
+	public void isProxyableWithSupportedEntityReturnsTrue() {
+		assertThat(this.proxyFactory.isProxyable(getPersistentEntity(LazyPerson.class))).isTrue();
+	}
+
+	@Test
+	public void isProxyableWithEntityHavingPublicFieldsReturnsFalse() {
+		assertThat(this.proxyFactory.isProxyable(getPersistentEntity(Person.class))).isFalse();
+	}
+
+	@Test
+	public void isProxyableWithFinalEntityReturnsFalse() {
+		assertThat(this.proxyFactory.isProxyable(getPersistentEntity(FinalPerson.class))).isFalse();
+	}
+
+	@Test
+	public void getEntityReturnsLazyEntityProxyLoadingPropertiesOnFirstAccess() {
+
+		when(this.mockPdxInstance.getClassName()).thenReturn(LazyPerson.class.getName());
+		mockPdxField("firstName", "Jon");
+
+		Object entity = this.proxyFactory.getEntity(getPersistentEntity(LazyPerson.class), this.mockPdxInstance);
+
+		assertThat(entity).isInstanceOf(LazyPerson.class);
+		assertThat(AopUtils.isCglibProxy(entity)).isTrue();
+
+		LazyPerson person = (LazyPerson) entity;
+
+		assertThat(person.getFirstName()).isEqualTo("Jon");
+		assertThat(person.getFirstName()).isEqualTo("Jon");
+
+		verify(this.mockPdxInstance, times(1)).getField(eq("firstName"));
+		verify(this.mockPdxInstance, never()).getField(eq("id"));
+		verify(this.mockPdxInstance, never()).getField(eq("lastName"));
+		verify(this.mockPdxInstance, never()).getObject();
+	}
+
+	@Test
+	public void setterOnLazyEntityProxyDoesNotLoadProperty() {
+
+		when(this.mockPdxInstance.getClassName()).thenReturn(LazyPerson.class.getName());
+
+		LazyPerson person = (LazyPerson)
+			this.proxyFactory.getEntity(getPersistentEntity(LazyPerson.class), this.mockPdxInstance);
+
+		assertThat(person).isNotNull();
+
+		person.setLastName("Doe");
+
+		assertThat(person.getLastName()).isEqualTo("Doe");
+
+		verify(this.mockPdxInstance, never()).getField(eq("lastName"));
+	}
+
+	@Test
+	public void materializeLoadsAllPropertiesAndReturnsTargetEntity() {
+
+		when(this.mockPdxInstance.getClassName()).thenReturn(LazyPerson.class.getName());
+		mockPdxField("id", 1);
+		mockPdxField("firstName", "Jon");
+		mockPdxField("lastName", "Doe");
+
+		Object entity = this.proxyFactory.getEntity(getPersistentEntity(LazyPerson.class), this.mockPdxInstance);
+
+		Object materializedEntity = PdxInstanceEntityProxyFactory.materialize(entity);
+
+		assertThat(materializedEntity).isNotSameAs(entity);
+		assertThat(materializedEntity.getClass()).isEqualTo(LazyPerson.class);
+
+		LazyPerson person = (LazyPerson) materializedEntity;
+
+		assertThat(person.getId()).isEqualTo(1L);
+		assertThat(person.getFirstName()).isEqualTo("Jon");
+		assertThat(person.getLastName()).isEqualTo("Doe");
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void deleteWithLazyEntityProxyRemovesEntityByIdentifier() {
+
+		when(this.mockPdxInstance.getClassName()).thenReturn(LazyPerson.class.getName());
+		mockPdxField("id", 1L);
+
+		LazyPerson person = (LazyPerson)
+			this.proxyFactory.getEntity(getPersistentEntity(LazyPerson.class), this.mockPdxInstance);
+
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
+
+		SimpleGemfireRepository<LazyPerson, Long> repository = new SimpleGemfireRepository<>(mockTemplate,
+			new DefaultGemfireEntityInformation(getPersistentEntity(LazyPerson.class)));
+
+		repository.delete(person);
+		repository.deleteAll(Collections.singletonList(person));
+
+		verify(mockTemplate).remove(eq(1L));
+		verify(mockTemplate).removeAll(eq(Collections.singleton(1L)));
+	}
+
+	@Test
+	public void readValueDeserializesPdxInstancesNestedInCollectionsMapsAndArrays() {
+
+		PdxInstance mockJonDoe = mock(PdxInstance.class);
+		PdxInstance mockJaneDoe = mock(PdxInstance.class);
+
+		when(mockJonDoe.getObject()).thenReturn("Jon Doe");
+		when(mockJaneDoe.getObject()).thenReturn("Jane Doe");
+
+		mockPdxField("members", new ArrayList<>(Arrays.asList(mockJonDoe, Collections.singleton(mockJaneDoe))));
+		mockPdxField("roles", Collections.singletonMap("parent", mockJonDoe));
+		mockPdxField("pets", new Object[] { "Spot", mockJaneDoe });
+
+		GemfirePersistentEntity<?> entity = getPersistentEntity(LazyFamily.class);
+
+		ConversionService conversionService = DefaultConversionService.getSharedInstance();
+
+		assertThat((List<?>) PdxInstanceEntityProxyFactory.readValue(this.mockPdxInstance,
+			entity.getRequiredPersistentProperty("members"), conversionService))
+			.containsExactly("Jon Doe", Collections.singleton("Jane Doe"));
+
+		assertThat((Map<?, ?>) PdxInstanceEntityProxyFactory.readValue(this.mockPdxInstance,
+			entity.getRequiredPersistentProperty("roles"), conversionService))
+			.containsExactly(entry("parent", "Jon Doe"));
+
+		assertThat((Object[]) PdxInstanceEntityProxyFactory.readValue(this.mockPdxInstance,
+			entity.getRequiredPersistentProperty("pets"), conversionService))
+			.containsExactly("Spot", "Jane Doe");
+	}
+
+	@Test
+	public void readValueWithoutNestedPdxInstancesReturnsValue() {
+
+		List<Object> members = Arrays.asList("Jon Doe", Collections.singleton("Jane Doe"));
+
+		mockPdxField("members", members);
+
+		assertThat(PdxInstanceEntityProxyFactory.readValue(this.mockPdxInstance,
+			getPersistentEntity(LazyFamily.class).getRequiredPersistentProperty("members"),
+			DefaultConversionService.getSharedInstance())).isSameAs(members);
+	}
+
+	@Test
+	public void materializeWithNonProxyReturnsEntity() {
+
+		LazyPerson person = new LazyPerson();
+
+		assertThat(PdxInstanceEntityProxyFactory.materialize(person)).isSameAs(person);
+		assertThat(PdxInstanceEntityProxyFactory.<Object>materialize(null)).isNull();
+	}
+
+	@Test
+	public void getEntityWithNonProxyableEntityDeserializesPdxInstance() {
+
+		Person jonDoe = new Person(1L, "Jon", "Doe");
+
+		when(this.mockPdxInstance.getClassName()).thenReturn(Person.class.getName());
+		when(this.mockPdxInstance.getObject()).thenReturn(jonDoe);
+
+		assertThat(this.proxyFactory.getEntity(getPersistentEntity(Person.class), this.mockPdxInstance))
+			.isSameAs(jonDoe);
+	}
+
+	@Test
+	public void getEntityWithPdxInstanceOfDifferentTypeDeserializesPdxInstance() {
+
+		Person jonDoe = new Person(1L, "Jon", "Doe");
+
+		when(this.mockPdxInstance.getClassName()).thenReturn(Person.class.getName());
+		when(this.mockPdxInstance.getObject()).thenReturn(jonDoe);
+
+		assertThat(this.proxyFactory.getEntity(getPersistentEntity(LazyPerson.class), this.mockPdxInstance))
+			.isSameAs(jonDoe);
+	}
+
+	@Test
+	public void getEntityWithNonPdxInstanceResultReturnsResult() {
+
+		LazyPerson person = new LazyPerson();
+
+		assertThat(this.proxyFactory.getEntity(getPersistentEntity(LazyPerson.class), person)).isSameAs(person);
+		assertThat(this.proxyFactory.getEntity(getPersistentEntity(LazyPerson.class), null)).isNull();
+	}
+
+	public static class LazyPerson {
+
+		@Id
+		private Long id;
+
+		private String firstName;
+
+		private String lastName;
+
+		public Long getId() {
+			return this.id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public String getFirstName() {
+			return this.firstName;
+		}
+
+		public void setFirstName(String firstName) {
+			this.firstName = firstName;
+		}
+
+		public String getLastName() {
+			return this.lastName;
+		}
+
+		public void setLastName(String lastName) {
+			this.lastName = lastName;
+		}
+	}
+
+	public static class LazyFamily {
+
+		@Id
+		private Long id;
+
+		private List<Object> members;
+
+		private Map<String, Object> roles;
+
+		private Object[] pets;
+
+		public Long getId() {
+			return this.id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public List<Object> getMembers() {
+			return this.members;
+		}
+
+		public void setMembers(List<Object> members) {
+			this.members = members;
+		}
+
+		public Map<String, Object> getRoles() {
+			return this.roles;
+		}
+
+		public void setRoles(Map<String, Object> roles) {
+			this.roles = roles;
+		}
+
+		public Object[] getPets() {
+			return this.pets;
+		}
+
+		public void setPets(Object[] pets) {
+			this.pets = pets;
+		}
+	}
+
+	public static final class FinalPerson {
+
+		@Id
+		private Long id;
+
+		public Long getId() {
+			return this.id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+	}
+}
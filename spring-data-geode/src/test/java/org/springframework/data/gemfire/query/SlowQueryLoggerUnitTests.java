@@ -0,0 +1,106 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Unit Tests for {@link SlowQueryLogger}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.query.SlowQueryLogger
+ * @since 3.0.0
+ */
+public class SlowQueryLoggerUnitTests {
+
+	private QueryExecution newQueryExecution(long durationInMilliseconds) {
+		return new QueryExecution("SELECT * FROM /People", "PersonRepository.findAll",
+			Duration.ofMillis(durationInMilliseconds), 2, Collections.singletonList("NameIdx"));
+	}
+
+	@Test
+	public void publishesSlowQueryApplicationEvent() {
+
+		ApplicationEventPublisher mockEventPublisher = mock(ApplicationEventPublisher.class);
+
+		SlowQueryLogger slowQueryLogger = new SlowQueryLogger();
+
+		slowQueryLogger.setApplicationEventPublisher(mockEventPublisher);
+		slowQueryLogger.setThreshold(Duration.ofMillis(100L));
+
+		QueryExecution queryExecution = newQueryExecution(100L);
+
+		slowQueryLogger.onQueryExecution(queryExecution);
+
+		ArgumentCaptor<SlowQueryApplicationEvent> event = ArgumentCaptor.forClass(SlowQueryApplicationEvent.class);
+
+		verify(mockEventPublisher, times(1)).publishEvent(event.capture());
+
+		assertThat(event.getValue().getSource()).isSameAs(slowQueryLogger);
+		assertThat(event.getValue().getQueryExecution()).isSameAs(queryExecution);
+	}
+
+	@Test
+	public void ignoresQueriesFasterThanThreshold() {
+
+		ApplicationEventPublisher mockEventPublisher = mock(ApplicationEventPublisher.class);
+
+		SlowQueryLogger slowQueryLogger = new SlowQueryLogger();
+
+		slowQueryLogger.setApplicationEventPublisher(mockEventPublisher);
+		slowQueryLogger.setThreshold(Duration.ofMillis(100L));
+		slowQueryLogger.onQueryExecution(newQueryExecution(99L));
+
+		verifyNoInteractions(mockEventPublisher);
+	}
+
+	@Test
+	public void usesDefaultThreshold() {
+		assertThat(new SlowQueryLogger().getThreshold()).isEqualTo(SlowQueryLogger.DEFAULT_THRESHOLD);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setNegativeThresholdThrowsIllegalArgumentException() {
+		new SlowQueryLogger().setThreshold(Duration.ofMillis(-1L));
+	}
+
+	@Test
+	public void withOriginAttributesQueriesToOutermostOrigin() {
+
+		assertThat(QueryExecution.currentOrigin()).isNull();
+
+		String origin = QueryExecution.withOrigin("PersonRepository.findByName",
+			() -> QueryExecution.withOrigin("PersonRepository.findAll", QueryExecution::currentOrigin));
+
+		assertThat(origin).isEqualTo("PersonRepository.findByName");
+		assertThat(QueryExecution.currentOrigin()).isNull();
+		assertThat(QueryExecution.of("SELECT * FROM /People", Duration.ZERO, 0, null).getOrigin()).isNull();
+		assertThat(QueryExecution.of("SELECT * FROM /People", Duration.ZERO, 0, null).getIndexesUsed()).isEmpty();
+	}
+}
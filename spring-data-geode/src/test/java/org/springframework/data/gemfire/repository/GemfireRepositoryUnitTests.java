@@ -0,0 +1,104 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Unit Tests for the {@literal default} methods of {@link GemfireRepository}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.repository.GemfireRepository
+ * @since 3.0.0
+ */
+@SuppressWarnings("unchecked")
+public class GemfireRepositoryUnitTests {
+
+	private GemfireRepository<String, Long> mockRepository;
+
+	@Before
+	public void setup() {
+		this.mockRepository = mock(GemfireRepository.class, withSettings().defaultAnswer(CALLS_REAL_METHODS));
+	}
+
+	@Test
+	public void findAllWithKeysetPageRequestFallsBackToOffsetPaging() {
+
+		KeysetPageRequest pageRequest = KeysetPageRequest.of(2, Sort.by("id"));
+
+		doReturn(new PageImpl<>(Arrays.asList("one", "two"), pageRequest, 3))
+			.when(this.mockRepository).findAll(any(Pageable.class));
+
+		Slice<String> slice = this.mockRepository.findAll(pageRequest);
+
+		assertThat(slice.getContent()).containsExactly("one", "two");
+		assertThat(slice.hasNext()).isTrue();
+
+		verify(this.mockRepository).findAll((Pageable) eq(pageRequest));
+	}
+
+	@Test
+	public void findAllAsStreamStreamsAllEntities() {
+
+		doReturn(Arrays.asList("one", "two")).when(this.mockRepository).findAll();
+
+		assertThat(this.mockRepository.findAllAsStream().collect(Collectors.toList())).containsExactly("one", "two");
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+			.isThrownBy(() -> this.mockRepository.findAllAsStream(0))
+			.withMessage("Chunk size [0] must be greater than 0");
+	}
+
+	@Test
+	public void countWithoutPredicateCountsAllEntities() {
+
+		doReturn(2L).when(this.mockRepository).count();
+
+		assertThat(this.mockRepository.count(null)).isEqualTo(2L);
+	}
+
+	@Test
+	public void aggregateQueriesAreUnsupportedByDefault() {
+
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+			.isThrownBy(() -> this.mockRepository.count("x.age >= $1", 21));
+
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+			.isThrownBy(() -> this.mockRepository.sum("age", "x.age >= $1", 21))
+			.withMessageStartingWith("OQL SUM aggregate queries are not supported by");
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.Collections;
+
+import org.junit.Test;
+
+import org.springframework.data.domain.Sort;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Unit Tests for {@link KeysetPageRequest}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.repository.KeysetPageRequest
+ * @since 3.0.0
+ */
+public class KeysetPageRequestUnitTests {
+
+	@Test
+	public void firstPageHasNoKeyset() {
+
+		KeysetPageRequest pageRequest = KeysetPageRequest.of(10, Sort.by("name"));
+
+		assertThat(pageRequest.getPageNumber()).isZero();
+		assertThat(pageRequest.getPageSize()).isEqualTo(10);
+		assertThat(pageRequest.getOffset()).isZero();
+		assertThat(pageRequest.getSort()).isEqualTo(Sort.by("name"));
+		assertThat(pageRequest.hasKeyset()).isFalse();
+		assertThat(pageRequest.hasPrevious()).isFalse();
+		assertThat(pageRequest.getKeyset()).isEmpty();
+	}
+
+	@Test
+	public void afterLastResultCapturesKeyset() {
+
+		KeysetPageRequest pageRequest = KeysetPageRequest.of(10, Sort.by("name").and(Sort.by("id")))
+			.after(new Person(2L, "Jon Doe"));
+
+		assertThat(pageRequest.getPageNumber()).isOne();
+		assertThat(pageRequest.getOffset()).isEqualTo(10L);
+		assertThat(pageRequest.hasKeyset()).isTrue();
+		assertThat(pageRequest.hasPrevious()).isTrue();
+		assertThat(pageRequest.getKeyset()).containsExactly(entry("name", "Jon Doe"), entry("id", 2L));
+		assertThat(pageRequest.first()).isEqualTo(KeysetPageRequest.of(10, Sort.by("name").and(Sort.by("id"))));
+	}
+
+	@Test
+	public void nextIsUnsupported() {
+
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+			.isThrownBy(() -> KeysetPageRequest.of(10, Sort.by("name")).next());
+	}
+
+	@Test
+	public void withPageOtherThanFirstIsUnsupported() {
+
+		KeysetPageRequest pageRequest = KeysetPageRequest.of(10, Sort.by("name"));
+
+		assertThat(pageRequest.withPage(0)).isEqualTo(pageRequest);
+
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+			.isThrownBy(() -> pageRequest.withPage(2));
+	}
+
+	@Test
+	public void unsortedPageRequestIsIllegal() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> KeysetPageRequest.of(10, Sort.unsorted()))
+			.withMessage("Sort is required for keyset paging");
+	}
+
+	@Test
+	public void nullKeysetValueIsIllegal() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> KeysetPageRequest.of(10, Sort.by("name")).withKeyset(Collections.singletonMap("id", 1L)))
+			.withMessage("Keyset value for sorted property [name] must not be null");
+	}
+
+	@Getter
+	@RequiredArgsConstructor
+	static class Person {
+
+		private final Long id;
+		private final String name;
+
+	}
+}
@@ -31,8 +31,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.gemfire.mapping.GemfireMappingContext;
 import org.springframework.data.gemfire.repository.Query;
+import org.springframework.data.gemfire.repository.query.annotation.CachedQuery;
 import org.springframework.data.gemfire.repository.query.annotation.Hint;
 import org.springframework.data.gemfire.repository.query.annotation.Import;
+import org.springframework.data.gemfire.repository.query.annotation.LazyEntities;
 import org.springframework.data.gemfire.repository.query.annotation.Limit;
 import org.springframework.data.gemfire.repository.query.annotation.Trace;
 import org.springframework.data.gemfire.repository.sample.Person;
@@ -187,6 +189,33 @@ public class GemfireQueryMethodUnitTests {
 			this.repositoryMetadata, this.projectionFactory, this.mappingContext).hasLimit()).isFalse();
 	}
 
+	@Test
+	public void detectsCachedQueriesCorrectly() throws Exception {
+
+		GemfireQueryMethod cachedQueryMethod = new GemfireQueryMethod(AnnotatedQueryMethods.class.getMethod("cachedQuery"),
+			this.repositoryMetadata, this.projectionFactory, this.mappingContext);
+
+		assertThat(cachedQueryMethod.hasCachedQuery()).isTrue();
+		assertThat(cachedQueryMethod.getCachedQueryMaximumSize()).isEqualTo(64);
+		assertThat(cachedQueryMethod.getCachedQueryTimeToLive()).isEqualTo(5000L);
+
+		GemfireQueryMethod queryMethod = new GemfireQueryMethod(AnnotatedQueryMethods.class.getMethod("limitedQuery"),
+			this.repositoryMetadata, this.projectionFactory, this.mappingContext);
+
+		assertThat(queryMethod.hasCachedQuery()).isFalse();
+		assertThat(queryMethod.getCachedQueryMaximumSize()).isZero();
+		assertThat(queryMethod.getCachedQueryTimeToLive()).isZero();
+	}
+
+	@Test
+	public void detectsLazyEntitiesCorrectly() throws Exception {
+
+		assertThat(new GemfireQueryMethod(AnnotatedQueryMethods.class.getMethod("lazyEntitiesQuery"),
+			this.repositoryMetadata, this.projectionFactory, this.mappingContext).hasLazyEntities()).isTrue();
+		assertThat(new GemfireQueryMethod(AnnotatedQueryMethods.class.getMethod("cachedQuery"),
+			this.repositoryMetadata, this.projectionFactory, this.mappingContext).hasLazyEntities()).isFalse();
+	}
+
 	@Test
 	public void detectsQueryTracingCorrectly() throws Exception {
 
@@ -286,5 +315,11 @@ public class GemfireQueryMethodUnitTests {
 		@Trace
 		Object unlimitedQuery();
 
+		@CachedQuery(maximumSize = 64, timeToLive = 5000L)
+		Object cachedQuery();
+
+		@LazyEntities
+		Object lazyEntitiesQuery();
+
 	}
 }
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.gemfire.repository.KeysetPageRequest;
+
+/**
+ * Unit Tests for {@link PagedQueryString}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.repository.KeysetPageRequest
+ * @see org.springframework.data.gemfire.repository.query.PagedQueryString
+ * @since 3.0.0
+ */
+public class PagedQueryStringUnitTests {
+
+	private static Map<String, Object> keyset(Object... keysValues) {
+
+		Map<String, Object> keyset = new LinkedHashMap<>();
+
+		for (int index = 0; index < keysValues.length; index += 2) {
+			keyset.put(String.valueOf(keysValues[index]), keysValues[index + 1]);
+		}
+
+		return keyset;
+	}
+
+	@Test
+	public void withKeysetForFirstPageOrdersAndLimitsQuery() {
+
+		KeysetPageRequest pageRequest = KeysetPageRequest.of(10, Sort.by("lastname"));
+
+		PagedQueryString query = PagedQueryString.of("SELECT * FROM /People p WHERE p.age > $1")
+			.withKeyset(pageRequest, null, 2);
+
+		assertThat(query.toString())
+			.isEqualTo("SELECT DISTINCT * FROM /People p WHERE p.age > $1 ORDER BY lastname ASC LIMIT 11");
+		assertThat(PagedQueryString.getKeysetArguments(pageRequest)).isEmpty();
+	}
+
+	@Test
+	public void withKeysetAddsKeysetPredicateToExistingWhereClause() {
+
+		KeysetPageRequest pageRequest = KeysetPageRequest.of(10, Sort.by("lastname"))
+			.withKeyset(keyset("lastname", "Doe"));
+
+		PagedQueryString query =
+			PagedQueryString.of("SELECT * FROM /People p WHERE p.age > $1 OR p.age < $2 ORDER BY lastname ASC LIMIT 50")
+				.withKeyset(pageRequest, null, 3);
+
+		assertThat(query.toString()).isEqualTo("SELECT * FROM /People p WHERE (p.age > $1 OR p.age < $2)"
+			+ " AND ((p.lastname > $3)) ORDER BY lastname ASC LIMIT 11");
+		assertThat(PagedQueryString.getKeysetArguments(pageRequest)).containsExactly("Doe");
+	}
+
+	@Test
+	public void withKeysetUsingMultipleSortOrders() {
+
+		Sort sort = Sort.by(Sort.Order.asc("lastname"), Sort.Order.desc("age"), Sort.Order.asc("id"));
+
+		KeysetPageRequest pageRequest = KeysetPageRequest.of(20, sort)
+			.withKeyset(keyset("lastname", "Doe", "age", 42, "id", 1L));
+
+		PagedQueryString query = PagedQueryString.of("SELECT * FROM /People").withKeyset(pageRequest, "id", 1);
+
+		assertThat(query.toString()).isEqualTo("SELECT DISTINCT * FROM /People"
+			+ " WHERE (lastname > $1) OR (lastname = $1 AND age < $2) OR (lastname = $1 AND age = $2 AND id > $3)"
+			+ " ORDER BY lastname ASC, age DESC, id ASC LIMIT 21");
+		assertThat(PagedQueryString.getKeysetArguments(pageRequest)).containsExactly("Doe", 42, 1L);
+	}
+
+	@Test
+	public void withKeysetLimitsQueryToResultsRemainingUnderDeclaredLimit() {
+
+		KeysetPageRequest firstPageRequest = KeysetPageRequest.of(10, Sort.by("id"));
+
+		KeysetPageRequest secondPageRequest = firstPageRequest.withKeyset(keyset("id", 10L));
+
+		PagedQueryString query = PagedQueryString.of("SELECT * FROM /People p ORDER BY p.id LIMIT 15");
+
+		assertThat(query.withKeyset(firstPageRequest, "id", 1).toString())
+			.isEqualTo("SELECT * FROM /People p ORDER BY p.id LIMIT 11");
+		assertThat(query.withKeyset(secondPageRequest, "id", 1).toString())
+			.isEqualTo("SELECT * FROM /People p WHERE (p.id > $1) ORDER BY p.id LIMIT 5");
+	}
+
+	@Test
+	public void withKeysetIgnoresNestedQueriesAndStringLiterals() {
+
+		KeysetPageRequest pageRequest = KeysetPageRequest.of(10, Sort.by("id")).withKeyset(keyset("id", 5L));
+
+		PagedQueryString query = PagedQueryString.of("SELECT * FROM /People p WHERE p.name <> 'x WHERE y LIMIT 5'"
+			+ " AND p.id IN (SELECT o.id FROM /Orders o WHERE o.total > $1 ORDER BY o.id) ORDER BY p.id LIMIT 50")
+				.withKeyset(pageRequest, "id", 2);
+
+		assertThat(query.toString()).isEqualTo("SELECT * FROM /People p WHERE (p.name <> 'x WHERE y LIMIT 5'"
+			+ " AND p.id IN (SELECT o.id FROM /Orders o WHERE o.total > $1 ORDER BY o.id)) AND ((p.id > $2))"
+			+ " ORDER BY p.id LIMIT 11");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void withKeysetRejectsOrderByNotMatchingSort() {
+
+		KeysetPageRequest pageRequest = KeysetPageRequest.of(10, Sort.by("lastname", "id"));
+
+		try {
+			PagedQueryString.of("SELECT * FROM /People p ORDER BY p.lastname DESC, p.id ASC")
+				.withKeyset(pageRequest, "id", 1);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessageStartingWith("ORDER BY clause [p.lastname DESC, p.id ASC] must match the Sort");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void withKeysetRejectsSortWithoutIdentifier() {
+
+		KeysetPageRequest pageRequest = KeysetPageRequest.of(10, Sort.by("lastname"));
+
+		try {
+			PagedQueryString.of("SELECT * FROM /People").withKeyset(pageRequest, "id", 1);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessageStartingWith("Sort [lastname: ASC] must include the identifier property [id]");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void resolveAliasFromQuery() {
+
+		PagedQueryString query = PagedQueryString.of("SELECT * FROM /People");
+
+		assertThat(query.resolveAlias("SELECT * FROM /People")).isNull();
+		assertThat(query.resolveAlias("SELECT * FROM /People WHERE age > 21")).isNull();
+		assertThat(query.resolveAlias("SELECT * FROM /People p WHERE p.age > 21")).isEqualTo("p");
+		assertThat(query.resolveAlias("SELECT * FROM /People AS person")).isEqualTo("person");
+	}
+
+	@Test
+	public void asKeysQueryProjectsIdentifier() {
+
+		assertThat(PagedQueryString.of("SELECT * FROM /People p WHERE p.age > $1").asKeysQuery("id")
+			.map(PagedQueryString::toString))
+			.hasValue("SELECT p.id FROM /People p WHERE p.age > $1");
+	}
+
+	@Test
+	public void asKeysQueryProjectsIdentifierAndOrderByProperties() {
+
+		assertThat(PagedQueryString.of("<TRACE> SELECT DISTINCT * FROM /People WHERE age > $1"
+			+ " ORDER BY lastname ASC, id DESC LIMIT 100").asKeysQuery("id").map(PagedQueryString::toString))
+			.hasValue("<TRACE> SELECT DISTINCT id, lastname FROM /People WHERE age > $1"
+				+ " ORDER BY lastname ASC, id DESC LIMIT 100");
+	}
+
+	@Test
+	public void asKeysQueryIsEmptyForProjectionQuery() {
+		assertThat(PagedQueryString.of("SELECT p.name FROM /People p").asKeysQuery("id")).isNotPresent();
+	}
+
+	@Test
+	public void asKeysQueryIsEmptyForNestedOrderByProperty() {
+
+		assertThat(PagedQueryString.of("SELECT DISTINCT * FROM /People p ORDER BY p.address.city ASC")
+			.asKeysQuery("id")).isNotPresent();
+	}
+
+	@Test
+	public void getRegionPathFromSelectStarQuery() {
+
+		assertThat(PagedQueryString.of("SELECT * FROM /People p WHERE p.age > $1").getRegionPath())
+			.hasValue("/People");
+		assertThat(PagedQueryString.of("SELECT p.name FROM /People p").getRegionPath()).isNotPresent();
+	}
+}
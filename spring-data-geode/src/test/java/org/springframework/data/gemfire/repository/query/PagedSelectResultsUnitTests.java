@@ -279,4 +279,28 @@ public class PagedSelectResultsUnitTests {
 		verifyNoMoreInteractions(mockList);
 		verifyNoInteractions(this.mockSelectResults, this.mockPageable);
 	}
+
+	@Test
+	public void hasNextIsTrueWhenResultsExistBeyondPage() {
+
+		doReturn(7).when(this.mockSelectResults).size();
+		doReturn(1).when(this.mockPageable).getPageNumber();
+		doReturn(3).when(this.mockPageable).getPageSize();
+
+		assertThat(new PagedSelectResults<>(this.mockSelectResults, this.mockPageable).hasNext()).isTrue();
+
+		verify(this.mockSelectResults, times(1)).size();
+	}
+
+	@Test
+	public void hasNextIsFalseWhenLastPageIsExactlyFull() {
+
+		doReturn(6).when(this.mockSelectResults).size();
+		doReturn(1).when(this.mockPageable).getPageNumber();
+		doReturn(3).when(this.mockPageable).getPageSize();
+
+		assertThat(new PagedSelectResults<>(this.mockSelectResults, this.mockPageable).hasNext()).isFalse();
+
+		verify(this.mockSelectResults, times(1)).size();
+	}
 }
@@ -0,0 +1,341 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.CacheLoader;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.repository.sample.Person;
+import org.springframework.data.repository.core.EntityMetadata;
+import org.springframework.data.repository.query.Parameter;
+import org.springframework.data.repository.query.Parameters;
+import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.data.repository.query.parser.PartTree;
+
+/**
+ * Unit Tests for {@link PartTreeGemfireRepositoryQuery}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.domain.Sort
+ * @see org.springframework.data.gemfire.repository.query.PartTreeGemfireRepositoryQuery
+ * @since 3.0.0
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class PartTreeGemfireRepositoryQueryUnitTests {
+
+	private GemfireQueryMethod mockQueryMethod;
+
+	private GemfireTemplate mockTemplate;
+
+	@Before
+	public void setup() {
+
+		GemfirePersistentEntity<?> entity = new GemfireMappingContext().getPersistentEntity(Person.class);
+
+		EntityMetadata mockEntityMetadata = mock(EntityMetadata.class);
+
+		doReturn(Person.class).when(mockEntityMetadata).getJavaType();
+
+		Parameters mockParameters = mock(Parameters.class);
+
+		doReturn(false).when(mockParameters).hasSortParameter();
+		doReturn(false).when(mockParameters).hasPageableParameter();
+
+		this.mockQueryMethod = mock(GemfireQueryMethod.class);
+
+		doReturn("findByLastname").when(this.mockQueryMethod).getName();
+		doReturn(mockEntityMetadata).when(this.mockQueryMethod).getEntityInformation();
+		doReturn(entity).when(this.mockQueryMethod).getPersistentEntity();
+		doReturn(mockParameters).when(this.mockQueryMethod).getParameters();
+		doReturn(false).when(this.mockQueryMethod).isModifyingQuery();
+
+		this.mockTemplate = mock(GemfireTemplate.class);
+	}
+
+	@Test
+	public void resolveQueryPlanCachesQueryPlanBySort() {
+
+		PartTreeGemfireRepositoryQuery repositoryQuery =
+			new PartTreeGemfireRepositoryQuery(this.mockQueryMethod, this.mockTemplate);
+
+		GemfireRepositoryQuery queryPlan = repositoryQuery.resolveQueryPlan(this.mockQueryMethod, Sort.unsorted());
+
+		assertThat(queryPlan).isInstanceOf(StringBasedGemfireRepositoryQuery.class);
+		assertThat(((StringBasedGemfireRepositoryQuery) queryPlan).isDerivedQuery()).isTrue();
+		assertThat(((StringBasedGemfireRepositoryQuery) queryPlan).getQuery().toString())
+			.isEqualTo("SELECT * FROM /simple x WHERE x.lastname = $1");
+		assertThat(repositoryQuery.resolveQueryPlan(this.mockQueryMethod, Sort.unsorted())).isSameAs(queryPlan);
+	}
+
+	@Test
+	public void resolveQueryPlanCreatesQueryPlanPerSort() {
+
+		PartTreeGemfireRepositoryQuery repositoryQuery =
+			new PartTreeGemfireRepositoryQuery(this.mockQueryMethod, this.mockTemplate);
+
+		GemfireRepositoryQuery queryPlanOne =
+			repositoryQuery.resolveQueryPlan(this.mockQueryMethod, Sort.by("firstname"));
+
+		GemfireRepositoryQuery queryPlanTwo =
+			repositoryQuery.resolveQueryPlan(this.mockQueryMethod, Sort.by(Sort.Direction.DESC, "firstname"));
+
+		assertThat(queryPlanOne).isNotSameAs(queryPlanTwo);
+		assertThat(((StringBasedGemfireRepositoryQuery) queryPlanOne).getQuery().toString())
+			.isEqualTo("SELECT DISTINCT * FROM /simple x WHERE x.lastname = $1 ORDER BY firstname ASC");
+		assertThat(((StringBasedGemfireRepositoryQuery) queryPlanTwo).getQuery().toString())
+			.isEqualTo("SELECT DISTINCT * FROM /simple x WHERE x.lastname = $1 ORDER BY firstname DESC");
+		assertThat(repositoryQuery.resolveQueryPlan(this.mockQueryMethod, Sort.by("firstname")))
+			.isSameAs(queryPlanOne);
+	}
+
+	@Test
+	public void resolveQueryPlanEvictsLeastRecentlyUsedQueryPlan() {
+
+		PartTreeGemfireRepositoryQuery repositoryQuery =
+			new PartTreeGemfireRepositoryQuery(this.mockQueryMethod, this.mockTemplate);
+
+		GemfireRepositoryQuery eldestQueryPlan =
+			repositoryQuery.resolveQueryPlan(this.mockQueryMethod, Sort.by("property0"));
+
+		GemfireRepositoryQuery recentlyUsedQueryPlan =
+			repositoryQuery.resolveQueryPlan(this.mockQueryMethod, Sort.by("property1"));
+
+		for (int index = 2; index <= PartTreeGemfireRepositoryQuery.QUERY_PLAN_CACHE_SIZE; index++) {
+			repositoryQuery.resolveQueryPlan(this.mockQueryMethod, Sort.by("property" + index));
+			repositoryQuery.resolveQueryPlan(this.mockQueryMethod, Sort.by("property1"));
+		}
+
+		assertThat(repositoryQuery.resolveQueryPlan(this.mockQueryMethod, Sort.by("property1")))
+			.isSameAs(recentlyUsedQueryPlan);
+		assertThat(repositoryQuery.resolveQueryPlan(this.mockQueryMethod, Sort.by("property0")))
+			.isNotSameAs(eldestQueryPlan);
+	}
+
+	@Test
+	public void registerQueryPostProcessorEvictsCachedQueryPlans() {
+
+		PartTreeGemfireRepositoryQuery repositoryQuery =
+			new PartTreeGemfireRepositoryQuery(this.mockQueryMethod, this.mockTemplate);
+
+		GemfireRepositoryQuery queryPlan = repositoryQuery.resolveQueryPlan(this.mockQueryMethod, Sort.unsorted());
+
+		repositoryQuery.register((queryMethod, query, arguments) -> query);
+
+		assertThat(repositoryQuery.resolveQueryPlan(this.mockQueryMethod, Sort.unsorted())).isNotSameAs(queryPlan);
+	}
+
+	private void mockKeyLookupQueryMethod(String name, boolean collectionQuery) {
+
+		Parameter mockParameter = mock(Parameter.class);
+		ResultProcessor mockResultProcessor = mock(ResultProcessor.class);
+		ReturnedType mockReturnedType = mock(ReturnedType.class);
+
+		doReturn(0).when(mockParameter).getIndex();
+		doReturn(mockParameter).when(this.mockQueryMethod.getParameters()).getBindableParameter(eq(0));
+		doReturn(false).when(mockReturnedType).isProjecting();
+		doReturn(mockReturnedType).when(mockResultProcessor).getReturnedType();
+		doReturn(name).when(this.mockQueryMethod).getName();
+		doReturn(collectionQuery).when(this.mockQueryMethod).isCollectionQuery();
+		doReturn(!collectionQuery).when(this.mockQueryMethod).isQueryForEntity();
+		doReturn(mockResultProcessor).when(this.mockQueryMethod).getResultProcessor();
+	}
+
+	private Region mockRegion(String poolName, DataPolicy dataPolicy, CacheLoader cacheLoader) {
+
+		Region mockRegion = mock(Region.class);
+		RegionAttributes mockRegionAttributes = mock(RegionAttributes.class);
+
+		doReturn(poolName).when(mockRegionAttributes).getPoolName();
+		doReturn(dataPolicy).when(mockRegionAttributes).getDataPolicy();
+		doReturn(cacheLoader).when(mockRegionAttributes).getCacheLoader();
+		doReturn(mockRegionAttributes).when(mockRegion).getAttributes();
+		doReturn("/simple").when(mockRegion).getFullPath();
+		doReturn(mockRegion).when(this.mockTemplate).getRegion();
+
+		return mockRegion;
+	}
+
+	@Test
+	public void findByIdInExecutesRegionGetAll() {
+
+		mockKeyLookupQueryMethod("findByIdIn", true);
+
+		Person jonDoe = new Person(1L, "Jon", "Doe");
+		Person janeDoe = new Person(2L, "Jane", "Doe");
+
+		Map<Object, Object> keysToValues = new HashMap<>();
+
+		keysToValues.put(1L, jonDoe);
+		keysToValues.put(2L, janeDoe);
+
+		doReturn(keysToValues).when(this.mockTemplate).getAll(any(Collection.class));
+
+		mockRegion("TestPool", DataPolicy.EMPTY, null);
+
+		PartTreeGemfireRepositoryQuery repositoryQuery =
+			new PartTreeGemfireRepositoryQuery(this.mockQueryMethod, this.mockTemplate);
+
+		Object result = repositoryQuery.execute(new Object[] { Arrays.asList(2L, 3L, 1L, 2L) });
+
+		assertThat(result).isInstanceOf(Collection.class);
+		assertThat((Collection<Object>) result).containsExactly(janeDoe, jonDoe);
+
+		verify(this.mockTemplate).getAll(eq(Arrays.asList(2L, 3L, 1L)));
+		verify(this.mockTemplate, never()).find(anyString(), any());
+	}
+
+	@Test
+	public void findByIdExecutesRegionGet() {
+
+		mockKeyLookupQueryMethod("findById", false);
+
+		Person jonDoe = new Person(1L, "Jon", "Doe");
+
+		doReturn(jonDoe).when(this.mockTemplate).get(eq(1L));
+
+		mockRegion(null, DataPolicy.PARTITION, null);
+
+		PartTreeGemfireRepositoryQuery repositoryQuery =
+			new PartTreeGemfireRepositoryQuery(this.mockQueryMethod, this.mockTemplate);
+
+		assertThat(repositoryQuery.execute(new Object[] { 1L })).isSameAs(jonDoe);
+		assertThat(repositoryQuery.execute(new Object[] { 2L })).isNull();
+
+		verify(this.mockTemplate, never()).find(anyString(), any());
+	}
+
+	@Test
+	public void nonIdentifierPredicateIsNotKeyLookup() {
+
+		mockKeyLookupQueryMethod("findByLastnameIn", true);
+
+		assertThat(PartTreeGemfireRepositoryQuery.isKeyLookup(this.mockQueryMethod,
+			new PartTree("findByLastnameIn", Person.class))).isFalse();
+
+		assertThat(PartTreeGemfireRepositoryQuery.isKeyLookup(this.mockQueryMethod,
+			new PartTree("findByIdInAndLastname", Person.class)))
+			.isFalse();
+
+		assertThat(PartTreeGemfireRepositoryQuery.isKeyLookup(this.mockQueryMethod,
+			new PartTree("findByIdIn", Person.class))).isTrue();
+	}
+
+	@Test
+	public void lazyEntitiesQueryMethodIsNotKeyLookup() {
+
+		mockKeyLookupQueryMethod("findById", false);
+
+		PartTree tree = new PartTree("findById", Person.class);
+
+		assertThat(PartTreeGemfireRepositoryQuery.isKeyLookup(this.mockQueryMethod, tree)).isTrue();
+
+		doReturn(true).when(this.mockQueryMethod).hasLazyEntities();
+
+		assertThat(PartTreeGemfireRepositoryQuery.isKeyLookup(this.mockQueryMethod, tree)).isFalse();
+	}
+
+	@Test
+	public void cachingProxyOrCacheLoaderRegionIsNotKeyLookupRegion() {
+
+		assertThat(PartTreeGemfireRepositoryQuery.isKeyLookupRegion(null)).isFalse();
+		assertThat(PartTreeGemfireRepositoryQuery.isKeyLookupRegion(mockRegion("TestPool", DataPolicy.EMPTY, null)))
+			.isTrue();
+		assertThat(PartTreeGemfireRepositoryQuery.isKeyLookupRegion(mockRegion(null, DataPolicy.REPLICATE, null)))
+			.isTrue();
+		assertThat(PartTreeGemfireRepositoryQuery.isKeyLookupRegion(mockRegion("TestPool", DataPolicy.NORMAL, null)))
+			.isFalse();
+		assertThat(PartTreeGemfireRepositoryQuery.isKeyLookupRegion(mockRegion(null, DataPolicy.EMPTY, null)))
+			.isFalse();
+		assertThat(PartTreeGemfireRepositoryQuery.isKeyLookupRegion(
+			mockRegion(null, DataPolicy.PARTITION, mock(CacheLoader.class)))).isFalse();
+		assertThat(PartTreeGemfireRepositoryQuery.isKeyLookupRegion(
+			mockRegion("TestPool", DataPolicy.EMPTY, mock(CacheLoader.class)))).isFalse();
+	}
+
+	@Test
+	public void findByIdOnCachingProxyRegionExecutesQuery() {
+
+		mockKeyLookupQueryMethod("findById", false);
+		mockRegion("TestPool", DataPolicy.NORMAL, null);
+
+		PartTreeGemfireRepositoryQuery repositoryQuery =
+			new PartTreeGemfireRepositoryQuery(this.mockQueryMethod, this.mockTemplate);
+
+		repositoryQuery.execute(new Object[] { 1L });
+
+		verify(this.mockTemplate, never()).get(any());
+		verify(this.mockTemplate).find(eq("SELECT * FROM /simple x WHERE x.id = $1"), any());
+	}
+
+	@Test
+	public void registeringNonApplicableQueryPostProcessorRetainsKeyLookup() {
+
+		mockKeyLookupQueryMethod("findById", false);
+		mockRegion(null, DataPolicy.REPLICATE, null);
+
+		PartTreeGemfireRepositoryQuery repositoryQuery =
+			new PartTreeGemfireRepositoryQuery(this.mockQueryMethod, this.mockTemplate);
+
+		repositoryQuery.register((queryMethod, query, arguments) -> query);
+		repositoryQuery.execute(new Object[] { 1L });
+
+		verify(this.mockTemplate).get(eq(1L));
+		verify(this.mockTemplate, never()).find(anyString(), any());
+	}
+
+	@Test
+	public void registeringQueryPostProcessorDisablesKeyLookup() {
+
+		mockKeyLookupQueryMethod("findById", false);
+
+		PartTreeGemfireRepositoryQuery repositoryQuery =
+			new PartTreeGemfireRepositoryQuery(this.mockQueryMethod, this.mockTemplate);
+
+		mockRegion(null, DataPolicy.REPLICATE, null);
+
+		repositoryQuery.register((queryMethod, query, arguments) -> "<TRACE> " + query);
+		repositoryQuery.execute(new Object[] { 1L });
+
+		verify(this.mockTemplate, never()).get(any());
+		verify(this.mockTemplate).find(eq("<TRACE> SELECT * FROM /simple x WHERE x.id = $1"), any());
+	}
+}
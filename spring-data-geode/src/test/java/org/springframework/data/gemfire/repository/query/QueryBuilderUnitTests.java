@@ -74,6 +74,23 @@ public class QueryBuilderUnitTests {
 		verify(mockPartTree, times(1)).isDistinct();
 	}
 
+	@Test
+	public void createQueryBuilderWithCountQuery() {
+
+		GemfirePersistentEntity<?> mockPersistentEntity = mock(GemfirePersistentEntity.class);
+
+		PartTree mockPartTree = mock(PartTree.class);
+
+		when(mockPersistentEntity.getRegionName()).thenReturn("Example");
+		when(mockPartTree.isCountProjection()).thenReturn(true);
+
+		QueryBuilder queryBuilder = new QueryBuilder(mockPersistentEntity, mockPartTree);
+
+		assertThat(queryBuilder.toString()).isEqualTo("SELECT count(*) FROM /Example x");
+
+		verify(mockPartTree, times(1)).isCountProjection();
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void createQueryBuilderWithNullQueryString() {
 
@@ -26,6 +26,7 @@ import static org.springframework.data.gemfire.repository.query.QueryString.LIMI
 import static org.springframework.data.gemfire.repository.query.QueryString.TRACE_PATTERN;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.regex.Pattern;
 
 import org.junit.Test;
@@ -439,6 +440,31 @@ public class QueryStringUnitTests {
 		assertThat(query.getInParameterIndexes()).isEqualTo(Arrays.asList(1, 2));
 	}
 
+	@Test
+	public void detectsMultiDigitInParameterIndexesCorrectly() {
+
+		QueryString query = QueryString.of("SELECT * FROM /Example WHERE a = $1 AND b IN SET $12");
+
+		assertThat(query.getInParameterIndexes()).isEqualTo(Collections.singletonList(12));
+	}
+
+	@Test
+	public void withInParametersRewritesInSetAndInListParameters() {
+
+		QueryString query = QueryString.of("SELECT * FROM /Example WHERE a IN SET $1 AND b NOT IN LIST $2 LIMIT 10");
+
+		assertThat(query.withInParameters().toString())
+			.isEqualTo("SELECT * FROM /Example WHERE a IN $1 AND b NOT IN $2 LIMIT 10");
+	}
+
+	@Test
+	public void withInParametersWithoutInParametersReturnsSameQueryString() {
+
+		QueryString query = QueryString.of("SELECT * FROM /Example WHERE a IN SET ('x', 'y')");
+
+		assertThat(query.withInParameters()).isSameAs(query);
+	}
+
 	@Test
 	public void addsNoOrderByClauseCorrectly() {
 
@@ -546,7 +572,108 @@ public class QueryStringUnitTests {
 			.withTrace();
 
 		assertThat(query.toString())
-			.isEqualTo("<TRACE> <HINT 'IdIdx', 'NameIdx'> IMPORT org.example.domain.Type; SELECT * FROM /Example LIMIT 20");
+			.isEqualTo("<TRACE> IMPORT org.example.domain.Type; <HINT 'IdIdx', 'NameIdx'> SELECT * FROM /Example LIMIT 20");
+	}
+
+	@Test
+	public void withLimitReplacesExistingLimit() {
+
+		QueryString query = QueryString.of("SELECT * FROM /Example ORDER BY name ASC LIMIT 10").withLimit(5);
+
+		assertThat(query.getLimit()).isEqualTo(5);
+		assertThat(query.toString()).isEqualTo("SELECT * FROM /Example ORDER BY name ASC LIMIT 5");
+	}
+
+	@Test
+	public void orderByInsertsOrderByClauseBeforeLimit() {
+
+		QueryString query = QueryString.of("SELECT * FROM /People p WHERE p.age > $1 LIMIT 10")
+			.orderBy(newSort(newSortOrder("lastName")));
+
+		assertThat(query.toString())
+			.isEqualTo("SELECT DISTINCT * FROM /People p WHERE p.age > $1 ORDER BY lastName ASC LIMIT 10");
+	}
+
+	@Test
+	public void orderByAppendsToExistingOrderByClause() {
+
+		QueryString query = QueryString.of("SELECT DISTINCT * FROM /People p ORDER BY p.lastName DESC")
+			.orderBy(newSort(newSortOrder("firstName")));
+
+		assertThat(query.toString())
+			.isEqualTo("SELECT DISTINCT * FROM /People p ORDER BY p.lastName DESC, firstName ASC");
+	}
+
+	@Test
+	public void clausesInsideStringLiteralsAndNestedQueriesAreIgnored() {
+
+		QueryString query = QueryString.of("SELECT * FROM /Example e WHERE e.note = 'ORDER BY x LIMIT 5'"
+			+ " AND e.id IN (SELECT o.id FROM /Other o ORDER BY o.id LIMIT 10)");
+
+		assertThat(query.isLimited()).isFalse();
+		assertThat(query.withLimit(1).toString())
+			.isEqualTo("SELECT * FROM /Example e WHERE e.note = 'ORDER BY x LIMIT 5'"
+				+ " AND e.id IN (SELECT o.id FROM /Other o ORDER BY o.id LIMIT 10) LIMIT 1");
+	}
+
+	@Test
+	public void parsesTraceImportAndHintsStructurally() {
+
+		QueryString query = QueryString.of("IMPORT org.example.domain.Type; <HINT 'IdIdx'> SELECT * FROM /Example");
+
+		assertThat(query.hasImport()).isTrue();
+		assertThat(query.hasHints()).isTrue();
+		assertThat(query.isTraced()).isFalse();
+		assertThat(query.isLimited()).isFalse();
+
+		assertThat(query.withHints("IdIdx", "NameIdx").withTrace().toString())
+			.isEqualTo("<TRACE> IMPORT org.example.domain.Type; <HINT 'IdIdx', 'NameIdx'> SELECT * FROM /Example");
+	}
+
+	@Test
+	public void unmodifiedQueryStringRendersOriginalQuery() {
+
+		String query = "<HINT 'IdIdx'>  SELECT * FROM /Example   LIMIT 10";
+
+		QueryString queryString = QueryString.of(query);
+
+		assertThat(queryString.isLimited()).isTrue();
+		assertThat(queryString.withTrace().withTrace().toString())
+			.isEqualTo("<TRACE> <HINT 'IdIdx'> SELECT * FROM /Example LIMIT 10");
+		assertThat(queryString.toString()).isEqualTo(query);
+	}
+
+	@Test
+	public void withProjectionReplacesStarProjectionWithAliasedProperties() {
+
+		QueryString query = QueryString.of("SELECT DISTINCT * FROM /People p WHERE p.age > $1 ORDER BY p.age DESC LIMIT 5")
+			.withProjection(Arrays.asList("firstName", "lastName"));
+
+		assertThat(query.toString())
+			.isEqualTo("SELECT DISTINCT p.firstName, p.lastName, p.age FROM /People p WHERE p.age > $1"
+				+ " ORDER BY p.age DESC LIMIT 5");
+	}
+
+	@Test
+	public void withProjectionWithoutAliasProjectsUnqualifiedProperties() {
+
+		assertThat(QueryString.of("SELECT * FROM /People WHERE age > 21")
+			.withProjection(Collections.singletonList("lastName")).toString())
+			.isEqualTo("SELECT lastName FROM /People WHERE age > 21");
+	}
+
+	@Test
+	public void withProjectionDoesNotModifyUnprojectableQueries() {
+
+		QueryString selectProperty = QueryString.of("SELECT x.name FROM /People x");
+		QueryString selectJoin = QueryString.of("SELECT * FROM /People p, p.addresses a");
+		QueryString selectOrderByNestedProperty = QueryString.of("SELECT DISTINCT * FROM /People p ORDER BY p.address.city");
+
+		assertThat(selectProperty.withProjection(Collections.singletonList("name"))).isSameAs(selectProperty);
+		assertThat(selectJoin.withProjection(Collections.singletonList("name"))).isSameAs(selectJoin);
+		assertThat(selectOrderByNestedProperty.withProjection(Collections.singletonList("name")))
+			.isSameAs(selectOrderByNestedProperty);
+		assertThat(selectProperty.withProjection(Collections.emptyList())).isSameAs(selectProperty);
 	}
 
 	@Getter
@@ -16,6 +16,9 @@
 package org.springframework.data.gemfire.repository.query;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -26,10 +29,26 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
+import org.apache.geode.cache.Region;
 import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.Struct;
+import org.apache.geode.cache.query.types.StructType;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.repository.query.support.UnsupportedQueryExecutionException;
+import org.springframework.data.gemfire.repository.sample.Person;
+import org.springframework.data.repository.query.Parameter;
+import org.springframework.data.repository.query.Parameters;
+import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.repository.query.ReturnedType;
 
 /**
  * Unit Tests for {@link StringBasedGemfireRepositoryQuery}
@@ -104,6 +123,116 @@ public class StringBasedGemfireRepositoryQueryUnitTests {
 		assertThat(list.isEmpty()).isTrue();
 	}
 
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void bindInParametersConvertsInArgumentsToCollections() {
+
+		GemfireQueryMethod mockQueryMethod = mock(GemfireQueryMethod.class);
+		Parameters mockParameters = mock(Parameters.class);
+		Parameter mockParameter = mock(Parameter.class);
+
+		when(mockQueryMethod.getParameters()).thenReturn(mockParameters);
+		when(mockParameters.getBindableParameter(eq(1))).thenReturn(mockParameter);
+		when(mockParameter.getIndex()).thenReturn(1);
+
+		QueryString query = QueryString.of("SELECT * FROM /Example WHERE age > $1 AND name IN SET $2");
+
+		Object[] arguments = { 21, new String[] { "Jon", "Jane" } };
+
+		Object[] boundArguments = this.repositoryQuery.bindInParameters(mockQueryMethod, query, arguments);
+
+		assertThat(boundArguments).isNotSameAs(arguments);
+		assertThat(boundArguments[0]).isEqualTo(21);
+		assertThat(boundArguments[1]).isInstanceOf(Collection.class);
+		assertThat((Collection<Object>) boundArguments[1]).containsExactly("Jon", "Jane");
+		assertThat(arguments[1]).isInstanceOf(String[].class);
+	}
+
+	@Test
+	public void bindInParametersWithoutInParametersReturnsSameArguments() {
+
+		GemfireQueryMethod mockQueryMethod = mock(GemfireQueryMethod.class);
+
+		Object[] arguments = { 21 };
+
+		assertThat(this.repositoryQuery.bindInParameters(mockQueryMethod,
+			QueryString.of("SELECT * FROM /Example WHERE age > $1"), arguments)).isSameAs(arguments);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void processProjectionsMapsStructsToInterfaceProjection() {
+
+		GemfireQueryMethod mockQueryMethod = mockProjectionQueryMethod(NameProjection.class, false);
+		Struct mockStruct = mockStruct(new String[] { "firstName", "lastName" }, new Object[] { "Jon", "Doe" });
+
+		when(mockQueryMethod.getResultProcessor().processResult(any())).thenReturn("JonDoe");
+
+		Collection<?> projections =
+			this.repositoryQuery.processProjections(mockQueryMethod, Collections.singletonList(mockStruct));
+
+		assertThat(projections).containsExactly("JonDoe");
+
+		ArgumentCaptor<Map<String, Object>> source = ArgumentCaptor.forClass(Map.class);
+
+		verify(mockQueryMethod.getResultProcessor()).processResult(source.capture());
+
+		assertThat(source.getValue()).containsEntry("firstName", "Jon").containsEntry("lastName", "Doe");
+	}
+
+	@Test
+	public void processProjectionsMapsStructsToDtoProjection() {
+
+		GemfireQueryMethod mockQueryMethod = mockProjectionQueryMethod(NameDto.class, true);
+		Struct mockStruct = mockStruct(new String[] { "lastName", "firstName" }, new Object[] { "Doe", "Jane" });
+
+		Collection<?> projections =
+			this.repositoryQuery.processProjections(mockQueryMethod, Arrays.asList(mockStruct, "non-struct"));
+
+		assertThat(projections).hasSize(2);
+		assertThat(projections.iterator().next()).isInstanceOf(NameDto.class);
+		assertThat(((NameDto) projections.iterator().next()).firstName).isEqualTo("Jane");
+		assertThat(((NameDto) projections.iterator().next()).lastName).isEqualTo("Doe");
+		assertThat(projections).contains("non-struct");
+	}
+
+	@Test
+	public void processProjectionsWithoutProjectionReturnsResults() {
+
+		List<Object> results = Collections.singletonList(new Object());
+
+		assertThat(this.repositoryQuery.processProjections(mock(GemfireQueryMethod.class), results))
+			.isSameAs(results);
+	}
+
+	private GemfireQueryMethod mockProjectionQueryMethod(Class<?> projectionType, boolean dto) {
+
+		GemfireQueryMethod mockQueryMethod = mock(GemfireQueryMethod.class);
+		ResultProcessor mockResultProcessor = mock(ResultProcessor.class);
+		ReturnedType mockReturnedType = mock(ReturnedType.class);
+
+		when(mockQueryMethod.getResultProcessor()).thenReturn(mockResultProcessor);
+		when(mockResultProcessor.getReturnedType()).thenReturn(mockReturnedType);
+		when(mockReturnedType.isProjecting()).thenReturn(true);
+		when(mockReturnedType.needsCustomConstruction()).thenReturn(dto);
+		when(mockReturnedType.getInputProperties()).thenReturn(Arrays.asList("firstName", "lastName"));
+		doReturn(projectionType).when(mockReturnedType).getReturnedType();
+
+		return mockQueryMethod;
+	}
+
+	private Struct mockStruct(String[] fieldNames, Object[] fieldValues) {
+
+		Struct mockStruct = mock(Struct.class);
+		StructType mockStructType = mock(StructType.class);
+
+		when(mockStruct.getStructType()).thenReturn(mockStructType);
+		when(mockStruct.getFieldValues()).thenReturn(fieldValues);
+		when(mockStructType.getFieldNames()).thenReturn(fieldNames);
+
+		return mockStruct;
+	}
+
 	@Test
 	public void applyAllQueryAnnotationExtensions() {
 
@@ -128,7 +257,7 @@ public class StringBasedGemfireRepositoryQueryUnitTests {
 
 		assertThat(postProcessedQueryString).isNotNull();
 		assertThat(postProcessedQueryString).isEqualTo(
-			"<TRACE> <HINT 'IdIdx', 'NameIdx'> IMPORT org.example.domain.Type; SELECT * FROM /Example LIMIT 10");
+			"<TRACE> IMPORT org.example.domain.Type; <HINT 'IdIdx', 'NameIdx'> SELECT * FROM /Example LIMIT 10");
 
 		verify(mockQueryMethod, times(1)).hasHint();
 		verify(mockQueryMethod, times(1)).getHints();
@@ -191,7 +320,7 @@ public class StringBasedGemfireRepositoryQueryUnitTests {
 		String postProcessedQueryString = repositoryQuery.getQueryPostProcessor().postProcess(mockQueryMethod, queryString.toString());
 
 		assertThat(postProcessedQueryString).isNotNull();
-		assertThat(postProcessedQueryString).isEqualTo("IMPORT org.example.domain.Type; <TRACE> SELECT * FROM /Example");
+		assertThat(postProcessedQueryString).isEqualTo("<TRACE> IMPORT org.example.domain.Type; SELECT * FROM /Example");
 
 		verify(mockQueryMethod, times(1)).hasHint();
 		verify(mockQueryMethod, never()).getHints();
@@ -201,4 +330,84 @@ public class StringBasedGemfireRepositoryQueryUnitTests {
 		verify(mockQueryMethod, never()).getLimit();
 		verify(mockQueryMethod, times(1)).hasTrace();
 	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void twoPhasePagedQueryExecutorFetchesValuesForRequestedPageOfCachedKeys() {
+
+		GemfireQueryMethod mockQueryMethod = mock(GemfireQueryMethod.class);
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
+		Parameters mockParameters = mock(Parameters.class);
+		Region mockRegion = mock(Region.class);
+		SelectResults mockKeysSelectResults = mock(SelectResults.class);
+
+		String query = "SELECT * FROM /simple x WHERE x.lastname = $1";
+		String keysQuery = "SELECT x.id FROM /simple x WHERE x.lastname = $1";
+
+		when(mockQueryMethod.getPersistentEntity())
+			.thenReturn((GemfirePersistentEntity) new GemfireMappingContext().getPersistentEntity(Person.class));
+		when(mockQueryMethod.getParameters()).thenReturn(mockParameters);
+		when(mockParameters.hasPageableParameter()).thenReturn(true);
+		when(mockParameters.getPageableIndex()).thenReturn(1);
+		when(mockRegion.getFullPath()).thenReturn("/simple");
+		when(mockTemplate.getRegion()).thenReturn(mockRegion);
+		when(mockKeysSelectResults.size()).thenReturn(5);
+		when(mockKeysSelectResults.asList()).thenReturn(Arrays.asList(1L, 2L, 3L, 4L, 5L));
+		when(mockTemplate.find(eq(keysQuery), any())).thenReturn(mockKeysSelectResults);
+		when(mockTemplate.getAll(eq(Arrays.asList(3L, 4L)))).thenReturn(Collections.singletonMap(4L, "four"));
+		when(mockTemplate.getAll(eq(Collections.singletonList(5L)))).thenReturn(Collections.singletonMap(5L, "five"));
+
+		StringBasedGemfireRepositoryQuery.TwoPhasePagedOqlQueryExecutor queryExecutor =
+			new StringBasedGemfireRepositoryQuery.TwoPhasePagedOqlQueryExecutor(mockTemplate);
+
+		SelectResults pageTwo = queryExecutor.doExecute(PageRequest.of(1, 2), mockQueryMethod, query,
+			"Doe", PageRequest.of(1, 2));
+
+		assertThat(pageTwo).isInstanceOf(TwoPhasePagedSelectResults.class);
+		assertThat(pageTwo.asList()).containsExactly("four");
+		assertThat(((TwoPhasePagedSelectResults) pageTwo).getTotalSize()).isEqualTo(5);
+
+		SelectResults pageThree = queryExecutor.doExecute(PageRequest.of(2, 2), mockQueryMethod, query,
+			"Doe", PageRequest.of(2, 2));
+
+		assertThat(pageThree.asList()).containsExactly("five");
+
+		verify(mockTemplate, times(1)).find(eq(keysQuery), any());
+	}
+
+	@Test(expected = UnsupportedQueryExecutionException.class)
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void twoPhasePagedQueryExecutorIsUnsupportedForProjectionQuery() {
+
+		GemfireQueryMethod mockQueryMethod = mock(GemfireQueryMethod.class);
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
+		Region mockRegion = mock(Region.class);
+
+		when(mockQueryMethod.getPersistentEntity())
+			.thenReturn((GemfirePersistentEntity) new GemfireMappingContext().getPersistentEntity(Person.class));
+		when(mockRegion.getFullPath()).thenReturn("/simple");
+		when(mockTemplate.getRegion()).thenReturn(mockRegion);
+
+		new StringBasedGemfireRepositoryQuery.TwoPhasePagedOqlQueryExecutor(mockTemplate)
+			.doExecute(PageRequest.of(1, 2), mockQueryMethod, "SELECT x.lastname FROM /simple x",
+				PageRequest.of(1, 2));
+	}
+
+	interface NameProjection {
+
+		String getFirstName();
+
+		String getLastName();
+	}
+
+	static class NameDto {
+
+		private final String firstName;
+		private final String lastName;
+
+		NameDto(String firstName, String lastName) {
+			this.firstName = firstName;
+			this.lastName = lastName;
+		}
+	}
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link ChunkedValuesIterator}.
+ *
+ * @author agent
+ * @see java.util.Iterator
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.repository.query.support.ChunkedValuesIterator
+ * @since 3.0.0
+ */
+public class ChunkedValuesIteratorUnitTests {
+
+	private final List<List<Integer>> chunks = new ArrayList<>();
+
+	private final Function<List<Integer>, Map<Integer, String>> getAllFunction = keys -> {
+
+		this.chunks.add(keys);
+
+		Map<Integer, String> keysToValues = new HashMap<>();
+
+		keys.stream()
+			.filter(key -> key % 5 != 0)
+			.forEach(key -> keysToValues.put(key, "value" + key));
+
+		return keysToValues;
+	};
+
+	@Test
+	public void streamFetchesValuesInKeyOrderIncrementallyInChunks() {
+
+		Iterator<String> values =
+			ChunkedValuesIterator.stream(Arrays.asList(4, 3, 2, 1, 6, 7, 8), 3, this.getAllFunction).iterator();
+
+		assertThat(values.next()).isEqualTo("value4");
+		assertThat(this.chunks).hasSize(1);
+		assertThat(this.chunks.get(0)).containsExactly(4, 3, 2);
+
+		List<String> remainingValues = new ArrayList<>();
+
+		values.forEachRemaining(remainingValues::add);
+
+		assertThat(remainingValues).containsExactly("value3", "value2", "value1", "value6", "value7", "value8");
+		assertThat(this.chunks).hasSize(3);
+		assertThat(this.chunks.get(1)).containsExactly(1, 6, 7);
+		assertThat(this.chunks.get(2)).containsExactly(8);
+	}
+
+	@Test
+	public void streamSkipsKeysWithoutValues() {
+
+		List<String> values = ChunkedValuesIterator.stream(Arrays.asList(5, 1, 10, 15, 2), 2, this.getAllFunction)
+			.collect(Collectors.toList());
+
+		assertThat(values).containsExactly("value1", "value2");
+		assertThat(this.chunks).hasSize(3);
+	}
+
+	@Test
+	public void streamWithNoKeysDoesNotFetchValues() {
+
+		assertThat(ChunkedValuesIterator.stream(Collections.<Integer>emptyList(), 10, this.getAllFunction))
+			.isEmpty();
+
+		assertThat(this.chunks).isEmpty();
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void nextWhenExhaustedThrowsNoSuchElementException() {
+
+		Iterator<String> values =
+			new ChunkedValuesIterator<>(Collections.singletonList(1), 10, this.getAllFunction);
+
+		assertThat(values.next()).isEqualTo("value1");
+		assertThat(values.hasNext()).isFalse();
+
+		values.next();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithInvalidChunkSizeThrowsIllegalArgumentException() {
+		new ChunkedValuesIterator<>(Collections.singletonList(1), 0, this.getAllFunction);
+	}
+}
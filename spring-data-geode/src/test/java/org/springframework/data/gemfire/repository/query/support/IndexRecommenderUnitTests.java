@@ -0,0 +1,260 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.RegionService;
+import org.apache.geode.cache.query.Index;
+import org.apache.geode.cache.query.QueryService;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.gemfire.IndexType;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.annotation.Indexed;
+import org.springframework.data.gemfire.query.QueryExecution;
+import org.springframework.data.gemfire.repository.query.GemfireQueryMethod;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.util.ClassTypeInformation;
+
+/**
+ * Unit Tests for {@link IndexRecommender}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.repository.query.support.IndexRecommender
+ * @since 3.0.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class IndexRecommenderUnitTests {
+
+	private final GemfireMappingContext mappingContext = new GemfireMappingContext();
+
+	private final IndexRecommender indexRecommender = new IndexRecommender();
+
+	@Mock
+	private QueryService mockQueryService;
+
+	@Mock
+	private Region<Object, Object> mockRegion;
+
+	@Mock
+	private RegionAttributes<Object, Object> mockRegionAttributes;
+
+	@Mock
+	private RegionService mockRegionService;
+
+	@Mock
+	private RepositoryMetadata mockRepositoryMetadata;
+
+	@Before
+	public void setup() {
+
+		doReturn(Customer.class).when(this.mockRepositoryMetadata).getDomainType();
+		doReturn(Customer.class).when(this.mockRepositoryMetadata).getReturnedDomainClass(any(Method.class));
+		doReturn(ClassTypeInformation.from(Object.class)).when(this.mockRepositoryMetadata)
+			.getReturnType(any(Method.class));
+
+		doReturn("/Customers").when(this.mockRegion).getFullPath();
+		doReturn(this.mockRegionService).when(this.mockRegion).getRegionService();
+	}
+
+	private void stubRegionService() {
+
+		doReturn(this.mockRegionAttributes).when(this.mockRegion).getAttributes();
+		doReturn(this.mockRegion).when(this.mockRegionService).getRegion("/Customers");
+		doReturn(this.mockQueryService).when(this.mockRegionService).getQueryService();
+	}
+
+	private GemfireQueryMethod newQueryMethod(String methodName) throws NoSuchMethodException {
+
+		Method method = CustomerRepository.class.getMethod(methodName, Object.class, Object.class);
+
+		return new GemfireQueryMethod(method, this.mockRepositoryMetadata, new SpelAwareProxyProjectionFactory(),
+			this.mappingContext);
+	}
+
+	private QueryExecution newQueryExecution(String origin) {
+		return new QueryExecution("SELECT * FROM /Customers", origin, Duration.ZERO, 0, Collections.emptyList());
+	}
+
+	@Test
+	public void recommendsIndexesForDerivedQueryPredicates() throws Exception {
+
+		this.indexRecommender.analyze(newQueryMethod("findByLastnameAndAgeGreaterThan"), this.mockRegion, null);
+
+		List<IndexRecommendation> recommendations = this.indexRecommender.getRecommendations();
+
+		assertThat(recommendations).extracting(IndexRecommendation::getName)
+			.containsExactly("CustomersAgeFunctionalIdx", "CustomersLastnameFunctionalIdx");
+
+		assertThat(recommendations).allSatisfy(recommendation -> {
+			assertThat(recommendation.getFrom()).isEqualTo("/Customers");
+			assertThat(recommendation.getType()).isEqualTo(IndexType.FUNCTIONAL);
+			assertThat(recommendation.getOrigins()).containsExactly("CustomerRepository.findByLastnameAndAgeGreaterThan");
+		});
+	}
+
+	@Test
+	public void doesNotRecommendIndexesForIdentifierIndexedCaseInsensitiveOrNonIndexablePredicates() throws Exception {
+
+		this.indexRecommender.analyze(newQueryMethod("findByIdAndName"), this.mockRegion, null);
+		this.indexRecommender.analyze(newQueryMethod("findByLastnameNotAndAgeIsNotNull"), this.mockRegion, null);
+		this.indexRecommender.analyze(newQueryMethod("findByLastnameIgnoreCase"), this.mockRegion, null);
+
+		assertThat(this.indexRecommender.getRecommendations()).isEmpty();
+	}
+
+	@Test
+	public void recommendsIndexesForUserDefinedQueryPredicates() throws Exception {
+
+		this.indexRecommender.analyze(newQueryMethod("findByLastnameAndAgeGreaterThan"), this.mockRegion,
+			"SELECT DISTINCT c FROM /Customers c WHERE c.address.city = $1 AND c.status <> $2 AND c.name LIKE $1"
+				+ " ORDER BY c.lastname");
+
+		assertThat(this.indexRecommender.getRecommendations())
+			.extracting(IndexRecommendation::getExpression)
+			.containsExactly("address.city");
+
+		assertThat(this.indexRecommender.getRecommendations().get(0).getName())
+			.isEqualTo("CustomersAddressCityFunctionalIdx");
+	}
+
+	@Test
+	public void ranksRecommendationsByObservedExecutions() throws Exception {
+
+		this.indexRecommender.analyze(newQueryMethod("findByLastnameAndAgeGreaterThan"), this.mockRegion, null);
+		this.indexRecommender.analyze(newQueryMethod("findByStatusAndLastname"), this.mockRegion, null);
+		this.indexRecommender.onQueryExecution(newQueryExecution("CustomerRepository.findByStatusAndLastname"));
+		this.indexRecommender.onQueryExecution(newQueryExecution("CustomerRepository.findByStatusAndLastname"));
+		this.indexRecommender.onQueryExecution(newQueryExecution("CustomerRepository.findByLastnameAndAgeGreaterThan"));
+		this.indexRecommender.onQueryExecution(newQueryExecution(null));
+
+		List<IndexRecommendation> recommendations = this.indexRecommender.getRecommendations();
+
+		assertThat(recommendations).extracting(IndexRecommendation::getName).containsExactly(
+			"CustomersLastnameFunctionalIdx", "CustomersStatusFunctionalIdx", "CustomersAgeFunctionalIdx");
+
+		assertThat(recommendations).extracting(IndexRecommendation::getExecutions).containsExactly(3L, 2L, 1L);
+	}
+
+	@Test
+	public void definesRecommendedIndexesNotAlreadyPresent() throws Exception {
+
+		stubRegionService();
+
+		Index mockIndex = mock(Index.class);
+
+		doReturn("/Customers").when(mockIndex).getFromClause();
+		doReturn("age").when(mockIndex).getIndexedExpression();
+		doReturn("CustomersAgeIdx").when(mockIndex).getName();
+		doReturn(Collections.singletonList(mockIndex)).when(this.mockQueryService).getIndexes();
+
+		this.indexRecommender.analyze(newQueryMethod("findByLastnameAndAgeGreaterThan"), this.mockRegion, null);
+
+		Collection<IndexRecommendation> definedRecommendations = this.indexRecommender.defineIndexes();
+
+		assertThat(definedRecommendations).extracting(IndexRecommendation::getName)
+			.containsExactly("CustomersLastnameFunctionalIdx");
+
+		verify(this.mockQueryService).defineIndex("CustomersLastnameFunctionalIdx", "lastname", "/Customers");
+		verify(this.mockQueryService, never()).defineIndex("CustomersAgeFunctionalIdx", "age", "/Customers");
+		verify(this.mockQueryService).createDefinedIndexes();
+	}
+
+	@Test
+	public void doesNotDefineIndexesForClientRegions() throws Exception {
+
+		stubRegionService();
+
+		doReturn("DEFAULT").when(this.mockRegionAttributes).getPoolName();
+
+		this.indexRecommender.analyze(newQueryMethod("findByLastnameAndAgeGreaterThan"), this.mockRegion, null);
+
+		assertThat(this.indexRecommender.defineIndexes()).isEmpty();
+
+		verify(this.mockQueryService, never()).createDefinedIndexes();
+	}
+
+	@Test
+	public void doesNotDefineIndexesByDefault() throws Exception {
+
+		this.indexRecommender.analyze(newQueryMethod("findByLastnameAndAgeGreaterThan"), this.mockRegion, null);
+		this.indexRecommender.onApplicationEvent(new ContextRefreshedEvent(mock(ApplicationContext.class)));
+
+		verify(this.mockQueryService, never()).createDefinedIndexes();
+	}
+
+	@org.springframework.data.gemfire.mapping.annotation.Region("Customers")
+	static class Customer {
+
+		@Id
+		Long id;
+
+		Integer age;
+
+		@Indexed
+		String name;
+
+		Address address;
+
+		String lastname;
+		String status;
+
+	}
+
+	static class Address {
+		String city;
+	}
+
+	interface CustomerRepository extends Repository<Customer, Long> {
+
+		List<Customer> findByIdAndName(Object id, Object name);
+
+		List<Customer> findByLastnameAndAgeGreaterThan(Object lastname, Object age);
+
+		List<Customer> findByLastnameIgnoreCase(Object lastname);
+
+		List<Customer> findByLastnameNotAndAgeIsNotNull(Object lastname, Object age);
+
+		List<Customer> findByStatusAndLastname(Object status, Object lastname);
+
+	}
+}
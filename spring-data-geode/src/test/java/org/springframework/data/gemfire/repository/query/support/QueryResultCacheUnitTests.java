@@ -0,0 +1,262 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link QueryResultCache}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.repository.query.support.QueryResultCache
+ * @since 3.0.0
+ */
+public class QueryResultCacheUnitTests {
+
+	private final AtomicInteger executionCount = new AtomicInteger(0);
+
+	private final Function<Object[], Object> query = arguments -> {
+		this.executionCount.incrementAndGet();
+		return new ArrayList<>(Arrays.asList(arguments));
+	};
+
+	@Test
+	public void servesRepeatedQueriesFromCache() {
+
+		QueryResultCache cache = new QueryResultCache(10, 0L);
+
+		Object result = cache.get(new Object[] { "Jon", 42 }, this.query);
+
+		assertThat(result).isEqualTo(Arrays.asList("Jon", 42));
+		assertThat(cache.get(new Object[] { "Jon", 42 }, this.query)).isEqualTo(result).isNotSameAs(result);
+		assertThat(cache.get(new Object[] { "Jane", 42 }, this.query)).isEqualTo(Arrays.asList("Jane", 42));
+		assertThat(this.executionCount.get()).isEqualTo(2);
+		assertThat(cache.getHitCount()).isOne();
+		assertThat(cache.getMissCount()).isEqualTo(2L);
+		assertThat(cache.size()).isEqualTo(2);
+	}
+
+	@Test
+	public void keysArrayArgumentsByValue() {
+
+		QueryResultCache cache = new QueryResultCache(10, 0L);
+
+		cache.get(new Object[] { new String[] { "Jon", "Jane" } }, this.query);
+		cache.get(new Object[] { new String[] { "Jon", "Jane" } }, this.query);
+
+		assertThat(this.executionCount.get()).isOne();
+	}
+
+	@Test
+	public void cachesNullResults() {
+
+		AtomicInteger nullQueryExecutionCount = new AtomicInteger(0);
+
+		QueryResultCache cache = new QueryResultCache(10, 0L);
+
+		Function<Object[], Object> nullQuery = arguments -> {
+			nullQueryExecutionCount.incrementAndGet();
+			return null;
+		};
+
+		assertThat(cache.get(new Object[] { 1 }, nullQuery)).isNull();
+		assertThat(cache.get(new Object[] { 1 }, nullQuery)).isNull();
+		assertThat(nullQueryExecutionCount.get()).isOne();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void returnsUnmodifiableCollections() {
+
+		QueryResultCache cache = new QueryResultCache(10, 0L);
+
+		List<Object> result = (List<Object>) cache.get(new Object[] { 1 }, this.query);
+
+		assertThat(result).containsExactly(1);
+
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> result.add(2));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void returnsCopiesOfCachedResults() {
+
+		List<Object> queryResult = new ArrayList<>(Arrays.asList(new Person("Jon"), new Person("Jane")));
+
+		QueryResultCache cache = new QueryResultCache(10, 0L);
+
+		List<Object> result = (List<Object>) cache.get(new Object[] { 1 }, arguments -> queryResult);
+
+		((Person) result.get(0)).name = "Pie";
+		queryResult.clear();
+
+		List<Object> cachedResult = (List<Object>) cache.get(new Object[] { 1 }, arguments -> queryResult);
+
+		assertThat(cachedResult).extracting("name").containsExactly("Jon", "Jane");
+
+		((Person) cachedResult.get(1)).name = "Cookie";
+
+		assertThat((List<Object>) cache.get(new Object[] { 1 }, arguments -> queryResult))
+			.extracting("name").containsExactly("Jon", "Jane");
+
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> cachedResult.add(2));
+	}
+
+	@Test
+	public void returnsCopyOfCachedEntity() {
+
+		Person jon = new Person("Jon");
+
+		QueryResultCache cache = new QueryResultCache(10, 0L);
+
+		assertThat(cache.get(new Object[] { 1 }, arguments -> jon)).isSameAs(jon);
+
+		jon.name = "Pie";
+
+		Object cachedResult = cache.get(new Object[] { 1 }, arguments -> jon);
+
+		assertThat(cachedResult).isNotSameAs(jon).isInstanceOf(Person.class);
+		assertThat(((Person) cachedResult).name).isEqualTo("Jon");
+	}
+
+	@Test
+	public void doesNotCacheStreams() {
+
+		QueryResultCache cache = new QueryResultCache(10, 0L);
+
+		Function<Object[], Object> streamQuery = arguments -> {
+			this.executionCount.incrementAndGet();
+			return Stream.of(arguments);
+		};
+
+		cache.get(new Object[] { 1 }, streamQuery);
+		cache.get(new Object[] { 1 }, streamQuery);
+
+		assertThat(this.executionCount.get()).isEqualTo(2);
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	public void invalidateRemovesAllCachedResults() {
+
+		QueryResultCache cache = new QueryResultCache(10, 0L);
+
+		cache.get(new Object[] { 1 }, this.query);
+		cache.get(new Object[] { 2 }, this.query);
+		cache.invalidate();
+
+		assertThat(cache.size()).isZero();
+
+		cache.get(new Object[] { 1 }, this.query);
+
+		assertThat(this.executionCount.get()).isEqualTo(3);
+	}
+
+	@Test
+	public void doesNotCacheResultsComputedConcurrentlyWithInvalidation() {
+
+		QueryResultCache cache = new QueryResultCache(10, 0L);
+
+		Function<Object[], Object> invalidatingQuery = arguments -> {
+			this.executionCount.incrementAndGet();
+			cache.invalidate();
+			return "stale";
+		};
+
+		assertThat(cache.get(new Object[] { 1 }, invalidatingQuery)).isEqualTo("stale");
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	public void expiresCachedResultsAfterTimeToLive() {
+
+		AtomicLong clock = new AtomicLong(1000L);
+
+		QueryResultCache cache = new QueryResultCache(10, 500L, clock::get);
+
+		cache.get(new Object[] { 1 }, this.query);
+		clock.addAndGet(499L);
+		cache.get(new Object[] { 1 }, this.query);
+
+		assertThat(this.executionCount.get()).isOne();
+
+		clock.addAndGet(1L);
+		cache.get(new Object[] { 1 }, this.query);
+
+		assertThat(this.executionCount.get()).isEqualTo(2);
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsedResults() {
+
+		QueryResultCache cache = new QueryResultCache(2, 0L);
+
+		cache.get(new Object[] { 1 }, this.query);
+		cache.get(new Object[] { 2 }, this.query);
+		cache.get(new Object[] { 1 }, this.query);
+		cache.get(new Object[] { 3 }, this.query);
+
+		assertThat(cache.size()).isEqualTo(2);
+
+		cache.get(new Object[] { 1 }, this.query);
+
+		assertThat(this.executionCount.get()).isEqualTo(3);
+
+		cache.get(new Object[] { 2 }, this.query);
+
+		assertThat(this.executionCount.get()).isEqualTo(4);
+	}
+
+	@Test
+	public void zeroMaximumSizeDisablesCaching() {
+
+		QueryResultCache cache = new QueryResultCache(0, 0L);
+
+		assertThat(cache.isEnabled()).isFalse();
+
+		cache.get(new Object[] { 1 }, this.query);
+		cache.get(new Object[] { 1 }, this.query);
+
+		assertThat(this.executionCount.get()).isEqualTo(2);
+		assertThat(cache.size()).isZero();
+	}
+
+	public static class Person implements Cloneable {
+
+		public String name;
+
+		Person(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public Person clone() {
+			return new Person(this.name);
+		}
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link WindowedKeysIterator}.
+ *
+ * @author agent
+ * @see java.util.Iterator
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.repository.query.support.WindowedKeysIterator
+ * @since 3.0.0
+ */
+public class WindowedKeysIteratorUnitTests {
+
+	private final List<Integer> lastKeys = new ArrayList<>();
+
+	// Returns up to 3 keys (the window size of 2 plus 1) following the last key from the keys 1 through 5
+	private final Function<Integer, List<Integer>> windowFunction = lastKey -> {
+
+		this.lastKeys.add(lastKey);
+
+		int start = lastKey != null ? lastKey + 1 : 1;
+
+		return IntStream.rangeClosed(start, 5).limit(3).boxed().collect(Collectors.toList());
+	};
+
+	@Test
+	public void iterableFetchesKeysIncrementallyInWindows() {
+
+		Iterator<Integer> keys = WindowedKeysIterator.iterable(2, this.windowFunction).iterator();
+
+		assertThat(keys.next()).isEqualTo(1);
+		assertThat(this.lastKeys).containsExactly((Integer) null);
+		assertThat(keys.next()).isEqualTo(2);
+		assertThat(this.lastKeys).hasSize(1);
+
+		List<Integer> remainingKeys = new ArrayList<>();
+
+		keys.forEachRemaining(remainingKeys::add);
+
+		assertThat(remainingKeys).containsExactly(3, 4, 5);
+		assertThat(this.lastKeys).containsExactly(null, 2, 4);
+	}
+
+	@Test
+	public void iteratorWithNoKeysFetchesSingleWindow() {
+
+		Iterator<Integer> keys = new WindowedKeysIterator<>(2, lastKey -> {
+			this.lastKeys.add(lastKey);
+			return Collections.emptyList();
+		});
+
+		assertThat(keys.hasNext()).isFalse();
+		assertThat(keys.hasNext()).isFalse();
+		assertThat(this.lastKeys).hasSize(1);
+
+		assertThatExceptionOfType(NoSuchElementException.class)
+			.isThrownBy(keys::next)
+			.withMessage("No more keys");
+	}
+
+	@Test
+	public void iterableWithInvalidWindowSizeThrowsIllegalArgumentException() {
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+			.isThrownBy(() -> WindowedKeysIterator.iterable(0, this.windowFunction))
+			.withMessage("Window size [0] must be greater than 0");
+	}
+}
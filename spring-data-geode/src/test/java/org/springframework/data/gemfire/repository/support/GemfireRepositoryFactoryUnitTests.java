@@ -16,9 +16,15 @@
 package org.springframework.data.gemfire.repository.support;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -29,21 +35,31 @@ import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newU
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.CacheListener;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.InterestResultPolicy;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.client.Pool;
 
 import org.springframework.aop.framework.Advised;
 import org.springframework.data.gemfire.GemfireTemplate;
 import org.springframework.data.gemfire.mapping.GemfireMappingContext;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.gemfire.repository.GemfireRepository;
+import org.springframework.data.gemfire.repository.query.GemfireQueryMethod;
+import org.springframework.data.gemfire.repository.query.GemfireRepositoryQuery;
+import org.springframework.data.gemfire.repository.query.support.QueryResultCache;
 import org.springframework.data.gemfire.repository.sample.Person;
 import org.springframework.data.gemfire.util.RegionUtils;
 import org.springframework.data.repository.PagingAndSortingRepository;
@@ -469,6 +485,127 @@ public class GemfireRepositoryFactoryUnitTests {
 		}
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void configureQueryResultCacheRegistersKeysOnlyInterestAndCacheListenerOncePerClientRegion() {
+
+		AttributesMutator mockAttributesMutator = mock(AttributesMutator.class);
+
+		GemfireQueryMethod mockQueryMethod = mock(GemfireQueryMethod.class);
+
+		GemfireRepositoryQuery mockRepositoryQuery = mock(GemfireRepositoryQuery.class);
+
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
+
+		Pool mockPool = mock(Pool.class);
+
+		when(mockPool.getSubscriptionEnabled()).thenReturn(true);
+		when(mockQueryMethod.hasCachedQuery()).thenReturn(true);
+		when(mockQueryMethod.getCachedQueryMaximumSize()).thenReturn(100);
+		when(mockTemplate.getRegion()).thenReturn(this.mockRegion);
+		when(this.mockRegion.getAttributesMutator()).thenReturn(mockAttributesMutator);
+		when(this.mockRegionAttributes.getPoolName()).thenReturn("TestPool");
+
+		GemfireRepositoryFactory repositoryFactory =
+			spy(new GemfireRepositoryFactory(Collections.singletonList(this.mockRegion), this.mappingContext));
+
+		doReturn(Optional.of(mockPool)).when(repositoryFactory).resolvePool(eq("TestPool"));
+
+		assertThat(repositoryFactory.configureQueryResultCache(mockQueryMethod, mockTemplate, mockRepositoryQuery))
+			.isSameAs(mockRepositoryQuery);
+
+		assertThat(repositoryFactory.configureQueryResultCache(mockQueryMethod, mockTemplate, mockRepositoryQuery))
+			.isSameAs(mockRepositoryQuery);
+
+		ArgumentCaptor<CacheListener> cacheListener = ArgumentCaptor.forClass(CacheListener.class);
+
+		ArgumentCaptor<QueryResultCache> queryResultCaches = ArgumentCaptor.forClass(QueryResultCache.class);
+
+		verify(mockAttributesMutator, times(1)).addCacheListener(cacheListener.capture());
+		verify(this.mockRegion, times(1)).registerInterestForAllKeys(eq(InterestResultPolicy.NONE), eq(false), eq(false));
+		verify(mockRepositoryQuery, times(2)).usingQueryResultCache(queryResultCaches.capture());
+
+		queryResultCaches.getAllValues().forEach(queryResultCache ->
+			queryResultCache.get(new Object[] { 1 }, arguments -> "test"));
+
+		assertThat(queryResultCaches.getAllValues()).extracting(QueryResultCache::size).containsExactly(1, 1);
+
+		cacheListener.getValue().afterInvalidate(mock(EntryEvent.class));
+
+		assertThat(queryResultCaches.getAllValues()).extracting(QueryResultCache::size).containsExactly(0, 0);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void configureQueryResultCacheRegistersOnlyCacheListenerForPeerRegion() {
+
+		AttributesMutator mockAttributesMutator = mock(AttributesMutator.class);
+
+		GemfireQueryMethod mockQueryMethod = mock(GemfireQueryMethod.class);
+
+		GemfireRepositoryQuery mockRepositoryQuery = mock(GemfireRepositoryQuery.class);
+
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
+
+		when(mockQueryMethod.hasCachedQuery()).thenReturn(true);
+		when(mockTemplate.getRegion()).thenReturn(this.mockRegion);
+		when(this.mockRegion.getAttributesMutator()).thenReturn(mockAttributesMutator);
+
+		GemfireRepositoryFactory repositoryFactory =
+			new GemfireRepositoryFactory(Collections.singletonList(this.mockRegion), this.mappingContext);
+
+		assertThat(repositoryFactory.configureQueryResultCache(mockQueryMethod, mockTemplate, mockRepositoryQuery))
+			.isSameAs(mockRepositoryQuery);
+
+		verify(mockAttributesMutator, times(1))
+			.addCacheListener(isA(GemfireRepositoryFactory.QueryResultCacheInvalidatingCacheListener.class));
+		verify(this.mockRegion, never()).registerInterestForAllKeys(any(), anyBoolean(), anyBoolean());
+		verify(mockRepositoryQuery, times(1)).usingQueryResultCache(isA(QueryResultCache.class));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void configureQueryResultCacheForClientRegionWithoutSubscriptionOrTimeToLiveThrowsIllegalStateException() {
+
+		GemfireQueryMethod mockQueryMethod = mock(GemfireQueryMethod.class);
+
+		GemfireRepositoryQuery mockRepositoryQuery = mock(GemfireRepositoryQuery.class);
+
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
+
+		when(mockQueryMethod.hasCachedQuery()).thenReturn(true);
+		when(mockTemplate.getRegion()).thenReturn(this.mockRegion);
+		when(this.mockRegionAttributes.getPoolName()).thenReturn("TestPool");
+
+		GemfireRepositoryFactory repositoryFactory =
+			spy(new GemfireRepositoryFactory(Collections.singletonList(this.mockRegion), this.mappingContext));
+
+		doReturn(Optional.empty()).when(repositoryFactory).resolvePool(eq("TestPool"));
+
+		try {
+			repositoryFactory.configureQueryResultCache(mockQueryMethod, mockTemplate, mockRepositoryQuery);
+		}
+		finally {
+			verify(this.mockRegion, never()).getAttributesMutator();
+			verify(mockRepositoryQuery, never()).usingQueryResultCache(any());
+		}
+	}
+
+	@Test
+	public void configureQueryResultCacheForNonCachedQueryIsNoOp() {
+
+		GemfireQueryMethod mockQueryMethod = mock(GemfireQueryMethod.class);
+
+		GemfireRepositoryQuery mockRepositoryQuery = mock(GemfireRepositoryQuery.class);
+
+		GemfireRepositoryFactory repositoryFactory =
+			new GemfireRepositoryFactory(Collections.singletonList(this.mockRegion), this.mappingContext);
+
+		assertThat(repositoryFactory.configureQueryResultCache(mockQueryMethod, mock(GemfireTemplate.class),
+			mockRepositoryQuery)).isSameAs(mockRepositoryQuery);
+
+		verifyNoInteractions(mockRepositoryQuery);
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void acceptsInterfacesExtendingPagingAndSortingRepository() {
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.data.gemfire.repository.GemfireRepository;
+import org.springframework.data.gemfire.repository.sample.Person;
+
+/**
+ * Unit Tests for {@link SimpleAsyncGemfireRepository}.
+ *
+ * @author agent
+ * @see java.util.concurrent.CompletableFuture
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.repository.support.SimpleAsyncGemfireRepository
+ * @since 3.0.0
+ */
+@SuppressWarnings("unchecked")
+public class SimpleAsyncGemfireRepositoryUnitTests {
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+	private final GemfireRepository<Person, Long> mockRepository = mock(GemfireRepository.class);
+
+	private final SimpleAsyncGemfireRepository<Person, Long> asyncRepository =
+		new SimpleAsyncGemfireRepository<>(this.mockRepository, this.executor);
+
+	@After
+	public void tearDown() throws InterruptedException {
+		this.executor.shutdownNow();
+		this.executor.awaitTermination(5, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void findByIdCompletesWithEntity() {
+
+		Person jonDoe = new Person(1L, "Jon", "Doe");
+
+		doReturn(Optional.of(jonDoe)).when(this.mockRepository).findById(eq(1L));
+
+		assertThat(this.asyncRepository.findById(1L).join()).contains(jonDoe);
+
+		verify(this.mockRepository).findById(eq(1L));
+	}
+
+	@Test
+	public void saveAllCompletesWithListOfSavedEntities() {
+
+		List<Person> people = Arrays.asList(new Person(1L, "Jon", "Doe"), new Person(2L, "Jane", "Doe"));
+
+		doReturn(new LinkedHashSet<>(people)).when(this.mockRepository).saveAll(eq(people));
+
+		assertThat(this.asyncRepository.saveAll(people).join()).containsExactlyElementsOf(people);
+	}
+
+	@Test
+	public void countAndDeleteAllComplete() {
+
+		doReturn(2L).when(this.mockRepository).count();
+
+		assertThat(this.asyncRepository.count().join()).isEqualTo(2L);
+
+		this.asyncRepository.deleteAll().join();
+
+		verify(this.mockRepository).count();
+		verify(this.mockRepository).deleteAll();
+	}
+
+	@Test
+	public void queryExecutesOnExecutor() {
+
+		Thread callingThread = Thread.currentThread();
+
+		assertThat(this.asyncRepository.query(Thread::currentThread).join()).isNotSameAs(callingThread);
+		assertThat(this.asyncRepository.query(Collections::emptyList).join()).isEmpty();
+	}
+
+	@Test
+	public void operationInTransactionFailsFast() {
+
+		SimpleGemfireRepository<Person, Long> mockSimpleRepository = mock(SimpleGemfireRepository.class);
+
+		doReturn(true).when(mockSimpleRepository).isTransactionPresent(nullable(Region.class));
+
+		SimpleAsyncGemfireRepository<Person, Long> asyncRepository =
+			new SimpleAsyncGemfireRepository<>(mockSimpleRepository, this.executor);
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> asyncRepository.deleteById(1L))
+			.withMessage("Asynchronous operations cannot participate in the cache transaction of the calling Thread");
+
+		verify(mockSimpleRepository, never()).deleteById(any());
+	}
+}
@@ -16,10 +16,12 @@
 package org.springframework.data.gemfire.repository.support;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -40,15 +42,21 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
@@ -63,8 +71,10 @@ import org.apache.geode.cache.query.SelectResults;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.repository.KeysetPageRequest;
 import org.springframework.data.gemfire.repository.Wrapper;
 import org.springframework.data.gemfire.repository.sample.Animal;
 import org.springframework.data.gemfire.repository.sample.Identifiable;
@@ -195,6 +205,15 @@ public class SimpleGemfireRepositoryUnitTests {
 		return mockRegion;
 	}
 
+	private Region mockClientRegion(String name) {
+
+		Region mockRegion = mockRegion(name, mock(Cache.class), DataPolicy.EMPTY);
+
+		doReturn("DEFAULT").when(mockRegion.getAttributes()).getPoolName();
+
+		return mockRegion;
+	}
+
 	private Region mockRegion(String name, Cache mockCache, DataPolicy dataPolicy) {
 
 		Region mockRegion = mockRegion(name);
@@ -404,6 +423,236 @@ public class SimpleGemfireRepositoryUnitTests {
 		verifyNoInteractions(mockRegion);
 	}
 
+	private List<Animal> newAnimals(int count) {
+
+		List<Animal> animals = new ArrayList<>(count);
+
+		for (long id = 1; id <= count; id++) {
+			animals.add(newAnimal(id, "animal" + id));
+		}
+
+		return animals;
+	}
+
+	@Test
+	public void saveAllEntitiesInChunks() {
+
+		List<Animal> animals = newAnimals(5);
+
+		Region<Long, Animal> mockRegion = mockRegion();
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			spy(new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation()));
+
+		doReturn(2).when(repository).getBatchChunkSize();
+
+		Iterable<Animal> savedAnimals = repository.saveAll(animals);
+
+		assertThat(savedAnimals).containsExactlyInAnyOrderElementsOf(animals);
+
+		ArgumentCaptor<Map> chunks = ArgumentCaptor.forClass(Map.class);
+
+		verify(mockRegion, times(3)).putAll(chunks.capture());
+
+		assertThat(chunks.getAllValues()).extracting(Map::size).containsExactly(2, 2, 1);
+
+		Map<Object, Object> allSavedAnimals = new HashMap<>();
+
+		chunks.getAllValues().forEach(allSavedAnimals::putAll);
+
+		assertThat(allSavedAnimals).isEqualTo(asMap(animals));
+	}
+
+	@Test
+	public void saveAllEntitiesSavesChunksWhileIterating() {
+
+		List<Animal> animals = newAnimals(5);
+
+		Region<Long, Animal> mockRegion = mockRegion();
+
+		AtomicInteger putAllCount = new AtomicInteger(0);
+
+		doAnswer(invocation -> putAllCount.incrementAndGet()).when(mockRegion).putAll(any(Map.class));
+
+		List<Integer> putAllCountsWhileIterating = new ArrayList<>();
+
+		Iterable<Animal> iterable = () -> animals.stream()
+			.map(animal -> {
+				putAllCountsWhileIterating.add(putAllCount.get());
+				return animal;
+			})
+			.iterator();
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			spy(new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation()));
+
+		doReturn(2).when(repository).getBatchChunkSize();
+
+		assertThat(repository.saveAll(iterable)).containsExactlyElementsOf(animals);
+		assertThat(putAllCountsWhileIterating).containsExactly(0, 0, 1, 1, 2);
+		assertThat(putAllCount.get()).isEqualTo(3);
+	}
+
+	@Test
+	public void saveAllEntitiesInParallelChunks() {
+
+		List<Animal> animals = newAnimals(7);
+
+		Region<Long, Animal> mockRegion = mockRegion();
+
+		Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+		doAnswer(invocation -> threadNames.add(Thread.currentThread().getName()))
+			.when(mockRegion).putAll(any(Map.class));
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+
+		ExecutorService batchExecutor = Executors.newFixedThreadPool(3);
+
+		try {
+
+			repository.setBatchChunkSize(2);
+			repository.setBatchExecutor(batchExecutor);
+			repository.setBatchParallelism(3);
+
+			Iterable<Animal> savedAnimals = repository.saveAll(animals);
+
+			assertThat(savedAnimals).containsExactlyInAnyOrderElementsOf(animals);
+			assertThat(threadNames).isNotEmpty().doesNotContain(Thread.currentThread().getName());
+
+			verify(mockRegion, times(4)).putAll(any(Map.class));
+		}
+		finally {
+			batchExecutor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void saveAllEntitiesInSequentialChunksWhenNoBatchExecutorIsConfigured() {
+
+		List<Animal> animals = newAnimals(5);
+
+		Region<Long, Animal> mockRegion = mockRegion();
+
+		Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+		doAnswer(invocation -> threadNames.add(Thread.currentThread().getName()))
+			.when(mockRegion).putAll(any(Map.class));
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+
+		repository.setBatchChunkSize(2);
+		repository.setBatchParallelism(3);
+
+		assertThat(repository.saveAll(animals)).containsExactlyInAnyOrderElementsOf(animals);
+		assertThat(threadNames).containsExactly(Thread.currentThread().getName());
+
+		verify(mockRegion, times(3)).putAll(any(Map.class));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setBatchChunkSizeToZeroThrowsIllegalArgumentException() {
+
+		try {
+			new SimpleGemfireRepository<>(mock(GemfireTemplate.class), mockEntityInformation()).setBatchChunkSize(0);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Batch chunk size [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setBatchParallelismToZeroThrowsIllegalArgumentException() {
+
+		try {
+			new SimpleGemfireRepository<>(mock(GemfireTemplate.class), mockEntityInformation()).setBatchParallelism(0);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Batch parallelism [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void saveAllEntitiesReportsFailedChunks() {
+
+		List<Animal> animals = newAnimals(5);
+
+		Region<Long, Animal> mockRegion = mockRegion();
+
+		RuntimeException expectedCause = new RuntimeException("TEST");
+
+		doAnswer(invocation -> {
+			if (invocation.<Map<?, ?>>getArgument(0).containsKey(3L)) {
+				throw expectedCause;
+			}
+			return null;
+		}).when(mockRegion).putAll(any(Map.class));
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			spy(new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation()));
+
+		doReturn(2).when(repository).getBatchChunkSize();
+
+		try {
+			repository.saveAll(animals);
+			fail("Expected ChunkedOperationException");
+		}
+		catch (ChunkedOperationException expected) {
+
+			assertThat(expected).hasMessage("[1] of [3] chunks failed");
+			assertThat(expected).hasCause(expectedCause);
+			assertThat(expected.getChunkCount()).isEqualTo(3);
+			assertThat(expected.getFailures()).hasSize(1);
+			assertThat(expected.getFailures().get(0).getKeys()).contains(3L);
+			assertThat(expected.getFailures().get(0).getCause()).isSameAs(expectedCause);
+		}
+
+		verify(mockRegion, times(3)).putAll(any(Map.class));
+	}
+
+	@Test
+	public void findAllByIdInChunks() {
+
+		List<Animal> animals = newAnimals(5);
+
+		Map<Long, Animal> animalMap = asMap(animals);
+
+		Region<Long, Animal> mockRegion = mockRegion();
+
+		doAnswer(invocation -> {
+
+			Map<Long, Animal> result = new HashMap<>();
+
+			invocation.<Collection<Long>>getArgument(0).forEach(id -> result.put(id, animalMap.get(id)));
+
+			return result;
+
+		}).when(mockRegion).getAll(any(Collection.class));
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			spy(new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation()));
+
+		doReturn(2).when(repository).getBatchChunkSize();
+
+		Iterable<Animal> animalsFound = repository.findAllById(Arrays.asList(1L, 2L, 3L, 4L, 5L, 6L));
+
+		assertThat(animalsFound).containsExactlyInAnyOrderElementsOf(animals);
+
+		verify(mockRegion, times(1)).getAll(eq(Arrays.asList(1L, 2L)));
+		verify(mockRegion, times(1)).getAll(eq(Arrays.asList(3L, 4L)));
+		verify(mockRegion, times(1)).getAll(eq(Arrays.asList(5L, 6L)));
+	}
+
 	@Test
 	public void countReturnsNumberOfRegionEntries() {
 
@@ -423,6 +672,7 @@ public class SimpleGemfireRepositoryUnitTests {
 		assertThat(repository.count()).isEqualTo(21L);
 
 		verify(template, times(1)).getRegion();
+		verify(mockRegion, atLeastOnce()).getAttributes();
 		verify(mockRegion, times(1)).getFullPath();
 		verify(template, times(1)).find(eq("SELECT count(*) FROM /Example"));
 		verify(mockSelectResults, times(1)).iterator();
@@ -445,6 +695,7 @@ public class SimpleGemfireRepositoryUnitTests {
 		assertThat(repository.count()).isEqualTo(0L);
 
 		verify(template, times(1)).getRegion();
+		verify(mockRegion, atLeastOnce()).getAttributes();
 		verify(mockRegion, times(1)).getFullPath();
 		verify(template, times(1)).find(eq("SELECT count(*) FROM /Example"));
 		verifyNoMoreInteractions(mockRegion, template);
@@ -469,6 +720,7 @@ public class SimpleGemfireRepositoryUnitTests {
 		assertThat(repository.count()).isEqualTo(0L);
 
 		verify(template, times(1)).getRegion();
+		verify(mockRegion, atLeastOnce()).getAttributes();
 		verify(mockRegion, times(1)).getFullPath();
 		verify(template, times(1)).find(eq("SELECT count(*) FROM /Example"));
 		verify(mockSelectResults, times(1)).iterator();
@@ -494,6 +746,7 @@ public class SimpleGemfireRepositoryUnitTests {
 		assertThat(repository.count()).isEqualTo(0L);
 
 		verify(template, times(1)).getRegion();
+		verify(mockRegion, atLeastOnce()).getAttributes();
 		verify(mockRegion, times(1)).getFullPath();
 		verify(template, times(1)).find(eq("SELECT count(*) FROM /Example"));
 		verify(mockSelectResults, times(1)).iterator();
@@ -523,6 +776,7 @@ public class SimpleGemfireRepositoryUnitTests {
 		assertThat(repository.count()).isEqualTo(0L);
 
 		verify(template, times(1)).getRegion();
+		verify(mockRegion, atLeastOnce()).getAttributes();
 		verify(mockRegion, times(1)).getFullPath();
 		verify(template, times(1)).find(eq("SELECT count(*) FROM /Example"));
 		verify(mockSelectResults, times(1)).iterator();
@@ -554,9 +808,152 @@ public class SimpleGemfireRepositoryUnitTests {
 		verify(mockRegion, times(1)).get(eq(2L));
 		verify(repository, times(1)).findById(eq(10L));
 		verify(mockRegion, times(1)).get(eq(10L));
+		verify(mockRegion, atLeastOnce()).getAttributes();
 		verifyNoMoreInteractions(mockRegion);
 	}
 
+	@Test
+	public void countUsesSizeOnServerForClientRegion() {
+
+		Region mockRegion = mockClientRegion("Example");
+
+		GemfireTemplate template = spy(newGemfireTemplate(mockRegion));
+
+		doReturn(42).when(mockRegion).sizeOnServer();
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(template, mockEntityInformation());
+
+		assertThat(repository.count()).isEqualTo(42L);
+
+		verify(mockRegion, times(1)).sizeOnServer();
+		verify(mockRegion, never()).size();
+		verify(template, never()).find(anyString());
+	}
+
+	@Test
+	public void countUsesSizeForPartitionRegion() {
+
+		Region mockRegion = mockRegion("Example", mockCache("Example", false), DataPolicy.PARTITION);
+
+		GemfireTemplate template = spy(newGemfireTemplate(mockRegion));
+
+		doReturn(21).when(mockRegion).size();
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(template, mockEntityInformation());
+
+		assertThat(repository.count()).isEqualTo(21L);
+
+		verify(mockRegion, times(1)).size();
+		verify(template, never()).find(anyString());
+	}
+
+	@Test
+	public void countWithPredicateExecutesCountAggregateQuery() {
+
+		SelectResults mockSelectResults = mock(SelectResults.class);
+
+		GemfireTemplate template = spy(newGemfireTemplate(mockRegion("Example")));
+
+		doReturn(mockSelectResults).when(template)
+			.find(eq("SELECT COUNT(*) FROM /Example x WHERE x.age > $1"), eq(5));
+		doReturn(Collections.singletonList(3).iterator()).when(mockSelectResults).iterator();
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(template, mockEntityInformation());
+
+		assertThat(repository.count("x.age > $1", 5)).isEqualTo(3L);
+
+		verify(template, times(1)).find(eq("SELECT COUNT(*) FROM /Example x WHERE x.age > $1"), eq(5));
+	}
+
+	@Test
+	public void aggregatesExecuteAggregateFunctionQueries() {
+
+		Region mockRegion = mockRegion("Example");
+
+		GemfireTemplate template = spy(newGemfireTemplate(mockRegion));
+
+		doReturn(mockSelectResults(10)).when(template).find(eq("SELECT SUM(x.age) FROM /Example x"));
+		doReturn(mockSelectResults(2.5d)).when(template).find(eq("SELECT AVG(x.age) FROM /Example x"));
+		doReturn(mockSelectResults("Zebra")).when(template)
+			.find(eq("SELECT MAX(x.name) FROM /Example x WHERE x.age < $1"), eq(10));
+		doReturn(mockSelectResults()).when(template)
+			.find(eq("SELECT MIN(x.owner.name) FROM /Example x WHERE x.age > $1"), eq(10));
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(template, mockEntityInformation());
+
+		assertThat(repository.sum("age", null)).isEqualTo(10);
+		assertThat(repository.avg("age", " ")).isEqualTo(2.5d);
+		assertThat(repository.<String>max("name", "x.age < $1", 10)).isEqualTo("Zebra");
+		assertThat(repository.<String>min("owner.name", "x.age > $1", 10)).isNull();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void aggregateWithInvalidPropertyThrowsIllegalArgumentException() {
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion("Example")), mockEntityInformation());
+
+		try {
+			repository.sum("age) FROM /Other o WHERE (true", null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessageStartingWith("Property [age) FROM /Other o WHERE (true]");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	private SelectResults mockSelectResults(Object... results) {
+
+		SelectResults mockSelectResults = mock(SelectResults.class);
+
+		doAnswer(invocation -> Arrays.asList(results).iterator()).when(mockSelectResults).iterator();
+
+		return mockSelectResults;
+	}
+
+	@Test
+	public void existsByIdUsesContainsKeyOnServerForClientRegion() {
+
+		Region mockRegion = mockClientRegion("Example");
+
+		doReturn(true).when(mockRegion).containsKeyOnServer(eq(1L));
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+
+		assertThat(repository.existsById(1L)).isTrue();
+		assertThat(repository.existsById(2L)).isFalse();
+
+		verify(mockRegion, times(1)).containsKeyOnServer(eq(1L));
+		verify(mockRegion, times(1)).containsKeyOnServer(eq(2L));
+		verify(mockRegion, never()).get(any());
+	}
+
+	@Test
+	public void existsByIdUsesContainsKeyForReplicateRegion() {
+
+		Region mockRegion = mockRegion("Example", mockCache("Example", false), DataPolicy.REPLICATE);
+
+		doReturn(true).when(mockRegion).containsKey(eq(1L));
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+
+		assertThat(repository.existsById(1L)).isTrue();
+		assertThat(repository.existsById(2L)).isFalse();
+
+		verify(mockRegion, times(1)).containsKey(eq(1L));
+		verify(mockRegion, times(1)).containsKey(eq(2L));
+		verify(mockRegion, never()).get(any());
+	}
+
 	@Test
 	public void findAllSuccessfully() {
 
@@ -706,6 +1103,119 @@ public class SimpleGemfireRepositoryUnitTests {
 		}
 	}
 
+	@Test
+	public void findAllKeysetPagedSuccessfully() {
+
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
+
+		Region mockRegion = mockRegion("Users");
+
+		SelectResults mockSelectResults = mock(SelectResults.class);
+
+		doReturn(mockRegion).when(mockTemplate).getRegion();
+		doReturn(mockSelectResults).when(mockTemplate).find(anyString());
+		doReturn(mockSelectResults).when(mockTemplate).find(anyString(), any());
+		doReturn(Arrays.asList(User.newUser("Cookie Doe"), User.newUser("Jane Doe"), User.newUser("Jon Doe")))
+			.when(mockSelectResults).asList();
+
+		SimpleGemfireRepository repository = new SimpleGemfireRepository(mockTemplate, mockEntityInformation());
+
+		Slice<User> slice = repository.findAll(KeysetPageRequest.of(2, Sort.by("name")));
+
+		assertThat(slice).isNotNull();
+		assertThat(slice.getContent()).containsExactly(User.newUser("Cookie Doe"), User.newUser("Jane Doe"));
+		assertThat(slice.hasNext()).isTrue();
+
+		Pageable nextPageRequest = slice.nextPageable();
+
+		assertThat(nextPageRequest).isInstanceOf(KeysetPageRequest.class);
+		assertThat(((KeysetPageRequest) nextPageRequest).getKeyset()).containsEntry("name", "Jane Doe");
+
+		doReturn(Collections.singletonList(User.newUser("Jon Doe"))).when(mockSelectResults).asList();
+
+		slice = repository.findAll((KeysetPageRequest) nextPageRequest);
+
+		assertThat(slice.getContent()).containsExactly(User.newUser("Jon Doe"));
+		assertThat(slice.hasNext()).isFalse();
+		assertThat(slice.nextPageable().isUnpaged()).isTrue();
+
+		verify(mockTemplate, times(1))
+			.find(eq("SELECT DISTINCT * FROM /Users ORDER BY name ASC LIMIT 3"));
+		verify(mockTemplate, times(1))
+			.find(eq("SELECT DISTINCT * FROM /Users WHERE (name > $1) ORDER BY name ASC LIMIT 3"), eq("Jane Doe"));
+	}
+
+	@Test
+	public void findAllAsStreamFetchesEntitiesInChunks() {
+
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
+
+		Region mockRegion = mockRegion("Users");
+
+		Set<Long> keys = new LinkedHashSet<>(Arrays.asList(1L, 2L, 3L));
+
+		doReturn(mockRegion).when(mockTemplate).getRegion();
+		doReturn(keys).when(mockRegion).keySet();
+		doReturn(Collections.singletonMap(1L, User.newUser("Cookie Doe")))
+			.when(mockTemplate).getAll(eq(Collections.singletonList(1L)));
+		doReturn(Collections.singletonMap(2L, User.newUser("Jane Doe")))
+			.when(mockTemplate).getAll(eq(Collections.singletonList(2L)));
+		doReturn(Collections.singletonMap(3L, User.newUser("Jon Doe")))
+			.when(mockTemplate).getAll(eq(Collections.singletonList(3L)));
+
+		SimpleGemfireRepository<User, Long> repository =
+			new SimpleGemfireRepository(mockTemplate, mockEntityInformation());
+
+		Iterator<User> users = repository.findAllAsStream(1).iterator();
+
+		assertThat(users.next()).isEqualTo(User.newUser("Cookie Doe"));
+
+		verify(mockTemplate, times(1)).getAll(any());
+
+		assertThat(users.next()).isEqualTo(User.newUser("Jane Doe"));
+		assertThat(users.next()).isEqualTo(User.newUser("Jon Doe"));
+		assertThat(users.hasNext()).isFalse();
+
+		verify(mockRegion, times(1)).keySet();
+		verify(mockTemplate, times(3)).getAll(any());
+	}
+
+	@Test
+	public void findAllAsStreamOnClientFetchesKeysInWindows() {
+
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
+
+		Region mockRegion = mockClientRegion("Users");
+
+		SelectResults mockFirstWindow = mock(SelectResults.class);
+		SelectResults mockSecondWindow = mock(SelectResults.class);
+
+		doReturn(mockRegion).when(mockTemplate).getRegion();
+		doReturn(Arrays.asList(1L, 2L, 3L)).when(mockFirstWindow).asList();
+		doReturn(Collections.singletonList(3L)).when(mockSecondWindow).asList();
+		doReturn(mockFirstWindow).when(mockTemplate)
+			.find(eq("SELECT DISTINCT id FROM /Users ORDER BY id ASC LIMIT 3"));
+		doReturn(mockSecondWindow).when(mockTemplate)
+			.find(eq("SELECT DISTINCT id FROM /Users WHERE (id > $1) ORDER BY id ASC LIMIT 3"), eq(2L));
+		doAnswer(invocation -> invocation.<List<Long>>getArgument(0).stream()
+			.collect(Collectors.toMap(Function.identity(), id -> User.newUser("User " + id))))
+			.when(mockTemplate).getAll(any());
+
+		SimpleGemfireRepository<User, Long> repository =
+			spy(new SimpleGemfireRepository(mockTemplate, mockEntityInformation()));
+
+		doReturn("id").when(repository).resolveIdProperty();
+
+		assertThat(repository.findAllAsStream(2).map(User::getName))
+			.containsExactly("User 1", "User 2", "User 3");
+
+		verify(mockTemplate, times(1)).find(eq("SELECT DISTINCT id FROM /Users ORDER BY id ASC LIMIT 3"));
+		verify(mockTemplate, times(1))
+			.find(eq("SELECT DISTINCT id FROM /Users WHERE (id > $1) ORDER BY id ASC LIMIT 3"), eq(2L));
+		verify(mockTemplate, times(2)).getAll(any());
+		verify(mockRegion, never()).keySetOnServer();
+	}
+
 	@Test
 	public void findAllByIdSuccessfully() {
 
@@ -888,9 +1398,36 @@ public class SimpleGemfireRepositoryUnitTests {
 			newAnimal(3L, "dog")
 		));
 
-		verify(mockRegion, times(1)).remove(eq(1L));
-		verify(mockRegion, times(1)).remove(eq(2L));
-		verify(mockRegion, times(1)).remove(eq(3L));
+		verify(mockRegion, times(1)).removeAll(eq(CollectionUtils.asSet(1L, 2L, 3L)));
+		verify(mockRegion, never()).remove(any());
+		verifyNoMoreInteractions(mockRegion);
+	}
+
+	@Test
+	public void deleteEntitiesInChunks() {
+
+		Region<Long, Animal> mockRegion = mockRegion();
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			spy(new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation()));
+
+		doReturn(2).when(repository).getDeleteChunkSize();
+
+		repository.deleteAll(Arrays.asList(
+			newAnimal(1L, "bird"),
+			null,
+			newAnimal(2L, "cat"),
+			newAnimal(3L, "dog"),
+			newAnimal(4L, "fish"),
+			newAnimal(5L, "mouse")
+		));
+
+		InOrder order = inOrder(mockRegion);
+
+		order.verify(mockRegion, times(1)).removeAll(eq(Arrays.asList(1L, 2L)));
+		order.verify(mockRegion, times(1)).removeAll(eq(Arrays.asList(3L, 4L)));
+		order.verify(mockRegion, times(1)).removeAll(eq(Collections.singletonList(5L)));
+		verify(mockRegion, never()).remove(any());
 		verifyNoMoreInteractions(mockRegion);
 	}
 
@@ -994,7 +1531,7 @@ public class SimpleGemfireRepositoryUnitTests {
 	}
 
 	@Test
-	public void deleteAllWithKeySetOnServerWhenClientRegion() {
+	public void deleteAllInBatchesOnServerWhenClientRegion() {
 
 		Cache mockCache = mockCache("MockCache", false);
 
@@ -1002,26 +1539,118 @@ public class SimpleGemfireRepositoryUnitTests {
 
 		RegionAttributes<Long, Animal> mockRegionAttributes = mockRegion.getAttributes();
 
-		Set<Long> keys = new HashSet<>(Arrays.asList(1L, 2L, 3L));
+		SelectResults mockSelectResultsOne = mock(SelectResults.class);
+		SelectResults mockSelectResultsTwo = mock(SelectResults.class);
+		SelectResults mockSelectResultsThree = mock(SelectResults.class);
 
 		doThrow(new UnsupportedOperationException("TEST")).when(mockRegion).clear();
+		doReturn(3).when(mockRegion).sizeOnServer();
 		doReturn("TestPool").when(mockRegionAttributes).getPoolName();
-		doReturn(keys).when(mockRegion).keySetOnServer();
+		doReturn(Arrays.asList(1L, 2L)).when(mockSelectResultsOne).asList();
+		doReturn(Collections.singletonList(3L)).when(mockSelectResultsTwo).asList();
+		doReturn(Collections.emptyList()).when(mockSelectResultsThree).asList();
+
+		GemfireTemplate template = spy(newGemfireTemplate(mockRegion));
+
+		doReturn(mockSelectResultsOne, mockSelectResultsTwo, mockSelectResultsThree)
+			.when(template).find(eq("SELECT k FROM /MockRegion.keySet k LIMIT 2"));
 
 		SimpleGemfireRepository<Animal, Long> gemfireRepository =
-			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+			spy(new SimpleGemfireRepository<>(template, mockEntityInformation()));
+
+		doReturn(2).when(gemfireRepository).getDeleteChunkSize();
 
 		gemfireRepository.deleteAll();
 
-		verify(mockCache, times(1)).getCacheTransactionManager();
-		verify(mockRegion, times(4)).getAttributes();
-		verify(mockRegion, times(2)).getRegionService();
 		verify(mockRegion, times(1)).clear();
-		verify(mockRegion, times(1)).keySetOnServer();
+		verify(template, times(3)).find(eq("SELECT k FROM /MockRegion.keySet k LIMIT 2"));
+		verify(mockRegion, times(1)).removeAll(eq(Arrays.asList(1L, 2L)));
+		verify(mockRegion, times(1)).removeAll(eq(Collections.singletonList(3L)));
+		verify(mockRegion, never()).keySetOnServer();
 		verify(mockRegion, never()).keySet();
-		verify(mockRegion, times(1)).removeAll(eq(keys));
+	}
 
-		verifyNoMoreInteractions(mockRegion);
+	@Test
+	public void deleteAllInBatchesOnServerWhenClientRegionIsBoundedBySizeOnServer() {
+
+		Cache mockCache = mockCache("MockCache", false);
+
+		Region<Long, Animal> mockRegion = mockRegion("MockRegion", mockCache, DataPolicy.EMPTY);
+
+		RegionAttributes<Long, Animal> mockRegionAttributes = mockRegion.getAttributes();
+
+		SelectResults mockSelectResultsOne = mock(SelectResults.class);
+		SelectResults mockSelectResultsTwo = mock(SelectResults.class);
+		SelectResults mockSelectResultsThree = mock(SelectResults.class);
+
+		doThrow(new UnsupportedOperationException("TEST")).when(mockRegion).clear();
+		doReturn(2).when(mockRegion).sizeOnServer();
+		doReturn("TestPool").when(mockRegionAttributes).getPoolName();
+		doReturn(Arrays.asList(1L, 2L)).when(mockSelectResultsOne).asList();
+		doReturn(Arrays.asList(3L, 4L)).when(mockSelectResultsTwo).asList();
+		doReturn(Arrays.asList(5L, 6L)).when(mockSelectResultsThree).asList();
+
+		GemfireTemplate template = spy(newGemfireTemplate(mockRegion));
+
+		doReturn(mockSelectResultsOne, mockSelectResultsTwo, mockSelectResultsThree)
+			.when(template).find(eq("SELECT k FROM /MockRegion.keySet k LIMIT 2"));
+
+		SimpleGemfireRepository<Animal, Long> gemfireRepository =
+			new SimpleGemfireRepository<>(template, mockEntityInformation());
+
+		gemfireRepository.setDeleteChunkSize(2);
+		gemfireRepository.deleteAll();
+
+		verify(mockRegion, times(1)).sizeOnServer();
+		verify(template, times(2)).find(eq("SELECT k FROM /MockRegion.keySet k LIMIT 2"));
+		verify(mockRegion, times(1)).removeAll(eq(Arrays.asList(1L, 2L)));
+		verify(mockRegion, times(1)).removeAll(eq(Arrays.asList(3L, 4L)));
+		verify(mockRegion, never()).removeAll(eq(Arrays.asList(5L, 6L)));
+	}
+
+	@Test
+	public void deleteAllInBatchesOnServerWhenClientRegionStopsWhenBatchRemovesNothing() {
+
+		Cache mockCache = mockCache("MockCache", false);
+
+		Region<Long, Animal> mockRegion = mockRegion("MockRegion", mockCache, DataPolicy.EMPTY);
+
+		RegionAttributes<Long, Animal> mockRegionAttributes = mockRegion.getAttributes();
+
+		SelectResults mockSelectResults = mock(SelectResults.class);
+
+		doThrow(new UnsupportedOperationException("TEST")).when(mockRegion).clear();
+		doReturn(100).when(mockRegion).sizeOnServer();
+		doReturn("TestPool").when(mockRegionAttributes).getPoolName();
+		doReturn(Arrays.asList(1L, 2L)).when(mockSelectResults).asList();
+
+		GemfireTemplate template = spy(newGemfireTemplate(mockRegion));
+
+		doReturn(mockSelectResults).when(template).find(eq("SELECT k FROM /MockRegion.keySet k LIMIT 2"));
+
+		SimpleGemfireRepository<Animal, Long> gemfireRepository =
+			new SimpleGemfireRepository<>(template, mockEntityInformation());
+
+		gemfireRepository.setDeleteChunkSize(2);
+		gemfireRepository.deleteAll();
+
+		verify(template, times(2)).find(eq("SELECT k FROM /MockRegion.keySet k LIMIT 2"));
+		verify(mockRegion, times(1)).removeAll(eq(Arrays.asList(1L, 2L)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setDeleteChunkSizeToZeroThrowsIllegalArgumentException() {
+
+		try {
+			new SimpleGemfireRepository<>(mock(GemfireTemplate.class), mockEntityInformation()).setDeleteChunkSize(0);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Delete chunk size [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
 	}
 
 	@Test
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import org.springframework.data.gemfire.repository.GemfireRepository;
+import org.springframework.data.gemfire.repository.sample.Person;
+
+/**
+ * Unit Tests for {@link SimpleReactiveGemfireRepository}.
+ *
+ * @author agent
+ * @see java.util.concurrent.Flow
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.repository.support.SimpleReactiveGemfireRepository
+ * @since 3.0.0
+ */
+@SuppressWarnings("unchecked")
+public class SimpleReactiveGemfireRepositoryUnitTests {
+
+	private final Executor executor = Runnable::run;
+
+	private final GemfireRepository<Person, Long> mockRepository = mock(GemfireRepository.class);
+
+	private final SimpleReactiveGemfireRepository<Person, Long> reactiveRepository =
+		new SimpleReactiveGemfireRepository<>(this.mockRepository, this.executor, 2);
+
+	private <T> List<T> collect(Flow.Publisher<T> publisher) {
+
+		List<T> elements = new ArrayList<>();
+
+		publisher.subscribe(new Flow.Subscriber<>() {
+
+			@Override
+			public void onSubscribe(Flow.Subscription subscription) {
+				subscription.request(Long.MAX_VALUE);
+			}
+
+			@Override
+			public void onNext(T element) {
+				elements.add(element);
+			}
+
+			@Override
+			public void onError(Throwable cause) {
+				throw new AssertionError(cause);
+			}
+
+			@Override
+			public void onComplete() { }
+
+		});
+
+		return elements;
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithInvalidWindowSizeThrowsIllegalArgumentException() {
+		new SimpleReactiveGemfireRepository<>(this.mockRepository, this.executor, 0);
+	}
+
+	@Test
+	public void findAllStreamsInWindows() {
+
+		Person jonDoe = new Person(1L, "Jon", "Doe");
+		Person janeDoe = new Person(2L, "Jane", "Doe");
+
+		doReturn(Stream.of(jonDoe, janeDoe)).when(this.mockRepository).findAllAsStream(eq(2));
+
+		assertThat(collect(this.reactiveRepository.findAll())).containsExactly(jonDoe, janeDoe);
+
+		verify(this.mockRepository).findAllAsStream(eq(2));
+	}
+
+	@Test
+	public void findAllByIdFetchesEntitiesInWindows() {
+
+		Person jonDoe = new Person(1L, "Jon", "Doe");
+		Person janeDoe = new Person(2L, "Jane", "Doe");
+		Person cookieDoe = new Person(3L, "Cookie", "Doe");
+
+		doReturn(Arrays.asList(jonDoe, janeDoe)).when(this.mockRepository).findAllById(eq(Arrays.asList(1L, 2L)));
+		doReturn(Arrays.asList(cookieDoe)).when(this.mockRepository).findAllById(eq(Arrays.asList(3L)));
+
+		assertThat(collect(this.reactiveRepository.findAllById(Arrays.asList(1L, 2L, 3L))))
+			.containsExactly(jonDoe, janeDoe, cookieDoe);
+	}
+
+	@Test
+	public void findByIdPublishesEntityWhenPresent() {
+
+		Person jonDoe = new Person(1L, "Jon", "Doe");
+
+		doReturn(Optional.of(jonDoe)).when(this.mockRepository).findById(eq(1L));
+		doReturn(Optional.empty()).when(this.mockRepository).findById(eq(2L));
+
+		assertThat(collect(this.reactiveRepository.findById(1L))).containsExactly(jonDoe);
+		assertThat(collect(this.reactiveRepository.findById(2L))).isEmpty();
+	}
+
+	@Test
+	public void deleteAllRunsWhenSubscribed() {
+
+		Flow.Publisher<Void> deleteAll = this.reactiveRepository.deleteAll();
+
+		assertThat(collect(deleteAll)).isEmpty();
+
+		verify(this.mockRepository).deleteAll();
+	}
+}
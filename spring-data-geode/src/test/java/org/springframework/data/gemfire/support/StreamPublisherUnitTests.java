@@ -0,0 +1,182 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link StreamPublisher}.
+ *
+ * @author agent
+ * @see java.util.concurrent.Flow
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.support.StreamPublisher
+ * @since 3.0.0
+ */
+public class StreamPublisherUnitTests {
+
+	private final Executor executor = Runnable::run;
+
+	@Test
+	public void publishesElementsOnDemand() {
+
+		AtomicInteger pulled = new AtomicInteger(0);
+		AtomicBoolean closed = new AtomicBoolean(false);
+
+		StreamPublisher<Integer> publisher = StreamPublisher.from(() -> Stream.iterate(1, value -> value + 1)
+			.limit(5)
+			.peek(value -> pulled.incrementAndGet())
+			.onClose(() -> closed.set(true)), this.executor);
+
+		TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+
+		publisher.subscribe(subscriber);
+
+		assertThat(pulled.get()).isZero();
+
+		subscriber.request(2);
+
+		assertThat(subscriber.elements).containsExactly(1, 2);
+		// only a single element is pulled ahead of demand to detect completion
+		assertThat(pulled.get()).isEqualTo(3);
+		assertThat(subscriber.completed).isFalse();
+
+		subscriber.request(10);
+
+		assertThat(subscriber.elements).containsExactly(1, 2, 3, 4, 5);
+		assertThat(subscriber.completed).isTrue();
+		assertThat(subscriber.error).isNull();
+		assertThat(closed.get()).isTrue();
+	}
+
+	@Test
+	public void cancelClosesStream() {
+
+		AtomicBoolean closed = new AtomicBoolean(false);
+
+		TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+
+		StreamPublisher.from(() -> Stream.of(1, 2, 3).onClose(() -> closed.set(true)), this.executor)
+			.subscribe(subscriber);
+
+		subscriber.request(1);
+		subscriber.subscription.cancel();
+		subscriber.request(1);
+
+		assertThat(subscriber.elements).containsExactly(1);
+		assertThat(subscriber.completed).isFalse();
+		assertThat(closed.get()).isTrue();
+	}
+
+	@Test
+	public void justPublishesSingleValue() {
+
+		TestSubscriber<String> subscriber = new TestSubscriber<>();
+
+		StreamPublisher.just(() -> "test", this.executor).subscribe(subscriber);
+
+		subscriber.request(Long.MAX_VALUE);
+
+		assertThat(subscriber.elements).containsExactly("test");
+		assertThat(subscriber.completed).isTrue();
+	}
+
+	@Test
+	public void justCompletesEmptyForNullValue() {
+
+		TestSubscriber<String> subscriber = new TestSubscriber<>();
+
+		StreamPublisher.<String>just(() -> null, this.executor).subscribe(subscriber);
+
+		subscriber.request(1);
+
+		assertThat(subscriber.elements).isEmpty();
+		assertThat(subscriber.completed).isTrue();
+	}
+
+	@Test
+	public void runPublishesErrorThrownByAction() {
+
+		IllegalStateException cause = new IllegalStateException("TEST");
+
+		TestSubscriber<Void> subscriber = new TestSubscriber<>();
+
+		StreamPublisher.run(() -> { throw cause; }, this.executor).subscribe(subscriber);
+
+		subscriber.request(1);
+
+		assertThat(subscriber.error).isSameAs(cause);
+		assertThat(subscriber.completed).isFalse();
+	}
+
+	@Test
+	public void invalidRequestPublishesIllegalArgumentException() {
+
+		TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+
+		StreamPublisher.from(() -> Stream.of(1), this.executor).subscribe(subscriber);
+
+		subscriber.request(0);
+
+		assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+		assertThat(subscriber.elements).isEmpty();
+	}
+
+	static class TestSubscriber<T> implements Flow.Subscriber<T> {
+
+		private volatile boolean completed;
+
+		private final List<T> elements = new ArrayList<>();
+
+		private Flow.Subscription subscription;
+
+		private volatile Throwable error;
+
+		void request(long n) {
+			this.subscription.request(n);
+		}
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(T element) {
+			this.elements.add(element);
+		}
+
+		@Override
+		public void onError(Throwable error) {
+			this.error = error;
+		}
+
+		@Override
+		public void onComplete() {
+			this.completed = true;
+		}
+	}
+}